@@ -0,0 +1,42 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.config;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.service.ActivityTracker;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 인증된 요청을 일별 방문으로 기록 (SecurityConfig 에서 인가 필터 뒤에 둔다).
+ * <p>
+ * 요청 경로 비용은 ActivityTracker 의 메모리 집합 확인뿐이고, DB 적재는 배치로 따로 한다.
+ */
+@RequiredArgsConstructor
+public class ActivityTrackingFilter extends OncePerRequestFilter {
+
+    private final ActivityTracker activityTracker;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return uri.startsWith("/css/") || uri.startsWith("/js/") || uri.startsWith("/image/")
+                || uri.equals("/favicon.ico");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.isAuthenticated() && !(auth instanceof AnonymousAuthenticationToken)) {
+            activityTracker.record(auth.getName());
+        }
+        chain.doFilter(request, response);
+    }
+}
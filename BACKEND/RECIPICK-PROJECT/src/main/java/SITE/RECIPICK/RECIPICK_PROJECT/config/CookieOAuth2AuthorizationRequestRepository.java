@@ -0,0 +1,145 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.config;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.oauth2.client.web.AuthorizationRequestRepository;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+
+import javax.crypto.Mac;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * 토큰 모드용 OAuth2 인가 요청 저장소 - 구글 로그인 왕복(수 분) 동안 인가 요청을 세션 대신 서명된 단기 쿠키에 둔다.
+ * <p>
+ * 어느 노드로 콜백이 돌아와도 로그인할 수 있다. 쿠키 값은 직렬화한 요청 + HMAC 이고, 서명이 맞는 것만 (허용한 클래스만) 역직렬화한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CookieOAuth2AuthorizationRequestRepository
+        implements AuthorizationRequestRepository<OAuth2AuthorizationRequest> {
+
+    static final String COOKIE_NAME = "RECIPICK_OAUTH2_REQ";
+
+    private static final Duration MAX_AGE = Duration.ofMinutes(5);
+    private static final ObjectInputFilter ALLOWED =
+            ObjectInputFilter.Config.createFilter("java.**;org.springframework.security.**;!*");
+
+    private final JwtTokenService jwtTokenService;
+
+    @Override
+    public OAuth2AuthorizationRequest loadAuthorizationRequest(HttpServletRequest request) {
+        String state = request.getParameter("state");
+        if (state == null) {
+            return null;
+        }
+        OAuth2AuthorizationRequest saved = read(request);
+        return (saved != null && state.equals(saved.getState())) ? saved : null;
+    }
+
+    @Override
+    public void saveAuthorizationRequest(OAuth2AuthorizationRequest authorizationRequest,
+                                         HttpServletRequest request, HttpServletResponse response) {
+        if (authorizationRequest == null) {
+            addCookie(response, "", Duration.ZERO);
+            return;
+        }
+        addCookie(response, encode(authorizationRequest), MAX_AGE);
+    }
+
+    @Override
+    public OAuth2AuthorizationRequest removeAuthorizationRequest(HttpServletRequest request,
+                                                                 HttpServletResponse response) {
+        OAuth2AuthorizationRequest saved = loadAuthorizationRequest(request);
+        if (saved != null) {
+            addCookie(response, "", Duration.ZERO);
+        }
+        return saved;
+    }
+
+    // ===== 직렬화 + 서명 =====
+
+    private String encode(OAuth2AuthorizationRequest req) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(req);
+        } catch (IOException e) {
+            throw new IllegalStateException("OAUTH2_REQUEST_SERIALIZE_FAILED", e);
+        }
+        byte[] payload = bytes.toByteArray();
+        Base64.Encoder b64 = Base64.getUrlEncoder().withoutPadding();
+        return b64.encodeToString(payload) + "." + b64.encodeToString(mac(payload));
+    }
+
+    private OAuth2AuthorizationRequest read(HttpServletRequest request) {
+        String value = cookieValue(request);
+        int dot = value == null ? -1 : value.indexOf('.');
+        if (dot <= 0) {
+            return null;
+        }
+        try {
+            Base64.Decoder b64 = Base64.getUrlDecoder();
+            byte[] payload = b64.decode(value.substring(0, dot));
+            byte[] sig = b64.decode(value.substring(dot + 1));
+            if (!MessageDigest.isEqual(sig, mac(payload))) {
+                log.warn("⚠️ OAuth2 인가 요청 쿠키 서명 불일치");
+                return null;
+            }
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(payload))) {
+                in.setObjectInputFilter(ALLOWED);
+                return (OAuth2AuthorizationRequest) in.readObject();
+            }
+        } catch (IOException | ClassNotFoundException | ClassCastException | IllegalArgumentException e) {
+            log.debug("OAuth2 인가 요청 쿠키 읽기 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private byte[] mac(byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(jwtTokenService.key());
+            return mac.doFinal(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("OAUTH2_REQUEST_SIGN_FAILED", e);
+        }
+    }
+
+    private static String cookieValue(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie c : cookies) {
+            if (COOKIE_NAME.equals(c.getName())) {
+                return c.getValue();
+            }
+        }
+        return null;
+    }
+
+    private void addCookie(HttpServletResponse response, String value, Duration maxAge) {
+        // 구글 → 콜백은 최상위 GET 이동이라 Lax 쿠키가 같이 온다
+        ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, value)
+                .httpOnly(true)
+                .secure(jwtTokenService.cookieSecure())
+                .sameSite("Lax")
+                .path("/")
+                .maxAge(maxAge)
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+}
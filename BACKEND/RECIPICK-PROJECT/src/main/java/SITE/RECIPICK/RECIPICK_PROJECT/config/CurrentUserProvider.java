@@ -17,8 +17,8 @@ public class CurrentUserProvider {
     private final UserRepository userRepository;
 
     /**
-     * 현재 인증된 사용자의 userId를 반환. - httpBasic 기반: Authentication.getName() == email - 없으면
-     * IllegalStateException
+     * 현재 인증된 사용자의 userId를 반환. - 세션 principal(RecipickPrincipal)이면 그대로 - 그 외 Authentication.getName()
+     * == email 로 조회 - 없으면 IllegalStateException
      */
     public Integer getCurrentUserId() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
@@ -27,6 +27,10 @@ public class CurrentUserProvider {
                 || "anonymousUser".equals(auth.getPrincipal())) {
             throw new IllegalStateException("UNAUTHENTICATED");
         }
+        // 로그인 시 세션에 담아 둔 principal 이면 조회 없이
+        if (auth.getPrincipal() instanceof RecipickPrincipal p) {
+            return p.getUserId();
+        }
         String email = auth.getName(); // CustomUserDetailService에서 username으로 email 사용
         Optional<UserEntity> userOpt = userRepository.findByEmail(email);
         return userOpt.orElseThrow(() -> new IllegalStateException("USER_NOT_FOUND")).getUserId();
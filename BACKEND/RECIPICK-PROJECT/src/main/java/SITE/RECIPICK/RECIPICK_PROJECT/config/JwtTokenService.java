@@ -0,0 +1,220 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.config;
+
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 토큰(stateless) 인증 모드 - recipick.auth.mode=jwt 일 때만 사용.
+ * <p>
+ * ✅ 로그인 성공 시 RecipickPrincipal 을 HS256 서명 JWT 로 만들어 HttpOnly 쿠키에 담는다. 요청마다 서명/만료만 로컬에서 확인하고
+ * (DB 조회 없음) 디코드 결과는 토큰 문자열 기준 LRU 캐시에 둔다. 남은 유효기간이 절반 아래로 내려가면 같은 내용으로 다시 발급한다.
+ * <p>
+ * ⚠️ 모든 노드가 같은 recipick.auth.jwt.secret(32바이트 이상)을 써야 한다. 닉네임 변경/정지는 PrincipalRegistry 기준으로
+ * 반영되므로 다른 노드에는 principal max-age 안에서 반영된다.
+ */
+@Slf4j
+@Component
+public class JwtTokenService {
+
+    public static final String COOKIE_NAME = "RECIPICK_AUTH";
+
+    private static final String ISSUER = "recipick";
+
+    private final boolean enabled;
+    private final Duration ttl;
+    private final boolean cookieSecure;
+    private final int cacheSize;
+    private final SecretKey key;
+    private final JwtEncoder encoder;
+    private final JwtDecoder decoder;
+
+    // 토큰 → 디코드 결과 (접근 순서 LRU)
+    private final Map<String, Decoded> cache;
+
+    private record Decoded(RecipickPrincipal principal, long issuedAtMs, long expiresAtMs) {
+
+    }
+
+    @Autowired
+    public JwtTokenService(
+            @Value("${recipick.auth.mode:session}") String mode,
+            @Value("${recipick.auth.jwt.secret:}") String secret,
+            @Value("${recipick.auth.jwt.ttl-ms:3600000}") long ttlMs,
+            @Value("${recipick.auth.jwt.cookie-secure:false}") boolean cookieSecure,
+            @Value("${recipick.auth.jwt.cache-size:10000}") int cacheSize) {
+        this.enabled = "jwt".equalsIgnoreCase(mode == null ? "" : mode.trim());
+        this.ttl = Duration.ofMillis(ttlMs);
+        this.cookieSecure = cookieSecure;
+        this.cacheSize = Math.max(1, cacheSize);
+        this.cache = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Decoded> eldest) {
+                return size() > JwtTokenService.this.cacheSize;
+            }
+        };
+
+        if (!enabled) {
+            this.key = null;
+            this.encoder = null;
+            this.decoder = null;
+            return;
+        }
+        byte[] raw = secret == null ? new byte[0] : secret.getBytes(StandardCharsets.UTF_8);
+        if (raw.length < 32) {
+            throw new IllegalStateException("JWT_SECRET_REQUIRED"); // HS256 키는 32바이트 이상
+        }
+        this.key = new SecretKeySpec(raw, "HmacSHA256");
+        this.encoder = new NimbusJwtEncoder(new ImmutableSecret<>(key));
+        this.decoder = NimbusJwtDecoder.withSecretKey(key).macAlgorithm(MacAlgorithm.HS256).build();
+        log.info("✅ 토큰 인증 모드 - ttl: {}s, 캐시: {}건", ttl.toSeconds(), this.cacheSize);
+    }
+
+    public boolean enabled() {
+        return enabled;
+    }
+
+    boolean cookieSecure() {
+        return cookieSecure;
+    }
+
+    /** 서명 키 (OAuth2 인가 요청 쿠키 서명에도 사용) */
+    SecretKey key() {
+        return key;
+    }
+
+    // ===== 발급 =====
+
+    public String issue(RecipickPrincipal p) {
+        Instant now = Instant.now();
+        JwtClaimsSet.Builder claims = JwtClaimsSet.builder()
+                .issuer(ISSUER)
+                .subject(String.valueOf(p.getUserId()))
+                .issuedAt(now)
+                .expiresAt(now.plus(ttl))
+                .claim("email", p.getEmail())
+                .claim("role", p.getRole())
+                .claim("lat", p.getLoadedAtMs()); // DB 에서 읽은 시각 (재발급해도 유지)
+        if (p.getNickname() != null) {
+            claims.claim("nickname", p.getNickname());
+        }
+        JwsHeader header = JwsHeader.with(MacAlgorithm.HS256).build();
+        return encoder.encode(JwtEncoderParameters.from(header, claims.build())).getTokenValue();
+    }
+
+    public void writeCookie(HttpServletResponse response, RecipickPrincipal p) {
+        addCookie(response, issue(p), ttl);
+    }
+
+    public void clearCookie(HttpServletResponse response) {
+        addCookie(response, "", Duration.ZERO);
+    }
+
+    // ===== 검증 =====
+
+    /**
+     * 요청 쿠키의 토큰 → principal. 쿠키가 없으면 null, 위조/만료면 쿠키를 지우고 null. 유효기간이 절반 넘게 지났으면 다시 발급
+     */
+    public RecipickPrincipal authenticate(HttpServletRequest request, HttpServletResponse response) {
+        String token = readCookie(request);
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        Decoded d = decode(token);
+        if (d == null) {
+            clearCookie(response);
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        if (d.expiresAtMs() - now < (d.expiresAtMs() - d.issuedAtMs()) / 2) {
+            writeCookie(response, d.principal());
+        }
+        return d.principal();
+    }
+
+    private Decoded decode(String token) {
+        long now = System.currentTimeMillis();
+        synchronized (cache) {
+            Decoded hit = cache.get(token);
+            if (hit != null) {
+                if (hit.expiresAtMs() > now) {
+                    return hit;
+                }
+                cache.remove(token);
+                return null;
+            }
+        }
+        Decoded d;
+        try {
+            Jwt jwt = decoder.decode(token); // 서명 + exp/nbf 확인
+            if (!ISSUER.equals(jwt.getClaimAsString("iss")) || jwt.getExpiresAt() == null) {
+                return null;
+            }
+            Number lat = jwt.getClaim("lat");
+            long issuedAt = jwt.getIssuedAt() == null ? now : jwt.getIssuedAt().toEpochMilli();
+            RecipickPrincipal p = RecipickPrincipal.restore(
+                    Integer.valueOf(jwt.getSubject()),
+                    jwt.getClaimAsString("email"),
+                    jwt.getClaimAsString("nickname"),
+                    jwt.getClaimAsString("role"),
+                    lat == null ? issuedAt : lat.longValue());
+            d = new Decoded(p, issuedAt, jwt.getExpiresAt().toEpochMilli());
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("토큰 검증 실패: {}", e.getMessage());
+            return null;
+        }
+        synchronized (cache) {
+            cache.put(token, d);
+        }
+        return d;
+    }
+
+    private static String readCookie(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie c : cookies) {
+            if (COOKIE_NAME.equals(c.getName())) {
+                return c.getValue();
+            }
+        }
+        return null;
+    }
+
+    private void addCookie(HttpServletResponse response, String value, Duration maxAge) {
+        ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, value)
+                .httpOnly(true)
+                .secure(cookieSecure)
+                .sameSite("Lax")
+                .path("/")
+                .maxAge(maxAge)
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+}
@@ -10,7 +10,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
 import org.springframework.security.oauth2.core.oidc.user.OidcUser;
@@ -23,7 +22,6 @@ import org.springframework.transaction.annotation.Transactional;
 import java.io.IOException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -35,6 +33,7 @@ public class OAuth2LoginSuccessHandler implements AuthenticationSuccessHandler {
     private final UserRepository userRepository;
     private final ProfileInitService profileInitService;
     private final EmailService emailService;
+    private final JwtTokenService jwtTokenService;
 
     private static String asString(Object o) {
         return o == null ? null : String.valueOf(o);
@@ -136,21 +135,27 @@ public class OAuth2LoginSuccessHandler implements AuthenticationSuccessHandler {
             }
 
             // SecurityContext에 새로운 인증 객체 저장
-            // OAuth2 인증을 UsernamePasswordAuthenticationToken으로 변환
+            // OAuth2 인증을 UsernamePasswordAuthenticationToken으로 변환 (principal = userId/닉네임/권한)
+            RecipickPrincipal recipickPrincipal = RecipickPrincipal.of(user);
             UsernamePasswordAuthenticationToken newAuth =
                     new UsernamePasswordAuthenticationToken(
-                            email,  // principal
-                            null,   // credentials
-                            List.of(new SimpleGrantedAuthority(user.getRole()))
+                            recipickPrincipal,  // principal
+                            null,               // credentials
+                            recipickPrincipal.getAuthorities()
                     );
 
             SecurityContextHolder.getContext().setAuthentication(newAuth);
 
-            // 세션에 명시적으로 저장
-            request.getSession().setAttribute(
-                    HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY,
-                    SecurityContextHolder.getContext()
-            );
+            if (jwtTokenService.enabled()) {
+                // 토큰 모드: 세션 대신 서명된 인증 쿠키
+                jwtTokenService.writeCookie(response, recipickPrincipal);
+            } else {
+                // 세션에 명시적으로 저장
+                request.getSession().setAttribute(
+                        HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY,
+                        SecurityContextHolder.getContext()
+                );
+            }
 
             log.info("OAuth2 로그인 성공 - email: {}, role: {}, userId: {}",
                     email, user.getRole(), user.getUserId());
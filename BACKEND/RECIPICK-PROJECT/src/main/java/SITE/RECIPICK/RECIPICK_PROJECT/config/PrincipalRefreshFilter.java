@@ -0,0 +1,65 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 세션 principal 이 오래됐으면(닉네임 변경/정지 등) 인가 전에 다시 만든다 (SecurityConfig 에서 인가 필터 앞에 둔다).
+ * <p>
+ * 평소 요청 경로 비용은 PrincipalRegistry 의 맵 조회 1번이고, 다시 만들 때만 USERS PK 조회 1번. 정지/삭제된 계정은 세션을 끊는다.
+ * 토큰 모드에서는 세션 대신 인증 쿠키를 다시 발급(정지 시 삭제)한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class PrincipalRefreshFilter extends OncePerRequestFilter {
+
+    private final PrincipalRegistry principalRegistry;
+    private final JwtTokenService jwtTokenService;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.getPrincipal() instanceof RecipickPrincipal p
+                && principalRegistry.isStale(p)) {
+            RecipickPrincipal fresh = principalRegistry.reload(p.getUserId());
+            HttpSession session = request.getSession(false);
+            if (fresh == null || !fresh.isEnabled()) {
+                log.info("⚠️ 정지/삭제된 계정 세션 종료 - userId: {}", p.getUserId());
+                SecurityContextHolder.clearContext();
+                if (session != null) {
+                    session.invalidate();
+                }
+                if (jwtTokenService.enabled()) {
+                    jwtTokenService.clearCookie(response);
+                }
+            } else {
+                UsernamePasswordAuthenticationToken next =
+                        UsernamePasswordAuthenticationToken.authenticated(fresh, null, fresh.getAuthorities());
+                next.setDetails(auth.getDetails());
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(next);
+                SecurityContextHolder.setContext(context);
+                if (jwtTokenService.enabled()) {
+                    jwtTokenService.writeCookie(response, fresh); // 토큰 모드: 새 내용으로 재발급
+                } else if (session != null) {
+                    session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY, context);
+                }
+            }
+        }
+        chain.doFilter(request, response);
+    }
+}
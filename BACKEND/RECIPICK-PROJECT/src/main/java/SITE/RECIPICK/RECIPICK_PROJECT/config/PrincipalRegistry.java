@@ -0,0 +1,58 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.config;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.event.PrincipalChangedEvent;
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 세션 principal 무효화 기록 (userId → 무효화 시각).
+ * <p>
+ * ✅ 무효화 시각 이전에 만들어진 principal, 또는 max-age 보다 오래된 principal 은 다음 요청에서 DB 로 다시 만든다.
+ * max-age 가 지난 기록은 어차피 모든 principal 이 다시 읽히므로 지워도 된다.
+ * <p>
+ * ⚠️ 메모리 기록이라 인스턴스가 여러 대면 다른 인스턴스 세션은 max-age 안에서만 반영된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PrincipalRegistry {
+
+    private final UserRepository userRepository;
+
+    private final Map<Integer, Long> invalidatedAt = new ConcurrentHashMap<>();
+
+    @Value("${recipick.auth.principal-max-age-ms:3600000}")
+    private long maxAgeMs = 3_600_000L;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPrincipalChanged(PrincipalChangedEvent event) {
+        long now = System.currentTimeMillis();
+        event.userIds().forEach(id -> invalidatedAt.put(id, now));
+    }
+
+    public boolean isStale(RecipickPrincipal p) {
+        Long at = invalidatedAt.get(p.getUserId());
+        return (at != null && p.getLoadedAtMs() <= at)
+                || System.currentTimeMillis() - p.getLoadedAtMs() > maxAgeMs;
+    }
+
+    /** DB 에서 다시 만든 principal (사용자가 없으면 null) */
+    public RecipickPrincipal reload(Integer userId) {
+        return userRepository.findById(userId).map(RecipickPrincipal::of).orElse(null);
+    }
+
+    @Scheduled(fixedDelayString = "${recipick.auth.principal-prune-ms:600000}")
+    public void prune() {
+        long cutoff = System.currentTimeMillis() - maxAgeMs;
+        invalidatedAt.values().removeIf(at -> at < cutoff);
+    }
+}
@@ -0,0 +1,108 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.config;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.UserEntity;
+import lombok.Getter;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 로그인 시 한 번 만들어 세션(SecurityContext)에 두는 인증 주체.
+ * <p>
+ * userId/닉네임/권한을 들고 있어 요청마다 email 로 USERS 를 다시 조회하지 않는다. 닉네임 변경/정지 등으로 값이 바뀌면
+ * PrincipalRegistry 가 오래된 것으로 표시하고 PrincipalRefreshFilter 가 다음 요청에서 다시 만든다.
+ * <p>
+ * getUsername() 은 email 이므로 Authentication.getName() 을 쓰는 기존 코드는 그대로 동작한다.
+ */
+@Getter
+public class RecipickPrincipal implements UserDetails, CredentialsContainer {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Integer userId;
+    private final String email;
+    private final String nickname;
+    private final String role;
+    private final boolean active;
+    private final long loadedAtMs; // DB 에서 읽은 시각 (무효화 판단용)
+    private String password;       // 폼 로그인 검증용, 인증 후 지움
+
+    private RecipickPrincipal(Integer userId, String email, String nickname, String role,
+                              boolean active, String password, long loadedAtMs) {
+        this.userId = userId;
+        this.email = email;
+        this.nickname = nickname;
+        this.role = role;
+        this.active = active;
+        this.password = password;
+        this.loadedAtMs = loadedAtMs;
+    }
+
+    /** 세션/토큰에 둘 principal (비밀번호 해시 없음) - OAuth2 로그인, 재로딩 */
+    public static RecipickPrincipal of(UserEntity user) {
+        return from(user, null);
+    }
+
+    /** 폼 로그인 검증용 (UserDetailsService 전용). 인증이 끝나면 ProviderManager 가 eraseCredentials() 로 지운다 */
+    public static RecipickPrincipal forLogin(UserEntity user) {
+        return from(user, user.getPassword());
+    }
+
+    private static RecipickPrincipal from(UserEntity user, String password) {
+        return new RecipickPrincipal(
+                user.getUserId(),
+                user.getEmail(),
+                user.getNickname(),
+                user.getRole() == null ? "ROLE_USER" : user.getRole(),
+                Boolean.TRUE.equals(user.getActive()),
+                password,
+                System.currentTimeMillis());
+    }
+
+    /** 토큰 클레임에서 복원 (토큰은 활성 계정에만 발급하므로 active = true) */
+    public static RecipickPrincipal restore(Integer userId, String email, String nickname, String role,
+                                            long loadedAtMs) {
+        return new RecipickPrincipal(userId, email, nickname, role, true, null, loadedAtMs);
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority(role));
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return active;
+    }
+
+    @Override
+    public void eraseCredentials() {
+        this.password = null;
+    }
+
+    // 동시 세션 제어(SessionRegistry)가 principal 을 키로 쓰므로 사용자 기준으로 비교
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof RecipickPrincipal other && Objects.equals(userId, other.userId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(userId);
+    }
+
+    @Override
+    public String toString() {
+        return "RecipickPrincipal[userId=" + userId + ", email=" + email + ", role=" + role + "]";
+    }
+}
@@ -1,12 +1,19 @@
 package SITE.RECIPICK.RECIPICK_PROJECT.config;
 
+import SITE.RECIPICK.RECIPICK_PROJECT.service.ActivityTracker;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.oauth2.client.web.AuthorizationRequestRepository;
+import org.springframework.security.oauth2.client.web.HttpSessionOAuth2AuthorizationRequestRepository;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -20,6 +27,9 @@ import java.util.List;
 public class SecurityConfig {
 
     private final OAuth2LoginSuccessHandler oAuth2LoginSuccessHandler;
+    private final ActivityTracker activityTracker;
+    private final PrincipalRegistry principalRegistry;
+    private final JwtTokenService jwtTokenService;
 
     @Bean
     SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -61,6 +71,9 @@ public class SecurityConfig {
                         // 관리용 API
                         .requestMatchers("/api/users/all", "/api/users/set-active").hasRole("ADMIN")
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                        .requestMatchers("/admin/import/**").hasRole("ADMIN") // 레시피 대량 적재
+                        .requestMatchers("/admin/export/**").hasRole("ADMIN") // 목록 내보내기
+                        .requestMatchers("/admin/bulk/**").hasRole("ADMIN") // 일괄 처리
 
                         // 나머지 모든 요청은 로그인 필요
                         .anyRequest().hasAnyRole("USER", "ADMIN")
@@ -71,11 +84,16 @@ public class SecurityConfig {
                         .usernameParameter("email")
                         .passwordParameter("password")
                         .successHandler((req, res, auth) -> {
-                            // 일반 로그인 성공 시에도 세션 저장 확인
-                            req.getSession().setAttribute(
-                                    org.springframework.security.web.context.HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY,
-                                    org.springframework.security.core.context.SecurityContextHolder.getContext()
-                            );
+                            if (jwtTokenService.enabled()) {
+                                // 토큰 모드: 세션 대신 서명된 인증 쿠키
+                                jwtTokenService.writeCookie(res, (RecipickPrincipal) auth.getPrincipal());
+                            } else {
+                                // 일반 로그인 성공 시에도 세션 저장 확인
+                                req.getSession().setAttribute(
+                                        org.springframework.security.web.context.HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY,
+                                        org.springframework.security.core.context.SecurityContextHolder.getContext()
+                                );
+                            }
                             res.sendRedirect("/pages/main.html");
                         })
                         .failureHandler((req, res, ex) -> {
@@ -90,6 +108,7 @@ public class SecurityConfig {
                 )
                 .oauth2Login(oauth -> oauth
                         .loginPage("/pages/login.html")
+                        .authorizationEndpoint(a -> a.authorizationRequestRepository(authorizationRequestRepository()))
                         .userInfoEndpoint(u -> u.userAuthoritiesMapper(authorities -> {
                             java.util.Set<org.springframework.security.core.GrantedAuthority> result = new java.util.HashSet<>();
                             result.addAll(authorities);
@@ -109,18 +128,42 @@ public class SecurityConfig {
                 .logout(logout -> logout
                         .logoutSuccessUrl("/pages/login.html")
                         .invalidateHttpSession(true)
-                        .deleteCookies("JSESSIONID")
+                        .deleteCookies("JSESSIONID", JwtTokenService.COOKIE_NAME)
                         .permitAll()
                 )
-                .sessionManagement(session -> session
-                        .sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED)
-                        .maximumSessions(1)
-                        .maxSessionsPreventsLogin(false)
-                );
+                // 닉네임 변경/정지된 사용자의 세션 principal 갱신 (인가 전에)
+                .addFilterBefore(new PrincipalRefreshFilter(principalRegistry, jwtTokenService), AuthorizationFilter.class)
+                // 일별 방문 기록 (인증된 요청만)
+                .addFilterAfter(new ActivityTrackingFilter(activityTracker), AuthorizationFilter.class);
+
+        if (jwtTokenService.enabled()) {
+            // 토큰 모드: 서버 세션 없이 인증 쿠키(JWT)만으로 인증 → 노드 간 세션 공유/고정 불필요
+            http
+                    .sessionManagement(session -> session
+                            .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                    .securityContext(context -> context
+                            .securityContextRepository(new RequestAttributeSecurityContextRepository()))
+                    .addFilterBefore(new JwtCookieAuthenticationFilter(jwtTokenService),
+                            UsernamePasswordAuthenticationFilter.class);
+        } else {
+            http.sessionManagement(session -> session
+                    .sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED)
+                    .maximumSessions(1)
+                    .maxSessionsPreventsLogin(false)
+            );
+        }
 
         return http.build();
     }
 
+    // 구글 로그인 인가 요청 보관 위치 (토큰 모드는 서명된 단기 쿠키, 세션 모드는 세션)
+    @Bean
+    public AuthorizationRequestRepository<OAuth2AuthorizationRequest> authorizationRequestRepository() {
+        return jwtTokenService.enabled()
+                ? new CookieOAuth2AuthorizationRequestRepository(jwtTokenService)
+                : new HttpSessionOAuth2AuthorizationRequestRepository();
+    }
+
     // CORS 설정 (8080 포트 추가)
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
@@ -8,6 +8,7 @@ import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Tag(name = "Main", description = "메인 섹션 API")
@@ -18,10 +19,10 @@ public class MainController {
 
   private final MainReadService svc;
 
-  @Operation(summary = "오늘의 추천(좋아요 상위 5)")
+  @Operation(summary = "오늘의 추천(좋아요 상위 5)", description = "region: 지역명 또는 관측소 번호 (없으면 서울)")
   @GetMapping("/today")
-  public List<MainPostDto> today() {
-    return svc.todayTop5();
+  public List<MainPostDto> today(@RequestParam(required = false) String region) {
+    return svc.todayTop5(region);
   }
 
   @Operation(summary = "인기 레시피(좋아요 상위 8)")
@@ -210,9 +210,11 @@ public class MyPageController {
       @Parameter(description = "오프셋(0부터 시작)", example = "0")
       @RequestParam(defaultValue = "0") int offset,
       @Parameter(description = "가져올 개수(기본 20)", example = "20")
-      @RequestParam(defaultValue = "20") int limit
+      @RequestParam(defaultValue = "20") int limit,
+      @Parameter(description = "키셋 커서: 이 리뷰 ID 보다 오래된 리뷰부터 (있으면 offset 무시)")
+      @RequestParam(required = false) Integer before
   ) {
     Integer userId = currentUser.userId();
-    return myPageService.getMyReviews(userId, offset, limit);
+    return myPageService.getMyReviews(userId, offset, limit, before);
   }
 }
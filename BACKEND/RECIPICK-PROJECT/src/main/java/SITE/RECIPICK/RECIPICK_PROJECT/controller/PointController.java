@@ -1,6 +1,9 @@
 package SITE.RECIPICK.RECIPICK_PROJECT.controller;
 
+import SITE.RECIPICK.RECIPICK_PROJECT.config.RecipickPrincipal;
+import SITE.RECIPICK.RECIPICK_PROJECT.dto.LeaderboardEntry;
 import SITE.RECIPICK.RECIPICK_PROJECT.entity.UserEntity;
+import SITE.RECIPICK.RECIPICK_PROJECT.service.PointLeaderboard;
 import SITE.RECIPICK.RECIPICK_PROJECT.service.PointService;
 import SITE.RECIPICK.RECIPICK_PROJECT.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,8 +16,10 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -27,6 +32,7 @@ public class PointController {
 
     private final PointService pointService;
     private final UserService userService;
+    private final PointLeaderboard pointLeaderboard;
 
     @Operation(summary = "내 포인트 및 등급 정보 조회", description = "현재 사용자의 포인트, 등급, 다음 등급까지 필요한 포인트를 조회합니다")
     @GetMapping("/my-info")
@@ -113,6 +119,61 @@ public class PointController {
         }
     }
 
+    @Operation(summary = "포인트 순위", description = "포인트 내림차순 순위 (동점은 같은 순위). limit 최대 100")
+    @GetMapping("/leaderboard")
+    public ResponseEntity<?> getLeaderboard(
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "20") int limit) {
+        if (offset < 0 || limit < 1) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "offset 은 0 이상, limit 은 1 이상이어야 합니다."));
+        }
+        try {
+            List<LeaderboardEntry> items = pointLeaderboard.top(offset, Math.min(limit, 100));
+            return ResponseEntity.ok(Map.of(
+                    "total", pointLeaderboard.total(),
+                    "offset", offset,
+                    "items", items
+            ));
+        } catch (Exception e) {
+            log.error("포인트 순위 조회 중 오류", e);
+            return ResponseEntity.internalServerError()
+                    .body(Map.of("error", "서버 오류가 발생했습니다."));
+        }
+    }
+
+    @Operation(summary = "내 포인트 순위", description = "현재 사용자의 순위와 전체 인원을 조회합니다")
+    @GetMapping("/my-rank")
+    public ResponseEntity<?> getMyRank() {
+        try {
+            Integer currentUserId = getCurrentUserId();
+            if (currentUserId == null) {
+                return ResponseEntity.status(401)
+                        .body(Map.of("error", "인증이 필요합니다."));
+            }
+
+            LeaderboardEntry me = pointLeaderboard.rankOf(currentUserId);
+            if (me == null) {
+                return ResponseEntity.status(404)
+                        .body(Map.of("error", "프로필이 없습니다."));
+            }
+
+            return ResponseEntity.ok(Map.of(
+                    "rank", me.rank(),
+                    "total", pointLeaderboard.total(),
+                    "userId", me.userId(),
+                    "nickname", me.nickname(),
+                    "point", me.point(),
+                    "grade", me.grade()
+            ));
+
+        } catch (Exception e) {
+            log.error("내 포인트 순위 조회 중 오류", e);
+            return ResponseEntity.internalServerError()
+                    .body(Map.of("error", "서버 오류가 발생했습니다."));
+        }
+    }
+
     /**
      * 등급 한글 표시명 반환
      */
@@ -138,6 +199,11 @@ public class PointController {
                 return null;
             }
 
+            // 로그인 시 세션에 담아 둔 principal 이면 조회 없이
+            if (authentication.getPrincipal() instanceof RecipickPrincipal principal) {
+                return principal.getUserId();
+            }
+
             String email = authentication.getName();
             Optional<UserEntity> userOpt = userService.getUserByEmail(email);
 
@@ -231,12 +231,23 @@ public class PostRestController {
             @Parameter(description = "카테고리 필터", example = "채소류") @RequestParam(required = false)
             String category,
             @Parameter(description = "조리방법 필터", example = "끓이기") @RequestParam(required = false)
-            String method) {
+            String method,
+            @Parameter(description = "요리 종류 필터", example = "찌개") @RequestParam(required = false)
+            String kind,
+            @Parameter(description = "난이도 필터 (1~5)", example = "2") @RequestParam(required = false)
+            Integer level,
+            @Parameter(description = "조리시간 하한 (분)", example = "10") @RequestParam(required = false)
+            Integer minTime,
+            @Parameter(description = "조리시간 상한 (분)", example = "30") @RequestParam(required = false)
+            Integer maxTime,
+            @Parameter(description = "필터 기준 차원별 건수(facets) 포함 여부", example = "false")
+            @RequestParam(defaultValue = "false")
+            boolean facets) {
 
         try {
             log.info(
-                    "전체 레시피 조회 요청 - page: {}, size: {}, sortBy: {}, direction: {}, official: {}, category: {}, method: {}",
-                    page, size, sortBy, sortDirection, official, category, method);
+                    "전체 레시피 조회 요청 - page: {}, size: {}, sortBy: {}, direction: {}, official: {}, category: {}, method: {}, kind: {}, level: {}, time: {}~{}",
+                    page, size, sortBy, sortDirection, official, category, method, kind, level, minTime, maxTime);
 
             // 파라미터 유효성 검사
             if (page < 0) {
@@ -255,7 +266,7 @@ public class PostRestController {
 
             // 레시피 조회
             Map<String, Object> recipesData = postService.getAllRecipes(page, size, sortBy, sortDirection,
-                    official, category, method);
+                    official, category, method, kind, level, minTime, maxTime, facets);
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -445,13 +456,10 @@ public class PostRestController {
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
             }
 
-            PostDto recipe = postService.getRecipeById(postId);
+            // 직렬화된 응답을 그대로 내려보냄 (PostDetailCache)
+            byte[] body = postService.getRecipeDetailJson(postId);
 
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("data", recipe);
-
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
 
         } catch (IllegalArgumentException e) {
             log.warn("레시피 상세 조회 실패 - 레시피 없음: postId={}, message={}", postId, e.getMessage());
@@ -1,8 +1,9 @@
 package SITE.RECIPICK.RECIPICK_PROJECT.controller;
 
 import SITE.RECIPICK.RECIPICK_PROJECT.dto.WeatherData;
-import SITE.RECIPICK.RECIPICK_PROJECT.repository.WeatherRecommendRepository;
 import SITE.RECIPICK.RECIPICK_PROJECT.service.KmaWeatherService;
+import SITE.RECIPICK.RECIPICK_PROJECT.service.WeatherBucketIndex;
+import SITE.RECIPICK.RECIPICK_PROJECT.util.KmaStations;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
@@ -16,20 +17,19 @@ import java.util.Map;
 public class RecommendController {
 
   private final KmaWeatherService kmaService;
-  private final WeatherRecommendRepository repo;
+  private final WeatherBucketIndex weatherIndex;
 
   @GetMapping("/today")
-  public Map<String,Object> today() {
+  public Map<String,Object> today(@RequestParam(required = false) String region) {
 
-    WeatherData data = kmaService.lastCachedWeather();   // null일 수 있음
-    String cond = kmaService.getCachedConditionOrNormal();
+    int stn = KmaStations.resolve(region);                  // 지역 힌트 → 관측소 (네트워크 없음)
+    WeatherData data = kmaService.lastCachedWeather(stn);   // null일 수 있음
+    String cond = kmaService.getCachedConditionOrNormal(stn);
 
+    // 버킷 인덱스에서 무작위 6개 (normal 이면 기존처럼 hot)
     var items = switch(cond) {
-      case "rainy" -> repo.rainyTop(6);
-      case "snowy" -> repo.snowyTop(6);
-      case "cold"  -> repo.coldTop(6);
-      case "hot"   -> repo.hotTop(6);
-      default      -> repo.hotTop(6);
+      case "rainy", "snowy", "cold", "hot" -> weatherIndex.pick(cond, 6);
+      default      -> weatherIndex.pick("hot", 6);
     };
 
     return Map.of(
@@ -1,5 +1,6 @@
 package SITE.RECIPICK.RECIPICK_PROJECT.controller;
 
+import SITE.RECIPICK.RECIPICK_PROJECT.config.RecipickPrincipal;
 import SITE.RECIPICK.RECIPICK_PROJECT.dto.ReviewDto;
 import SITE.RECIPICK.RECIPICK_PROJECT.entity.UserEntity;
 import SITE.RECIPICK.RECIPICK_PROJECT.service.ReviewService;
@@ -234,6 +235,11 @@ public class ReviewController {
         return null;
       }
 
+      // 로그인 시 세션에 담아 둔 principal 이면 조회 없이
+      if (authentication.getPrincipal() instanceof RecipickPrincipal principal) {
+        return principal.getUserId();
+      }
+
       String email = authentication.getName();
       if (email == null || email.trim().isEmpty()) {
         log.warn("사용자 email이 비어있습니다");
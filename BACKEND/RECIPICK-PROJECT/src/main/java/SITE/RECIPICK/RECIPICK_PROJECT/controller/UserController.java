@@ -1,5 +1,6 @@
 package SITE.RECIPICK.RECIPICK_PROJECT.controller;
 
+import SITE.RECIPICK.RECIPICK_PROJECT.config.RecipickPrincipal;
 import SITE.RECIPICK.RECIPICK_PROJECT.entity.UserEntity;
 import SITE.RECIPICK.RECIPICK_PROJECT.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -112,6 +113,16 @@ public class UserController {
       return ResponseEntity.status(401).build();
     }
 
+    // 로그인 시 세션에 담아 둔 principal 이면 조회 없이
+    if (auth.getPrincipal() instanceof RecipickPrincipal p) {
+      return ResponseEntity.ok(Map.of(
+          "userId", p.getUserId(),
+          "email", p.getEmail(),
+          "nickname", p.getNickname(),
+          "role", p.getRole()
+      ));
+    }
+
     try {
       String email = auth.getName();
       java.util.Optional<UserEntity> userOpt = userService.getUserByEmail(email);
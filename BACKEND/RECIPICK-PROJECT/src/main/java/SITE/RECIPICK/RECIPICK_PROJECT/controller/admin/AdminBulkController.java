@@ -0,0 +1,75 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.controller.admin;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.dto.admin.BulkJobStatus;
+import SITE.RECIPICK.RECIPICK_PROJECT.dto.admin.BulkRequest;
+import SITE.RECIPICK.RECIPICK_PROJECT.service.admin.AdminBulkService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * AdminBulkController
+ *
+ * <p>✅ 목적 - 관리자 단건 처리(공개/삭제/신고 처리/활성화)의 일괄 버전 - URL prefix: /admin/bulk
+ *
+ * <p>✅ 보안 - SecurityConfig 에서 /admin/bulk/** 를 hasRole('ADMIN') 으로 제한.
+ *
+ * <p>✅ 요청/응답 규격 - POST body: {"ids":[1,2,3]} (+ 신고: "action", 유저: "active") → 202 + 진행 상황 - GET
+ * /admin/bulk/{jobId} → 진행 상황(처리한 id 수, 실제 변경 행 수, 청크 수)
+ */
+@RestController
+@RequestMapping("/admin/bulk")
+@RequiredArgsConstructor
+@Tag(name = "admin", description = "관리자 전용 API")
+public class AdminBulkController {
+
+  private final AdminBulkService bulkService;
+
+  @PostMapping("/posts/publish")
+  @Operation(summary = "게시글 일괄 공개 전환")
+  public ResponseEntity<BulkJobStatus> publishPosts(@RequestBody BulkRequest req) {
+    return accepted(bulkService.publishPosts(req.getIds()));
+  }
+
+  @PostMapping("/posts/delete")
+  @Operation(summary = "게시글 일괄 삭제", description = "재료 연결/좋아요/리뷰/평점 집계까지 함께 삭제합니다.")
+  public ResponseEntity<BulkJobStatus> deletePosts(@RequestBody BulkRequest req) {
+    return accepted(bulkService.deletePosts(req.getIds()));
+  }
+
+  @PostMapping("/reviews/delete")
+  @Operation(summary = "리뷰 일괄 삭제")
+  public ResponseEntity<BulkJobStatus> deleteReviews(@RequestBody BulkRequest req) {
+    return accepted(bulkService.deleteReviews(req.getIds()));
+  }
+
+  @PostMapping("/reports/moderate")
+  @Operation(summary = "신고 일괄 처리", description = "action: ACCEPT | REJECT")
+  public ResponseEntity<BulkJobStatus> moderateReports(@RequestBody BulkRequest req) {
+    return accepted(bulkService.moderateReports(req.getIds(), req.getAction()));
+  }
+
+  @PostMapping("/users/active")
+  @Operation(summary = "유저 일괄 활성/정지")
+  public ResponseEntity<BulkJobStatus> updateUsersActive(@RequestBody BulkRequest req) {
+    return accepted(bulkService.updateUsersActive(req.getIds(), req.getActive()));
+  }
+
+  @GetMapping("/{jobId}")
+  @Operation(summary = "일괄 처리 진행 상황")
+  public BulkJobStatus status(@PathVariable String jobId) {
+    return bulkService.status(jobId);
+  }
+
+  private static ResponseEntity<BulkJobStatus> accepted(BulkJobStatus status) {
+    return ResponseEntity.status(HttpStatus.ACCEPTED).body(status);
+  }
+}
@@ -1,5 +1,6 @@
 package SITE.RECIPICK.RECIPICK_PROJECT.controller.admin;
 
+import SITE.RECIPICK.RECIPICK_PROJECT.config.RecipickPrincipal;
 import SITE.RECIPICK.RECIPICK_PROJECT.dto.GradeUpdateRequest;
 import SITE.RECIPICK.RECIPICK_PROJECT.dto.PostDto;
 import SITE.RECIPICK.RECIPICK_PROJECT.dto.ReportCreateRequest;
@@ -10,6 +11,7 @@ import SITE.RECIPICK.RECIPICK_PROJECT.dto.admin.UpdateUserActiveRequest;
 import SITE.RECIPICK.RECIPICK_PROJECT.dto.admin.UserSummaryDTO;
 import SITE.RECIPICK.RECIPICK_PROJECT.entity.ReportEntity;
 import SITE.RECIPICK.RECIPICK_PROJECT.repository.UserRepository;
+import SITE.RECIPICK.RECIPICK_PROJECT.service.admin.AdminDashboardSnapshotService;
 import SITE.RECIPICK.RECIPICK_PROJECT.service.admin.AdminGradeService;
 import SITE.RECIPICK.RECIPICK_PROJECT.service.admin.AdminService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -48,6 +50,7 @@ public class AdminController {
 
   private final AdminService svc; // 게시글/신고/유저 등 관리자 핵심 기능
   private final AdminGradeService gradeSvc; // 유저 등급 변경 전담
+  private final AdminDashboardSnapshotService dashboardSnapshots; // 대시보드 스냅샷
   private final UserRepository userRepo; // 현재 인증된 사용자(email) → userId 조회용
 
   // ===================== Users =====================
@@ -195,14 +198,16 @@ public class AdminController {
 
   /**
    * 관리자 대시보드 통계 - days : 최근 N일 기준(기본 7) - minReports : 신고 누적 최소 기준(기본 3) - top : 상위 N개(기본 5)
+   * - refresh : true 면 스냅샷을 즉시 다시 계산 (기본은 마지막 스냅샷을 바로 반환, ageSeconds 로 경과 시간 표시)
    */
   @GetMapping("/dashboard")
   @Operation(summary = "대시보드 통계 조회")
   public AdminDashboardResponse dashboard(
       @RequestParam(defaultValue = "7") int days,
       @RequestParam(defaultValue = "3") int minReports,
-      @RequestParam(defaultValue = "5") int top) {
-    return svc.getDashboard(days, minReports, top);
+      @RequestParam(defaultValue = "5") int top,
+      @RequestParam(defaultValue = "false") boolean refresh) {
+    return dashboardSnapshots.get(days, minReports, top, refresh);
   }
 
   // ===================== Helpers =====================
@@ -215,6 +220,9 @@ public class AdminController {
     if (authentication == null || authentication.getName() == null) {
       throw new IllegalStateException("UNAUTHENTICATED");
     }
+    if (authentication.getPrincipal() instanceof RecipickPrincipal principal) {
+      return principal.getUserId(); // 세션 principal → 조회 없음
+    }
     var email = authentication.getName();
     var user =
         userRepo.findByEmail(email)
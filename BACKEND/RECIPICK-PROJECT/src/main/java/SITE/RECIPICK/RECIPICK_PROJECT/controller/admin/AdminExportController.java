@@ -0,0 +1,96 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.controller.admin;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.AdminExportRepository.ExportQuery;
+import SITE.RECIPICK.RECIPICK_PROJECT.service.admin.AdminExportService;
+import SITE.RECIPICK.RECIPICK_PROJECT.service.admin.AdminExportService.Format;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * AdminExportController
+ *
+ * <p>✅ 목적 - 유저/신고/레시피 전체 목록 내보내기 - URL prefix: /admin/export - format=csv(기본) | ndjson
+ *
+ * <p>✅ 보안 - SecurityConfig 에서 /admin/export/** 를 hasRole('ADMIN') 으로 제한.
+ *
+ * <p>✅ 응답 - StreamingResponseBody 로 DB 커서에서 읽는 대로 내려보낸다 (목록을 메모리에 올리지 않음). 잘못된 파라미터는
+ * 스트리밍 시작 전에 검증해 400 으로 끝난다.
+ *
+ * <p>✅ 타임아웃 - 대용량도 끊기지 않도록 이 응답에만 비동기 타임아웃을 길게(기본 30분) 준다. 다른 비동기 요청은 기본값 그대로.
+ */
+@RestController
+@RequestMapping("/admin/export")
+@RequiredArgsConstructor
+@Tag(name = "admin", description = "관리자 전용 API")
+public class AdminExportController {
+
+  private final AdminExportService exportService;
+
+  @Value("${recipick.admin.export-timeout-ms:1800000}")
+  private long exportTimeoutMs = 1_800_000L;
+
+  @GetMapping("/users")
+  @Operation(summary = "유저 목록 내보내기", description = "user_id 순, format=csv|ndjson")
+  public ResponseEntity<StreamingResponseBody> exportUsers(
+      @RequestParam(defaultValue = "csv") String format) {
+    return stream(exportService.users(), Format.parse(format));
+  }
+
+  @GetMapping("/reports")
+  @Operation(summary = "신고 목록 내보내기", description = "status/type 생략 시 전체, format=csv|ndjson")
+  public ResponseEntity<StreamingResponseBody> exportReports(
+      @RequestParam(required = false) String status,
+      @RequestParam(required = false) String type,
+      @RequestParam(defaultValue = "csv") String format) {
+    return stream(exportService.reports(status, type), Format.parse(format));
+  }
+
+  @GetMapping("/posts")
+  @Operation(summary = "레시피 목록 내보내기",
+      description = "official=1 정식 / 0 임시 / 생략 전체, minReports 이상 신고된 글만, format=csv|ndjson")
+  public ResponseEntity<StreamingResponseBody> exportPosts(
+      @RequestParam(required = false) Integer official,
+      @RequestParam(defaultValue = "0") int minReports,
+      @RequestParam(defaultValue = "csv") String format) {
+    return stream(exportService.posts(official, minReports), Format.parse(format));
+  }
+
+  private ResponseEntity<StreamingResponseBody> stream(ExportQuery query, Format format) {
+    String filename = query.name() + "-" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE)
+        + "." + format.extension;
+    StreamingResponseBody body = out -> exportService.write(query, format, out);
+    extendAsyncTimeout();
+    return ResponseEntity.ok()
+        .header(HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename(filename).build().toString())
+        .contentType(MediaType.parseMediaType(format.contentType))
+        .body(body);
+  }
+
+  // 핸들러 어댑터가 기본 타임아웃을 넣어 둔 비동기 요청에 이 응답용 값을 덮어쓴다 (스트리밍 시작 시 적용)
+  private void extendAsyncTimeout() {
+    if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attrs) {
+      AsyncWebRequest asyncRequest = WebAsyncUtils.getAsyncManager(attrs.getRequest()).getAsyncWebRequest();
+      if (asyncRequest != null) {
+        asyncRequest.setTimeout(exportTimeoutMs);
+      }
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.controller.admin;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.config.RecipickPrincipal;
+import SITE.RECIPICK.RECIPICK_PROJECT.dto.admin.RecipeImportStatus;
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.UserRepository;
+import SITE.RECIPICK.RECIPICK_PROJECT.service.admin.RecipeImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * AdminImportController
+ *
+ * <p>✅ 목적 - 공식 레시피 CSV 대량 적재(시드/갱신) API - URL prefix: /admin/import
+ *
+ * <p>✅ 보안 - SecurityConfig 에서 /admin/import/** 를 hasRole('ADMIN') 으로 제한.
+ *
+ * <p>✅ 요청/응답 규격 - POST /admin/import/recipes?path=/data/recipes.csv[&fromStart=true] → 202 + 진행 상황 - GET
+ * /admin/import/recipes/{jobId} → 진행 상황(적재 건수, 처리량 등) - 같은 path 로 다시 실행하면 체크포인트부터 이어서 적재
+ */
+@RestController
+@RequestMapping("/admin/import")
+@RequiredArgsConstructor
+@Tag(name = "admin", description = "관리자 전용 API")
+public class AdminImportController {
+
+  private final RecipeImportService importService;
+  private final UserRepository userRepo;
+
+  @PostMapping("/recipes")
+  @Operation(summary = "레시피 CSV 대량 적재 시작", description = "서버 로컬 경로의 CSV 를 비동기로 적재합니다.")
+  public ResponseEntity<RecipeImportStatus> startImport(
+      @RequestParam String path,
+      @RequestParam(defaultValue = "false") boolean fromStart,
+      Authentication authentication) {
+    var status = importService.start(path, currentUserId(authentication), fromStart);
+    return ResponseEntity.status(HttpStatus.ACCEPTED).body(status);
+  }
+
+  @GetMapping("/recipes/{jobId}")
+  @Operation(summary = "레시피 CSV 적재 진행 상황")
+  public RecipeImportStatus importStatus(@PathVariable String jobId) {
+    return importService.status(jobId);
+  }
+
+  private Integer currentUserId(Authentication authentication) {
+    if (authentication == null || authentication.getName() == null) {
+      throw new IllegalStateException("UNAUTHENTICATED");
+    }
+    if (authentication.getPrincipal() instanceof RecipickPrincipal principal) {
+      return principal.getUserId(); // 세션 principal → 조회 없음
+    }
+    return userRepo.findByEmail(authentication.getName())
+        .orElseThrow(() -> new IllegalStateException("AUTH_USER_NOT_FOUND"))
+        .getUserId();
+  }
+}
@@ -0,0 +1,12 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.dto;
+
+/**
+ * 포인트 순위 한 줄 (동점은 같은 순위)
+ */
+public record LeaderboardEntry(
+    int rank,
+    Integer userId,
+    String nickname,
+    int point,
+    String grade
+) {}
@@ -0,0 +1,37 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 내 리뷰 목록 한 줄 (리뷰 + 게시글 카드 필드).
+ * <p>
+ * ReviewRepository.MY_REVIEW_SELECT 생성자 표현식으로 review ⋈ post 한 번에 읽는다.
+ */
+public record MyReviewRow(
+    Integer reviewId,
+    BigDecimal reviewRating,
+    String comment,
+    LocalDateTime createdAt,
+    Integer postId,
+    String title,
+    String foodName,
+    String rcpImgUrl
+) {
+
+  public ReviewDto toDto() {
+    return ReviewDto.builder()
+        .reviewId(reviewId)
+        .postId(postId)
+        .reviewRating(reviewRating)
+        .comment(comment)
+        .createdAt(createdAt)
+        .post(PostDto.builder()
+            .postId(postId)
+            .title(title)
+            .foodName(foodName)
+            .rcpImgUrl(rcpImgUrl)
+            .build())
+        .build();
+  }
+}
@@ -0,0 +1,34 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.dto;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.PostEntity.CookingCategory;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.PostEntity.CookingKind;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.PostEntity.CookingMethod;
+import java.time.LocalDateTime;
+
+/**
+ * 목록(카드)용 게시글 프로젝션.
+ * <p>
+ * TEXT 컬럼(ckg_mtrl_cn, rcp_steps, rcp_steps_img)은 SELECT 하지 않는다. JPQL 생성자 표현식
+ * (PostRepository.CARD_SELECT) 과 Criteria(PostRepositoryImpl) 에서 같은 순서로 생성한다.
+ */
+public record PostCard(
+    Integer postId,
+    Integer userId,
+    String userNickname,
+    String title,
+    String foodName,
+    String rcpImgUrl,
+    Integer likeCount,
+    Integer viewCount,
+    Integer reportCount,
+    Integer rcpIsOfficial,
+    CookingMethod ckgMth,
+    CookingCategory ckgCategory,
+    CookingKind ckgKnd,
+    Integer ckgInbun,
+    Integer ckgLevel,
+    Integer ckgTime,
+    LocalDateTime createdAt
+) {
+
+}
@@ -0,0 +1,18 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.dto;
+
+import java.util.Map;
+
+/**
+ * 레시피 목록 facet 건수 (값 → 건수, 건수 내림차순).
+ * <p>
+ * enum 차원은 한글 description 을 키로 쓴다 (프론트 필터 값과 동일).
+ */
+public record PostFacets(
+        Map<String, Long> category,
+        Map<String, Long> method,
+        Map<String, Long> kind,
+        Map<Integer, Long> level,
+        Map<Integer, Long> time
+) {
+
+}
@@ -0,0 +1,24 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.dto;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.PostEntity.CookingCategory;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.PostEntity.CookingKind;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.PostEntity.CookingMethod;
+
+/**
+ * 레시피 목록 필터 (/post/all). null 인 항목은 조건에서 제외된다.
+ *
+ * @param official 정식 레시피 여부 (1: 정식, 0: 임시)
+ * @param minTime  조리시간 하한(분, 포함)
+ * @param maxTime  조리시간 상한(분, 포함)
+ */
+public record PostFilter(
+        Integer official,
+        CookingCategory category,
+        CookingMethod method,
+        CookingKind kind,
+        Integer level,
+        Integer minTime,
+        Integer maxTime
+) {
+
+}
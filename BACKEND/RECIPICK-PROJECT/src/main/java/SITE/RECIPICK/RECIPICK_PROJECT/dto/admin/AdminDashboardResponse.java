@@ -2,6 +2,7 @@
 package SITE.RECIPICK.RECIPICK_PROJECT.dto.admin;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public record AdminDashboardResponse(
@@ -10,11 +11,22 @@ public record AdminDashboardResponse(
     long reportedRecipesOverThreshold,
     // Chart.js용 추이 데이터
     Series visitorTrend,
+    // 기간 고유 방문자 (근사값)
+    long uniqueVisitors,
     // 카테고리별 업로드(막대/도넛)
     List<CategoryCount> categoryUploads,
     // 테이블 섹션
     List<RecentReportItem> recentReports,
-    List<RecentSignupItem> recentSignups) {
+    List<RecentSignupItem> recentSignups,
+    // 스냅샷 생성 시각 / 응답 시점 기준 경과 초
+    LocalDateTime generatedAt,
+    long ageSeconds) {
+
+  /** 같은 스냅샷을 경과 시간만 바꿔 내보낼 때 */
+  public AdminDashboardResponse withAgeSeconds(long age) {
+    return new AdminDashboardResponse(totalUsers, totalRecipes, reportedRecipesOverThreshold,
+        visitorTrend, uniqueVisitors, categoryUploads, recentReports, recentSignups, generatedAt, age);
+  }
 
   public record Series(List<LocalDate> labels, List<Long> data) {
 
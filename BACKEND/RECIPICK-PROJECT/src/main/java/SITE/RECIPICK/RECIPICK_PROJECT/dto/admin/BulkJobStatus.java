@@ -0,0 +1,27 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.dto.admin;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 일괄 처리 진행 상황
+ *
+ * @param operation POST_PUBLISH | POST_DELETE | REVIEW_DELETE | REPORT_MODERATE | USER_ACTIVE
+ * @param state     QUEUED | RUNNING | DONE | FAILED
+ * @param requested 요청한 id 수 (중복 제거 후)
+ * @param processed 처리가 끝난 청크에 속한 id 수
+ * @param affected  실제로 바뀐 행 수 (이미 그 상태거나 없는 id 는 제외)
+ */
+public record BulkJobStatus(
+    String jobId,
+    String operation,
+    String state,
+    LocalDateTime startedAt,
+    LocalDateTime finishedAt,
+    long requested,
+    long processed,
+    long affected,
+    long chunks,
+    String lastError
+) {
+
+}
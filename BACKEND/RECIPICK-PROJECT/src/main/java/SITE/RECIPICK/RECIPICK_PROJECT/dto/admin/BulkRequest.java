@@ -0,0 +1,19 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.dto.admin;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 관리자 일괄 처리 요청 - ids: 대상 PK 목록 - action: 신고 일괄 처리용 (ACCEPT | REJECT) - active: 유저 일괄 활성/정지용
+ */
+@Getter
+@Setter
+public class BulkRequest {
+
+    private List<Integer> ids;
+
+    private String action;
+
+    private Boolean active;
+}
@@ -0,0 +1,28 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.dto.admin;
+
+import java.time.LocalDateTime;
+
+/**
+ * 레시피 CSV 대량 적재 진행 상황
+ *
+ * @param state            RUNNING | DONE | FAILED
+ * @param skippedRecords   체크포인트 덕분에 건너뛴(이미 적재된) 레코드 수
+ * @param importedRecords  이번 실행에서 적재한 레코드 수
+ * @param failedRecords    형식 오류 등으로 건너뛴 레코드 수
+ * @param recordsPerSecond 이번 실행 기준 처리량
+ */
+public record RecipeImportStatus(
+    String jobId,
+    String source,
+    String state,
+    LocalDateTime startedAt,
+    LocalDateTime finishedAt,
+    long skippedRecords,
+    long importedRecords,
+    long failedRecords,
+    long chunks,
+    double recordsPerSecond,
+    String lastError
+) {
+
+}
@@ -0,0 +1,29 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * CATALOG_VERSION 매핑 엔티티
+ *
+ * <p>✅ 설계 의도 - 메모리에 통째로 올려 두는 사전성 테이블(재료 등)의 변경 버전 - 데이터가 바뀔 때마다 version 을 +1 하고, 각 노드는
+ * 이 값을 주기적으로 읽어 자기 스냅샷 버전과 다르면 다시 로드한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "CATALOG_VERSION")
+public class CatalogVersion {
+
+    @Id
+    @Column(name = "name", length = 50)
+    private String name; // 카탈로그 이름 (예: ingredient)
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+}
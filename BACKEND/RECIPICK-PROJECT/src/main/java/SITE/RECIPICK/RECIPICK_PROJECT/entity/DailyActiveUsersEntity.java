@@ -0,0 +1,34 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.entity;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * DAILY_ACTIVE_USERS 매핑 엔티티 (일별 방문자 집계)
+ *
+ * <p>✅ 설계 의도 - user_count: 그날 user_activity 행 수 (정확값) - sketch: 그날 방문자 HyperLogLog 레지스터. 기간 고유
+ * 방문자는 스케치를 합쳐 근사한다 - 오늘 행은 적재 주기마다, 어제 행은 새벽에 원본으로 다시 만든다
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "daily_active_users")
+public class DailyActiveUsersEntity {
+
+    @Id
+    @Column(name = "activity_date", nullable = false)
+    private LocalDate activityDate;
+
+    @Column(name = "user_count", nullable = false)
+    private Integer userCount;
+
+    @Column(name = "sketch", columnDefinition = "VARBINARY(4096)")
+    private byte[] sketch;
+}
@@ -0,0 +1,34 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * IMPORT_CHECKPOINT 매핑 엔티티
+ *
+ * <p>✅ 설계 의도 - 대용량 CSV 적재 재시작용 체크포인트 - source: 적재 원본 식별자(파일 절대경로) - records: 커밋까지 끝난 데이터
+ * 레코드 수(헤더 제외). 청크 데이터와 같은 트랜잭션에서 갱신되므로 재시작 시 정확히 이어서 적재된다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "IMPORT_CHECKPOINT")
+public class ImportCheckpoint {
+
+    @Id
+    @Column(name = "source", length = 500)
+    private String source;
+
+    @Column(name = "records", nullable = false)
+    private Long records;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,46 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * POINT_LEDGER 매핑 엔티티
+ *
+ * <p>✅ 설계 의도 - 포인트 적립 이력 (추가만 하고 수정/삭제하지 않음) - profile.point 는 이 이력의 합계를 반영한 캐시 -
+ * 적재는 PointAccrualQueue 가 JDBC 배치로 하므로 엔티티는 스키마 정의/조회용
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "point_ledger",
+        indexes = @Index(name = "idx_point_ledger_user_created", columnList = "user_id, created_at"))
+public class PointLedgerEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ledger_id")
+    private Long ledgerId;
+
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    // PointService.PointAction 이름
+    @Column(name = "action", nullable = false, length = 30)
+    private String action;
+
+    @Column(name = "points", nullable = false)
+    private Integer points;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
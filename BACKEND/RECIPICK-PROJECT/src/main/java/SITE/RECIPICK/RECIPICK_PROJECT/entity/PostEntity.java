@@ -9,6 +9,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
@@ -20,7 +21,18 @@ import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 @Entity
-@Table(name = "POST")
+@Table(
+    name = "POST",
+    // ✅ 목록 필터(/post/all)용 복합 인덱스 - 정식 여부 + 필터 차원 + 정렬(created_at)
+    indexes = {
+        @Index(name = "idx_post_official_category", columnList = "rcp_is_official, ckg_category, created_at"),
+        @Index(name = "idx_post_official_method", columnList = "rcp_is_official, ckg_mth, created_at"),
+        @Index(name = "idx_post_official_kind", columnList = "rcp_is_official, ckg_knd, created_at"),
+        @Index(name = "idx_post_official_level_time", columnList = "rcp_is_official, ckg_level, ckg_time"),
+        @Index(name = "idx_post_official_created", columnList = "rcp_is_official, created_at"),
+        // ✅ 작성자별 정식 레시피 집계(ProfileRepository.reconcileCounters)
+        @Index(name = "idx_post_user_official", columnList = "user_id, rcp_is_official")
+    })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -60,7 +72,8 @@ public class PostEntity {
   @Builder.Default
   private Integer rcpIsOfficial = 0;
 
-  @Column(name = "report_count")
+  // 신고 수는 ReportAggregator 가 DB 에서 원자적으로 더한다 (엔티티 저장으로 덮어쓰지 않음)
+  @Column(name = "report_count", updatable = false)
   @Builder.Default
   private Integer reportCount = 0;
 
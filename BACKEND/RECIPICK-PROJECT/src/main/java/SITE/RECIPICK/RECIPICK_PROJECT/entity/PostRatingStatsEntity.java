@@ -0,0 +1,49 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.entity;
+
+import java.math.BigDecimal;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * POST_RATING_STATS 매핑 엔티티
+ *
+ * <p>✅ 설계 의도 - 게시글별 리뷰 평점 집계 (PK = post_id) - 리뷰 작성/삭제 시 원자적 UPSERT 로 증감하므로 통계 조회가 PK 1건
+ * 읽기로 끝난다 - bucketN: 평점 N.00 이상 N+1.00 미만 (bucket5 는 5.00)
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "post_rating_stats")
+public class PostRatingStatsEntity {
+
+    @Id
+    @Column(name = "post_id")
+    private Integer postId;
+
+    @Column(name = "review_count", nullable = false)
+    private Integer reviewCount;
+
+    @Column(name = "rating_sum", nullable = false, precision = 12, scale = 2)
+    private BigDecimal ratingSum;
+
+    @Column(name = "bucket1", nullable = false)
+    private Integer bucket1;
+
+    @Column(name = "bucket2", nullable = false)
+    private Integer bucket2;
+
+    @Column(name = "bucket3", nullable = false)
+    private Integer bucket3;
+
+    @Column(name = "bucket4", nullable = false)
+    private Integer bucket4;
+
+    @Column(name = "bucket5", nullable = false)
+    private Integer bucket5;
+}
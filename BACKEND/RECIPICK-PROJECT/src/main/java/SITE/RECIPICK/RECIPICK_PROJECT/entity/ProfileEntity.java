@@ -8,6 +8,8 @@ import java.time.LocalDateTime;
 
 /**
  * PROFILE - PK 공유: USER.user_id - grade: 혜택용 회원등급 (권한 아님)
+ * - recipe_count / likes_received / review_count: 마이페이지용 비정규화 카운터. ProfileCounterService 가 원자적 UPDATE 로만
+ * 바꾸므로 엔티티 저장 시에는 쓰지 않는다 (updatable = false)
  */
 @Entity
 @Getter
@@ -36,18 +38,23 @@ public class ProfileEntity {
     @Column(name = "latest_at")
     private LocalDateTime latestAt;
 
-    @Column(name = "point", nullable = false)
+    // 포인트/등급은 PointLedgerRepository·ProfileRepository 의 UPDATE 로만 바꾼다 (엔티티 저장이 배치 적립을 덮어쓰지 않게)
+    @Column(name = "point", nullable = false, updatable = false)
     private Integer point = 0;
 
     @Enumerated(EnumType.STRING)
-    @Column(nullable = false, length = 20)
+    @Column(nullable = false, updatable = false, length = 20)
     private UserGrade grade = UserGrade.BRONZE;
 
-    public void changeGrade(UserGrade grade) {
-        this.grade = grade;
-    }
+    // 내 정식 레시피 수
+    @Column(name = "recipe_count", nullable = false, updatable = false, columnDefinition = "INT NOT NULL DEFAULT 0")
+    private Integer recipeCount = 0;
 
-    public void addPoints(int points) {
-        this.point = (this.point != null ? this.point : 0) + points;
-    }
+    // 내 정식 레시피들이 받은 좋아요 합계
+    @Column(name = "likes_received", nullable = false, updatable = false, columnDefinition = "INT NOT NULL DEFAULT 0")
+    private Integer likesReceived = 0;
+
+    // 내가 쓴 리뷰 수
+    @Column(name = "review_count", nullable = false, updatable = false, columnDefinition = "INT NOT NULL DEFAULT 0")
+    private Integer reviewCount = 0;
 }
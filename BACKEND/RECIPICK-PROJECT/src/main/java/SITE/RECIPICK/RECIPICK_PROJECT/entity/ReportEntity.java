@@ -10,6 +10,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
 import lombok.Getter;
 import lombok.Setter;
@@ -17,7 +18,12 @@ import lombok.Setter;
 @Getter
 @Setter
 @Entity
-@Table(name = "report")
+@Table(
+    name = "report",
+    // ✅ 같은 사람이 같은 대상을 두 번 신고할 수 없음 (자동 비공개는 신고자 수 기준)
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_report_reporter_target",
+        columnNames = {"reporter_user_id", "target_type", "target_id"}))
 public class ReportEntity {
 
   @Id
@@ -25,6 +31,9 @@ public class ReportEntity {
   @Column(name = "report_id")
   private Integer reportid;
 
+  @Column(name = "reporter_user_id", updatable = false)
+  private Integer reporterUserId; // 신고자 USERS.user_id (이전 데이터는 null)
+
   @Enumerated(EnumType.STRING)
   @Column(name = "target_type", nullable = false, length = 20)
   private ReportTargetType targetType; // POST/REVIEW/COMMENT
@@ -57,8 +57,10 @@ public class ReviewEntity {
   @Column(name = "comment", length = 255)
   private String comment;
 
+  // 신고 수는 ReportAggregator 가 DB 에서 원자적으로 더한다 (엔티티 저장으로 덮어쓰지 않음)
   @Builder.Default
-  @Column(name = "report_count", nullable = false, columnDefinition = "INT UNSIGNED DEFAULT 0")
+  @Column(name = "report_count", nullable = false, updatable = false,
+      columnDefinition = "INT UNSIGNED DEFAULT 0")
   private Integer reportCount = 0;
 
   @CreationTimestamp
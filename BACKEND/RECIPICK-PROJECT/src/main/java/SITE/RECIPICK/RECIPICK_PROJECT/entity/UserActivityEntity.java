@@ -0,0 +1,35 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.entity;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * USER_ACTIVITY 매핑 엔티티
+ *
+ * <p>✅ 설계 의도 - 사용자별 "그날 활동했음" 이력 (KST 날짜, 사용자당 하루 1행) - PK 가 (activity_date, user_id) 라
+ * INSERT IGNORE 로 중복 없이 쌓이고 날짜 범위 조회가 PK 앞부분으로 끝난다 - 적재는 ActivityTracker 가 JDBC 배치로 하므로
+ * 엔티티는 스키마 정의용
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@IdClass(UserActivityId.class)
+@Table(name = "user_activity")
+public class UserActivityEntity {
+
+    @Id
+    @Column(name = "activity_date", nullable = false)
+    private LocalDate activityDate;
+
+    @Id
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+}
@@ -0,0 +1,13 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.entity;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+import lombok.EqualsAndHashCode;
+
+@EqualsAndHashCode
+public class UserActivityId implements Serializable {
+
+    private LocalDate activityDate;
+    private Integer userId;
+}
@@ -0,0 +1,14 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.event;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.service.PointService.PointAction;
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 적립 요청. 요청 트랜잭션이 커밋된 뒤 PointAccrualQueue 에 쌓이고, 장부 기록/프로필 반영은 배치로 처리된다.
+ */
+public record PointAccrualEvent(Integer userId, PointAction action, LocalDateTime occurredAt) {
+
+    public static PointAccrualEvent of(Integer userId, PointAction action) {
+        return new PointAccrualEvent(userId, action, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,10 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.event;
+
+import java.util.Map;
+
+/**
+ * 포인트 배치 반영 결과 (user_id → 반영 후 총 포인트). 커밋 이후 리더보드 갱신용.
+ */
+public record PointsUpdatedEvent(Map<Integer, Integer> points) {
+
+}
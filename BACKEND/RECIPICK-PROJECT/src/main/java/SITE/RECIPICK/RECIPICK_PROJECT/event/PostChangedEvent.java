@@ -0,0 +1,20 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.event;
+
+import java.util.List;
+
+/**
+ * 게시글 변경 알림 (상세 캐시 무효화 등 파생 데이터 갱신용).
+ * <p>
+ * 대량 처리에서도 한 번만 발행할 수 있도록 postId 목록을 담는다. 리스너는 커밋 이후에 처리한다.
+ */
+public record PostChangedEvent(Type type, List<Integer> postIds) {
+
+    /** HIDDEN: 글은 남아 있지만 공개 목록에서 빠짐 (신고 누적 자동 비공개) */
+    public enum Type {
+        CREATED, UPDATED, DELETED, PUBLISHED, HIDDEN
+    }
+
+    public static PostChangedEvent of(Type type, Integer postId) {
+        return new PostChangedEvent(type, List.of(postId));
+    }
+}
@@ -0,0 +1,15 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.event;
+
+import java.util.List;
+
+/**
+ * 세션에 담긴 로그인 정보(닉네임/권한/활성 여부)가 바뀐 사용자 알림.
+ * <p>
+ * 커밋 이후 PrincipalRegistry 가 받아 해당 사용자의 세션 principal 을 다음 요청에서 다시 읽게 한다.
+ */
+public record PrincipalChangedEvent(List<Integer> userIds) {
+
+    public static PrincipalChangedEvent of(Integer userId) {
+        return new PrincipalChangedEvent(List.of(userId));
+    }
+}
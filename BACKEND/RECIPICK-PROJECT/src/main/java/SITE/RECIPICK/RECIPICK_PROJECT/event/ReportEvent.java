@@ -0,0 +1,30 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.event;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.ReportStatus;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.ReportTargetType;
+
+/**
+ * 신고 집계 변화. 요청 트랜잭션이 커밋된 뒤 ReportAggregator 가 받아 메모리 카운터에 반영한다.
+ *
+ * @param countDelta   대상의 report_count 증가분
+ * @param pendingDelta 대상의 미처리(PENDING) 신고 수 증감
+ */
+public record ReportEvent(ReportTargetType targetType, Integer targetId, int countDelta, int pendingDelta) {
+
+    /** 신고 접수 (report 행 생성, PENDING) */
+    public static ReportEvent filed(ReportTargetType type, Integer targetId) {
+        return new ReportEvent(type, targetId, 1, 1);
+    }
+
+    /** 신고 버튼만 (report 행 없이 카운트만) */
+    public static ReportEvent flagged(ReportTargetType type, Integer targetId) {
+        return new ReportEvent(type, targetId, 1, 0);
+    }
+
+    /** 처리 상태 변경 (PENDING 에서 나가면 -1, 돌아오면 +1) */
+    public static ReportEvent statusChanged(ReportTargetType type, Integer targetId,
+                                            ReportStatus from, ReportStatus to) {
+        int delta = (to == ReportStatus.PENDING ? 1 : 0) - (from == ReportStatus.PENDING ? 1 : 0);
+        return new ReportEvent(type, targetId, 0, delta);
+    }
+}
@@ -0,0 +1,112 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.repository;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.util.HyperLogLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 방문 이력(user_activity) / 일별 집계(daily_active_users) JDBC 리포지토리.
+ * <p>
+ * 집계 행의 user_count 는 항상 user_activity 에서 다시 세므로 배치가 겹치거나 재시도돼도 값이 부풀지 않는다. 스케치는
+ * 읽고-합치고-쓰는 동안 그날 행을 FOR UPDATE 로 잡아, 여러 노드의 배치가 겹쳐도 서로의 레지스터를 덮어쓰지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ActivityRepository {
+
+    private static final String INSERT_ACTIVITY =
+            "INSERT IGNORE INTO user_activity (activity_date, user_id) VALUES (?, ?)";
+
+    // 잠글 행이 있어야 하므로 없으면 빈 집계 행부터 만든다
+    private static final String ENSURE_DAY =
+            "INSERT IGNORE INTO daily_active_users (activity_date, user_count, sketch) VALUES (?, 0, NULL)";
+
+    private static final String LOCK_DAY =
+            "SELECT sketch FROM daily_active_users WHERE activity_date = ? FOR UPDATE";
+
+    private static final String UPDATE_DAY = """
+            UPDATE daily_active_users
+            SET user_count = (SELECT COUNT(*) FROM user_activity WHERE activity_date = ?),
+                sketch = ?
+            WHERE activity_date = ?
+            """;
+
+    private final JdbcTemplate jdbc;
+
+    /** 하루치 방문 기록 (이미 있는 (날짜, 사용자)는 무시) */
+    public void insertActivity(LocalDate day, List<Integer> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        Date d = Date.valueOf(day);
+        jdbc.batchUpdate(INSERT_ACTIVITY, userIds, userIds.size(), (ps, userId) -> {
+            ps.setDate(1, d);
+            ps.setInt(2, userId);
+        });
+    }
+
+    /**
+     * 방금 넣은 사용자들을 그날 집계에 더한다 (스케치 합치기 + 건수 재계산). 스케치는 멱등이라 같은 사용자가 다시 와도 괜찮다.
+     */
+    @Transactional
+    public void mergeDay(LocalDate day, HyperLogLog added) {
+        byte[] stored = lockDay(day);
+        HyperLogLog sketch = stored == null ? added : HyperLogLog.fromBytes(stored).merge(added);
+        updateDay(day, sketch);
+    }
+
+    /** 그날 집계를 user_activity 원본으로 처음부터 다시 만든다 (잠근 뒤에 읽어 그 사이 합친 사용자를 놓치지 않음) */
+    @Transactional
+    public void rebuildDay(LocalDate day) {
+        lockDay(day);
+        HyperLogLog sketch = new HyperLogLog();
+        jdbc.query("SELECT user_id FROM user_activity WHERE activity_date = ?",
+                rs -> {
+                    sketch.add(rs.getInt(1));
+                }, Date.valueOf(day));
+        updateDay(day, sketch);
+    }
+
+    /** 기간 일별 방문자 수 (집계 행이 없는 날은 빠짐) - 한 번의 범위 조회 */
+    public Map<LocalDate, Long> findDailyCounts(LocalDate from, LocalDate to) {
+        Map<LocalDate, Long> counts = new LinkedHashMap<>();
+        jdbc.query("SELECT activity_date, user_count FROM daily_active_users "
+                        + "WHERE activity_date BETWEEN ? AND ? ORDER BY activity_date",
+                rs -> {
+                    counts.put(rs.getDate(1).toLocalDate(), rs.getLong(2));
+                }, Date.valueOf(from), Date.valueOf(to));
+        return counts;
+    }
+
+    /** 기간 고유 방문자 근사값 (일별 스케치 합치기, 원본 이력은 읽지 않음) */
+    public long estimateDistinct(LocalDate from, LocalDate to) {
+        HyperLogLog union = new HyperLogLog();
+        jdbc.query("SELECT sketch FROM daily_active_users "
+                        + "WHERE activity_date BETWEEN ? AND ? AND sketch IS NOT NULL",
+                rs -> {
+                    union.merge(HyperLogLog.fromBytes(rs.getBytes(1)));
+                }, Date.valueOf(from), Date.valueOf(to));
+        return union.estimate();
+    }
+
+    /** 그날 집계 행을 (없으면 만들고) 잠근 뒤 저장된 스케치를 돌려준다 (없으면 null) */
+    private byte[] lockDay(LocalDate day) {
+        Date d = Date.valueOf(day);
+        jdbc.update(ENSURE_DAY, d);
+        List<byte[]> stored = jdbc.query(LOCK_DAY, (rs, i) -> rs.getBytes(1), d);
+        return stored.isEmpty() ? null : stored.get(0);
+    }
+
+    private void updateDay(LocalDate day, HyperLogLog sketch) {
+        Date d = Date.valueOf(day);
+        jdbc.update(UPDATE_DAY, d, sketch.toBytes(), d);
+    }
+}
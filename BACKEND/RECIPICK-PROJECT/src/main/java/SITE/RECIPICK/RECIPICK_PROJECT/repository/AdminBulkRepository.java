@@ -0,0 +1,129 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.repository;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.ReportStatus;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.ReportTargetType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 관리자 일괄 처리용 JDBC 리포지토리 - 청크(id 수백 개) 단위 IN 조건의 집합 SQL 만 둔다.
+ * <p>
+ * 호출하는 쪽에서 청크마다 트랜잭션을 열고, 캐시/카운터 반영도 청크 단위로 한다. lock* 조회는 FOR UPDATE 로 잡아 같은 행을
+ * 단건 API 가 동시에 바꿔도 카운터 보정이 두 번 되지 않게 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AdminBulkRepository {
+
+    private final NamedParameterJdbcTemplate named;
+
+    public record PostRow(Integer postId, Integer userId, int likeCount, boolean official) {
+
+    }
+
+    public record ReviewRow(Integer reviewId, Integer postId, Integer userId, BigDecimal rating) {
+
+    }
+
+    public record ReportRow(Integer reportId, ReportTargetType targetType, Integer targetId,
+                            ReportStatus status, Integer reporterUserId) {
+
+    }
+
+    private static MapSqlParameterSource ids(Collection<Integer> ids) {
+        return new MapSqlParameterSource("ids", ids);
+    }
+
+    // ===== 게시글 =====
+
+    public List<PostRow> lockPosts(Collection<Integer> postIds) {
+        return named.query(
+                "SELECT post_id, user_id, COALESCE(like_count, 0), COALESCE(rcp_is_official, 0) "
+                        + "FROM post WHERE post_id IN (:ids) FOR UPDATE",
+                ids(postIds),
+                (rs, i) -> new PostRow(rs.getInt(1), rs.getInt(2), rs.getInt(3), rs.getInt(4) == 1));
+    }
+
+    public int publishPosts(Collection<Integer> postIds) {
+        return named.update(
+                "UPDATE post SET rcp_is_official = 1 "
+                        + "WHERE post_id IN (:ids) AND COALESCE(rcp_is_official, 0) <> 1",
+                ids(postIds));
+    }
+
+    /** 게시글에 달린 리뷰 수 (작성자별) - 게시글 삭제 시 리뷰 카운터 보정용 */
+    public Map<Integer, Integer> countReviewsByUserOnPosts(Collection<Integer> postIds) {
+        Map<Integer, Integer> counts = new HashMap<>();
+        named.query("SELECT user_id, COUNT(*) FROM review WHERE post_id IN (:ids) GROUP BY user_id",
+                ids(postIds), rs -> {
+                    counts.put(rs.getInt(1), rs.getInt(2));
+                });
+        return counts;
+    }
+
+    /** 게시글과 딸린 행(재료 연결, 좋아요, 리뷰, 평점 집계)을 함께 삭제. 반환: 삭제된 게시글 수 */
+    public int deletePostsCascade(Collection<Integer> postIds) {
+        MapSqlParameterSource p = ids(postIds);
+        named.update("DELETE FROM recipe_ingredient WHERE post_id IN (:ids)", p);
+        named.update("DELETE FROM like_table WHERE post_id IN (:ids)", p);
+        named.update("DELETE FROM review WHERE post_id IN (:ids)", p);
+        named.update("DELETE FROM post_rating_stats WHERE post_id IN (:ids)", p);
+        return named.update("DELETE FROM post WHERE post_id IN (:ids)", p);
+    }
+
+    // ===== 리뷰 =====
+
+    public List<ReviewRow> lockReviews(Collection<Integer> reviewIds) {
+        return named.query(
+                "SELECT review_id, post_id, user_id, review_rating FROM review WHERE review_id IN (:ids) "
+                        + "FOR UPDATE",
+                ids(reviewIds),
+                (rs, i) -> new ReviewRow(rs.getInt(1), rs.getInt(2), rs.getInt(3), rs.getBigDecimal(4)));
+    }
+
+    public int deleteReviews(Collection<Integer> reviewIds) {
+        return named.update("DELETE FROM review WHERE review_id IN (:ids)", ids(reviewIds));
+    }
+
+    // ===== 신고 =====
+
+    public List<ReportRow> lockReports(Collection<Integer> reportIds) {
+        return named.query(
+                "SELECT report_id, target_type, target_id, status, reporter_user_id FROM report "
+                        + "WHERE report_id IN (:ids) FOR UPDATE",
+                ids(reportIds),
+                (rs, i) -> new ReportRow(rs.getInt(1), ReportTargetType.valueOf(rs.getString(2)),
+                        rs.getInt(3), ReportStatus.valueOf(rs.getString(4)),
+                        rs.getObject(5, Integer.class)));
+    }
+
+    public int updateReportStatus(Collection<Integer> reportIds, ReportStatus status) {
+        return named.update(
+                "UPDATE report SET status = :status, updated_at = CURRENT_TIMESTAMP "
+                        + "WHERE report_id IN (:ids) AND status <> :status",
+                ids(reportIds).addValue("status", status.name()));
+    }
+
+    // ===== 유저 =====
+
+    /** 활성 여부가 active 와 다른 사용자만 잠그고 id 를 돌려준다 (이미 같은 상태인 사용자는 제외) */
+    public List<Integer> lockUsersToChange(Collection<Integer> userIds, boolean active) {
+        return named.queryForList(
+                "SELECT user_id FROM users WHERE user_id IN (:ids) AND active <> :active FOR UPDATE",
+                ids(userIds).addValue("active", active), Integer.class);
+    }
+
+    public int updateUsersActive(Collection<Integer> userIds, boolean active) {
+        return named.update(
+                "UPDATE users SET active = :active WHERE user_id IN (:ids) AND active <> :active",
+                ids(userIds).addValue("active", active));
+    }
+}
@@ -0,0 +1,105 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 관리자 내보내기용 JDBC 커서 조회.
+ * <p>
+ * 엔티티를 만들지 않고 행을 하나씩 콜백으로 넘긴다. MySQL/MariaDB 는 fetchSize = Integer.MIN_VALUE 일 때만 결과를 서버에서
+ * 한 행씩 흘려보내므로(그 외 값은 전부 메모리에 적재) 드라이버를 보고 fetch size 를 고른다. 행 수와 상관없이 메모리가 일정하다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AdminExportRepository {
+
+    private static final int DEFAULT_FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbc;
+
+    /** 내보내기 한 종류 (컬럼 별칭 = 출력 헤더) */
+    public record ExportQuery(String name, List<String> columns, String sql, List<Object> args) {
+
+    }
+
+    public ExportQuery users() {
+        return new ExportQuery("users",
+                List.of("user_id", "email", "nickname", "role", "provider", "active",
+                        "suspended_until", "created_at", "latest_at"),
+                "SELECT user_id, email, nickname, role, provider, active, "
+                        + "suspended_until, created_at, latest_at FROM users ORDER BY user_id",
+                List.of());
+    }
+
+    /** status/targetType 이 null 이면 전체 */
+    public ExportQuery reports(String status, String targetType) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT report_id, target_type, target_id, status, reason, created_at, updated_at "
+                        + "FROM report WHERE 1 = 1");
+        List<Object> args = new ArrayList<>();
+        if (status != null) {
+            sql.append(" AND status = ?");
+            args.add(status);
+        }
+        if (targetType != null) {
+            sql.append(" AND target_type = ?");
+            args.add(targetType);
+        }
+        sql.append(" ORDER BY report_id");
+        return new ExportQuery("reports",
+                List.of("report_id", "target_type", "target_id", "status", "reason", "created_at",
+                        "updated_at"),
+                sql.toString(), args);
+    }
+
+    /** official 이 null 이면 정식/임시 모두, minReports 이상 신고된 글만 */
+    public ExportQuery posts(Integer official, int minReports) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT post_id, user_id, nickname, title, food_name, ckg_category, rcp_is_official, "
+                        + "view_count, like_count, report_count, created_at "
+                        + "FROM post WHERE COALESCE(report_count, 0) >= ?");
+        List<Object> args = new ArrayList<>();
+        args.add(minReports);
+        if (official != null) {
+            sql.append(" AND rcp_is_official = ?");
+            args.add(official);
+        }
+        sql.append(" ORDER BY post_id");
+        return new ExportQuery("posts",
+                List.of("post_id", "user_id", "nickname", "title", "food_name", "ckg_category",
+                        "rcp_is_official", "view_count", "like_count", "report_count", "created_at"),
+                sql.toString(), args);
+    }
+
+    /** 전방 전용/읽기 전용 커서로 한 행씩 콜백 */
+    public void stream(ExportQuery query, RowCallbackHandler handler) {
+        jdbc.query(con -> prepare(con, query), handler);
+    }
+
+    private static PreparedStatement prepare(Connection con, ExportQuery query) throws SQLException {
+        PreparedStatement ps = con.prepareStatement(query.sql(),
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        ps.setFetchSize(streamingFetchSize(con));
+        for (int i = 0; i < query.args().size(); i++) {
+            ps.setObject(i + 1, query.args().get(i));
+        }
+        return ps;
+    }
+
+    private static int streamingFetchSize(Connection con) throws SQLException {
+        String product = con.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT);
+        return product.contains("mysql") || product.contains("mariadb")
+                ? Integer.MIN_VALUE
+                : DEFAULT_FETCH_SIZE;
+    }
+}
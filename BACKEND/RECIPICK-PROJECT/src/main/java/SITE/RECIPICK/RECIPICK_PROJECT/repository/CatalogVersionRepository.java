@@ -0,0 +1,26 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.repository;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.CatalogVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface CatalogVersionRepository extends JpaRepository<CatalogVersion, String> {
+
+    // 현재 버전만 조회 (폴링용)
+    @Query("select c.version from CatalogVersion c where c.name = :name")
+    Optional<Long> findVersion(@Param("name") String name);
+
+    // 버전 +1 (행이 없으면 1로 생성)
+    @Modifying
+    @Query(value = """
+            INSERT INTO catalog_version (name, version) VALUES (:name, 1)
+            ON DUPLICATE KEY UPDATE version = version + 1
+            """, nativeQuery = true)
+    int bump(@Param("name") String name);
+}
@@ -0,0 +1,24 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.repository;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.ImportCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ImportCheckpointRepository extends JpaRepository<ImportCheckpoint, String> {
+
+    @Query("select c.records from ImportCheckpoint c where c.source = :source")
+    Optional<Long> findRecords(@Param("source") String source);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO import_checkpoint (source, records, updated_at) VALUES (:source, :records, NOW())
+            ON DUPLICATE KEY UPDATE records = VALUES(records), updated_at = NOW()
+            """, nativeQuery = true)
+    int upsert(@Param("source") String source, @Param("records") long records);
+}
@@ -0,0 +1,105 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.repository;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.Ingredient;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.RecipeIngredient;
+import SITE.RECIPICK.RECIPICK_PROJECT.util.IngredientNames;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 재료 / 레시피-재료 일괄 저장용 JDBC 리포지토리.
+ * <p>
+ * IDENTITY 키 때문에 Hibernate 배치가 꺼지므로, 레시피 저장 경로에서는 JPA 대신 이쪽을 사용한다.
+ * (DB_URL 에 rewriteBatchedStatements=true 를 주면 배치가 multi-row INSERT 한 번으로 나간다)
+ */
+@Repository
+@RequiredArgsConstructor
+public class IngredientBulkRepository {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    /**
+     * 이름 목록에 해당하는 재료를 한 번의 IN 쿼리로 조회 (name → Ingredient). IN 비교가 콜레이션 기준이라 반환 맵도
+     * {@link IngredientNames#ORDER} 로 찾는다 (대소문자/악센트만 다른 입력으로도 조회됨)
+     */
+    public Map<String, Ingredient> findByNames(Collection<String> names) {
+        Map<String, Ingredient> result = new TreeMap<>(IngredientNames.ORDER);
+        if (names == null || names.isEmpty()) {
+            return result;
+        }
+        jdbc.query("SELECT ing_id, name, sort FROM ingredient WHERE name IN (:names)",
+                new MapSqlParameterSource("names", names),
+                rs -> {
+                    Ingredient ing = new Ingredient();
+                    ing.setIngId(rs.getInt("ing_id"));
+                    ing.setName(rs.getString("name"));
+                    ing.setSort(rs.getString("sort"));
+                    result.put(ing.getName(), ing);
+                });
+        return result;
+    }
+
+    /** 재료 전체 (id, name, sort 만) - 카탈로그 적재용 */
+    public List<Ingredient> findAll() {
+        return plain().query("SELECT ing_id, name, sort FROM ingredient", (rs, i) -> {
+            Ingredient ing = new Ingredient();
+            ing.setIngId(rs.getInt("ing_id"));
+            ing.setName(rs.getString("name"));
+            ing.setSort(rs.getString("sort"));
+            return ing;
+        });
+    }
+
+    /** 재료(name, sort)를 multi-row INSERT ... ON DUPLICATE KEY 한 번으로 저장 (이미 있으면 sort 갱신) */
+    public int upsert(Map<String, String> nameToSort) {
+        if (nameToSort == null || nameToSort.isEmpty()) {
+            return 0;
+        }
+        StringBuilder sql = new StringBuilder("INSERT INTO ingredient (name, sort) VALUES ");
+        List<Object> args = new ArrayList<>(nameToSort.size() * 2);
+        for (Map.Entry<String, String> e : nameToSort.entrySet()) {
+            if (!args.isEmpty()) {
+                sql.append(", ");
+            }
+            sql.append("(?, ?)");
+            args.add(e.getKey());
+            args.add(e.getValue());
+        }
+        sql.append(" ON DUPLICATE KEY UPDATE sort = VALUES(sort)");
+        return plain().update(sql.toString(), args.toArray());
+    }
+
+    /** 레시피-재료 행을 JDBC 배치로 저장 (같은 재료가 다시 오면 amount 만 갱신) */
+    public void insertRecipeIngredients(List<RecipeIngredient> rows) {
+        if (rows == null || rows.isEmpty()) {
+            return;
+        }
+        plain().batchUpdate(
+                "INSERT INTO recipe_ingredient (post_id, ing_id, amount) VALUES (?, ?, ?) "
+                        + "ON DUPLICATE KEY UPDATE amount = VALUES(amount)",
+                rows, rows.size(),
+                (ps, row) -> {
+                    ps.setInt(1, row.getPostId());
+                    ps.setInt(2, row.getIngId());
+                    ps.setString(3, row.getAmount());
+                });
+    }
+
+    /** 레시피의 재료 연결을 한 번에 삭제 */
+    public int deleteRecipeIngredients(Integer postId) {
+        return plain().update("DELETE FROM recipe_ingredient WHERE post_id = ?", postId);
+    }
+
+    private JdbcTemplate plain() {
+        return jdbc.getJdbcTemplate();
+    }
+}
@@ -14,7 +14,4 @@ public interface IngredientRepository extends JpaRepository<Ingredient, Integer>
 
     // 1. keyword 포함하는 재료 이름 검색 (최대 10개)
     List<Ingredient> findTop10ByNameContainingIgnoreCase(String keyword);
-
-    // 2. 정확히 일치하는 이름 검색
-    List<Ingredient> findByName(String name);
 }
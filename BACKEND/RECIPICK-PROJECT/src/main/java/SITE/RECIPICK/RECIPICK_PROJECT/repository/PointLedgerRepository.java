@@ -0,0 +1,108 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.repository;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.event.PointAccrualEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * 포인트 장부/프로필 포인트 일괄 반영용 JDBC 리포지토리.
+ * <p>
+ * 포인트는 항상 {@code point = point + ?} 로 DB 에서 더하므로 같은 사용자에 대한 동시 적립이 서로 덮어쓰지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointLedgerRepository {
+
+    private static final String INSERT_LEDGER =
+            "INSERT INTO point_ledger (user_id, action, points, created_at) VALUES (?, ?, ?, ?)";
+
+    private static final String ADD_POINTS =
+            "UPDATE profile SET point = point + ? WHERE user_id = ?";
+
+    private static final String UPDATE_GRADE =
+            "UPDATE profile SET grade = ? WHERE user_id = ?";
+
+    private final JdbcTemplate jdbc;
+    private final NamedParameterJdbcTemplate named;
+
+    /** 사용자별 포인트 (user_id, point, grade) */
+    public record PointRow(Integer userId, int point, String grade) {
+
+    }
+
+    public void insertEntries(List<PointAccrualEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        jdbc.batchUpdate(INSERT_LEDGER, events, events.size(), (ps, e) -> {
+            ps.setInt(1, e.userId());
+            ps.setString(2, e.action().name());
+            ps.setInt(3, e.action().getPoints());
+            ps.setTimestamp(4, Timestamp.valueOf(e.occurredAt()));
+        });
+    }
+
+    /**
+     * 사용자별 합계를 원자적으로 더한다.
+     *
+     * @return 프로필 행이 없어 반영되지 않은 user_id
+     */
+    public List<Integer> addPoints(Map<Integer, Integer> sums) {
+        List<Map.Entry<Integer, Integer>> rows = new ArrayList<>(sums.entrySet());
+        int[][] counts = jdbc.batchUpdate(ADD_POINTS, rows, rows.size(), (ps, row) -> {
+            ps.setInt(1, row.getValue());
+            ps.setInt(2, row.getKey());
+        });
+        List<Integer> missing = new ArrayList<>();
+        int i = 0;
+        for (int[] batch : counts) {
+            for (int c : batch) {
+                // 드라이버가 건수를 모르면 SUCCESS_NO_INFO(-2) 를 준다 → 반영된 것으로 본다
+                if (c == 0) {
+                    missing.add(rows.get(i).getKey());
+                }
+                i++;
+            }
+        }
+        return missing;
+    }
+
+    public List<PointRow> findPoints(Collection<Integer> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        return named.query(
+                "SELECT user_id, point, grade FROM profile WHERE user_id IN (:ids)",
+                new MapSqlParameterSource("ids", userIds),
+                (rs, n) -> new PointRow(rs.getInt("user_id"), rs.getInt("point"), rs.getString("grade")));
+    }
+
+    /** 전체 프로필 포인트를 한 줄씩 흘려보낸다 (리더보드 재구성용) */
+    public void forEachPoint(BiConsumer<Integer, Integer> consumer) {
+        jdbc.query("SELECT user_id, point FROM profile",
+                rs -> {
+                    consumer.accept(rs.getInt("user_id"), rs.getInt("point"));
+                });
+    }
+
+    public void updateGrades(Map<Integer, String> grades) {
+        if (grades.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Integer, String>> rows = new ArrayList<>(grades.entrySet());
+        jdbc.batchUpdate(UPDATE_GRADE, rows, rows.size(), (ps, row) -> {
+            ps.setString(1, row.getValue());
+            ps.setInt(2, row.getKey());
+        });
+    }
+}
@@ -0,0 +1,98 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.repository;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.PostEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 일괄 처리용 JDBC 리포지토리 (대량 적재 등 JPA 로는 건건이 왕복하게 되는 작업 전용).
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostBulkRepository {
+
+    private static final String INSERT_POST = """
+            INSERT INTO post (user_id, email, nickname, title, food_name, view_count, like_count,
+                              rcp_is_official, report_count, ckg_mth, ckg_category, ckg_knd, ckg_mtrl_cn,
+                              ckg_inbun, ckg_level, ckg_time, rcp_img_url, rcp_steps, rcp_steps_img,
+                              created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbc;
+
+    /** 게시글을 JDBC 배치로 저장하고 생성된 post_id 를 입력 순서대로 반환 */
+    public List<Integer> insertPosts(List<PostEntity> posts) {
+        if (posts.isEmpty()) {
+            return List.of();
+        }
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbc.batchUpdate(
+                con -> con.prepareStatement(INSERT_POST, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        bindPost(ps, posts.get(i));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return posts.size();
+                    }
+                },
+                keys);
+
+        List<Integer> ids = new ArrayList<>(posts.size());
+        for (Map<String, Object> row : keys.getKeyList()) {
+            ids.add(((Number) row.values().iterator().next()).intValue());
+        }
+        if (ids.size() != posts.size()) {
+            throw new IllegalStateException("생성 키 개수 불일치: " + ids.size() + " / " + posts.size());
+        }
+        return ids;
+    }
+
+    private static void bindPost(PreparedStatement ps, PostEntity p) throws SQLException {
+        LocalDateTime createdAt = p.getCreatedAt() != null ? p.getCreatedAt() : LocalDateTime.now();
+        ps.setInt(1, p.getUserId());
+        ps.setString(2, p.getUserEmail());
+        ps.setString(3, p.getUserNickname());
+        ps.setString(4, p.getTitle());
+        ps.setString(5, p.getFoodName());
+        ps.setInt(6, p.getViewCount());
+        ps.setInt(7, p.getLikeCount());
+        ps.setInt(8, p.getRcpIsOfficial());
+        ps.setInt(9, p.getReportCount());
+        // enum 은 컨버터와 동일하게 한글 description 으로 저장
+        ps.setString(10, p.getCkgMth().getDescription());
+        ps.setString(11, p.getCkgCategory().getDescription());
+        ps.setString(12, p.getCkgKnd().getDescription());
+        ps.setString(13, p.getCkgMtrlCn());
+        ps.setInt(14, p.getCkgInbun());
+        ps.setInt(15, p.getCkgLevel());
+        ps.setInt(16, p.getCkgTime());
+        ps.setString(17, p.getRcpImgUrl());
+        ps.setString(18, p.getRcpSteps());
+        if (p.getRcpStepsImg() != null) {
+            ps.setString(19, p.getRcpStepsImg());
+        } else {
+            ps.setNull(19, Types.VARCHAR);
+        }
+        ps.setTimestamp(20, Timestamp.valueOf(createdAt));
+        ps.setTimestamp(21, Timestamp.valueOf(createdAt));
+    }
+}
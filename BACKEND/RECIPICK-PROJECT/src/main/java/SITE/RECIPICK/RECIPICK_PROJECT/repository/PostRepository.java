@@ -1,5 +1,6 @@
 package SITE.RECIPICK.RECIPICK_PROJECT.repository;
 
+import SITE.RECIPICK.RECIPICK_PROJECT.dto.PostCard;
 import SITE.RECIPICK.RECIPICK_PROJECT.entity.PostEntity;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -7,6 +8,8 @@ import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,7 +19,52 @@ import org.springframework.stereotype.Repository;
  * POST 테이블 접근 레포지토리
  */
 @Repository
-public interface PostRepository extends JpaRepository<PostEntity, Integer> {
+public interface PostRepository extends JpaRepository<PostEntity, Integer>,
+    JpaSpecificationExecutor<PostEntity>, PostRepositoryCustom {
+
+  // ===== 목록(카드)용 프로젝션: TEXT 컬럼 제외 =====
+  String CARD_SELECT = """
+      select new SITE.RECIPICK.RECIPICK_PROJECT.dto.PostCard(
+        p.postId, p.userId, p.userNickname, p.title, p.foodName, p.rcpImgUrl,
+        p.likeCount, p.viewCount, p.reportCount, p.rcpIsOfficial,
+        p.ckgMth, p.ckgCategory, p.ckgKnd, p.ckgInbun, p.ckgLevel, p.ckgTime, p.createdAt)
+      """;
+
+  // 정식/임시 카드 목록 (정렬은 Pageable)
+  @Query(CARD_SELECT + " from PostEntity p where p.rcpIsOfficial = :official")
+  List<PostCard> findCardsByOfficial(@Param("official") Integer official, Pageable pageable);
+
+  // 이미지 있는 정식 카드 목록 (메인 인기/추천 보충용, 정렬은 Pageable). 비공개된 글은 빠진다
+  @Query(CARD_SELECT + " from PostEntity p where p.rcpIsOfficial = 1"
+      + " and p.rcpImgUrl is not null and p.rcpImgUrl <> ''")
+  List<PostCard> findCardsWithImage(Pageable pageable);
+
+  // 특정 유저의 정식/임시 카드 목록 (최신순)
+  @Query(CARD_SELECT + """
+      from PostEntity p
+      where p.userId = :userId and p.rcpIsOfficial = :official
+      order by p.createdAt desc
+      """)
+  List<PostCard> findCardsByAuthor(
+      @Param("userId") Integer userId, @Param("official") Integer official, Pageable pageable);
+
+  // 신고 많은 카드 목록
+  @Query(CARD_SELECT + """
+      from PostEntity p
+      where p.reportCount > :min
+      order by p.reportCount desc
+      """)
+  List<PostCard> findReportedCards(@Param("min") int min, Pageable pageable);
+
+  // 내가 좋아요한 카드 목록 (최신순)
+  @Query(CARD_SELECT + """
+      from PostEntity p
+        join PostLikeEntity l
+          on l.postEntity = p
+      where l.userEntity.userId = :userId
+      order by l.createdAt desc, p.createdAt desc
+      """)
+  List<PostCard> findLikedCards(@Param("userId") Integer userId, Pageable pageable);
 
   // 오늘의 추천 보충용 (최대 30개만)
   List<PostEntity> findTop30ByRcpImgUrlIsNotNullAndRcpImgUrlNotOrderByLikeCountDescViewCountDescCreatedAtDesc(String empty);
@@ -73,6 +121,22 @@ public interface PostRepository extends JpaRepository<PostEntity, Integer> {
   // 개별 조회
   Optional<PostEntity> findByPostId(Integer postId);
 
+  // 조회수 +1 (엔티티 로드/저장 없이 원자적으로 - updated_at 도 건드리지 않음)
+  @Modifying
+  @Query("UPDATE PostEntity p SET p.viewCount = p.viewCount + 1 WHERE p.postId = :postId")
+  int incrementViewCount(@Param("postId") Integer postId);
+
+  // 상세 캐시 버전 확인용 (TEXT 컬럼 없이 updated_at / view_count 만)
+  @Query("SELECT p.updatedAt AS updatedAt, p.viewCount AS viewCount FROM PostEntity p WHERE p.postId = :postId")
+  Optional<PostVersionView> findVersionByPostId(@Param("postId") Integer postId);
+
+  interface PostVersionView {
+
+    LocalDateTime getUpdatedAt();
+
+    Integer getViewCount();
+  }
+
   // 정식/임시 레시피 페이징 조회 (전체 레시피 조회용)
   Page<PostEntity> findByRcpIsOfficial(Integer rcpIsOfficial, Pageable pageable);
 
@@ -0,0 +1,18 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.repository;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.dto.PostCard;
+import SITE.RECIPICK.RECIPICK_PROJECT.dto.PostFacets;
+import SITE.RECIPICK.RECIPICK_PROJECT.dto.PostFilter;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.PostEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface PostRepositoryCustom {
+
+    /** 조건에 맞는 레시피를 카드 프로젝션으로 페이징 조회 (TEXT 컬럼 미조회) */
+    Page<PostCard> findCards(Specification<PostEntity> spec, Pageable pageable);
+
+    /** 차원별(카테고리/조리방법/종류/난이도/조리시간) 건수. 각 차원은 자기 필터를 뺀 나머지 조건으로 센다 */
+    PostFacets countFacets(PostFilter filter);
+}
@@ -0,0 +1,161 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.repository;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.dto.PostCard;
+import SITE.RECIPICK.RECIPICK_PROJECT.dto.PostFacets;
+import SITE.RECIPICK.RECIPICK_PROJECT.dto.PostFilter;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.PostEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class PostRepositoryImpl implements PostRepositoryCustom {
+
+    private final EntityManager em;
+
+    @Override
+    public Page<PostCard> findCards(Specification<PostEntity> spec, Pageable pageable) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+
+        CriteriaQuery<PostCard> cq = cb.createQuery(PostCard.class);
+        Root<PostEntity> post = cq.from(PostEntity.class);
+        cq.select(cb.construct(PostCard.class,
+                post.get("postId"), post.get("userId"), post.get("userNickname"),
+                post.get("title"), post.get("foodName"), post.get("rcpImgUrl"),
+                post.get("likeCount"), post.get("viewCount"), post.get("reportCount"),
+                post.get("rcpIsOfficial"), post.get("ckgMth"), post.get("ckgCategory"),
+                post.get("ckgKnd"), post.get("ckgInbun"), post.get("ckgLevel"),
+                post.get("ckgTime"), post.get("createdAt")));
+        Predicate where = spec == null ? null : spec.toPredicate(post, cq, cb);
+        if (where != null) {
+            cq.where(where);
+        }
+        if (pageable.getSort().isSorted()) {
+            cq.orderBy(QueryUtils.toOrders(pageable.getSort(), post, cb));
+        }
+
+        TypedQuery<PostCard> query = em.createQuery(cq);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        List<PostCard> content = query.getResultList();
+
+        // 총 개수
+        CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
+        Root<PostEntity> countRoot = countQuery.from(PostEntity.class);
+        countQuery.select(cb.count(countRoot));
+        Predicate countWhere = spec == null ? null : spec.toPredicate(countRoot, countQuery, cb);
+        if (countWhere != null) {
+            countQuery.where(countWhere);
+        }
+        long total = em.createQuery(countQuery).getSingleResult();
+
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * 다섯 차원을 한 번에 GROUP BY 하는 쿼리 1회로 조회한 뒤, 차원별로 합산한다.
+     * (차원 값의 조합 수가 작아서 결과 행 수가 레시피 수와 무관하게 작다)
+     * <p>
+     * 각 차원의 건수는 자기 차원의 필터만 빼고 센다. 카테고리를 고른 상태에서도 다른 카테고리의 건수가 보여야
+     * 선택을 바꿀 수 있기 때문이다. 그래서 SQL 에는 차원이 아닌 조건(official)만 걸고, 차원 조건은 그룹 행에서 거른다.
+     */
+    @Override
+    public PostFacets countFacets(PostFilter filter) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+        Root<PostEntity> post = cq.from(PostEntity.class);
+
+        Path<PostEntity.CookingCategory> category = post.get("ckgCategory");
+        Path<PostEntity.CookingMethod> method = post.get("ckgMth");
+        Path<PostEntity.CookingKind> kind = post.get("ckgKnd");
+        Path<Integer> level = post.get("ckgLevel");
+        Path<Integer> time = post.get("ckgTime");
+
+        cq.multiselect(category, method, kind, level, time, cb.count(post));
+        if (filter.official() != null) {
+            cq.where(cb.equal(post.get("rcpIsOfficial"), filter.official()));
+        }
+        cq.groupBy(category, method, kind, level, time);
+
+        List<Tuple> rows = em.createQuery(cq).getResultList();
+
+        Map<String, Long> byCategory = new HashMap<>();
+        Map<String, Long> byMethod = new HashMap<>();
+        Map<String, Long> byKind = new HashMap<>();
+        Map<Integer, Long> byLevel = new HashMap<>();
+        Map<Integer, Long> byTime = new HashMap<>();
+        for (Tuple row : rows) {
+            long cnt = row.get(5, Long.class);
+            PostEntity.CookingCategory c = row.get(0, PostEntity.CookingCategory.class);
+            PostEntity.CookingMethod m = row.get(1, PostEntity.CookingMethod.class);
+            PostEntity.CookingKind k = row.get(2, PostEntity.CookingKind.class);
+            Integer lv = row.get(3, Integer.class);
+            Integer t = row.get(4, Integer.class);
+
+            boolean okCategory = filter.category() == null || filter.category() == c;
+            boolean okMethod = filter.method() == null || filter.method() == m;
+            boolean okKind = filter.kind() == null || filter.kind() == k;
+            boolean okLevel = filter.level() == null || filter.level().equals(lv);
+            boolean okTime = inRange(t, filter.minTime(), filter.maxTime());
+
+            if (c != null && okMethod && okKind && okLevel && okTime) {
+                byCategory.merge(c.getDescription(), cnt, Long::sum);
+            }
+            if (m != null && okCategory && okKind && okLevel && okTime) {
+                byMethod.merge(m.getDescription(), cnt, Long::sum);
+            }
+            if (k != null && okCategory && okMethod && okLevel && okTime) {
+                byKind.merge(k.getDescription(), cnt, Long::sum);
+            }
+            if (lv != null && okCategory && okMethod && okKind && okTime) {
+                byLevel.merge(lv, cnt, Long::sum);
+            }
+            if (t != null && okCategory && okMethod && okKind && okLevel) {
+                byTime.merge(t, cnt, Long::sum);
+            }
+        }
+
+        return new PostFacets(
+                sortedByCount(byCategory),
+                sortedByCount(byMethod),
+                sortedByCount(byKind),
+                sortedByCount(byLevel),
+                sortedByCount(byTime));
+    }
+
+    // PostSpecifications 의 조리시간 조건과 같은 의미 (하한/상한 포함, null 이면 조건 없음)
+    private static boolean inRange(Integer time, Integer min, Integer max) {
+        if (min == null && max == null) {
+            return true;
+        }
+        return time != null && (min == null || time >= min) && (max == null || time <= max);
+    }
+
+    private static <K> Map<K, Long> sortedByCount(Map<K, Long> counts) {
+        Map<K, Long> sorted = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<K, Long>comparingByValue().reversed())
+                .forEach(e -> sorted.put(e.getKey(), e.getValue()));
+        return sorted;
+    }
+}
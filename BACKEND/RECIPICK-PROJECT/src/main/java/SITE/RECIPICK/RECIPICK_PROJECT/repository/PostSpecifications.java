@@ -0,0 +1,48 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.repository;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.dto.PostFilter;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.PostEntity;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 레시피 목록 필터 조건 (PostFilter → Specification).
+ * <p>
+ * 조건 순서는 PostEntity 의 복합 인덱스(rcp_is_official 선두) 순서에 맞춘다.
+ */
+public final class PostSpecifications {
+
+    private PostSpecifications() {
+    }
+
+    public static Specification<PostEntity> of(PostFilter f) {
+        return (root, query, cb) -> {
+            List<Predicate> ps = new ArrayList<>();
+            if (f.official() != null) {
+                ps.add(cb.equal(root.get("rcpIsOfficial"), f.official()));
+            }
+            if (f.category() != null) {
+                ps.add(cb.equal(root.get("ckgCategory"), f.category()));
+            }
+            if (f.method() != null) {
+                ps.add(cb.equal(root.get("ckgMth"), f.method()));
+            }
+            if (f.kind() != null) {
+                ps.add(cb.equal(root.get("ckgKnd"), f.kind()));
+            }
+            if (f.level() != null) {
+                ps.add(cb.equal(root.get("ckgLevel"), f.level()));
+            }
+            if (f.minTime() != null) {
+                ps.add(cb.greaterThanOrEqualTo(root.get("ckgTime"), f.minTime()));
+            }
+            if (f.maxTime() != null) {
+                ps.add(cb.lessThanOrEqualTo(root.get("ckgTime"), f.maxTime()));
+            }
+            return cb.and(ps.toArray(new Predicate[0]));
+        };
+    }
+}
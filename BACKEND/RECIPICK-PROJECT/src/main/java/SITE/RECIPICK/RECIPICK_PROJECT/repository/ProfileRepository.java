@@ -1,10 +1,14 @@
 package SITE.RECIPICK.RECIPICK_PROJECT.repository;
 
 import SITE.RECIPICK.RECIPICK_PROJECT.entity.ProfileEntity;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.UserGrade;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -21,4 +25,66 @@ public interface ProfileRepository extends JpaRepository<ProfileEntity, Integer>
 
     @Query("SELECT COUNT(p) FROM ProfileEntity p WHERE p.point >= :minPoint")
     long countByPointGreaterThanEqual(@Param("minPoint") Integer minPoint);
+
+    /**
+     * 순위 표시용 (닉네임/등급만) - 리더보드 한 페이지를 한 번에
+     */
+    @Query("SELECT p.userId AS userId, p.nickname AS nickname, p.grade AS grade "
+            + "FROM ProfileEntity p WHERE p.userId IN :ids")
+    List<RankProfileView> findRankProfiles(@Param("ids") Collection<Integer> userIds);
+
+    /** 관리자 등급 변경 (grade 컬럼은 엔티티 저장으로는 안 바뀜) */
+    @Modifying
+    @Query(value = "UPDATE profile SET grade = :grade, updated_at = CURRENT_TIMESTAMP WHERE user_id = :userId",
+            nativeQuery = true)
+    int updateGrade(@Param("userId") Integer userId, @Param("grade") String grade);
+
+    // ===== 마이페이지 카운터 (원자적 증감) =====
+
+    @Modifying
+    @Query(value = "UPDATE profile SET recipe_count = recipe_count + :recipes, "
+            + "likes_received = likes_received + :likes WHERE user_id = :userId", nativeQuery = true)
+    int addRecipeCounters(@Param("userId") Integer userId, @Param("recipes") int recipes,
+                          @Param("likes") long likes);
+
+    @Modifying
+    @Query(value = "UPDATE profile SET likes_received = likes_received + :delta WHERE user_id = :userId",
+            nativeQuery = true)
+    int addLikesReceived(@Param("userId") Integer userId, @Param("delta") int delta);
+
+    @Modifying
+    @Query(value = "UPDATE profile SET review_count = review_count + :delta WHERE user_id = :userId",
+            nativeQuery = true)
+    int addReviewCount(@Param("userId") Integer userId, @Param("delta") int delta);
+
+    /**
+     * 원본(post/review) 기준으로 어긋난 카운터만 다시 맞춘다 (집합 기반 UPDATE 1번).
+     * 상관 서브쿼리는 post 의 idx_post_user_official(user_id, rcp_is_official) 과 review.user_id FK 인덱스로 작성자 행만 읽는다
+     *
+     * @return 고쳐진 프로필 수
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE profile pr SET
+                recipe_count = (SELECT COUNT(*) FROM post p
+                                WHERE p.user_id = pr.user_id AND p.rcp_is_official = 1),
+                likes_received = (SELECT COALESCE(SUM(p.like_count), 0) FROM post p
+                                  WHERE p.user_id = pr.user_id AND p.rcp_is_official = 1),
+                review_count = (SELECT COUNT(*) FROM review r WHERE r.user_id = pr.user_id)
+            WHERE pr.recipe_count <> (SELECT COUNT(*) FROM post p
+                                      WHERE p.user_id = pr.user_id AND p.rcp_is_official = 1)
+               OR pr.likes_received <> (SELECT COALESCE(SUM(p.like_count), 0) FROM post p
+                                        WHERE p.user_id = pr.user_id AND p.rcp_is_official = 1)
+               OR pr.review_count <> (SELECT COUNT(*) FROM review r WHERE r.user_id = pr.user_id)
+            """, nativeQuery = true)
+    int reconcileCounters();
+
+    interface RankProfileView {
+
+        Integer getUserId();
+
+        String getNickname();
+
+        UserGrade getGrade();
+    }
 }
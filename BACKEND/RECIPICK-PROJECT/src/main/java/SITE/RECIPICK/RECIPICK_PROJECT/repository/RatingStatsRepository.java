@@ -0,0 +1,109 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.repository;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.PostRatingStatsEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+
+/**
+ * POST_RATING_STATS 접근 레포지토리 - PK = post_id
+ * <p>
+ * 증감은 INSERT ... ON DUPLICATE KEY UPDATE 한 문장으로 하므로 같은 글에 리뷰가 동시에 달려도 값을 잃지 않는다.
+ */
+public interface RatingStatsRepository extends JpaRepository<PostRatingStatsEntity, Integer> {
+
+    /**
+     * 리뷰 1건 반영 (sign: 작성 +1, 삭제 -1 / bucket: 1~5, 해당 없음 0)
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO post_rating_stats
+                (post_id, review_count, rating_sum, bucket1, bucket2, bucket3, bucket4, bucket5)
+            VALUES (:postId, :sign, :sign * :rating,
+                    CASE WHEN :bucket = 1 THEN :sign ELSE 0 END,
+                    CASE WHEN :bucket = 2 THEN :sign ELSE 0 END,
+                    CASE WHEN :bucket = 3 THEN :sign ELSE 0 END,
+                    CASE WHEN :bucket = 4 THEN :sign ELSE 0 END,
+                    CASE WHEN :bucket = 5 THEN :sign ELSE 0 END)
+            ON DUPLICATE KEY UPDATE
+                review_count = review_count + VALUES(review_count),
+                rating_sum = rating_sum + VALUES(rating_sum),
+                bucket1 = bucket1 + VALUES(bucket1),
+                bucket2 = bucket2 + VALUES(bucket2),
+                bucket3 = bucket3 + VALUES(bucket3),
+                bucket4 = bucket4 + VALUES(bucket4),
+                bucket5 = bucket5 + VALUES(bucket5)
+            """, nativeQuery = true)
+    int apply(@Param("postId") Integer postId, @Param("rating") BigDecimal rating,
+              @Param("bucket") int bucket, @Param("sign") int sign);
+
+    /**
+     * review 테이블 기준 전체 재집계 (기동 시 1회, 그룹 쿼리 1번)
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO post_rating_stats
+                (post_id, review_count, rating_sum, bucket1, bucket2, bucket3, bucket4, bucket5)
+            SELECT post_id, COUNT(*), SUM(review_rating),
+                   SUM(review_rating >= 1 AND review_rating < 2),
+                   SUM(review_rating >= 2 AND review_rating < 3),
+                   SUM(review_rating >= 3 AND review_rating < 4),
+                   SUM(review_rating >= 4 AND review_rating < 5),
+                   SUM(review_rating >= 5)
+            FROM review
+            GROUP BY post_id
+            ON DUPLICATE KEY UPDATE
+                review_count = VALUES(review_count),
+                rating_sum = VALUES(rating_sum),
+                bucket1 = VALUES(bucket1),
+                bucket2 = VALUES(bucket2),
+                bucket3 = VALUES(bucket3),
+                bucket4 = VALUES(bucket4),
+                bucket5 = VALUES(bucket5)
+            """, nativeQuery = true)
+    int rebuildAll();
+
+    // 리뷰가 모두 사라진 글의 집계 행 정리
+    @Modifying
+    @Query(value = "DELETE FROM post_rating_stats WHERE post_id NOT IN (SELECT DISTINCT post_id FROM review)",
+            nativeQuery = true)
+    int deleteOrphans();
+
+    /**
+     * 지정한 글들만 review 기준으로 다시 집계 (리뷰 일괄 삭제 후)
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO post_rating_stats
+                (post_id, review_count, rating_sum, bucket1, bucket2, bucket3, bucket4, bucket5)
+            SELECT post_id, COUNT(*), SUM(review_rating),
+                   SUM(review_rating >= 1 AND review_rating < 2),
+                   SUM(review_rating >= 2 AND review_rating < 3),
+                   SUM(review_rating >= 3 AND review_rating < 4),
+                   SUM(review_rating >= 4 AND review_rating < 5),
+                   SUM(review_rating >= 5)
+            FROM review
+            WHERE post_id IN (:postIds)
+            GROUP BY post_id
+            ON DUPLICATE KEY UPDATE
+                review_count = VALUES(review_count),
+                rating_sum = VALUES(rating_sum),
+                bucket1 = VALUES(bucket1),
+                bucket2 = VALUES(bucket2),
+                bucket3 = VALUES(bucket3),
+                bucket4 = VALUES(bucket4),
+                bucket5 = VALUES(bucket5)
+            """, nativeQuery = true)
+    int rebuildPosts(@Param("postIds") Collection<Integer> postIds);
+
+    // 지정한 글 중 리뷰가 모두 사라진 글의 집계 행 정리
+    @Modifying
+    @Query(value = "DELETE FROM post_rating_stats WHERE post_id IN (:postIds) "
+            + "AND post_id NOT IN (SELECT DISTINCT post_id FROM review WHERE post_id IN (:postIds))",
+            nativeQuery = true)
+    int deleteEmpty(@Param("postIds") Collection<Integer> postIds);
+}
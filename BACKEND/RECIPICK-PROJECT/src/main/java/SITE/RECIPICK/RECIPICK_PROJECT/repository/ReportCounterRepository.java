@@ -0,0 +1,46 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.repository;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.ReportTargetType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글/리뷰 report_count 일괄 반영용 JDBC 리포지토리.
+ * <p>
+ * 항상 {@code report_count = report_count + ?} 로 DB 에서 더하므로 동시 반영이 서로 덮어쓰지 않는다. (엔티티 쪽 컬럼은
+ * updatable = false)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReportCounterRepository {
+
+    private static final String ADD_POST =
+            "UPDATE post SET report_count = COALESCE(report_count, 0) + ? WHERE post_id = ?";
+
+    private static final String ADD_REVIEW =
+            "UPDATE review SET report_count = COALESCE(report_count, 0) + ? WHERE review_id = ?";
+
+    private final JdbcTemplate jdbc;
+
+    /** 대상 종류별 증가분 반영 (POST/REVIEW 외에는 카운트 컬럼이 없어 무시) */
+    public void addReportCounts(ReportTargetType type, Map<Integer, Long> deltas) {
+        String sql = switch (type) {
+            case POST -> ADD_POST;
+            case REVIEW -> ADD_REVIEW;
+            default -> null;
+        };
+        if (sql == null || deltas.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Integer, Long>> rows = new ArrayList<>(deltas.entrySet());
+        jdbc.batchUpdate(sql, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, row.getValue());
+            ps.setInt(2, row.getKey());
+        });
+    }
+}
@@ -20,16 +20,19 @@ public interface ReportRepository extends JpaRepository<ReportEntity, Integer> {
   List<ReportEntity> findByStatusAndTargetTypeOrderByCreatedAtDesc(
       ReportStatus status, ReportTargetType type, Pageable pageable);
 
-  @Query(
-      """
-            select r.targetId as targetId, count(r.reportid) as cnt
-              from ReportEntity r
-             where r.targetType = SITE.RECIPICK.RECIPICK_PROJECT.entity.ReportTargetType.POST
-               and r.createdAt between :from and :to
-             group by r.targetId
-             order by count(r.reportid) desc
-          """)
-  List<TopAgg> topReportedPosts(LocalDateTime from, LocalDateTime to, Pageable pageable);
+  boolean existsByReporterUserIdAndTargetTypeAndTargetId(
+      Integer reporterUserId, ReportTargetType targetType, Integer targetId);
+
+  // 대상별 미처리 신고자 수 (ReportAggregator 기동 시 1회). 신고자 없는 이전 데이터는 세지 않음
+  @Query("""
+      select r.targetType as targetType, r.targetId as targetId,
+             count(distinct r.reporterUserId) as cnt
+        from ReportEntity r
+       where r.status = SITE.RECIPICK.RECIPICK_PROJECT.entity.ReportStatus.PENDING
+         and r.reporterUserId is not null
+       group by r.targetType, r.targetId
+      """)
+  List<PendingAgg> countPendingByTarget();
 
   Page<ReportEntity> findByStatus(ReportStatus status, Pageable pageable);
 
@@ -48,10 +51,12 @@ public interface ReportRepository extends JpaRepository<ReportEntity, Integer> {
     return findTopNByOrderByCreatedAtDesc(PageRequest.of(0, Math.max(1, top)));
   }
 
-  interface TopAgg {
+  interface PendingAgg {
+
+    ReportTargetType getTargetType();
 
     Integer getTargetId();
 
-    Integer getCnt();
+    Long getCnt();
   }
 }
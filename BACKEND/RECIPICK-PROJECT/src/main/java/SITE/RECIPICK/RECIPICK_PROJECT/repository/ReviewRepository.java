@@ -1,11 +1,12 @@
 package SITE.RECIPICK.RECIPICK_PROJECT.repository;
 
+import SITE.RECIPICK.RECIPICK_PROJECT.dto.MyReviewRow;
 import SITE.RECIPICK.RECIPICK_PROJECT.entity.ReviewEntity;
-import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -14,7 +15,17 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface ReviewRepository extends JpaRepository<ReviewEntity, Integer> {
 
-  // 특정 게시글의 모든 리뷰 조회 (페이징)
+  // 내 리뷰 목록: 리뷰 + 게시글 카드 필드 (post 지연 로딩 없이 조인 1번)
+  String MY_REVIEW_SELECT = """
+      select new SITE.RECIPICK.RECIPICK_PROJECT.dto.MyReviewRow(
+        r.reviewId, r.reviewRating, r.comment, r.createdAt,
+        p.postId, p.title, p.foodName, p.rcpImgUrl)
+      from ReviewEntity r
+        join r.post p
+      """;
+
+  // 특정 게시글의 모든 리뷰 조회 (페이징) - 작성자 닉네임을 쓰므로 user 를 같이 읽음
+  @EntityGraph(attributePaths = "user")
   Page<ReviewEntity> findByPostPostIdOrderByCreatedAtDesc(Integer postId, Pageable pageable);
 
   // 특정 사용자가 특정 게시글에 작성한 리뷰 존재 여부 확인
@@ -23,27 +34,23 @@ public interface ReviewRepository extends JpaRepository<ReviewEntity, Integer> {
   // 특정 사용자가 특정 게시글에 작성한 리뷰 조회 (수정된 부분)
   Optional<ReviewEntity> findByPostPostIdAndUserUserId(Integer postId, Integer userId);
 
-  // 특정 게시글의 평균 평점 계산
-  @Query("SELECT AVG(r.reviewRating) FROM ReviewEntity r WHERE r.post.postId = :postId")
-  Optional<BigDecimal> findAverageRatingByPostId(@Param("postId") Integer postId);
-
-  // 특정 게시글의 총 리뷰 수
+  // 특정 게시글의 총 리뷰 수 (통계는 RatingStatsService)
   Long countByPostPostId(Integer postId);
 
   Long countByUserUserId(Integer userId);
 
-  // 특정 게시글의 평점별 리뷰 수 계산
-  @Query("SELECT COUNT(r) FROM ReviewEntity r " +
-      "WHERE r.post.postId = :postId " +
-      "AND r.reviewRating >= :minRating " +
-      "AND r.reviewRating < :maxRating")
-  Long countByPostIdAndRatingRange(@Param("postId") Integer postId,
-      @Param("minRating") BigDecimal minRating,
-      @Param("maxRating") BigDecimal maxRating);
-
-  // 특정 사용자의 모든 리뷰 조회
-  List<ReviewEntity> findByUserUserIdOrderByCreatedAtDesc(Integer userId);
-
-  // 신고 횟수가 특정 값 이상인 리뷰 조회
-  List<ReviewEntity> findByReportCountGreaterThanEqualOrderByReportCountDesc(int reportCount);
+  // 내 리뷰 한 페이지 (최신순 = review_id 내림차순, user_id FK 인덱스로 정렬 없이 읽음)
+  @Query(MY_REVIEW_SELECT + """
+      where r.user.userId = :userId
+      order by r.reviewId desc
+      """)
+  List<MyReviewRow> findMyReviewRows(@Param("userId") Integer userId, Pageable pageable);
+
+  // 내 리뷰 키셋 페이지: beforeId 보다 오래된 것부터 (OFFSET 없이)
+  @Query(MY_REVIEW_SELECT + """
+      where r.user.userId = :userId and r.reviewId < :beforeId
+      order by r.reviewId desc
+      """)
+  List<MyReviewRow> findMyReviewRowsBefore(
+      @Param("userId") Integer userId, @Param("beforeId") Integer beforeId, Pageable pageable);
 }
\ No newline at end of file
@@ -1,7 +1,7 @@
 package SITE.RECIPICK.RECIPICK_PROJECT.repository;
 
 import SITE.RECIPICK.RECIPICK_PROJECT.entity.UserEntity;
-import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.PageRequest;
@@ -43,16 +43,7 @@ public interface UserRepository extends JpaRepository<UserEntity, Integer> {
   @Query("select u.userId from UserEntity u where u.email = :email")
   Optional<Integer> findIdByEmail(@Param("email") String email);
 
-  // =========================
-  // DAU 집계용 핵심 메서드
-  // - 지정한 기간 [start, end] 사이에 활동한 사용자 수 (DISTINCT userId)
-  // - 시간대 변환(KST↔UTC)은 서비스에서 처리해서 넘겨줄 것
-  // =========================
-  @Query("""
-      select count(distinct u.userId)
-      from UserEntity u
-      where u.latestAt between :start and :end
-      """)
-  long countDistinctActiveBetween(@Param("start") LocalDateTime start,
-      @Param("end") LocalDateTime end);
+  // 이메일 여러 개 → userId (방문 기록 적재용, IN 한 번)
+  @Query("select u.userId from UserEntity u where u.email in :emails")
+  List<Integer> findIdsByEmailIn(@Param("emails") Collection<String> emails);
 }
@@ -3,65 +3,61 @@ package SITE.RECIPICK.RECIPICK_PROJECT.repository;
 import SITE.RECIPICK.RECIPICK_PROJECT.dto.PostDto;
 import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Select;
-import org.springframework.data.repository.query.Param;
 
+/**
+ * 날씨 추천용 조회. 어떤 글이 어느 날씨 버킷에 속하는지는 WeatherBucketIndex 가 메모리에서 판단하고, 여기서는
+ * 분류용 원본(제목/음식명)과 뽑힌 id 의 카드만 읽는다.
+ */
 @Mapper
 public interface WeatherRecommendRepository {
 
+  // 버킷 분류 대상 (이미지 있는 정식 글 전체) - 기동 시 1회
   @Select("""
-  SELECT post_id AS postId, title, food_name AS foodName, rcp_img_url AS rcpImgUrl,
-         like_count AS likeCount, view_count AS viewCount
+  SELECT post_id AS postId, title, food_name AS foodName
   FROM post
-  WHERE rcp_img_url IS NOT NULL AND rcp_img_url <> ''
-    AND (
-      food_name REGEXP '냉면|냉국|냉모밀|콩국수|비빔냉면|막국수|물냉면|열무국수|냉우동|냉라면'
-      OR title REGEXP '냉면|냉국|냉모밀|콩국수|비빔냉면|막국수|물냉면|열무국수|냉우동|냉라면'
-    )
-  ORDER BY RAND()
-  LIMIT #{limit}
+  WHERE rcp_is_official = 1 AND rcp_img_url IS NOT NULL AND rcp_img_url <> ''
   """)
-  List<PostDto> hotTop(@Param("limit") int limit);
+  List<PostDto> findBucketSources();
 
+  // 버킷 분류 대상 (변경된 글만) - 이미지가 없어졌거나 비공개된 글은 결과에서 빠진다
   @Select("""
-  SELECT post_id AS postId, title, food_name AS foodName, rcp_img_url AS rcpImgUrl,
-         like_count AS likeCount, view_count AS viewCount
+  <script>
+  SELECT post_id AS postId, title, food_name AS foodName
   FROM post
-  WHERE rcp_img_url IS NOT NULL AND rcp_img_url <> ''
-    AND (
-      food_name REGEXP '탕|찌개|전골|국밥|라면|수프|카레|찜'
-      OR title   REGEXP '탕|찌개|전골|국밥|라면|수프|카레|찜'
-    )
-  ORDER BY RAND()
-  LIMIT #{limit}
+  WHERE rcp_is_official = 1 AND rcp_img_url IS NOT NULL AND rcp_img_url <> ''
+    AND post_id IN
+    <foreach item="id" collection="list" open="(" separator="," close=")">#{id}</foreach>
+  </script>
   """)
-  List<PostDto> coldTop(@Param("limit") int limit);
+  List<PostDto> findBucketSourcesByIds(List<Integer> postIds);
 
+  // 뽑힌 id 들의 카드
   @Select("""
+  <script>
   SELECT post_id AS postId, title, food_name AS foodName, rcp_img_url AS rcpImgUrl,
          like_count AS likeCount, view_count AS viewCount
   FROM post
-  WHERE rcp_img_url IS NOT NULL AND rcp_img_url <> ''
-    AND (
-      food_name REGEXP '전|부침개|파전|빈대떡|칼국수|수제비'
-      OR title   REGEXP '전|부침개|파전|빈대떡|칼국수|수제비'
-    )
-  ORDER BY RAND()
-  LIMIT #{limit}
+  WHERE post_id IN
+    <foreach item="id" collection="list" open="(" separator="," close=")">#{id}</foreach>
+  </script>
   """)
-  List<PostDto> rainyTop(@Param("limit") int limit);
+  List<PostDto> findCardsByIds(List<Integer> postIds);
 
+  // 버킷 풀: 주어진 id 중 인기순(좋아요/조회수/작성일) 상위 limit 개.
+  // id 목록은 WeatherBucketIndex 의 버킷 배열을 잘라 넘기므로 PK 로 그만큼만 읽고 그 안에서만 정렬한다
   @Select("""
+  <script>
   SELECT post_id AS postId, title, food_name AS foodName, rcp_img_url AS rcpImgUrl,
-         like_count AS likeCount, view_count AS viewCount
+         like_count AS likeCount, view_count AS viewCount, created_at AS createdAt
   FROM post
   WHERE rcp_img_url IS NOT NULL AND rcp_img_url <> ''
-    AND (
-      food_name REGEXP '떡국|만두국|호빵|호떡|군고구마'
-      OR title   REGEXP '떡국|만두국|호빵|호떡|군고구마'
-    )
-  ORDER BY RAND()
+    AND post_id IN
+    <foreach item="id" collection="ids" open="(" separator="," close=")">#{id}</foreach>
+  ORDER BY like_count DESC, view_count DESC, created_at DESC
   LIMIT #{limit}
+  </script>
   """)
-  List<PostDto> snowyTop(@Param("limit") int limit);
-}
\ No newline at end of file
+  List<PostDto> findTopCardsByIds(@Param("ids") List<Integer> postIds, @Param("limit") int limit);
+}
@@ -0,0 +1,140 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.service;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.ActivityRepository;
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.UserRepository;
+import SITE.RECIPICK.RECIPICK_PROJECT.util.HyperLogLog;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * 일별 방문(DAU) 기록.
+ *
+ * <p>✅ 요청 경로에서는 "오늘 이미 본 사용자" 집합만 확인하고, 처음 본 사용자만 큐에 넣는다 (사용자당 하루 1번). 짧은 주기로 큐를
+ * 비워 user_activity 에 INSERT IGNORE 하고 오늘 집계(daily_active_users)를 갱신한다.
+ *
+ * <p>✅ 새벽에 어제 집계를 원본으로 다시 만들어, 인스턴스가 여러 대라 스케치가 어긋난 경우도 맞춘다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActivityTracker {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final ActivityRepository activityRepository;
+    private final UserRepository userRepository;
+
+    @Value("${recipick.activity.batch-size:1000}")
+    private int batchSize = 1000;
+
+    private record Visit(LocalDate day, String email) {
+
+    }
+
+    private record SeenToday(LocalDate day, Set<String> emails) {
+
+    }
+
+    private volatile SeenToday seen = new SeenToday(LocalDate.now(KST), ConcurrentHashMap.newKeySet());
+
+    private final LinkedBlockingQueue<Visit> queue = new LinkedBlockingQueue<>(100_000);
+
+    /** 인증된 요청마다 호출 (이메일 = principal) */
+    public void record(String email) {
+        LocalDate today = LocalDate.now(KST);
+        SeenToday s = seen;
+        if (!today.equals(s.day())) {
+            s = rollOver(today);
+        }
+        if (!s.emails().add(email)) {
+            return;
+        }
+        if (!queue.offer(new Visit(today, email))) {
+            // 큐가 가득 차면 다음 요청에서 다시 시도
+            s.emails().remove(email);
+        }
+    }
+
+    private synchronized SeenToday rollOver(LocalDate today) {
+        if (!today.equals(seen.day())) {
+            seen = new SeenToday(today, ConcurrentHashMap.newKeySet());
+        }
+        return seen;
+    }
+
+    public int pending() {
+        return queue.size();
+    }
+
+    @Scheduled(fixedDelayString = "${recipick.activity.flush-ms:10000}")
+    public void flush() {
+        List<Visit> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            try {
+                apply(batch);
+            } catch (Exception e) {
+                log.warn("방문 기록 배치 실패 ({}건) - 다음 주기에 재시도: {}", batch.size(), e.getMessage());
+                int dropped = 0;
+                for (Visit v : batch) {
+                    if (!queue.offer(v)) {
+                        dropped++;
+                    }
+                }
+                if (dropped > 0) {
+                    log.error("방문 기록 큐 가득 참 - 버린 기록 {}건", dropped);
+                }
+                return;
+            }
+            batch.clear();
+        }
+    }
+
+    private void apply(List<Visit> batch) {
+        Map<LocalDate, Set<String>> byDay = new LinkedHashMap<>();
+        for (Visit v : batch) {
+            byDay.computeIfAbsent(v.day(), d -> new LinkedHashSet<>()).add(v.email());
+        }
+        byDay.forEach((day, emails) -> {
+            List<Integer> userIds = userRepository.findIdsByEmailIn(emails);
+            if (userIds.isEmpty()) {
+                return;
+            }
+            activityRepository.insertActivity(day, userIds);
+
+            HyperLogLog added = new HyperLogLog();
+            userIds.forEach(added::add);
+            activityRepository.mergeDay(day, added);
+        });
+    }
+
+    /** 어제 집계를 원본 이력으로 다시 만든다 (자정 직후 남은 큐도 먼저 비움) */
+    @Scheduled(cron = "${recipick.activity.rollup-cron:0 10 0 * * *}", zone = "Asia/Seoul")
+    public void rollupYesterday() {
+        flush();
+        LocalDate yesterday = LocalDate.now(KST).minusDays(1);
+        long t0 = System.currentTimeMillis();
+        activityRepository.rebuildDay(yesterday);
+        log.info("[DAU] {} 집계 재생성 {}ms", yesterday, System.currentTimeMillis() - t0);
+    }
+
+    // 종료 전에 남은 방문 기록 반영
+    @PreDestroy
+    public void drainOnShutdown() {
+        flush();
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import SITE.RECIPICK.RECIPICK_PROJECT.config.RecipickPrincipal;
 import SITE.RECIPICK.RECIPICK_PROJECT.entity.UserEntity;
 import SITE.RECIPICK.RECIPICK_PROJECT.repository.UserRepository;
 
@@ -25,14 +26,7 @@ public class CustomUserDetailService implements UserDetailsService {
                         .orElseThrow(
                                 () -> new UsernameNotFoundException("User not found: " + email));
 
-        return org.springframework.security.core.userdetails.User.builder()
-                .username(user.getEmail())
-                .password(user.getPassword())
-                .authorities(user.getRole()) // ROLE_USER, ROLE_ADMIN 등이 저장되어야 함
-                .accountExpired(false)
-                .accountLocked(false)
-                .credentialsExpired(false)
-                .disabled(!user.getActive()) // 활성화 상태 반영
-                .build();
+        // userId/닉네임/권한(ROLE_USER, ROLE_ADMIN)/활성 상태를 담아 세션에 둔다 → 이후 요청은 조회 없이 사용
+        return RecipickPrincipal.forLogin(user);
     }
 }
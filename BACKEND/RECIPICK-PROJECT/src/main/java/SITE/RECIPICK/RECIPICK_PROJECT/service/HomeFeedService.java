@@ -0,0 +1,209 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.service;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.dto.MainPostDto;
+import SITE.RECIPICK.RECIPICK_PROJECT.dto.PostCard;
+import SITE.RECIPICK.RECIPICK_PROJECT.dto.PostDto;
+import SITE.RECIPICK.RECIPICK_PROJECT.event.PostChangedEvent;
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.PostRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 메인 화면 피드 materializer.
+ *
+ * <p>✅ 인기 목록과 날씨 조건별 추천 풀(인기순)을 미리 계산해 불변 스냅샷(AtomicReference)으로 들고 있는다.
+ * /api/main/* 는 스냅샷에서 창(window)만 잘라 가므로 요청마다 DB 를 타지 않는다. 모든 조건의 풀을 한꺼번에 들고
+ * 있으므로 날씨 조건이 바뀌어도 다시 계산할 필요가 없다.
+ *
+ * <p>✅ 재계산 시점 - 마지막 계산 후 refresh-ms 경과 - 좋아요/조회수 변화량이 임계값을 넘음 - 게시글
+ * 생성/삭제/공개 전환(PostChangedEvent) 커밋
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HomeFeedService {
+
+  // 조건별 풀 크기 (인기 목록도 같은 크기, 인기 그리드 8 + 추천 보충에도 충분)
+  private static final int POOL_SIZE = 30;
+
+  private final PostRepository postRepo;
+  private final WeatherBucketIndex weatherIndex;
+
+  @Value("${recipick.home-feed.refresh-ms:60000}")
+  private long refreshMs;
+
+  @Value("${recipick.home-feed.like-threshold:20}")
+  private long likeThreshold;
+
+  @Value("${recipick.home-feed.view-threshold:500}")
+  private long viewThreshold;
+
+  private final AtomicReference<Snapshot> current = new AtomicReference<>();
+  private final LongAdder likeDelta = new LongAdder();
+  private final LongAdder viewDelta = new LongAdder();
+  private final AtomicBoolean dirty = new AtomicBoolean();
+
+  /**
+   * 불변 스냅샷
+   *
+   * @param popular  좋아요/조회수/작성일 내림차순 (이미지 있는 글)
+   * @param pools    날씨 조건(hot/cold/rainy/snowy) → 인기순 추천 풀. normal 등 풀이 없는 조건은 빈 목록
+   */
+  public record Snapshot(
+      long builtAtMs,
+      List<MainPostDto> popular,
+      Map<String, List<MainPostDto>> pools
+  ) {
+
+    public List<MainPostDto> pool(String cond) {
+      return pools.getOrDefault(cond, List.of());
+    }
+
+    /** 풀에서 start 부터 k 개 (끝에 닿으면 앞으로 돌아감). 풀이 k 이하이면 풀 전체 */
+    public List<MainPostDto> window(String cond, int k, int start) {
+      return window(pool(cond), k, start);
+    }
+
+    /** 인기 목록에서 start 부터 k 개 (돌아가며 보여 주기용) */
+    public List<MainPostDto> popularWindow(int k, int start) {
+      return window(popular, k, start);
+    }
+
+    private static List<MainPostDto> window(List<MainPostDto> pool, int k, int start) {
+      int n = pool.size();
+      if (n <= k) {
+        return pool;
+      }
+      int from = Math.floorMod(start, n);
+      if (from + k <= n) {
+        return pool.subList(from, from + k);
+      }
+      List<MainPostDto> out = new ArrayList<>(k);
+      out.addAll(pool.subList(from, n));
+      out.addAll(pool.subList(0, k - (n - from)));
+      return out;
+    }
+  }
+
+  /** 현재 스냅샷 (기동 직후 아직 없으면 한 번만 동기 계산) */
+  public Snapshot snapshot() {
+    Snapshot s = current.get();
+    return s != null ? s : refresh();
+  }
+
+  // ===== 활동 신호 (DB 접근 없음) =====
+
+  public void onLike() {
+    likeDelta.increment();
+  }
+
+  public void onView() {
+    viewDelta.increment();
+  }
+
+  // 생성/삭제/공개·비공개 전환은 다음 점검 때 바로 반영 (단순 수정은 주기 재계산에 맡김)
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onPostChanged(PostChangedEvent event) {
+    if (event.type() != PostChangedEvent.Type.UPDATED) {
+      dirty.set(true);
+    }
+  }
+
+  // ===== 재계산 =====
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void warmUp() {
+    try {
+      refresh();
+    } catch (Exception e) {
+      log.warn("[HOME] 초기 피드 계산 실패: {}", e.getMessage());
+    }
+  }
+
+  // 짧은 주기로 점검만 하고, 조건을 만족할 때만 재계산
+  @Scheduled(fixedDelayString = "${recipick.home-feed.check-ms:5000}")
+  public void refreshIfNeeded() {
+    Snapshot s = current.get();
+    boolean expired = s == null || System.currentTimeMillis() - s.builtAtMs() >= refreshMs;
+    boolean busy = likeDelta.sum() >= likeThreshold || viewDelta.sum() >= viewThreshold;
+    if (!expired && !busy && !dirty.get()) {
+      return;
+    }
+    try {
+      refresh();
+    } catch (Exception e) {
+      // 실패하면 이전 스냅샷 유지
+      log.warn("[HOME] 피드 재계산 실패: {}", e.getMessage());
+    }
+  }
+
+  public synchronized Snapshot refresh() {
+    long t0 = System.currentTimeMillis();
+    likeDelta.reset();
+    viewDelta.reset();
+    dirty.set(false);
+
+    Sort sort = Sort.by(
+        Sort.Order.desc("likeCount"),
+        Sort.Order.desc("viewCount"),
+        Sort.Order.desc("createdAt")
+    );
+    List<MainPostDto> popular = postRepo.findCardsWithImage(PageRequest.of(0, POOL_SIZE, sort))
+        .stream()
+        .map(HomeFeedService::toMainDto)
+        .toList();
+
+    // 날씨 버킷 풀 (버킷 id 로만 조회). normal 은 풀이 없다 → MainReadService 가 기온 보정 후 인기 목록으로
+    Map<String, List<MainPostDto>> pools = new HashMap<>();
+    weatherIndex.topAll(POOL_SIZE).forEach((bucket, cards) -> pools.put(bucket, pool(cards)));
+
+    Snapshot s = new Snapshot(System.currentTimeMillis(), popular, Map.copyOf(pools));
+    current.set(s);
+    log.debug("[HOME] 피드 재계산 완료 popular={}, {}ms", popular.size(), s.builtAtMs() - t0);
+    return s;
+  }
+
+  private static List<MainPostDto> pool(List<PostDto> src) {
+    if (src == null) return List.of();
+    return src.stream() // 이미지 없는 글은 SQL 에서 이미 제외
+        .map(d -> new MainPostDto(
+            d.getId(),                 // PostDto의 @JsonProperty("id")가 postId를 돌려줌
+            safe(d.getTitle()),
+            safe(d.getFoodName()),
+            safe(d.getRcpImgUrl()),
+            nvl(d.getLikeCount()),
+            nvl(d.getViewCount())
+        ))
+        .toList();
+  }
+
+  private static int nvl(Integer v) { return v == null ? 0 : v; }
+  private static String safe(String s) { return s == null ? "" : s; }
+
+  private static MainPostDto toMainDto(PostCard c) {
+    return new MainPostDto(
+        c.postId(),
+        safe(c.title()),
+        safe(c.foodName()),
+        safe(c.rcpImgUrl()),
+        nvl(c.likeCount()),
+        nvl(c.viewCount())
+    );
+  }
+}
@@ -0,0 +1,245 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.service;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.Ingredient;
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.CatalogVersionRepository;
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.IngredientBulkRepository;
+import SITE.RECIPICK.RECIPICK_PROJECT.util.IngredientNames;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 재료 사전 메모리 캐시 (name → id, id → sort).
+ * <p>
+ * 이름은 {@link IngredientNames#key} 로 찾는다. DB unique 키와 같은 콜레이션 규칙이라 "Onion"/"onion", "café"/"cafe" 처럼
+ * 표기만 다른 입력도 같은 재료가 되고, 돌려주는 재료명은 DB 에 저장된 표기다.
+ * <p>
+ * 읽기는 불변 스냅샷을 통째로 참조하므로 락이 없고, 변경은 새 스냅샷을 만들어 교체한다(copy-on-write). 여러 노드는
+ * catalog_version 의 ingredient 버전을 주기적으로 읽어 자기 버전과 다르면 다시 적재하는 방식으로 수렴한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IngredientCatalog {
+
+    public static final String CATALOG_NAME = "ingredient";
+
+    private final IngredientBulkRepository bulkRepository;
+    private final CatalogVersionRepository versionRepository;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.EMPTY);
+
+    /** 불변 스냅샷 (idByKey 의 키는 IngredientNames.key, nameById 는 DB 표기) */
+    private record Snapshot(long version, Map<String, Integer> idByKey, Map<Integer, String> nameById,
+                            Map<Integer, String> sortById, String[] sortedNames, Set<String> sorts) {
+
+        static final Snapshot EMPTY = new Snapshot(-1L, Map.of(), Map.of(), Map.of(), new String[0], Set.of());
+
+        static Snapshot of(long version, Collection<Ingredient> ingredients) {
+            Map<String, Integer> idByKey = new HashMap<>(ingredients.size() * 2);
+            Map<Integer, String> nameById = new HashMap<>(ingredients.size() * 2);
+            Map<Integer, String> sortById = new HashMap<>(ingredients.size() * 2);
+            for (Ingredient ing : ingredients) {
+                idByKey.put(IngredientNames.key(ing.getName()), ing.getIngId());
+                nameById.put(ing.getIngId(), ing.getName());
+                if (ing.getSort() != null) {
+                    sortById.put(ing.getIngId(), ing.getSort());
+                }
+            }
+            String[] names = nameById.values().toArray(new String[0]);
+            Arrays.sort(names);
+            Set<String> sorts = new LinkedHashSet<>();
+            for (String sort : sortById.values()) {
+                if (!sort.isEmpty()) {
+                    sorts.add(sort);
+                }
+            }
+            return new Snapshot(version, Map.copyOf(idByKey), Map.copyOf(nameById), Map.copyOf(sortById),
+                    names, Set.copyOf(sorts));
+        }
+
+        Integer idOf(String name) {
+            return name == null ? null : idByKey.get(IngredientNames.key(name));
+        }
+
+        Ingredient get(Integer id) {
+            return ingredient(id, nameById.get(id), sortById.get(id));
+        }
+
+        List<Ingredient> toList() {
+            List<Ingredient> list = new ArrayList<>(nameById.size());
+            nameById.keySet().forEach(id -> list.add(get(id)));
+            return list;
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        try {
+            reload();
+        } catch (Exception e) {
+            // DB 준비 전이면 폴링에서 다시 시도 (그 사이엔 DB 조회로 대체)
+            log.warn("[재료카탈로그] 초기 적재 실패: {}", e.getMessage());
+        }
+    }
+
+    // ===== 조회 =====
+
+    /** 이름이 (콜레이션 기준으로) 일치하는 재료 (없으면 null) */
+    public Ingredient find(String name) {
+        Snapshot s = snapshot.get();
+        Integer id = s.idOf(name);
+        return id == null ? null : s.get(id);
+    }
+
+    /** 이름 목록 중 카탈로그에 있는 것들 (입력 이름 → Ingredient) */
+    public Map<String, Ingredient> findAll(Collection<String> names) {
+        Snapshot s = snapshot.get();
+        Map<String, Ingredient> result = new HashMap<>();
+        for (String name : names) {
+            Integer id = s.idOf(name);
+            if (id != null) {
+                result.put(name, s.get(id));
+            }
+        }
+        return result;
+    }
+
+    /** 자동완성: keyword 를 포함하는 재료명 (앞에서 일치하는 것 먼저, 그다음 이름순) */
+    public List<String> search(String keyword, int limit) {
+        List<String> result = new ArrayList<>();
+        if (keyword == null || keyword.isBlank() || limit <= 0) {
+            return result;
+        }
+        String k = keyword.trim().toLowerCase(Locale.ROOT);
+        String[] names = snapshot.get().sortedNames();
+
+        for (String name : names) {
+            if (name.toLowerCase(Locale.ROOT).startsWith(k)) {
+                result.add(name);
+                if (result.size() >= limit) {
+                    return result;
+                }
+            }
+        }
+        for (String name : names) {
+            String lower = name.toLowerCase(Locale.ROOT);
+            if (!lower.startsWith(k) && lower.contains(k)) {
+                result.add(name);
+                if (result.size() >= limit) {
+                    return result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /** 재료명/카테고리명 목록 → 해당 카테고리(sort) 목록 (중복 제거) */
+    public List<String> sortsOf(Collection<String> namesOrSorts) {
+        Snapshot s = snapshot.get();
+        Set<String> result = new LinkedHashSet<>();
+        for (String value : namesOrSorts) {
+            if (value == null) {
+                continue;
+            }
+            Integer id = s.idOf(value);
+            String sort = id == null ? null : s.sortById().get(id);
+            if (sort != null && !sort.isEmpty()) {
+                result.add(sort);
+            }
+            if (s.sorts().contains(value)) {
+                result.add(value);
+            }
+        }
+        return new ArrayList<>(result);
+    }
+
+    public long version() {
+        return snapshot.get().version();
+    }
+
+    // ===== 변경 =====
+
+    /**
+     * 재료 추가/변경 반영: 현재 트랜잭션에서 버전을 올리고, 커밋된 뒤에 로컬 스냅샷에 병합한다. (롤백되면 아무것도 반영하지 않음)
+     */
+    public void onChanged(Collection<Ingredient> changed) {
+        if (changed == null || changed.isEmpty()) {
+            return;
+        }
+        versionRepository.bump(CATALOG_NAME);
+        long newVersion = versionRepository.findVersion(CATALOG_NAME).orElse(-1L);
+        List<Ingredient> copy = List.copyOf(changed);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    merge(newVersion, copy);
+                }
+            });
+        } else {
+            merge(newVersion, copy);
+        }
+    }
+
+    // 다른 노드가 바꿨으면 버전이 달라져 있으므로 다시 적재
+    @Scheduled(fixedDelayString = "${recipick.ingredient.catalog-poll-ms:5000}")
+    public void pollVersion() {
+        try {
+            long dbVersion = versionRepository.findVersion(CATALOG_NAME).orElse(0L);
+            if (dbVersion != snapshot.get().version()) {
+                reload();
+            }
+        } catch (Exception e) {
+            log.warn("[재료카탈로그] 버전 확인 실패: {}", e.getMessage());
+        }
+    }
+
+    /** 전체 다시 적재 */
+    public synchronized void reload() {
+        // 버전을 먼저 읽어야 적재 도중 바뀐 내용을 다음 폴링에서 놓치지 않는다
+        long version = versionRepository.findVersion(CATALOG_NAME).orElse(0L);
+        List<Ingredient> all = bulkRepository.findAll();
+        snapshot.set(Snapshot.of(version, all));
+        log.info("[재료카탈로그] 적재 완료 - 재료 수: {}, 버전: {}", all.size(), version);
+    }
+
+    private void merge(long newVersion, List<Ingredient> changed) {
+        snapshot.updateAndGet(current -> {
+            Map<Integer, Ingredient> byId = new HashMap<>();
+            for (Ingredient ing : current.toList()) {
+                byId.put(ing.getIngId(), ing);
+            }
+            for (Ingredient ing : changed) {
+                byId.put(ing.getIngId(), ing);
+            }
+            // 그 사이 다른 변경이 끼어들었으면 버전을 맞추지 않고 다음 폴링에서 전체 적재
+            long version = current.version() == newVersion - 1 ? newVersion : current.version();
+            return Snapshot.of(version, byId.values());
+        });
+    }
+
+    private static Ingredient ingredient(Integer id, String name, String sort) {
+        Ingredient ing = new Ingredient();
+        ing.setIngId(id);
+        ing.setName(name);
+        ing.setSort(sort);
+        return ing;
+    }
+}
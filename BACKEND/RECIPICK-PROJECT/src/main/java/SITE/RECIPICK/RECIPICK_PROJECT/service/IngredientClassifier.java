@@ -0,0 +1,147 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.service;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.util.KeywordAutomaton;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 재료명 → 재료 카테고리(ingredient.sort) 자동 분류기.
+ * <p>
+ * 규칙 파일(카테고리=키워드,...)을 Aho-Corasick 오토마톤으로 한 번 컴파일해 두고, 재료명을 한 번만 훑어서 분류한다. 파일에 적힌
+ * 순서가 곧 우선순위이므로 기존 if-contains 체인과 결과가 같다. (소고기 > 돼지고기 > 닭고기 > 육류, 쌀 > 밀가루 ...)
+ */
+@Slf4j
+@Component
+public class IngredientClassifier {
+
+    public static final String DEFAULT_CATEGORY = "기타";
+
+    private static final String BUILT_IN_RULES = "ingredient-category-rules.txt";
+
+    // 비어 있으면 classpath 기본 규칙 사용
+    @Value("${recipick.ingredient.rules-file:}")
+    private String rulesFile;
+
+    private volatile Rules rules = new Rules(KeywordAutomaton.builder().build(), new String[0]);
+    private volatile long rulesFileModified = -1L;
+
+    private record Rules(KeywordAutomaton automaton, String[] categories) {
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!reload()) {
+            throw new IllegalStateException("재료 분류 규칙을 불러오지 못했습니다.");
+        }
+    }
+
+    /** 재료명에 맞는 카테고리 (매칭 없으면 "기타") */
+    public String classify(String ingredientName) {
+        if (ingredientName == null) {
+            return DEFAULT_CATEGORY;
+        }
+        Rules current = rules;
+        int label = current.automaton().firstLabel(ingredientName.toLowerCase().trim());
+        return label == KeywordAutomaton.NO_MATCH ? DEFAULT_CATEGORY : current.categories()[label];
+    }
+
+    /** 규칙을 다시 읽어 통째로 교체 (실패하면 기존 규칙 유지) */
+    public synchronized boolean reload() {
+        try {
+            Path external = externalRulesPath();
+            List<String> lines;
+            if (external != null) {
+                rulesFileModified = Files.getLastModifiedTime(external).toMillis();
+                lines = Files.readAllLines(external, StandardCharsets.UTF_8);
+            } else {
+                lines = readBuiltIn();
+            }
+            Rules compiled = compile(lines);
+            rules = compiled;
+            log.info("[재료분류] 규칙 로드 완료 - 카테고리: {}, 키워드: {}, 출처: {}",
+                    compiled.categories().length, compiled.automaton().keywordCount(),
+                    external != null ? external : "classpath:" + BUILT_IN_RULES);
+            return true;
+        } catch (Exception e) {
+            log.error("[재료분류] 규칙 로드 실패 - 기존 규칙 유지: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    // 외부 규칙 파일이 바뀌었으면 재배포 없이 다시 로드
+    @Scheduled(fixedDelayString = "${recipick.ingredient.rules-reload-ms:60000}")
+    public void reloadIfChanged() {
+        Path external = externalRulesPath();
+        if (external == null) {
+            return;
+        }
+        try {
+            long modified = Files.getLastModifiedTime(external).toMillis();
+            if (modified != rulesFileModified) {
+                reload();
+            }
+        } catch (IOException e) {
+            log.warn("[재료분류] 규칙 파일 확인 실패: {}", e.getMessage());
+        }
+    }
+
+    private Path externalRulesPath() {
+        if (rulesFile == null || rulesFile.isBlank()) {
+            return null;
+        }
+        return Path.of(rulesFile.trim());
+    }
+
+    private List<String> readBuiltIn() throws IOException {
+        try (InputStream in = new ClassPathResource(BUILT_IN_RULES).getInputStream();
+             BufferedReader reader = new BufferedReader(
+                     new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            return reader.lines().toList();
+        }
+    }
+
+    // "카테고리=키워드,키워드" 한 줄이 하나의 카테고리, 줄 순서 = 우선순위
+    private static Rules compile(List<String> lines) {
+        KeywordAutomaton.Builder builder = KeywordAutomaton.builder();
+        List<String> categories = new ArrayList<>();
+
+        for (String raw : lines) {
+            String line = raw.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            int eq = line.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("잘못된 규칙 형식: " + line);
+            }
+            String category = line.substring(0, eq).trim();
+            int label = categories.size();
+            categories.add(category);
+
+            for (String keyword : line.substring(eq + 1).split(",")) {
+                String k = keyword.toLowerCase().trim();
+                if (!k.isEmpty()) {
+                    builder.add(k, label);
+                }
+            }
+        }
+        if (categories.isEmpty()) {
+            throw new IllegalArgumentException("분류 규칙이 비어 있습니다.");
+        }
+        return new Rules(builder.build(), categories.toArray(new String[0]));
+    }
+}
@@ -1,31 +1,45 @@
 package SITE.RECIPICK.RECIPICK_PROJECT.service;
 
 import SITE.RECIPICK.RECIPICK_PROJECT.dto.WeatherData;
+import SITE.RECIPICK.RECIPICK_PROJECT.util.KmaStations;
 import jakarta.annotation.PostConstruct;
-import lombok.RequiredArgsConstructor;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.ResourceAccessException;
-import org.springframework.web.client.RestClient;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class KmaWeatherService {
 
-  private final RestClient rest = RestClient.builder()
-      .requestFactory(new SimpleClientHttpRequestFactory() {{
-        setConnectTimeout(1500);
-        setReadTimeout(1500);
-      }})
-      .defaultHeader("User-Agent", "Recipick/1.0 (+recipick)")
-      .build();
+  private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
 
-  @Value("${kma.apiKey}")
-  private String apiKey;
+  private final WebClient web;
+  private final String apiKey;
+  private final Duration timeout;
+  private final Clock clock;
+
+  // stale-while-revalidate: 이 시간이 지나면 조회 시 백그라운드 갱신, max-stale 이 지나면 버림
+  @Value("${kma.fresh-ms:60000}")
+  private long freshMs = 60_000L;
+
+  @Value("${kma.max-stale-ms:1800000}")
+  private long maxStaleMs = 1_800_000L;
+
+  // 네트워크 호출 최소 간격 (조회 시 갱신 트리거가 몰려도 이 간격 안에서는 1회)
+  @Value("${kma.min-refresh-interval-ms:30000}")
+  private long minRefreshIntervalMs = 30_000L;
 
   // 임계값
   private static final double RAIN_MM = 0.1, SNOW_MM = 0.1, HOT_MIN = 22.0, COLD_MAX = 14.0;
@@ -33,82 +47,173 @@ public class KmaWeatherService {
   // 조회 범위(10분 단위, 최대 60분)
   private static final int STEP_MIN = 10, MAX_STEPS = 6;
 
-  // ====== 앱 전역 캐시 ======
-  private volatile WeatherData cachedData;
-  private volatile String cachedCond = "normal";
-  private volatile long cachedAtMs = 0L;
+  // stn=0 이면 전 관측소를 한 번에 내려준다
+  private static final int ALL_STATIONS = 0;
+
+  // ====== 앱 전역 캐시 (관측소별) ======
+  private volatile StationTable table = StationTable.EMPTY;
+  private final AtomicBoolean refreshing = new AtomicBoolean();
+  private final AtomicLong lastAttemptMs = new AtomicLong();
+
+  /**
+   * 관측소 번호로 바로 인덱싱하는 관측값 배열 (값 없음 = NaN). 한 번 만들면 수정하지 않고 통째로 교체한다.
+   */
+  record StationTable(float[] temp, float[] rain, float[] snow, int stations, long fetchedAtMs) {
+
+    static final StationTable EMPTY = new StationTable(
+        nanArray(), nanArray(), nanArray(), 0, 0L);
+
+    static float[] nanArray() {
+      float[] a = new float[KmaStations.MAX_STN];
+      Arrays.fill(a, Float.NaN);
+      return a;
+    }
+
+    boolean has(int stn) {
+      return stn > 0 && stn < KmaStations.MAX_STN
+          && !(Float.isNaN(temp[stn]) && Float.isNaN(rain[stn]) && Float.isNaN(snow[stn]));
+    }
+
+    WeatherData get(int stn) {
+      if (!has(stn)) return null;
+      return new WeatherData(box(temp[stn]), box(rain[stn]), box(snow[stn]));
+    }
 
-  // 앱 기동 직후 한 번 갱신
+    private static Double box(float v) {
+      return Float.isNaN(v) ? null : (double) v;
+    }
+  }
+
+  @Autowired
+  public KmaWeatherService(
+      @Value("${kma.baseUrl:https://apihub.kma.go.kr}") String baseUrl,
+      @Value("${kma.apiKey}") String apiKey,
+      @Value("${kma.timeout-ms:1500}") long timeoutMs) {
+    this(baseUrl, apiKey, timeoutMs, Clock.system(SEOUL));
+  }
+
+  KmaWeatherService(String baseUrl, String apiKey, long timeoutMs, Clock clock) {
+    this.web = WebClient.builder()
+        .baseUrl(baseUrl)
+        .defaultHeader("User-Agent", "Recipick/1.0 (+recipick)")
+        .build();
+    this.apiKey = apiKey;
+    this.timeout = Duration.ofMillis(timeoutMs);
+    this.clock = clock;
+  }
+
+  // 앱 기동 직후 한 번 갱신 (기다리지 않음)
   @PostConstruct
   public void initWarmUp() {
-    try {
-      refreshCache(108);
-    } catch (Exception e) {
-      log.warn("[KMA] 초기 캐시 갱신 실패: {}", e.getMessage());
-    }
+    triggerRefresh();
   }
 
-  // 매 분 1회 갱신 (원하면 */120 등으로 조절)
+  // 매 분 1회 갱신 요청만 하고 바로 반환 (스케줄러 스레드를 잡지 않음)
   @Scheduled(cron = "0 * * * * *")
   public void scheduledRefresh() {
-    try {
-      refreshCache(108);
-    } catch (Exception e) {
-      log.warn("[KMA] 스케줄 캐시 갱신 실패: {}", e.getMessage());
-    }
+    triggerRefresh();
   }
 
-  /** 메인/컨트롤러는 이것만 호출: 항상 즉시 반환 */
+  /** 메인/컨트롤러는 이것만 호출: 항상 즉시 반환 (오래됐으면 백그라운드 갱신만 걸어 둠) */
   public String getCachedConditionOrNormal() {
-    return cachedCond == null ? "normal" : cachedCond;
+    return getCachedConditionOrNormal(KmaStations.DEFAULT_STN);
+  }
+
+  /** 관측소별 조건 (해당 관측소 값이 없으면 기본 관측소 값) */
+  public String getCachedConditionOrNormal(int stn) {
+    return conditionFrom(lastCachedWeather(stn));
   }
 
   /** 마지막 캐시 데이터(디버그/로그용) */
   public WeatherData lastCachedWeather() {
-    return cachedData;
+    return lastCachedWeather(KmaStations.DEFAULT_STN);
+  }
+
+  public WeatherData lastCachedWeather(int stn) {
+    StationTable t = table;
+    long age = System.currentTimeMillis() - t.fetchedAtMs();
+    if (age > freshMs) {
+      triggerRefresh();
+    }
+    if (age > maxStaleMs) {
+      return null;
+    }
+    WeatherData w = t.get(stn);
+    return w != null ? w : t.get(KmaStations.DEFAULT_STN);
+  }
+
+  /** 캐시에 관측값이 있는 관측소 수 */
+  public int cachedStationCount() {
+    return table.stations();
   }
 
   // ===== 내부 구현 =====
 
-  private void refreshCache(int stn) {
-    String body = fetchLatestObs(stn);        // 네트워크는 여기서만, 스케줄 타이밍에!
-    WeatherData w = (body == null) ? null : parse(body);
-    String cond = conditionFrom(w);
-    cachedData = w;
-    cachedCond = cond;
-    cachedAtMs = System.currentTimeMillis();
-    log.debug("[KMA] 캐시 갱신 cond={}, data={}, at={}", cond, w, cachedAtMs);
+  /** 진행 중인 갱신이 없고 최소 간격이 지났으면 비동기로 하나 시작 */
+  void triggerRefresh() {
+    long now = System.currentTimeMillis();
+    long last = lastAttemptMs.get();
+    if (now - last < minRefreshIntervalMs || !lastAttemptMs.compareAndSet(last, now)) {
+      return;
+    }
+    if (!refreshing.compareAndSet(false, true)) {
+      return;
+    }
+    refresh()
+        .doFinally(sig -> refreshing.set(false))
+        .subscribe(
+            w -> { },
+            e -> log.warn("[KMA] 캐시 갱신 실패: {}", e.getMessage()));
+  }
+
+  /** 전 관측소 관측값을 한 번에 받아 캐시에 반영. 받지 못하면 이전 캐시 유지 (빈 Mono) */
+  Mono<StationTable> refresh() {
+    return fetchLatestObs(ALL_STATIONS)
+        .mapNotNull(this::parseAll)
+        .doOnNext(t -> {
+          table = t;
+          log.debug("[KMA] 캐시 갱신 stations={}, at={}", t.stations(), t.fetchedAtMs());
+        })
+        .switchIfEmpty(Mono.fromRunnable(
+            () -> log.debug("[KMA] 최근 {}분 관측 없음, 이전 캐시 유지", STEP_MIN * MAX_STEPS)));
   }
 
   /** KMA 원 호출 */
-  private String getObsData(String tm, int stn) {
-    String url = "https://apihub.kma.go.kr/api/typ01/url/kma_sfctm2.php"
-        + "?tm=" + tm + "&stn=" + stn + "&help=0" + "&authKey=" + apiKey;
-    return rest.get().uri(url).retrieve().body(String.class);
+  private Mono<String> getObsData(String tm, int stn) {
+    return web.get()
+        .uri(b -> b.path("/api/typ01/url/kma_sfctm2.php")
+            .queryParam("tm", tm)
+            .queryParam("stn", stn)
+            .queryParam("help", 0)
+            .queryParam("authKey", apiKey)
+            .build())
+        .retrieve()
+        .bodyToMono(String.class)
+        .timeout(timeout);
   }
 
-  /** 가까운 과거(최대 60분)에서 첫 유효 데이터 라인 찾기 (짧은 타임아웃) */
-  private String fetchLatestObs(int stn) {
-    var now = java.time.ZonedDateTime.now(java.time.ZoneId.of("Asia/Seoul"))
+  /**
+   * 가까운 과거(최대 60분)의 슬롯들을 동시에 요청하고, 데이터가 있는 가장 최근 슬롯을 쓴다.
+   * flatMapSequential 은 슬롯 순서(최신 → 과거)대로 내보내므로 next() 가 받는 값이 곧 최신 유효 슬롯이고,
+   * 나머지 요청은 그 시점에 취소된다.
+   */
+  Mono<String> fetchLatestObs(int stn) {
+    ZonedDateTime now = ZonedDateTime.now(clock).withZoneSameInstant(SEOUL)
         .withSecond(0).withNano(0);
-    int m10 = (now.getMinute() / 10) * 10;
-    var t = now.withMinute(m10);
+    ZonedDateTime t = now.withMinute((now.getMinute() / 10) * 10);
 
-    for (int i = 0; i <= MAX_STEPS; i++) {
-      var tt = t.minusMinutes((long) STEP_MIN * i);
-      String tm = String.format("%04d%02d%02d%02d%02d",
-          tt.getYear(), tt.getMonthValue(), tt.getDayOfMonth(), tt.getHour(), tt.getMinute());
-      try {
-        String body = getObsData(tm, stn);
-        if (hasDataLine(body)) return body;
-      } catch (ResourceAccessException e) {
-        // 타임아웃이면 바로 다음 슬롯 시도
-        log.debug("[KMA] 타임아웃 tm={}, 다음 슬롯 시도", tm);
-      } catch (Exception e) {
-        log.debug("[KMA] 호출 실패 tm={}, 다음 슬롯 시도: {}", tm, e.toString());
-      }
-    }
-    return null;
+    return Flux.range(0, MAX_STEPS + 1)
+        .map(i -> t.minusMinutes((long) STEP_MIN * i))
+        .map(tt -> String.format("%04d%02d%02d%02d%02d",
+            tt.getYear(), tt.getMonthValue(), tt.getDayOfMonth(), tt.getHour(), tt.getMinute()))
+        .flatMapSequential(tm -> getObsData(tm, stn)
+                .filter(this::hasDataLine)
+                .onErrorResume(e -> {
+                  log.debug("[KMA] 호출 실패 tm={}: {}", tm, e.toString());
+                  return Mono.empty();
+                }),
+            MAX_STEPS + 1)
+        .next();
   }
 
   private boolean hasDataLine(String body) {
@@ -119,19 +224,35 @@ public class KmaWeatherService {
     return false;
   }
 
-  /** 파서 */
-  private WeatherData parse(String body) {
+  /** 파서: 관측소별 한 줄씩 (2: STN) → 관측소 번호로 인덱싱한 배열 */
+  private StationTable parseAll(String body) {
     if (body == null) return null;
+    float[] temp = StationTable.nanArray();
+    float[] rain = StationTable.nanArray();
+    float[] snow = StationTable.nanArray();
+    int stations = 0;
     for (String line : body.split("\\R")) {
       if (line.isBlank() || line.startsWith("#")) continue;
       String[] c = line.trim().split("\\s+");
       if (c.length < 23) continue;
-      Double temp = parseD(c[11]); // 12: TA
-      Double rain = parseD(c[15]); // 16: RN
-      Double snow = parseD(c[21]); // 22: SD_TOT
-      return new WeatherData(temp, rain, snow);
+      int stn;
+      try {
+        stn = Integer.parseInt(c[1]);
+      } catch (NumberFormatException e) {
+        continue;
+      }
+      if (stn <= 0 || stn >= KmaStations.MAX_STN) continue;
+      temp[stn] = toF(parseD(c[11])); // 12: TA
+      rain[stn] = toF(parseD(c[15])); // 16: RN
+      snow[stn] = toF(parseD(c[21])); // 22: SD_TOT
+      stations++;
     }
-    return null;
+    return stations == 0 ? null
+        : new StationTable(temp, rain, snow, stations, System.currentTimeMillis());
+  }
+
+  private static float toF(Double v) {
+    return v == null ? Float.NaN : v.floatValue();
   }
 
   private Double parseD(String s) {
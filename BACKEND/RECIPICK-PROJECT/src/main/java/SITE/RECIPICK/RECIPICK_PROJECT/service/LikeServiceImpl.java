@@ -18,6 +18,8 @@ public class LikeServiceImpl implements LikeService {
   private final PostLikeRepository likeRepo;
   private final PostRepository postRepo;
   private final UserRepository userRepo;
+  private final HomeFeedService homeFeed;
+  private final ProfileCounterService profileCounters;
 
   @Override
   public boolean isLiked(Integer userId, Integer postId) {
@@ -44,6 +46,8 @@ public class LikeServiceImpl implements LikeService {
     int curr = post.getLikeCount() == null ? 0 : post.getLikeCount();
     post.setLikeCount(curr + 1);
     postRepo.save(post);
+    profileCounters.likeChanged(post, 1);
+    homeFeed.onLike();
   }
 
   @Transactional
@@ -61,5 +65,9 @@ public class LikeServiceImpl implements LikeService {
     int curr = post.getLikeCount() == null ? 0 : post.getLikeCount();
     post.setLikeCount(Math.max(0, curr - 1));
     postRepo.save(post);
+    if (curr > 0) {
+      profileCounters.likeChanged(post, -1);
+    }
+    homeFeed.onLike();
   }
 }
@@ -1,140 +1,93 @@
 package SITE.RECIPICK.RECIPICK_PROJECT.service;
 
 import SITE.RECIPICK.RECIPICK_PROJECT.dto.MainPostDto;
-import SITE.RECIPICK.RECIPICK_PROJECT.dto.PostDto;
-import SITE.RECIPICK.RECIPICK_PROJECT.entity.PostEntity;
-import SITE.RECIPICK.RECIPICK_PROJECT.repository.PostRepository;
-import SITE.RECIPICK.RECIPICK_PROJECT.repository.WeatherRecommendRepository;
-import java.time.LocalDateTime;
+import SITE.RECIPICK.RECIPICK_PROJECT.util.KmaStations;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 메인 섹션 조회. HomeFeedService 스냅샷과 날씨 캐시만 읽는다 (DB/네트워크 호출 없음).
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class MainReadService {
 
-  private final PostRepository repo;
   private final KmaWeatherService kma;
-  private final WeatherRecommendRepository weatherRepo;
+  private final HomeFeedService homeFeed;
 
-  /** 오늘의 추천 (캐시된 날씨 기반 → 없으면 인기 fallback 5개, 네트워크 호출 없음) */
-  public List<MainPostDto> todayTop5() {
+  private static final int TODAY_SIZE = 5;
+
+  // 요청마다 풀에서 잘라 갈 시작 위치 (돌아가며 보여 줌)
+  private final AtomicInteger cursor = new AtomicInteger();
+
+  /**
+   * 오늘의 추천 (캐시된 날씨 기반 → 없으면 인기 fallback 5개, 네트워크 호출 없음)
+   * region: 지역명/관측소 번호 힌트 (없거나 모르면 기본 관측소)
+   */
+  public List<MainPostDto> todayTop5(String region) {
+    var feed = homeFeed.snapshot();
     try {
       // ✅ 네트워크 호출 금지: 캐시에 있으면 그 조건, 없으면 "normal"
-      String cond = kma.getCachedConditionOrNormal();
-      log.debug("[MAIN] cond={}", cond);
+      int stn = KmaStations.resolve(region);
+      String cond = kma.getCachedConditionOrNormal(stn);
+      log.debug("[MAIN] stn={}, cond={}", stn, cond);
 
-      // cond별 추천
-      List<MainPostDto> list = switch (cond) {
-        case "rainy" -> mapDto(weatherRepo.rainyTop(5));
-        case "hot"   -> mapDto(weatherRepo.hotTop(5));
-        case "cold"  -> mapDto(weatherRepo.coldTop(5));
-        case "snowy" -> mapDto(weatherRepo.snowyTop(5));
-        default      -> List.of(); // normal이면 인기 보충으로
-      };
+      // cond별 풀에서 이번 차례 창만 (normal 은 풀이 없어 빈 목록)
+      int start = cursor.getAndAdd(TODAY_SIZE);
+      List<MainPostDto> list = feed.window(cond, TODAY_SIZE, start);
 
       // normal이거나 결과가 비었으면, 캐시에 남아있는 최신 WeatherData로 온도 보정
-      var w = kma.lastCachedWeather();
+      var w = kma.lastCachedWeather(stn);
       if (list.isEmpty() && w != null) {
         Double tempC = w.temp();
         if (tempC != null) {
           if (tempC >= 24) {
-            list = mapDto(weatherRepo.hotTop(5));
+            list = feed.window("hot", TODAY_SIZE, start);
           } else if (tempC <= 12) {
-            list = mapDto(weatherRepo.coldTop(5));
+            list = feed.window("cold", TODAY_SIZE, start);
           }
         }
       }
 
-      // 부족분은 인기에서 보충
-      list = list.isEmpty() ? topNWithImage(5) : fillFromPopular(list, 5);
+      // 그래도 없으면 인기 목록을 돌아가며, 부족분은 인기 목록 앞에서 보충 (추가 조회 없음)
+      if (list.isEmpty()) {
+        list = feed.popularWindow(TODAY_SIZE, start);
+      }
+      list = fillFromPopular(list, feed.popular(), TODAY_SIZE);
 
       log.debug("[MAIN] weather pick count={}", list.size());
       return list;
 
     } catch (Exception e) {
       log.warn("[MAIN] todayTop5 예외. fallback 수행", e);
-      return topNWithImage(5);
+      return topN(feed.popular(), TODAY_SIZE);
     }
   }
 
   /** 인기 그리드: 좋아요/조회수/작성일 내림차순 → 상위 8 */
   public List<MainPostDto> popularTop8() {
-    return topNWithImage(8);
+    return topN(homeFeed.snapshot().popular(), 8);
   }
 
   // ===== 공통 =====
 
-  private List<MainPostDto> topNWithImage(int n) {
-    Sort sort = Sort.by(
-        Sort.Order.desc("likeCount"),
-        Sort.Order.desc("viewCount"),
-        Sort.Order.desc("createdAt")
-    );
-    Pageable page = PageRequest.of(0, Math.max(30, n * 5), sort);
-
-    return repo.findAll(page).getContent().stream()
-        .filter(e -> e.getRcpImgUrl() != null && !e.getRcpImgUrl().isBlank())
-        .sorted((a, b) -> {
-          int cmp1 = Integer.compare(nvl(b.getLikeCount()), nvl(a.getLikeCount()));
-          if (cmp1 != 0) return cmp1;
-          int cmp2 = Integer.compare(nvl(b.getViewCount()), nvl(a.getViewCount()));
-          if (cmp2 != 0) return cmp2;
-          return nvl(b.getCreatedAt()).compareTo(nvl(a.getCreatedAt()));
-        })
-        .limit(n)
-        .map(MainReadService::toMainDto)
-        .toList();
+  private static List<MainPostDto> topN(List<MainPostDto> popular, int n) {
+    return popular.size() <= n ? popular : popular.subList(0, n);
   }
 
-  private List<MainPostDto> mapDto(List<PostDto> src) {
-    if (src == null) return List.of();
-    return src.stream()
-        .filter(d -> d.getRcpImgUrl() != null && !d.getRcpImgUrl().isBlank())
-        .limit(5)
-        .map(d -> new MainPostDto(
-            d.getId(),                 // PostDto의 @JsonProperty("id")가 postId를 돌려줌
-            safe(d.getTitle()),
-            safe(d.getFoodName()),
-            safe(d.getRcpImgUrl()),
-            nvl(d.getLikeCount()),
-            nvl(d.getViewCount())
-        ))
-        .toList();
-  }
-
-  private List<MainPostDto> fillFromPopular(List<MainPostDto> base, int target) {
-    var rest = topNWithImage(target * 2); // 넉넉히 뽑아서 중복 제거
+  private static List<MainPostDto> fillFromPopular(
+      List<MainPostDto> base, List<MainPostDto> popular, int target) {
     Set<Integer> used = base.stream().map(MainPostDto::id).collect(Collectors.toSet());
-    var add = rest.stream()
+    var add = popular.stream()
         .filter(p -> !used.contains(p.id()))
-        .limit(target - base.size())
+        .limit(Math.max(0, target - base.size()))
         .toList();
     return java.util.stream.Stream.concat(base.stream(), add.stream()).toList();
   }
-
-  private static int nvl(Integer v) { return v == null ? 0 : v; }
-  private static LocalDateTime nvl(LocalDateTime v) { return v == null ? LocalDateTime.MIN : v; }
-  private static String safe(String s) { return s == null ? "" : s; }
-
-  private static MainPostDto toMainDto(PostEntity e) {
-    return new MainPostDto(
-        e.getPostId(),
-        safe(e.getTitle()),
-        safe(e.getFoodName()),
-        safe(e.getRcpImgUrl()),
-        nvl(e.getLikeCount()),
-        nvl(e.getViewCount())
-    );
-  }
 }
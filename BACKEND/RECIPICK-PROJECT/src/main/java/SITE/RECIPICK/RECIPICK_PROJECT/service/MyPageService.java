@@ -1,16 +1,20 @@
 package SITE.RECIPICK.RECIPICK_PROJECT.service;
 
 import SITE.RECIPICK.RECIPICK_PROJECT.dto.MyProfileResponse;
+import SITE.RECIPICK.RECIPICK_PROJECT.dto.MyReviewRow;
 import SITE.RECIPICK.RECIPICK_PROJECT.dto.NicknameUpdateRequest;
 import SITE.RECIPICK.RECIPICK_PROJECT.dto.PostDto;
 import SITE.RECIPICK.RECIPICK_PROJECT.dto.ReviewDto;
+import SITE.RECIPICK.RECIPICK_PROJECT.event.PrincipalChangedEvent;
 import SITE.RECIPICK.RECIPICK_PROJECT.repository.PostRepository;
 import SITE.RECIPICK.RECIPICK_PROJECT.repository.ProfileRepository;
 import SITE.RECIPICK.RECIPICK_PROJECT.repository.ReviewRepository;
 import SITE.RECIPICK.RECIPICK_PROJECT.repository.UserRepository;
+import SITE.RECIPICK.RECIPICK_PROJECT.util.OffsetPageRequest;
 import SITE.RECIPICK.RECIPICK_PROJECT.util.PostMapper;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,28 +30,26 @@ public class MyPageService {
   private final PostRepository postRepo;
   private final ReviewRepository reviewRepo;
   private final UserRepository userRepo;
+  private final ApplicationEventPublisher eventPublisher;
 
 
+  /**
+   * 프로필 한 행만 읽는다. 레시피/좋아요/리뷰 수는 ProfileCounterService 가 유지하는 카운터
+   */
   @Transactional(readOnly = true)
   public MyProfileResponse getMyProfile(Integer userId) {
     var pr = profileRepo.findById(userId)
         .orElseThrow(() -> new IllegalArgumentException("PROFILE_NOT_FOUND"));
-    var ur = userRepo.findById(userId)
-        .orElseThrow(() -> new RuntimeException("USER_NOT_FOUND"));
 
-    long myRecipeCount = postRepo.countPublishedByAuthor(userId);
-    long totalLikesOnMyPosts = postRepo.sumLikesOnUsersPublished(userId);
-
-    long reviewCount = reviewRepo.countByUserUserId(userId);
     long commentCount = 0; // TODO: commentRepo 생기면 교체
 
     return new MyProfileResponse(
-        ur.getNickname(),              // ✅ USERS.nickname
+        pr.getNickname(),              // ✅ PROFILE.nickname (닉네임 변경 시 USERS 와 같이 바뀜)
         pr.getGrade().name(),          // ✅ PROFILE.grade
         pr.getProfileImg(),
-        myRecipeCount,
-        totalLikesOnMyPosts,
-        reviewCount + commentCount,
+        pr.getRecipeCount(),
+        pr.getLikesReceived(),
+        pr.getReviewCount() + commentCount,
         null
     );
   }
@@ -88,41 +90,27 @@ public class MyPageService {
         .orElseThrow(() -> new IllegalArgumentException("프로필을 찾을 수 없습니다."));
     user.setNickname(newNickname);
     userRepo.save(user);
+    eventPublisher.publishEvent(PrincipalChangedEvent.of(me)); // 세션 principal 닉네임 갱신
   }
 
   @Transactional(readOnly = true)
   public List<PostDto> getMyLikedPosts(Integer me, int offset, int limit) {
-    var pageable = PageRequest.of(offset / Math.max(1, limit), Math.max(1, limit));
-    return postRepo.findLikedPosts(me, pageable)
+    return postRepo.findLikedCards(me, OffsetPageRequest.of(offset, limit))
         .stream()
         .map(PostMapper::toDto)
         .toList();
   }
 
+  /**
+   * 내 리뷰 목록 (최신순). 페이지마다 쿼리 1번 (리뷰 ⋈ 게시글).
+   * beforeId 가 있으면 키셋 페이지(그 리뷰보다 오래된 것부터 limit 개), 없으면 offset 번째부터 limit 개.
+   */
   @Transactional(readOnly = true)
-  public List<ReviewDto> getMyReviews(Integer userId, int offset, int limit) {
-    var reviews = reviewRepo.findByUserUserIdOrderByCreatedAtDesc(userId);
-
-    // 페이징 처리
-    int startIndex = Math.max(0, offset);
-    int endIndex = Math.min(reviews.size(), startIndex + limit);
-
-    var pagedReviews = reviews.subList(startIndex, endIndex);
-
-    return pagedReviews.stream()
-        .map(review -> ReviewDto.builder()
-            .reviewId(review.getReviewId())
-            .postId(review.getPost().getPostId())
-            .reviewRating(review.getReviewRating())
-            .comment(review.getComment())
-            .createdAt(review.getCreatedAt())
-            .post(PostDto.builder()
-                .postId(review.getPost().getPostId())
-                .title(review.getPost().getTitle())
-                .foodName(review.getPost().getFoodName())
-                .rcpImgUrl(review.getPost().getRcpImgUrl())
-                .build())
-            .build())
-        .toList();
+  public List<ReviewDto> getMyReviews(Integer userId, int offset, int limit, Integer beforeId) {
+    int size = Math.max(1, limit);
+    var rows = (beforeId != null)
+        ? reviewRepo.findMyReviewRowsBefore(userId, beforeId, PageRequest.of(0, size))
+        : reviewRepo.findMyReviewRows(userId, OffsetPageRequest.of(offset, size));
+    return rows.stream().map(MyReviewRow::toDto).toList();
   }
 }
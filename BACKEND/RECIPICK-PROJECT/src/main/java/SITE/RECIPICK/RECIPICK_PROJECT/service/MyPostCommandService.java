@@ -2,22 +2,20 @@ package SITE.RECIPICK.RECIPICK_PROJECT.service;
 
 import SITE.RECIPICK.RECIPICK_PROJECT.dto.PostDto;
 import SITE.RECIPICK.RECIPICK_PROJECT.dto.PostUpdateRequest;
-import SITE.RECIPICK.RECIPICK_PROJECT.entity.Ingredient;
 import SITE.RECIPICK.RECIPICK_PROJECT.entity.PostEntity;
 import SITE.RECIPICK.RECIPICK_PROJECT.entity.PostEntity.CookingCategory;
 import SITE.RECIPICK.RECIPICK_PROJECT.entity.PostEntity.CookingKind;
 import SITE.RECIPICK.RECIPICK_PROJECT.entity.PostEntity.CookingMethod;
-import SITE.RECIPICK.RECIPICK_PROJECT.entity.RecipeIngredient;
-import SITE.RECIPICK.RECIPICK_PROJECT.repository.IngredientRepository;
+import SITE.RECIPICK.RECIPICK_PROJECT.event.PostChangedEvent;
 import SITE.RECIPICK.RECIPICK_PROJECT.repository.PostRepository;
 import SITE.RECIPICK.RECIPICK_PROJECT.repository.RecipeIngredientRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -32,7 +30,8 @@ public class MyPostCommandService {
     private static final String JOINER = "|";
     private final PostRepository postRepo;
     private final RecipeIngredientRepository recipeIngredientRepository;
-    private final IngredientRepository ingredientRepository;
+    private final RecipeIngredientWriter recipeIngredientWriter;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static String join(List<String> list) {
         if (list == null || list.isEmpty()) {
@@ -123,59 +122,14 @@ public class MyPostCommandService {
 
         // ===== 레시피-재료 연관관계 업데이트 =====
         if (req.getIngredientNames() != null && !req.getIngredientNames().isEmpty()) {
-
-            // 1. 기존 레시피-재료 관계 모두 삭제
-            List<RecipeIngredient> existingIngredients = recipeIngredientRepository.findByPostId(postId);
-            if (!existingIngredients.isEmpty()) {
-                recipeIngredientRepository.deleteByPostId(postId);
-            }
-
-            // 2. 새로운 재료 추가
-            List<RecipeIngredient> newRecipeIngredients = new ArrayList<>();
-            List<String> names = req.getIngredientNames();
-            List<String> quantities = req.getIngredientQuantities();
-            List<String> units = req.getIngredientUnits();
-
-            for (int i = 0; i < names.size(); i++) {
-                String name = names.get(i);
-                if (name == null || name.isBlank()) continue;
-
-                name = name.trim();
-
-                // 재료 찾기 또는 생성
-                List<Ingredient> existing = ingredientRepository.findByName(name);
-                Ingredient ingredient;
-                if (!existing.isEmpty()) {
-                    ingredient = existing.get(0);
-                } else {
-                    Ingredient newIng = new Ingredient();
-                    newIng.setName(name);
-                    newIng.setSort(getIngredientCategoryByName(name));
-                    ingredient = ingredientRepository.save(newIng);
-                }
-
-                String quantity = (quantities != null && i < quantities.size() && quantities.get(i) != null) ?
-                        quantities.get(i).trim() : "";
-                String unit = (units != null && i < units.size() && units.get(i) != null) ?
-                        units.get(i).trim() : "";
-                String amount = (quantity + unit).trim();
-
-                RecipeIngredient recipeIngredient = RecipeIngredient.builder()
-                        .postId(postId)
-                        .ingId(ingredient.getIngId())
-                        .amount(amount)
-                        .build();
-                newRecipeIngredients.add(recipeIngredient);
-            }
-
-            // 3. 일괄 저장
-            if (!newRecipeIngredients.isEmpty()) {
-                recipeIngredientRepository.saveAll(newRecipeIngredients);
-            }
+            // 기존 레시피-재료 관계 삭제 후 일괄 재저장
+            recipeIngredientWriter.replace(postId, req.getIngredientNames(),
+                    req.getIngredientQuantities(), req.getIngredientUnits());
         }
 
         p.setUpdatedAt(LocalDateTime.now());
         PostEntity saved = postRepo.save(p);
+        eventPublisher.publishEvent(PostChangedEvent.of(PostChangedEvent.Type.UPDATED, postId));
 
         return toDto(saved);
     }
@@ -197,6 +151,7 @@ public class MyPostCommandService {
 
         // 레시피 삭제
         postRepo.delete(p);
+        eventPublisher.publishEvent(PostChangedEvent.of(PostChangedEvent.Type.DELETED, postId));
     }
 
     @Transactional(readOnly = true)
@@ -211,45 +166,4 @@ public class MyPostCommandService {
         }
         return toDto(p);
     }
-
-    // 재료명에 따라 자동으로 카테고리 분류하는 메서드
-    private String getIngredientCategoryByName(String ingredientName) {
-        String name = ingredientName.toLowerCase().trim();
-
-        if (name.contains("소고기") || name.contains("한우") || name.contains("갈비")) {
-            return "소고기";
-        }
-        if (name.contains("돼지고기") || name.contains("삼겹살") || name.contains("목살")) {
-            return "돼지고기";
-        }
-        if (name.contains("닭고기") || name.contains("닭") || name.contains("치킨")) {
-            return "닭고기";
-        }
-        if (name.contains("쌀") || name.contains("백미") || name.contains("현미")) {
-            return "쌀";
-        }
-        if (name.contains("밀가루") || name.contains("전분")) {
-            return "밀가루";
-        }
-        if (name.contains("버섯")) {
-            return "버섯류";
-        }
-        if (name.contains("생선") || name.contains("새우") || name.contains("오징어")) {
-            return "해물류";
-        }
-        if (name.contains("양파") || name.contains("마늘") || name.contains("당근") || name.contains("감자")) {
-            return "채소류";
-        }
-        if (name.contains("계란") || name.contains("달걀") || name.contains("우유") || name.contains("치즈")) {
-            return "달걀/유제품";
-        }
-        if (name.contains("콩") || name.contains("두부") || name.contains("된장")) {
-            return "콩/견과류";
-        }
-        if (name.contains("사과") || name.contains("배") || name.contains("바나나")) {
-            return "과일류";
-        }
-
-        return "기타";
-    }
-}
\ No newline at end of file
+}
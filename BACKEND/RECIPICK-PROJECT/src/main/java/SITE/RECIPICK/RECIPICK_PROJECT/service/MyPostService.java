@@ -36,7 +36,7 @@ public class MyPostService {
   @Transactional(readOnly = true)
   public List<PostDto> getMyOfficialPosts(Integer me, int offset, int limit) {
     var page = PageRequest.of(offset / Math.max(limit, 1), Math.max(limit, 1));
-    return postRepo.findByUserIdAndRcpIsOfficialOrderByCreatedAtDesc(me, 1, page)
+    return postRepo.findCardsByAuthor(me, 1, page)
         .stream().map(PostMapper::toDto).toList();
   }
 
@@ -53,7 +53,7 @@ public class MyPostService {
   @Transactional(readOnly = true)
   public List<PostDto> getMyTempPosts(Integer me, int offset, int limit) {
     var page = PageRequest.of(offset / Math.max(limit, 1), Math.max(limit, 1));
-    return postRepo.findByUserIdAndRcpIsOfficialOrderByCreatedAtDesc(me, 0, page)
+    return postRepo.findCardsByAuthor(me, 0, page)
         .stream().map(PostMapper::toDto).toList();
   }
 }
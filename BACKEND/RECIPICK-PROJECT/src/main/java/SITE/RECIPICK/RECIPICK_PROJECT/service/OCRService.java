@@ -1,6 +1,5 @@
 package SITE.RECIPICK.RECIPICK_PROJECT.service;
 
-import SITE.RECIPICK.RECIPICK_PROJECT.repository.SearchRepository;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -34,7 +33,7 @@ public class OCRService {
                             + // 한글 2-8글자
                             "^[가-힣]+[0-9]*[가-힣]*$" // 한글+숫자 조합
             );
-    private final SearchRepository searchRepository;
+    private final IngredientCatalog ingredientCatalog;
     private final RestTemplate restTemplate = new RestTemplate();
     private final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -196,7 +195,7 @@ public class OCRService {
         for (String candidate : candidates) {
             try {
                 // 정확히 일치하는 재료 검색
-                List<String> exactMatches = searchRepository.findIngredientsByKeyword(candidate, 1);
+                List<String> exactMatches = ingredientCatalog.search(candidate, 1);
                 if (!exactMatches.isEmpty()) {
                     matchedIngredients.add(exactMatches.get(0));
                     continue;
@@ -204,7 +203,7 @@ public class OCRService {
 
                 // 부분 일치 검색
                 List<String> partialMatches =
-                        searchRepository.findIngredientsByKeyword(
+                        ingredientCatalog.search(
                                 candidate.substring(0, Math.min(candidate.length(), 3)), 3);
                 for (String match : partialMatches) {
                     if (match.contains(candidate) || candidate.contains(match)) {
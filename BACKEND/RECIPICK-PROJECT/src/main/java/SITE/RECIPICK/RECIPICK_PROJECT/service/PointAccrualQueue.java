@@ -0,0 +1,148 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.service;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.event.PointAccrualEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.SQLTransientException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 포인트 적립 큐.
+ *
+ * <p>✅ 게시글/리뷰 작성 트랜잭션이 커밋된 뒤에만 적립 요청을 받아 메모리 큐에 쌓고, 짧은 주기로 꺼내 PointService.applyBatch 로
+ * 한꺼번에 반영한다. 요청 경로에는 큐에 넣는 비용만 남는다.
+ *
+ * <p>⚠️ 반영에 실패하면 - DB 연결/락 같은 일시 오류: 배치 전체를 큐에 되돌려 다음 주기에 재시도 - 그 밖의 오류: 한 건씩 따로
+ * 반영해 실패한 건만 되돌리고, 같은 건이 max-attempts 번 실패하면 로그를 남기고 버린다 (한 건 때문에 나머지가 계속 막히지 않게).
+ * 큐가 가득 차면 그 건만 즉시 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointAccrualQueue {
+
+    private final PointService pointService;
+
+    @Value("${recipick.points.batch-size:500}")
+    private int batchSize = 500;
+
+    @Value("${recipick.points.max-attempts:5}")
+    private int maxAttempts = 5;
+
+    // 적립 요청 + 지금까지 단건으로 실패한 횟수
+    private record Pending(PointAccrualEvent event, int failures) {
+
+    }
+
+    private final LinkedBlockingQueue<Pending> queue = new LinkedBlockingQueue<>(100_000);
+
+    private final AtomicLong dropped = new AtomicLong();
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAccrual(PointAccrualEvent event) {
+        if (queue.offer(new Pending(event, 0))) {
+            return;
+        }
+        log.warn("포인트 적립 큐 가득 참 - 즉시 반영 userId: {}, action: {}", event.userId(), event.action());
+        try {
+            pointService.applyBatch(List.of(event));
+        } catch (Exception e) {
+            log.error("포인트 적립 실패 - userId: {}, action: {}", event.userId(), event.action(), e);
+        }
+    }
+
+    public int pending() {
+        return queue.size();
+    }
+
+    /** 재시도 한도를 넘겨 버린 요청 수 */
+    public long dropped() {
+        return dropped.get();
+    }
+
+    @Scheduled(fixedDelayString = "${recipick.points.flush-ms:500}")
+    public void flush() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            try {
+                pointService.applyBatch(batch.stream().map(Pending::event).toList());
+            } catch (Exception e) {
+                if (isTransient(e)) {
+                    log.warn("포인트 적립 배치 실패 ({}건) - 다음 주기에 재시도: {}", batch.size(), e.getMessage());
+                    requeue(batch);
+                } else {
+                    log.warn("포인트 적립 배치 실패 ({}건) - 한 건씩 다시 반영: {}", batch.size(), e.getMessage());
+                    applyOneByOne(batch);
+                }
+                return;
+            }
+            batch.clear();
+        }
+    }
+
+    // 실패한 배치를 한 건씩 반영해 문제 있는 요청만 골라낸다
+    private void applyOneByOne(List<Pending> batch) {
+        List<Pending> retry = new ArrayList<>();
+        for (Pending p : batch) {
+            try {
+                pointService.applyBatch(List.of(p.event()));
+            } catch (Exception e) {
+                if (isTransient(e)) {
+                    retry.add(p);
+                } else if (p.failures() + 1 >= maxAttempts) {
+                    dropped.incrementAndGet();
+                    log.error("포인트 적립 {}회 실패 - 버림 userId: {}, action: {}, occurredAt: {}",
+                            p.failures() + 1, p.event().userId(), p.event().action(), p.event().occurredAt(), e);
+                } else {
+                    retry.add(new Pending(p.event(), p.failures() + 1));
+                }
+            }
+        }
+        requeue(retry);
+    }
+
+    private void requeue(List<Pending> pendings) {
+        int lost = 0;
+        for (Pending p : pendings) {
+            if (!queue.offer(p)) {
+                lost++;
+            }
+        }
+        if (lost > 0) {
+            dropped.addAndGet(lost);
+            log.error("포인트 적립 큐 가득 참 - 재시도 못 한 요청 {}건", lost);
+        }
+    }
+
+    // 연결/락 타임아웃처럼 다시 하면 될 수 있는 오류 (요청 자체의 문제가 아님)
+    private static boolean isTransient(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof TransientDataAccessException
+                    || t instanceof RecoverableDataAccessException
+                    || t instanceof CannotCreateTransactionException
+                    || t instanceof SQLTransientException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 종료 전에 남은 적립 반영
+    @PreDestroy
+    public void drainOnShutdown() {
+        flush();
+    }
+}
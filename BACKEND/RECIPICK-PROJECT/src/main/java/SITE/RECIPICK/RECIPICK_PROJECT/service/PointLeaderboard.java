@@ -0,0 +1,176 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.service;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.dto.LeaderboardEntry;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.ProfileEntity;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.UserGrade;
+import SITE.RECIPICK.RECIPICK_PROJECT.event.PointsUpdatedEvent;
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.PointLedgerRepository;
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.ProfileRepository;
+import SITE.RECIPICK.RECIPICK_PROJECT.util.RankTree;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 포인트 리더보드 (메모리).
+ *
+ * <p>✅ 기동 시 profile.point 전체로 RankTree 를 만들고, 이후에는 포인트 배치 반영(PointsUpdatedEvent) 커밋마다 바뀐 사용자만
+ * 고친다. 순위/상위 목록 조회는 DB 의 ORDER BY 없이 O(log n) 로 끝나고, 한 페이지의 닉네임/등급만 한 번에 읽는다.
+ *
+ * <p>⚠️ 재구성은 잠금 밖에서 DB 를 읽으므로, 그 사이 들어온 갱신은 따로 모아 두었다가 새 트리로 바꾸기 직전에 다시 적용한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointLeaderboard {
+
+    private final PointLedgerRepository pointLedgerRepository;
+    private final ProfileRepository profileRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private RankTree tree = new RankTree();
+
+    // 재구성 중 들어온 갱신 (user_id → 총 포인트, 새 트리에 다시 적용). 재구성 중이 아니면 null
+    private Map<Integer, Integer> duringRebuild;
+
+    // ===== 갱신 =====
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long t0 = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            duringRebuild = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        RankTree next = new RankTree();
+        boolean loaded = false;
+        int replayed = 0;
+        try {
+            pointLedgerRepository.forEachPoint(next::put);
+            loaded = true;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (loaded) {
+                    duringRebuild.forEach(next::put); // 이벤트 값이 총 포인트라 읽은 값 위에 덮어써도 된다
+                    replayed = duringRebuild.size();
+                    tree = next;
+                }
+                duringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        log.info("[POINT] 리더보드 구성 - {}명 (재구성 중 갱신 {}명 반영), {}ms",
+                next.size(), replayed, System.currentTimeMillis() - t0);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPointsUpdated(PointsUpdatedEvent event) {
+        lock.writeLock().lock();
+        try {
+            event.points().forEach(tree::put);
+            if (duringRebuild != null) {
+                duringRebuild.putAll(event.points());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ===== 조회 =====
+
+    /** 리더보드 인원 (재구성 때 읽은 프로필 + 이후 처음 포인트를 받은 사용자) */
+    public int total() {
+        lock.readLock().lock();
+        try {
+            return tree.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 리더보드에 반영된 포인트 (아직 없으면 null) */
+    public Integer scoreOf(Integer userId) {
+        lock.readLock().lock();
+        try {
+            return tree.scoreOf(userId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 상위 목록 (offset 부터 limit 명, 동점은 같은 순위) */
+    public List<LeaderboardEntry> top(int offset, int limit) {
+        List<RankTree.Entry> entries;
+        int firstRank;
+        lock.readLock().lock();
+        try {
+            entries = tree.range(offset, limit);
+            firstRank = entries.isEmpty() ? 0 : tree.rankForScore(entries.get(0).score());
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Integer, ProfileRepository.RankProfileView> profiles = profileRepository
+                .findRankProfiles(entries.stream().map(RankTree.Entry::id).toList())
+                .stream()
+                .collect(Collectors.toMap(ProfileRepository.RankProfileView::getUserId, Function.identity()));
+
+        List<LeaderboardEntry> out = new ArrayList<>(entries.size());
+        int rank = firstRank;
+        for (int i = 0; i < entries.size(); i++) {
+            RankTree.Entry e = entries.get(i);
+            if (i > 0 && e.score() != entries.get(i - 1).score()) {
+                rank = offset + i + 1;
+            }
+            ProfileRepository.RankProfileView p = profiles.get(e.id());
+            if (p == null) {
+                continue; // 탈퇴 등으로 프로필이 사라진 사용자
+            }
+            out.add(new LeaderboardEntry(rank, e.id(), p.getNickname(), e.score(), gradeName(p.getGrade())));
+        }
+        return out;
+    }
+
+    /** 내 순위 (리더보드에 아직 없으면 DB 의 현재 포인트 기준으로 계산). 프로필이 없으면 null */
+    public LeaderboardEntry rankOf(Integer userId) {
+        ProfileEntity profile = profileRepository.findById(userId).orElse(null);
+        if (profile == null) {
+            return null;
+        }
+        lock.readLock().lock();
+        try {
+            Integer score = tree.scoreOf(userId);
+            if (score == null) {
+                score = profile.getPoint() != null ? profile.getPoint() : 0;
+            }
+            return new LeaderboardEntry(tree.rankForScore(score), userId,
+                    profile.getNickname(), score, gradeName(profile.getGrade()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static String gradeName(UserGrade grade) {
+        return (grade != null ? grade : UserGrade.BRONZE).name();
+    }
+}
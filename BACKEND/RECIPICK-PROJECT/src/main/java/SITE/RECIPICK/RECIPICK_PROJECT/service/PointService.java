@@ -3,13 +3,23 @@ package SITE.RECIPICK.RECIPICK_PROJECT.service;
 import SITE.RECIPICK.RECIPICK_PROJECT.entity.ProfileEntity;
 import SITE.RECIPICK.RECIPICK_PROJECT.entity.UserEntity;
 import SITE.RECIPICK.RECIPICK_PROJECT.entity.UserGrade;
+import SITE.RECIPICK.RECIPICK_PROJECT.event.PointAccrualEvent;
+import SITE.RECIPICK.RECIPICK_PROJECT.event.PointsUpdatedEvent;
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.PointLedgerRepository;
 import SITE.RECIPICK.RECIPICK_PROJECT.repository.ProfileRepository;
 import SITE.RECIPICK.RECIPICK_PROJECT.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -24,41 +34,76 @@ public class PointService {
     private static final int DIAMOND_THRESHOLD = 2000;
     private final ProfileRepository profileRepository;
     private final UserRepository userRepository;
+    private final PointLedgerRepository pointLedgerRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * 포인트 적립 및 등급 업데이트
+     * 포인트 적립 요청
+     * <p>
+     * ✅ 요청 경로에서는 이벤트만 발행한다. 호출한 트랜잭션이 커밋되면 PointAccrualQueue 에 쌓이고, 장부 기록/포인트 합산/등급
+     * 재평가는 배치({@link #applyBatch(List)})로 처리된다.
      */
     public void addPoints(Integer userId, PointAction action) {
-        try {
-            log.info("포인트 적립 시작 - userId: {}, action: {}, points: {}",
-                    userId, action.name(), action.getPoints());
-
-            ProfileEntity profile = getOrCreateProfile(userId);
-
-            // 포인트 적립
-            int currentPoints = profile.getPoint() != null ? profile.getPoint() : 0;
-            int newPoints = currentPoints + action.getPoints();
-            profile.setPoint(newPoints);
+        eventPublisher.publishEvent(PointAccrualEvent.of(userId, action));
+    }
 
-            // 등급 재평가
-            UserGrade newGrade = calculateGrade(newPoints);
-            UserGrade currentGrade = profile.getGrade();
+    /**
+     * 쌓인 적립 요청을 한 트랜잭션으로 반영: 장부 INSERT 배치 → 사용자별 합계 UPDATE → 등급 재평가 1회
+     *
+     * @return 반영한 요청 수 (존재하지 않는 사용자 몫은 제외)
+     */
+    public int applyBatch(List<PointAccrualEvent> events) {
+        if (events.isEmpty()) {
+            return 0;
+        }
+        Map<Integer, Integer> sums = new LinkedHashMap<>();
+        for (PointAccrualEvent e : events) {
+            sums.merge(e.userId(), e.action().getPoints(), Integer::sum);
+        }
 
-            if (currentGrade != newGrade) {
-                profile.setGrade(newGrade);
-                log.info("등급 승급! - userId: {}, {} -> {}, 포인트: {}",
-                        userId, currentGrade, newGrade, newPoints);
+        // 프로필이 없는 사용자는 기본 프로필을 만든 뒤 다시 더한다 (사용자 자체가 없으면 버림)
+        List<Integer> missing = pointLedgerRepository.addPoints(sums);
+        if (!missing.isEmpty()) {
+            Map<Integer, Integer> retry = new HashMap<>();
+            for (Integer userId : missing) {
+                if (userRepository.existsById(userId)) {
+                    createDefaultProfile(userId);
+                    retry.put(userId, sums.get(userId));
+                } else {
+                    log.warn("포인트 적립 대상 사용자 없음 - userId: {}", userId);
+                    sums.remove(userId);
+                }
             }
+            profileRepository.flush();
+            pointLedgerRepository.addPoints(retry);
+        }
 
-            profileRepository.save(profile);
-
-            log.info("포인트 적립 완료 - userId: {}, 총 포인트: {}, 등급: {}",
-                    userId, newPoints, profile.getGrade());
-
-        } catch (Exception e) {
-            log.error("포인트 적립 실패 - userId: {}, action: {}", userId, action, e);
-            // 포인트 적립 실패해도 메인 기능에 영향주지 않도록 예외를 던지지 않음
+        List<PointAccrualEvent> accepted = new ArrayList<>(events.size());
+        for (PointAccrualEvent e : events) {
+            if (sums.containsKey(e.userId())) {
+                accepted.add(e);
+            }
         }
+        pointLedgerRepository.insertEntries(accepted);
+
+        // 등급 재평가 (바뀐 사용자만 UPDATE)
+        Map<Integer, String> grades = new HashMap<>();
+        Map<Integer, Integer> totals = new HashMap<>();
+        for (PointLedgerRepository.PointRow row : pointLedgerRepository.findPoints(sums.keySet())) {
+            totals.put(row.userId(), row.point());
+            UserGrade newGrade = calculateGrade(row.point());
+            if (!newGrade.name().equals(row.grade())) {
+                grades.put(row.userId(), newGrade.name());
+                log.info("등급 변경! - userId: {}, {} -> {}, 포인트: {}",
+                        row.userId(), row.grade(), newGrade, row.point());
+            }
+        }
+        pointLedgerRepository.updateGrades(grades);
+        eventPublisher.publishEvent(new PointsUpdatedEvent(totals));
+
+        log.info("포인트 적립 반영 - 요청 {}건, 사용자 {}명, 등급 변경 {}명",
+                accepted.size(), sums.size(), grades.size());
+        return accepted.size();
     }
 
     /**
@@ -72,14 +117,6 @@ public class PointService {
         return UserGrade.BRONZE;
     }
 
-    /**
-     * 프로필 조회 또는 생성
-     */
-    private ProfileEntity getOrCreateProfile(Integer userId) {
-        return profileRepository.findByUserEntityUserId(userId)
-                .orElseGet(() -> createDefaultProfile(userId));
-    }
-
     /**
      * 기본 프로필 생성
      */
@@ -0,0 +1,161 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.service;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.dto.PostDto;
+import SITE.RECIPICK.RECIPICK_PROJECT.event.PostChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 레시피 상세(GET /post/{postId}) 응답 캐시.
+ * <p>
+ * 상세 DTO 를 JSON 바이트로 미리 직렬화해 두고 (postId, updatedAt) 버전으로 검증한다. 조회수는 매번 바뀌므로 직렬화 결과를
+ * viewCount 값 앞뒤(head/tail)로 잘라 저장하고, 응답할 때 최신 조회수만 끼워 넣는다. 전체 크기는 엔트리 수가 아니라 바이트로
+ * 제한한다 (LRU).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostDetailCache {
+
+    private static final int VIEW_SENTINEL = Integer.MIN_VALUE;
+    private static final byte[] SENTINEL_JSON =
+            ("\"viewCount\":" + VIEW_SENTINEL).getBytes(StandardCharsets.UTF_8);
+    private static final byte[] VIEW_KEY = "\"viewCount\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] RESPONSE_HEAD = "{\"success\":true,\"data\":".getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${recipick.cache.post-detail.max-bytes:33554432}")
+    private long maxBytes;
+
+    // 접근 순서 LinkedHashMap = LRU
+    private final LinkedHashMap<Integer, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+
+    private record Entry(LocalDateTime version, byte[] head, byte[] tail) {
+
+        int size() {
+            return head.length + tail.length + 64;
+        }
+    }
+
+    /** 캐시된 응답 (버전이 다르거나 없으면 null) */
+    public byte[] get(Integer postId, LocalDateTime version, int viewCount) {
+        Entry e;
+        synchronized (this) {
+            e = entries.get(postId);
+        }
+        if (e == null || !Objects.equals(e.version(), version)) {
+            return null;
+        }
+        return render(e, viewCount);
+    }
+
+    /** 상세 DTO 를 직렬화해 캐시에 넣고 응답 바이트를 돌려준다 */
+    public byte[] put(Integer postId, LocalDateTime version, PostDto dto) {
+        Integer viewCount = dto.getViewCount();
+        Entry e;
+        try {
+            dto.setViewCount(VIEW_SENTINEL);
+            byte[] json = objectMapper.writeValueAsBytes(dto);
+            int at = indexOf(json, SENTINEL_JSON);
+            if (at < 0) {
+                // 형태가 예상과 다르면 캐시하지 않고 그대로 응답
+                dto.setViewCount(viewCount);
+                return wrap(objectMapper.writeValueAsBytes(dto));
+            }
+            int split = at + VIEW_KEY.length;
+            byte[] head = Arrays.copyOfRange(json, 0, split);
+            byte[] tail = Arrays.copyOfRange(json, at + SENTINEL_JSON.length, json.length);
+            e = new Entry(version, head, tail);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("상세 응답 직렬화 실패: " + postId, ex);
+        } finally {
+            dto.setViewCount(viewCount);
+        }
+
+        synchronized (this) {
+            Entry old = entries.put(postId, e);
+            if (old != null) {
+                totalBytes -= old.size();
+            }
+            totalBytes += e.size();
+            evictOverflow();
+        }
+        return render(e, viewCount == null ? 0 : viewCount);
+    }
+
+    public synchronized void evict(Integer postId) {
+        Entry old = entries.remove(postId);
+        if (old != null) {
+            totalBytes -= old.size();
+        }
+    }
+
+    // 수정/삭제/공개 전환이 커밋되면 해당 게시글 캐시 제거
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        event.postIds().forEach(this::evict);
+    }
+
+    public synchronized long totalBytes() {
+        return totalBytes;
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<Integer, Entry>> it = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && it.hasNext()) {
+            totalBytes -= it.next().getValue().size();
+            it.remove();
+        }
+    }
+
+    // {"success":true,"data": head + viewCount + tail }
+    private static byte[] render(Entry e, int viewCount) {
+        byte[] count = Integer.toString(viewCount).getBytes(StandardCharsets.US_ASCII);
+        ByteArrayOutputStream out =
+                new ByteArrayOutputStream(RESPONSE_HEAD.length + e.head().length + count.length + e.tail().length + 1);
+        out.writeBytes(RESPONSE_HEAD);
+        out.writeBytes(e.head());
+        out.writeBytes(count);
+        out.writeBytes(e.tail());
+        out.write('}');
+        return out.toByteArray();
+    }
+
+    private static byte[] wrap(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(RESPONSE_HEAD.length + json.length + 1);
+        out.writeBytes(RESPONSE_HEAD);
+        out.writeBytes(json);
+        out.write('}');
+        return out.toByteArray();
+    }
+
+    private static int indexOf(byte[] data, byte[] pattern) {
+        outer:
+        for (int i = 0; i <= data.length - pattern.length; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (data[i + j] != pattern[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+}
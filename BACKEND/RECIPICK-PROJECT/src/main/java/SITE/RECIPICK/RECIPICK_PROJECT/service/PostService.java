@@ -1,23 +1,23 @@
 package SITE.RECIPICK.RECIPICK_PROJECT.service;
 
+import SITE.RECIPICK.RECIPICK_PROJECT.config.RecipickPrincipal;
+import SITE.RECIPICK.RECIPICK_PROJECT.dto.PostCard;
 import SITE.RECIPICK.RECIPICK_PROJECT.dto.PostDto;
-import SITE.RECIPICK.RECIPICK_PROJECT.entity.Ingredient;
+import SITE.RECIPICK.RECIPICK_PROJECT.dto.PostFilter;
 import SITE.RECIPICK.RECIPICK_PROJECT.entity.PostEntity;
-import SITE.RECIPICK.RECIPICK_PROJECT.entity.RecipeIngredient;
-import SITE.RECIPICK.RECIPICK_PROJECT.entity.UserEntity;
-import SITE.RECIPICK.RECIPICK_PROJECT.repository.IngredientRepository;
+import SITE.RECIPICK.RECIPICK_PROJECT.event.PostChangedEvent;
 import SITE.RECIPICK.RECIPICK_PROJECT.repository.PostRepository;
-import SITE.RECIPICK.RECIPICK_PROJECT.repository.RecipeIngredientRepository;
-import SITE.RECIPICK.RECIPICK_PROJECT.repository.UserRepository;
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.PostSpecifications;
 import SITE.RECIPICK.RECIPICK_PROJECT.util.CurrentUser;
+import SITE.RECIPICK.RECIPICK_PROJECT.util.PostMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,11 +34,12 @@ import java.util.stream.IntStream;
 public class PostService {
 
     private final PostRepository postRepository;
-    private final UserRepository userRepository;
-    private final IngredientRepository ingredientRepository;
-    private final RecipeIngredientRepository recipeIngredientRepository;
     private final CurrentUser currentUser;
     private final PointService pointService;
+    private final RecipeIngredientWriter recipeIngredientWriter;
+    private final PostDetailCache postDetailCache;
+    private final HomeFeedService homeFeedService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static String getField(Object o, String name) {
         try {
@@ -143,6 +144,9 @@ public class PostService {
                     userInfo.userId, e.getMessage());
         }
 
+        eventPublisher.publishEvent(
+                PostChangedEvent.of(PostChangedEvent.Type.CREATED, savedEntity.getPostId()));
+
         log.info("레시피 저장 완료 - ID: {}, 제목: {}, 작성자: {}",
                 savedEntity.getPostId(), savedEntity.getTitle(), savedEntity.getUserNickname());
 
@@ -203,39 +207,11 @@ public class PostService {
         }
     }
 
-    // 사용자 정보 조회 메서드
+    // 사용자 정보 조회 메서드 (로그인 시 세션에 담아 둔 principal 사용 → 조회 없음)
     private UserInfo getCurrentUserInfo() {
         try {
-            // CurrentUser 유틸리티 클래스 사용
-            String userEmail = currentUser.email();
-            Integer userId = currentUser.userId();
-
-            UserEntity userEntity = null;
-            if (userId != null) {
-                userEntity = userRepository.findById(userId).orElse(null);
-            }
-
-            // CurrentUser로 조회 실패 시 SecurityContext 사용
-            if (userEntity == null) {
-                Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-                if (authentication != null && authentication.isAuthenticated()) {
-                    final String emailFromAuth = authentication.getName();
-                    userEmail = emailFromAuth;
-
-                    userEntity = userRepository.findByEmail(emailFromAuth)
-                            .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + emailFromAuth));
-                    userId = userEntity.getUserId();
-                } else {
-                    throw new IllegalStateException("인증되지 않은 사용자입니다");
-                }
-            }
-
-            // 사용자 정보 최종 검증
-            if (userId == null || userEmail == null || userEntity == null) {
-                throw new IllegalStateException("사용자 정보가 불완전합니다");
-            }
-
-            return new UserInfo(userId, userEmail, userEntity.getNickname());
+            RecipickPrincipal principal = currentUser.principal();
+            return new UserInfo(principal.getUserId(), principal.getEmail(), principal.getNickname());
 
         } catch (Exception e) {
             log.error("사용자 정보 조회 실패: {}", e.getMessage(), e);
@@ -418,229 +394,10 @@ public class PostService {
             log.warn("재료와 단위 목록 크기가 다름 - 재료: {}, 단위: {}", ingredientCount, units.size());
         }
 
-        for (int i = 0; i < ingredientCount; i++) {
-            String ingredientName = ingredientNames.get(i);
-            if (ingredientName == null || ingredientName.trim().isEmpty()) {
-                continue;
-            }
-
-            ingredientName = ingredientName.trim();
-
-            // 수량과 단위 조합하여 amount 생성
-            String quantity = (quantities != null && i < quantities.size()) ?
-                    quantities.get(i).trim() : "";
-            String unit = (units != null && i < units.size()) ?
-                    units.get(i).trim() : "";
-
-            // amount = quantity + unit (예: "2" + "개" = "2개", "300" + "g" = "300g")
-            String amount = "";
-            if (!quantity.isEmpty() && !unit.isEmpty()) {
-                amount = quantity + unit;
-            } else if (!quantity.isEmpty()) {
-                amount = quantity;
-            } else if (!unit.isEmpty()) {
-                amount = unit;
-            }
-
-            // 재료명에 따라 자동으로 카테고리 결정
-            String ingredientSort = getIngredientCategoryByName(ingredientName);
-
-            // Ingredient 찾기 또는 생성 (재료명만 저장)
-            Ingredient ingredient = findOrCreateIngredient(ingredientName, ingredientSort);
-
-            // RecipeIngredient 생성 (수량 정보 저장)
-            RecipeIngredient recipeIngredient = new RecipeIngredient();
-            recipeIngredient.setPostId(postId);
-            recipeIngredient.setIngId(ingredient.getIngId());
-            recipeIngredient.setAmount(amount);
-
-            recipeIngredientRepository.save(recipeIngredient);
-
-            log.debug(
-                    "RecipeIngredient 저장 완료 - postId: {}, ingId: {}, 재료명: {}, 수량: {}, 단위: {}, amount: {}, 자동분류: {}",
-                    postId, ingredient.getIngId(), ingredientName, quantity, unit, amount, ingredientSort);
-        }
-
-        log.info("모든 재료 저장 완료 - postId: {}, 저장된 재료 수: {}", postId, ingredientCount);
-    }
+        // 재료 조회/생성 + RecipeIngredient 저장을 한 번에 처리 (재료 수와 무관하게 왕복 4회 이내)
+        int saved = recipeIngredientWriter.save(postId, ingredientNames, quantities, units);
 
-    // 재료명에 따라 자동으로 카테고리 분류하는 메서드 (PostEntity.CookingCategory 기준)
-    private String getIngredientCategoryByName(String ingredientName) {
-        String name = ingredientName.toLowerCase().trim();
-
-        // 소고기 (BEEF) - 가장 구체적인 것부터 먼저 체크
-        if (name.contains("소고기") || name.contains("한우") || name.contains("갈비") ||
-                name.contains("등심") || name.contains("안심") || name.contains("불고기") ||
-                name.contains("소갈비") || name.contains("차돌박이") || name.contains("양지") ||
-                name.contains("사태") || name.contains("우둔") || name.contains("설도")) {
-            return "소고기";
-        }
-
-        // 돼지고기 (PORK)
-        if (name.contains("돼지고기") || name.contains("삼겹살") || name.contains("목살") ||
-                name.contains("앞다리") || name.contains("뒷다리") || name.contains("등갈비") ||
-                name.contains("돼지갈비") || name.contains("베이컨") || name.contains("햄") ||
-                name.contains("소시지") || name.contains("족발") || name.contains("순대") ||
-                name.contains("항정살") || name.contains("가브리살")) {
-            return "돼지고기";
-        }
-
-        // 닭고기 (CHICKEN)
-        if (name.contains("닭고기") || name.contains("닭") || name.contains("닭다리") ||
-                name.contains("닭가슴살") || name.contains("닭날개") || name.contains("닭봉") ||
-                name.contains("치킨") || name.contains("닭안심") || name.contains("닭껍질") ||
-                name.contains("닭발") || name.contains("닭목") || name.contains("영계")) {
-            return "닭고기";
-        }
-
-        // 기타 육류 (MEAT) - 위에서 분류되지 않은 육류들
-        if (name.contains("양고기") || name.contains("오리고기") || name.contains("거위고기") ||
-                name.contains("칠면조") || name.contains("토끼고기") || name.contains("사슴고기") ||
-                name.contains("말고기") || name.contains("염소고기") || name.contains("고기") ||
-                name.contains("육회") || name.contains("간") || name.contains("내장")) {
-            return "육류";
-        }
-
-        // 쌀 (RICE) - 밀가루보다 먼저 체크
-        if (name.contains("쌀") || name.contains("백미") || name.contains("현미") ||
-                name.contains("찹쌀") || name.contains("멥쌀") || name.contains("흑미") ||
-                name.contains("적미") || name.contains("밥") || name.contains("누룽지")) {
-            return "쌀";
-        }
-
-        // 밀가루 (FLOUR)
-        if (name.contains("밀가루") || name.contains("강력분") || name.contains("중력분") ||
-                name.contains("박력분") || name.contains("통밀가루") || name.contains("호밀가루") ||
-                name.contains("글루텐") || name.contains("전분") || name.contains("옥수수전분") ||
-                name.contains("감자전분") || name.contains("타피오카")) {
-            return "밀가루";
-        }
-
-        // 버섯류 (MUSHROOM)
-        if (name.contains("버섯") || name.contains("표고버섯") || name.contains("느타리버섯") ||
-                name.contains("팽이버섯") || name.contains("새송이버섯") || name.contains("양송이버섯") ||
-                name.contains("목이버섯") || name.contains("송이버섯") || name.contains("석이버섯") ||
-                name.contains("만가닥버섯") || name.contains("마른버섯")) {
-            return "버섯류";
-        }
-
-        // 해물류 (SEAFOOD)
-        if (name.contains("생선") || name.contains("물고기") || name.contains("새우") ||
-                name.contains("오징어") || name.contains("문어") || name.contains("조개") ||
-                name.contains("전복") || name.contains("굴") || name.contains("게") ||
-                name.contains("연어") || name.contains("참치") || name.contains("고등어") ||
-                name.contains("명태") || name.contains("갈치") || name.contains("꽁치") ||
-                name.contains("조기") || name.contains("광어") || name.contains("농어") ||
-                name.contains("도미") || name.contains("삼치") || name.contains("방어")) {
-            return "해물류";
-        }
-
-        // 채소류 (VEGETABLES) - 버섯은 이미 분류했으므로 제외
-        if (name.contains("양파") || name.contains("마늘") || name.contains("생강") ||
-                name.contains("당근") || name.contains("감자") || name.contains("고구마") ||
-                name.contains("무") || name.contains("배추") || name.contains("상추") ||
-                name.contains("시금치") || name.contains("브로콜리") || name.contains("오이") ||
-                name.contains("토마토") || name.contains("파프리카") || name.contains("고추") ||
-                name.contains("대파") || name.contains("쪽파") || name.contains("파") ||
-                name.contains("애호박") || name.contains("호박") || name.contains("가지") ||
-                name.contains("콩나물") || name.contains("숙주") || name.contains("미나리") ||
-                name.contains("깻잎") || name.contains("부추") || name.contains("셀러리") ||
-                name.contains("양배추") || name.contains("케일") || name.contains("피망")) {
-            return "채소류";
-        }
-
-        // 곡류 (GRAINS) - 쌀과 밀가루는 이미 분류했으므로 제외
-        if (name.contains("보리") || name.contains("귀리") || name.contains("옥수수") ||
-                name.contains("수수") || name.contains("메밀") || name.contains("퀴노아") ||
-                name.contains("통밀") || name.contains("율무") || name.contains("조") ||
-                name.contains("기장") || name.contains("쌀알") || name.contains("곡물")) {
-            return "곡류";
-        }
-
-        // 달걀/유제품 (EGG_DAIRY)
-        if (name.contains("계란") || name.contains("달걀") || name.contains("우유") ||
-                name.contains("치즈") || name.contains("버터") || name.contains("요구르트") ||
-                name.contains("요거트") || name.contains("생크림") || name.contains("크림") ||
-                name.contains("모차렐라") || name.contains("파마산") || name.contains("체다") ||
-                name.contains("까망베르") || name.contains("마스카포네") || name.contains("리코타")) {
-            return "달걀/유제품";
-        }
-
-        // 콩/견과류 (BEANS_NUTS)
-        if (name.contains("콩") || name.contains("두부") || name.contains("된장") ||
-                name.contains("간장") || name.contains("고추장") || name.contains("땅콩") ||
-                name.contains("호두") || name.contains("아몬드") || name.contains("잣") ||
-                name.contains("깨") || name.contains("참깨") || name.contains("들깨") ||
-                name.contains("검은깨") || name.contains("피스타치오") || name.contains("캐슈넛") ||
-                name.contains("피칸") || name.contains("밤") || name.contains("은행")) {
-            return "콩/견과류";
-        }
-
-        // 과일류 (FRUITS)
-        if (name.contains("사과") || name.contains("배") || name.contains("바나나") ||
-                name.contains("오렌지") || name.contains("귤") || name.contains("레몬") ||
-                name.contains("라임") || name.contains("포도") || name.contains("딸기") ||
-                name.contains("키위") || name.contains("망고") || name.contains("파인애플") ||
-                name.contains("복숭아") || name.contains("자두") || name.contains("살구") ||
-                name.contains("체리") || name.contains("블루베리") || name.contains("수박") ||
-                name.contains("참외") || name.contains("멜론")) {
-            return "과일류";
-        }
-
-        // 건어물류 (DRIED_SEAFOOD)
-        if (name.contains("멸치") || name.contains("다시마") || name.contains("미역") ||
-                name.contains("김") || name.contains("마른") || name.contains("건") ||
-                name.contains("북어") || name.contains("오징어채") || name.contains("새우젓") ||
-                name.contains("젓갈") || name.contains("액젓") || name.contains("마른오징어") ||
-                name.contains("건새우") || name.contains("마른명태") || name.contains("황태")) {
-            return "건어물류";
-        }
-
-        // 가공식품류 (PROCESSED_FOOD)
-        if (name.contains("라면") || name.contains("국수") || name.contains("파스타") ||
-                name.contains("스파게티") || name.contains("우동") || name.contains("냉면") ||
-                name.contains("소면") || name.contains("당면") || name.contains("떡") ||
-                name.contains("만두") || name.contains("빵") || name.contains("케이크") ||
-                name.contains("쿠키") || name.contains("과자") || name.contains("캔") ||
-                name.contains("통조림") || name.contains("소스") || name.contains("케첩") ||
-                name.contains("마요네즈") || name.contains("드레싱") || name.contains("인스턴트") ||
-                name.contains("냉동") || name.contains("레토르트")) {
-            return "가공식품류";
-        }
-
-        // 기본값 (OTHER)
-        return "기타";
-    }
-
-    // 재료 찾기 또는 생성 메서드
-    private Ingredient findOrCreateIngredient(String name, String sort) {
-        // 이름으로 기존 재료 검색
-        List<Ingredient> existingIngredients = ingredientRepository.findByName(name);
-
-        if (!existingIngredients.isEmpty()) {
-            Ingredient existing = existingIngredients.get(0);
-
-            // 기존 재료의 카테고리가 없거나 다른 경우 업데이트
-            if (existing.getSort() == null || existing.getSort().trim().isEmpty() || !existing.getSort()
-                    .equals(sort)) {
-                existing.setSort(sort);
-                existing = ingredientRepository.save(existing);
-                log.debug("기존 재료 카테고리 업데이트 - 이름: {}, 카테고리: {}", name, sort);
-            }
-
-            return existing;
-        }
-
-        // 새 재료 생성
-        Ingredient newIngredient = new Ingredient();
-        newIngredient.setName(name);
-        newIngredient.setSort(sort);
-
-        Ingredient savedIngredient = ingredientRepository.save(newIngredient);
-        log.debug("새 재료 생성 - ID: {}, 이름: {}, 카테고리: {}",
-                savedIngredient.getIngId(), name, sort);
-
-        return savedIngredient;
+        log.info("모든 재료 저장 완료 - postId: {}, 저장된 재료 수: {}", postId, saved);
     }
 
     /**
@@ -653,8 +410,14 @@ public class PostService {
      * @param official      정식 레시피 여부 (1: 정식, 0: 임시, null: 전체)
      * @param category      카테고리 필터 (선택적)
      * @param method        조리방법 필터 (선택적)
+     * @param kind          요리 종류 필터 (선택적)
+     * @param level         난이도 필터 (선택적)
+     * @param minTime       조리시간 하한 (선택적, 분)
+     * @param maxTime       조리시간 상한 (선택적, 분)
+     * @param withFacets    true 면 차원별 건수(facets) 포함 (각 차원은 자기 필터를 빼고 센다)
      * @return 페이징된 레시피 목록과 메타데이터
      */
+    @Transactional(readOnly = true)
     public Map<String, Object> getAllRecipes(
             int page,
             int size,
@@ -662,11 +425,16 @@ public class PostService {
             String sortDirection,
             Integer official,
             String category,
-            String method) {
+            String method,
+            String kind,
+            Integer level,
+            Integer minTime,
+            Integer maxTime,
+            boolean withFacets) {
 
         log.debug(
-                "전체 레시피 조회 - page: {}, size: {}, sortBy: {}, direction: {}, official: {}, category: {}, method: {}",
-                page, size, sortBy, sortDirection, official, category, method);
+                "전체 레시피 조회 - page: {}, size: {}, sortBy: {}, direction: {}, official: {}, category: {}, method: {}, kind: {}, level: {}, time: {}~{}",
+                page, size, sortBy, sortDirection, official, category, method, kind, level, minTime, maxTime);
 
         // 정렬 설정
         Sort.Direction direction =
@@ -674,12 +442,25 @@ public class PostService {
         Sort sort = Sort.by(direction, sortBy);
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        // 전체 레시피 조회 (필터링 적용)
-        Page<PostEntity> postPage = getFilteredPosts(pageable, official, category, method);
+        // 필터 조건 (알 수 없는 값은 OTHER 로 바꾸지 않고 400 처리)
+        if (minTime != null && maxTime != null && minTime > maxTime) {
+            throw new IllegalArgumentException("조리시간 범위가 올바르지 않습니다: " + minTime + " > " + maxTime);
+        }
+        PostFilter filter = new PostFilter(
+                official,
+                parseFilter(PostEntity.CookingCategory.values(), category, "카테고리"),
+                parseFilter(PostEntity.CookingMethod.values(), method, "조리방법"),
+                parseFilter(PostEntity.CookingKind.values(), kind, "요리 종류"),
+                level,
+                minTime,
+                maxTime);
+        Specification<PostEntity> spec = PostSpecifications.of(filter);
+
+        // 전체 레시피 조회 (필터링 적용, 카드 프로젝션)
+        Page<PostCard> postPage = postRepository.findCards(spec, pageable);
 
-        // Entity -> DTO 변환
         List<PostDto> recipeDtos = postPage.getContent().stream()
-                .map(this::convertToDto)
+                .map(PostMapper::toDto)
                 .collect(Collectors.toList());
 
         // 응답 데이터 구성
@@ -693,6 +474,9 @@ public class PostService {
         response.put("hasPrevious", postPage.hasPrevious());
         response.put("isFirst", postPage.isFirst());
         response.put("isLast", postPage.isLast());
+        if (withFacets) {
+            response.put("facets", postRepository.countFacets(filter));
+        }
 
         log.info("전체 레시피 조회 완료 - 총 {}개 중 {}페이지 ({}-{}) 반환",
                 postPage.getTotalElements(), page + 1,
@@ -702,24 +486,32 @@ public class PostService {
     }
 
     /**
-     * 필터링된 레시피 조회 (내부 메서드)
+     * 필터 값(한글 description 또는 enum 이름) → enum. 비어 있으면 null(조건 없음)
      */
-    private Page<PostEntity> getFilteredPosts(Pageable pageable, Integer official, String category,
-                                              String method) {
-        // 기본적으로 모든 레시피 조회
-        if (official == null && category == null && method == null) {
-            return postRepository.findAll(pageable);
+    private static <E extends Enum<E>> E parseFilter(E[] values, String raw, String label) {
+        if (raw == null || raw.isBlank()) {
+            return null;
         }
-
-        // 정식 레시피만 조회하는 경우가 가장 일반적
-        if (official != null && category == null && method == null) {
-            return postRepository.findByRcpIsOfficial(official, pageable);
+        String v = raw.trim();
+        for (E e : values) {
+            if (e.name().equalsIgnoreCase(v) || v.equals(descriptionOf(e))) {
+                return e;
+            }
         }
+        throw new IllegalArgumentException("알 수 없는 " + label + ": " + v);
+    }
 
-        // TODO: 복잡한 필터링의 경우 Repository에 커스텀 쿼리 메서드 추가 필요
-        // 현재는 간단한 필터링만 지원
-        log.warn("복잡한 필터링은 아직 지원하지 않습니다. 기본 조회를 수행합니다.");
-        return postRepository.findAll(pageable);
+    private static String descriptionOf(Enum<?> e) {
+        if (e instanceof PostEntity.CookingCategory c) {
+            return c.getDescription();
+        }
+        if (e instanceof PostEntity.CookingMethod m) {
+            return m.getDescription();
+        }
+        if (e instanceof PostEntity.CookingKind k) {
+            return k.getDescription();
+        }
+        return e.name();
     }
 
     /**
@@ -729,10 +521,9 @@ public class PostService {
         log.debug("인기 레시피 조회 - limit: {}", limit);
 
         Pageable pageable = PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "likeCount"));
-        List<PostEntity> popularPosts = postRepository.findByRcpIsOfficial(1, pageable).getContent();
-
-        List<PostDto> result = popularPosts.stream()
-                .map(this::convertToDto)
+        // 카드 프로젝션 (TEXT 컬럼 미조회)
+        List<PostDto> result = postRepository.findCardsByOfficial(1, pageable).stream()
+                .map(PostMapper::toDto)
                 .collect(Collectors.toList());
 
         log.info("인기 레시피 {}개 조회 완료", result.size());
@@ -746,10 +537,9 @@ public class PostService {
         log.debug("최신 레시피 조회 - limit: {}", limit);
 
         Pageable pageable = PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "createdAt"));
-        List<PostEntity> latestPosts = postRepository.findByRcpIsOfficial(1, pageable).getContent();
-
-        List<PostDto> result = latestPosts.stream()
-                .map(this::convertToDto)
+        // 카드 프로젝션 (TEXT 컬럼 미조회)
+        List<PostDto> result = postRepository.findCardsByOfficial(1, pageable).stream()
+                .map(PostMapper::toDto)
                 .collect(Collectors.toList());
 
         log.info("최신 레시피 {}개 조회 완료", result.size());
@@ -759,16 +549,19 @@ public class PostService {
     /**
      * 개별 레시피 상세 조회 (postId로 조회)
      */
+    @Transactional
     public PostDto getRecipeById(Integer postId) {
         log.debug("개별 레시피 조회 - postId: {}", postId);
 
+        // 조회수 증가 (엔티티 저장 대신 원자적 UPDATE → updated_at 은 건드리지 않음)
+        if (postRepository.incrementViewCount(postId) == 0) {
+            throw new IllegalArgumentException("해당 레시피를 찾을 수 없습니다. ID: " + postId);
+        }
+        homeFeedService.onView();
+
         PostEntity postEntity = postRepository.findByPostId(postId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 레시피를 찾을 수 없습니다. ID: " + postId));
 
-        // 조회수 증가
-        postEntity.setViewCount(postEntity.getViewCount() + 1);
-        postRepository.save(postEntity);
-
         PostDto result = convertToDtoForDetail(postEntity);
         log.info("레시피 상세 조회 완료 - ID: {}, 제목: {}, 조회수: {}",
                 postId, result.getTitle(), postEntity.getViewCount());
@@ -776,6 +569,36 @@ public class PostService {
         return result;
     }
 
+    /**
+     * 개별 레시피 상세 조회 - 응답 JSON 바이트 ({"success":true,"data":{...}})
+     * <p>
+     * (postId, updatedAt) 가 같으면 캐시된 직렬화 결과에 최신 조회수만 끼워 응답한다.
+     */
+    @Transactional
+    public byte[] getRecipeDetailJson(Integer postId) {
+        if (postRepository.incrementViewCount(postId) == 0) {
+            throw new IllegalArgumentException("해당 레시피를 찾을 수 없습니다. ID: " + postId);
+        }
+        homeFeedService.onView();
+        PostRepository.PostVersionView version = postRepository.findVersionByPostId(postId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 레시피를 찾을 수 없습니다. ID: " + postId));
+
+        byte[] cached = postDetailCache.get(postId, version.getUpdatedAt(), version.getViewCount());
+        if (cached != null) {
+            log.debug("레시피 상세 캐시 적중 - postId: {}", postId);
+            return cached;
+        }
+
+        PostEntity postEntity = postRepository.findByPostId(postId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 레시피를 찾을 수 없습니다. ID: " + postId));
+        PostDto result = convertToDtoForDetail(postEntity);
+        result.setViewCount(version.getViewCount());
+
+        log.info("레시피 상세 조회 완료(캐시 적재) - ID: {}, 제목: {}, 조회수: {}",
+                postId, result.getTitle(), version.getViewCount());
+        return postDetailCache.put(postId, version.getUpdatedAt(), result);
+    }
+
     /**
      * 상세 페이지용 DTO 변환 (프론트엔드 호환성을 위해 추가 정보 포함)
      */
@@ -0,0 +1,70 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.service;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.PostEntity;
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.ProfileRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 마이페이지 카운터 (profile.recipe_count / likes_received / review_count).
+ *
+ * <p>✅ 게시글 공개/삭제, 좋아요/취소, 리뷰 작성/삭제 트랜잭션 안에서 같이 증감한다 (원자적 UPDATE 라 동시 요청에도 값을 잃지
+ * 않음). 덕분에 getMyProfile 은 profile 한 행만 읽는다.
+ *
+ * <p>✅ 대량 삭제 등으로 어긋난 값은 기동 시/매일 새벽 재계산(reconcile)으로 맞춘다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ProfileCounterService {
+
+    private final ProfileRepository profileRepository;
+
+    /** 정식 레시피가 늘었을 때 (공개 전환/대량 적재). likes: 그 글들이 이미 가진 좋아요 */
+    public void recipesPublished(Integer authorId, int recipes, long likes) {
+        profileRepository.addRecipeCounters(authorId, recipes, likes);
+    }
+
+    /** 게시글 삭제 직전 호출. 정식 글만 반영 */
+    public void recipeRemoved(PostEntity post) {
+        if (isOfficial(post)) {
+            int likes = post.getLikeCount() == null ? 0 : post.getLikeCount();
+            profileRepository.addRecipeCounters(post.getUserId(), -1, -likes);
+        }
+    }
+
+    /** 좋아요(+1)/취소(-1). 정식 글만 반영 */
+    public void likeChanged(PostEntity post, int delta) {
+        if (isOfficial(post)) {
+            profileRepository.addLikesReceived(post.getUserId(), delta);
+        }
+    }
+
+    public void reviewChanged(Integer userId, int delta) {
+        profileRepository.addReviewCount(userId, delta);
+    }
+
+    // ===== 재계산 =====
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    @Scheduled(cron = "${recipick.profile-counters.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        long t0 = System.currentTimeMillis();
+        int fixed = profileRepository.reconcileCounters();
+        log.info("[PROFILE] 카운터 재계산 - 보정 {}건, {}ms", fixed, System.currentTimeMillis() - t0);
+    }
+
+    private static boolean isOfficial(PostEntity post) {
+        return post.getRcpIsOfficial() != null && post.getRcpIsOfficial() == 1;
+    }
+}
@@ -0,0 +1,85 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.service;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.dto.ReviewDto;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.PostRatingStatsEntity;
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.RatingStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Collection;
+
+/**
+ * 게시글별 리뷰 평점 집계 (post_rating_stats).
+ *
+ * <p>✅ 리뷰 작성/삭제 트랜잭션 안에서 같이 증감하고, 통계 조회는 PK 1건 읽기로 끝낸다. 기동 시 review 테이블로 한 번 재집계해
+ * 도입 이전 데이터나 어긋난 값을 맞춘다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RatingStatsService {
+
+    private final RatingStatsRepository ratingStatsRepository;
+
+    /** 리뷰 작성 반영 (호출한 트랜잭션에 참여) */
+    @Transactional
+    public void onReviewCreated(Integer postId, BigDecimal rating) {
+        ratingStatsRepository.apply(postId, rating, bucketOf(rating), 1);
+    }
+
+    /** 리뷰 삭제 반영 (호출한 트랜잭션에 참여) */
+    @Transactional
+    public void onReviewDeleted(Integer postId, BigDecimal rating) {
+        ratingStatsRepository.apply(postId, rating, bucketOf(rating), -1);
+    }
+
+    /** 리뷰 일괄 삭제 반영 - 해당 글들만 review 기준으로 다시 집계 (호출한 트랜잭션에 참여) */
+    @Transactional
+    public void rebuildPosts(Collection<Integer> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        ratingStatsRepository.rebuildPosts(postIds);
+        ratingStatsRepository.deleteEmpty(postIds);
+    }
+
+    /** 통계 (평균/총 개수/평점별 개수) - PK 1건 조회 */
+    @Transactional(readOnly = true)
+    public ReviewDto getStats(Integer postId) {
+        PostRatingStatsEntity s = ratingStatsRepository.findById(postId).orElse(null);
+        if (s == null || s.getReviewCount() <= 0) {
+            return ReviewDto.forStats(BigDecimal.ZERO, 0L, 0L, 0L, 0L, 0L, 0L);
+        }
+        // MySQL AVG(DECIMAL(3,2)) 와 같은 소수 6자리
+        BigDecimal avg = s.getRatingSum()
+                .divide(BigDecimal.valueOf(s.getReviewCount()), 6, RoundingMode.HALF_UP);
+        return ReviewDto.forStats(avg, (long) s.getReviewCount(),
+                (long) s.getBucket1(), (long) s.getBucket2(), (long) s.getBucket3(),
+                (long) s.getBucket4(), (long) s.getBucket5());
+    }
+
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long t0 = System.currentTimeMillis();
+        int upserted = ratingStatsRepository.rebuildAll();
+        int removed = ratingStatsRepository.deleteOrphans();
+        log.info("[REVIEW] 평점 집계 재계산 - upsert {}행, 정리 {}행, {}ms",
+                upserted, removed, System.currentTimeMillis() - t0);
+    }
+
+    /** 평점 → 구간 (N.00 이상 N+1.00 미만 = N, 5.00 = 5, 1.00 미만 = 0) */
+    static int bucketOf(BigDecimal rating) {
+        if (rating == null) {
+            return 0;
+        }
+        int floor = rating.setScale(0, RoundingMode.FLOOR).intValue();
+        return (floor >= 1) ? Math.min(floor, 5) : 0;
+    }
+}
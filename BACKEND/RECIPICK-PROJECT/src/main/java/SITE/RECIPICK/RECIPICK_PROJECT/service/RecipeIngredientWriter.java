@@ -0,0 +1,127 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.service;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.Ingredient;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.RecipeIngredient;
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.IngredientBulkRepository;
+import SITE.RECIPICK.RECIPICK_PROJECT.util.IngredientNames;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * 레시피 재료(ingredient + recipe_ingredient) 일괄 저장.
+ * <p>
+ * 재료 수와 상관없이 (카탈로그 미스 시 IN 조회 1회) + upsert 1회(+변경분 id 조회 1회) + 배치 INSERT 1회로 끝난다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecipeIngredientWriter {
+
+    private final IngredientBulkRepository bulkRepository;
+    private final IngredientClassifier ingredientClassifier;
+    private final IngredientCatalog ingredientCatalog;
+
+    /** 새 레시피의 재료 저장 */
+    @Transactional
+    public int save(Integer postId, List<String> names, List<String> quantities, List<String> units) {
+        long start = System.nanoTime();
+
+        // 재료명 → amount (같은 재료가 여러 번 오면 마지막 값 사용, 대소문자/악센트만 다르면 같은 재료)
+        Map<String, String> amounts = new TreeMap<>(IngredientNames.ORDER);
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i);
+            if (name == null || name.isBlank()) {
+                continue;
+            }
+            amounts.put(name.trim(), amountOf(quantities, units, i));
+        }
+        if (amounts.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, String> sorts = new LinkedHashMap<>();
+        for (String name : amounts.keySet()) {
+            sorts.put(name, ingredientClassifier.classify(name));
+        }
+        Map<String, Ingredient> found = resolve(sorts);
+
+        // recipe_ingredient 배치 저장
+        List<RecipeIngredient> rows = new ArrayList<>(amounts.size());
+        for (Map.Entry<String, String> e : amounts.entrySet()) {
+            Ingredient ing = found.get(e.getKey());
+            if (ing == null) {
+                // upsert 직후 조회에서도 없으면 조용히 빼지 않고 롤백
+                log.error("재료 id 조회 실패 - postId: {}, 재료명: {}", postId, e.getKey());
+                throw new IllegalStateException("INGREDIENT_NOT_RESOLVED");
+            }
+            rows.add(RecipeIngredient.builder()
+                    .postId(postId)
+                    .ingId(ing.getIngId())
+                    .amount(e.getValue())
+                    .build());
+        }
+        bulkRepository.insertRecipeIngredients(rows);
+
+        log.info("재료 일괄 저장 완료 - postId: {}, 재료 수: {}, {}ms",
+                postId, rows.size(), (System.nanoTime() - start) / 1_000_000);
+        return rows.size();
+    }
+
+    /**
+     * 재료명 → Ingredient 일괄 확보 (name → 분류된 sort). 카탈로그에 없거나 카테고리가 달라진 재료만 upsert 한다. 반환 맵은
+     * {@link IngredientNames#ORDER} 기준이라 DB 에 저장된 표기와 대소문자/악센트가 달라도 찾을 수 있다.
+     */
+    @Transactional
+    public Map<String, Ingredient> resolve(Map<String, String> nameToSort) {
+        // 1. 기존 재료 조회 (메모리 카탈로그 → 없는 것만 DB IN 조회)
+        Map<String, Ingredient> found = new TreeMap<>(IngredientNames.ORDER);
+        found.putAll(ingredientCatalog.findAll(nameToSort.keySet()));
+        List<String> notCached = nameToSort.keySet().stream().filter(n -> !found.containsKey(n)).toList();
+        if (!notCached.isEmpty()) {
+            found.putAll(bulkRepository.findByNames(notCached));
+        }
+
+        // 2. 없거나 카테고리가 달라진 재료만 upsert (표기만 다른 이름은 한 번만)
+        Map<String, String> toUpsert = new TreeMap<>(IngredientNames.ORDER);
+        nameToSort.forEach((name, sort) -> {
+            Ingredient existing = found.get(name);
+            if (existing == null || !Objects.equals(existing.getSort(), sort)) {
+                toUpsert.put(name, sort);
+            }
+        });
+        if (!toUpsert.isEmpty()) {
+            bulkRepository.upsert(toUpsert);
+
+            // 3. 새로 생기거나 바뀐 재료 id 조회 후 카탈로그에 반영
+            Map<String, Ingredient> changed = bulkRepository.findByNames(toUpsert.keySet());
+            found.putAll(changed);
+            ingredientCatalog.onChanged(changed.values());
+        }
+        return found;
+    }
+
+    /** 기존 재료 연결을 지우고 새로 저장 (수정 시) */
+    @Transactional
+    public int replace(Integer postId, List<String> names, List<String> quantities, List<String> units) {
+        bulkRepository.deleteRecipeIngredients(postId);
+        return save(postId, names, quantities, units);
+    }
+
+    // amount = quantity + unit (예: "2" + "개" = "2개", "300" + "g" = "300g")
+    private static String amountOf(List<String> quantities, List<String> units, int i) {
+        String quantity = (quantities != null && i < quantities.size() && quantities.get(i) != null)
+                ? quantities.get(i).trim() : "";
+        String unit = (units != null && i < units.size() && units.get(i) != null)
+                ? units.get(i).trim() : "";
+        return quantity + unit;
+    }
+}
@@ -0,0 +1,180 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.service;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.PostEntity;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.ReportTargetType;
+import SITE.RECIPICK.RECIPICK_PROJECT.event.PostChangedEvent;
+import SITE.RECIPICK.RECIPICK_PROJECT.event.ReportEvent;
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.PostRepository;
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.ReportCounterRepository;
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.ReportRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 신고 집계기.
+ *
+ * <p>✅ 대상(종류, id)별로 두 가지를 메모리에 들고 있다. - 아직 DB 에 안 쓴 report_count 증가분: 짧은 주기로 꺼내
+ * {@code report_count = report_count + ?} 배치로 반영 - 미처리(PENDING) 신고자 수: 기동 시 한 번 GROUP BY 로 채우고 이후
+ * 이벤트로만 증감. report 는 (신고자, 대상) 유니크라 신고 1건 = 신고자 1명
+ *
+ * <p>✅ 게시글의 미처리 신고자 수가 임계치(recipick.reports.auto-hide-threshold)에 닿는 순간 자동으로 임시글로 내린다 (테이블
+ * 스캔 없음). 관리자가 다시 공개하면 그대로 유지된다 (같은 임계치를 다시 넘을 때까지).
+ *
+ * <p>⚠️ 인스턴스별 메모리 값이라 여러 대로 띄우면 임계치 판정은 인스턴스마다 따로 한다. report_count 자체는 DB 에서 더하므로
+ * 정확하다.
+ */
+@Slf4j
+@Component
+public class ReportAggregator {
+
+    private final ReportRepository reportRepository;
+    private final ReportCounterRepository reportCounterRepository;
+    private final PostRepository postRepository;
+    private final ProfileCounterService profileCounters;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate tx;
+
+    @Value("${recipick.reports.auto-hide-threshold:5}")
+    private int autoHideThreshold = 5;
+
+    public record Target(ReportTargetType type, Integer id) {
+
+    }
+
+    // DB 에 아직 안 더한 report_count 증가분 (merge/remove 가 키 단위로 원자적)
+    private final ConcurrentHashMap<Target, Long> unflushed = new ConcurrentHashMap<>();
+
+    // 미처리 신고자 수
+    private final ConcurrentHashMap<Target, Integer> pending = new ConcurrentHashMap<>();
+
+    // 임계치에 닿아 내려야 할 게시글
+    private final Set<Integer> toHide = ConcurrentHashMap.newKeySet();
+
+    public ReportAggregator(ReportRepository reportRepository,
+                            ReportCounterRepository reportCounterRepository,
+                            PostRepository postRepository,
+                            ProfileCounterService profileCounters,
+                            ApplicationEventPublisher eventPublisher,
+                            PlatformTransactionManager transactionManager) {
+        this.reportRepository = reportRepository;
+        this.reportCounterRepository = reportCounterRepository;
+        this.postRepository = postRepository;
+        this.profileCounters = profileCounters;
+        this.eventPublisher = eventPublisher;
+        this.tx = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadPending() {
+        pending.clear();
+        reportRepository.countPendingByTarget().forEach(a ->
+                pending.put(new Target(a.getTargetType(), a.getTargetId()), a.getCnt().intValue()));
+        log.info("[REPORT] 미처리 신고 집계 로드 - 대상 {}건", pending.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReport(ReportEvent e) {
+        Target t = new Target(e.targetType(), e.targetId());
+        if (e.countDelta() != 0) {
+            unflushed.merge(t, (long) e.countDelta(), Long::sum);
+        }
+        if (e.pendingDelta() != 0) {
+            Integer now = pending.merge(t, e.pendingDelta(), (a, b) -> a + b <= 0 ? null : a + b);
+            // 올라가면서 정확히 임계치에 닿을 때 한 번만
+            if (e.pendingDelta() > 0 && now != null && now == autoHideThreshold
+                    && t.type() == ReportTargetType.POST) {
+                toHide.add(t.id());
+            }
+        }
+    }
+
+    /** 대상의 미처리 신고자 수 (메모리 값) */
+    public int pendingCount(ReportTargetType type, Integer id) {
+        return pending.getOrDefault(new Target(type, id), 0);
+    }
+
+    /** 아직 DB 에 반영 안 된 report_count 증가분 (조회 화면 보정용) */
+    public long unflushedCount(ReportTargetType type, Integer id) {
+        return unflushed.getOrDefault(new Target(type, id), 0L);
+    }
+
+    @Scheduled(fixedDelayString = "${recipick.reports.flush-ms:2000}")
+    public void flush() {
+        flushCounts();
+        hidePosts();
+    }
+
+    private void flushCounts() {
+        if (unflushed.isEmpty()) {
+            return;
+        }
+        Map<ReportTargetType, Map<Integer, Long>> byType = new EnumMap<>(ReportTargetType.class);
+        for (Target t : new ArrayList<>(unflushed.keySet())) {
+            Long delta = unflushed.remove(t);
+            if (delta != null && delta != 0) {
+                byType.computeIfAbsent(t.type(), k -> new HashMap<>()).put(t.id(), delta);
+            }
+        }
+        try {
+            tx.executeWithoutResult(status ->
+                    byType.forEach(reportCounterRepository::addReportCounts));
+        } catch (Exception e) {
+            log.warn("[REPORT] 신고 수 반영 실패 - 다음 주기에 재시도: {}", e.getMessage());
+            byType.forEach((type, deltas) -> deltas.forEach((id, delta) ->
+                    unflushed.merge(new Target(type, id), delta, Long::sum)));
+        }
+    }
+
+    private void hidePosts() {
+        if (toHide.isEmpty()) {
+            return;
+        }
+        List<Integer> ids = new ArrayList<>(toHide);
+        toHide.removeAll(ids);
+        try {
+            tx.executeWithoutResult(status -> {
+                List<Integer> hidden = new ArrayList<>();
+                for (PostEntity p : postRepository.findAllById(ids)) {
+                    if (p.getRcpIsOfficial() == null || p.getRcpIsOfficial() != 1) {
+                        continue;
+                    }
+                    profileCounters.recipeRemoved(p);
+                    p.setRcpIsOfficial(0);
+                    hidden.add(p.getPostId());
+                }
+                if (!hidden.isEmpty()) {
+                    eventPublisher.publishEvent(
+                            new PostChangedEvent(PostChangedEvent.Type.HIDDEN, hidden));
+                    log.info("[REPORT] 미처리 신고 {}건 이상 - 게시글 자동 비공개: {}", autoHideThreshold, hidden);
+                }
+            });
+        } catch (Exception e) {
+            log.warn("[REPORT] 자동 비공개 실패 - 다음 주기에 재시도: {}", e.getMessage());
+            toHide.addAll(ids);
+        }
+    }
+
+    // 종료 전에 남은 증가분 반영
+    @PreDestroy
+    public void drainOnShutdown() {
+        flush();
+    }
+}
@@ -2,13 +2,16 @@ package SITE.RECIPICK.RECIPICK_PROJECT.service;
 
 import SITE.RECIPICK.RECIPICK_PROJECT.dto.ReviewDto;
 import SITE.RECIPICK.RECIPICK_PROJECT.entity.PostEntity;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.ReportTargetType;
 import SITE.RECIPICK.RECIPICK_PROJECT.entity.ReviewEntity;
 import SITE.RECIPICK.RECIPICK_PROJECT.entity.UserEntity;
+import SITE.RECIPICK.RECIPICK_PROJECT.event.ReportEvent;
 import SITE.RECIPICK.RECIPICK_PROJECT.repository.PostRepository;
 import SITE.RECIPICK.RECIPICK_PROJECT.repository.ReviewRepository;
 import SITE.RECIPICK.RECIPICK_PROJECT.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -27,6 +30,9 @@ public class ReviewService {
     private final UserRepository userRepository;
 
     private final PointService pointService;
+    private final RatingStatsService ratingStatsService;
+    private final ProfileCounterService profileCounters;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 리뷰 작성
@@ -60,6 +66,8 @@ public class ReviewService {
                 .build();
 
         ReviewEntity savedReview = reviewRepository.save(review);
+        ratingStatsService.onReviewCreated(post.getPostId(), savedReview.getReviewRating());
+        profileCounters.reviewChanged(userId, 1);
         try {
             // 첫 리뷰인지 확인
             long userReviewCount = reviewRepository.countByUserUserId(userId);
@@ -97,24 +105,8 @@ public class ReviewService {
      */
     @Transactional(readOnly = true)
     public ReviewDto getReviewStats(Integer postId) {
-        BigDecimal avgRating = reviewRepository.findAverageRatingByPostId(postId)
-                .orElse(BigDecimal.ZERO);
-
-        Long totalReviews = reviewRepository.countByPostPostId(postId);
-
-        // 각 평점별 개수 계산
-        Long count1 = reviewRepository.countByPostIdAndRatingRange(postId,
-                new BigDecimal("1.0"), new BigDecimal("2.0"));
-        Long count2 = reviewRepository.countByPostIdAndRatingRange(postId,
-                new BigDecimal("2.0"), new BigDecimal("3.0"));
-        Long count3 = reviewRepository.countByPostIdAndRatingRange(postId,
-                new BigDecimal("3.0"), new BigDecimal("4.0"));
-        Long count4 = reviewRepository.countByPostIdAndRatingRange(postId,
-                new BigDecimal("4.0"), new BigDecimal("5.0"));
-        Long count5 = reviewRepository.countByPostIdAndRatingRange(postId,
-                new BigDecimal("5.0"), new BigDecimal("6.0")); // 5.00 포함
-
-        return ReviewDto.forStats(avgRating, totalReviews, count1, count2, count3, count4, count5);
+        // 집계 테이블 PK 1건 (평균/총 개수/평점별 개수)
+        return ratingStatsService.getStats(postId);
     }
 
     /**
@@ -129,6 +121,8 @@ public class ReviewService {
         }
 
         reviewRepository.delete(review);
+        ratingStatsService.onReviewDeleted(review.getPost().getPostId(), review.getReviewRating());
+        profileCounters.reviewChanged(userId, -1);
         log.info("리뷰 삭제 완료 - reviewId: {}, userId: {}", reviewId, userId);
     }
 
@@ -155,11 +149,12 @@ public class ReviewService {
      * 리뷰 신고
      */
     public void reportReview(Integer reviewId) {
-        ReviewEntity review = reviewRepository.findById(reviewId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 리뷰입니다."));
+        if (!reviewRepository.existsById(reviewId)) {
+            throw new IllegalArgumentException("존재하지 않는 리뷰입니다.");
+        }
 
-        review.setReportCount(review.getReportCount() + 1);
-        reviewRepository.save(review);
+        // report_count 는 ReportAggregator 가 모아서 원자적으로 더한다 (읽고-쓰기 경쟁 없음)
+        eventPublisher.publishEvent(ReportEvent.flagged(ReportTargetType.REVIEW, reviewId));
     }
 
     /**
@@ -17,6 +17,7 @@ import java.util.stream.Collectors;
 public class SearchService {
 
     private final SearchRepository searchRepository;
+    private final IngredientCatalog ingredientCatalog;
 
     /**
      * 재료로 레시피 검색 (메인 재료 필수, 서브 재료 우선순위)
@@ -44,7 +45,7 @@ public class SearchService {
         try {
             // 재료명 또는 카테고리명으로 해당 재료들의 sort 값 조회
             // 예: ["소고기"] → ["육류"], ["육류"] → ["육류"] (카테고리 자체 입력 시)
-            List<String> mainCategories = searchRepository.findSortsByIngredientNames(mainIngredients);
+            List<String> mainCategories = ingredientCatalog.sortsOf(mainIngredients);
 
             // 디버깅 로그 추가
             log.info("=== 재료 검색 디버깅 ===");
@@ -188,7 +189,7 @@ public class SearchService {
             return List.of();
         }
 
-        return searchRepository.findIngredientsByKeyword(keyword.trim(), limit);
+        return ingredientCatalog.search(keyword.trim(), limit);
     }
 
     /**
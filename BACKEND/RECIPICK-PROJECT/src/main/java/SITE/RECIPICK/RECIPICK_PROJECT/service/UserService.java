@@ -2,6 +2,7 @@ package SITE.RECIPICK.RECIPICK_PROJECT.service;
 
 import SITE.RECIPICK.RECIPICK_PROJECT.entity.ProfileEntity;
 import SITE.RECIPICK.RECIPICK_PROJECT.entity.UserEntity;
+import SITE.RECIPICK.RECIPICK_PROJECT.event.PrincipalChangedEvent;
 import SITE.RECIPICK.RECIPICK_PROJECT.repository.ProfileRepository;
 import SITE.RECIPICK.RECIPICK_PROJECT.repository.UserRepository;
 import java.time.LocalDateTime;
@@ -10,6 +11,7 @@ import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,6 +25,7 @@ public class UserService {
   private final ProfileRepository profileRepository; // 👈 ProfileRepository 의존성 주입
   private final BCryptPasswordEncoder encoder;
   private final EmailVerificationService emailVerificationService;
+  private final ApplicationEventPublisher eventPublisher;
 
   // 공통: 이메일 정규화
   private String norm(String email) {
@@ -158,6 +161,7 @@ public class UserService {
     UserEntity user = userOpt.get();
     user.setActive(active); // true = 1, false = 0
     userRepository.save(user);
+    eventPublisher.publishEvent(PrincipalChangedEvent.of(userId)); // 정지 시 다음 요청에서 세션 종료
 
     return active ? "계정 활성화됨" : "계정 정지됨";
   }
@@ -175,6 +179,7 @@ public class UserService {
       UserEntity user = userOpt.get();
       user.setActive(active);
       userRepository.save(user);
+      eventPublisher.publishEvent(PrincipalChangedEvent.of(user.getUserId()));
       log.info("사용자 {} active 상태 변경: {}", email, active);
     }
   }
@@ -0,0 +1,289 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.service;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.dto.PostDto;
+import SITE.RECIPICK.RECIPICK_PROJECT.event.PostChangedEvent;
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.WeatherRecommendRepository;
+import SITE.RECIPICK.RECIPICK_PROJECT.util.KeywordAutomaton;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 날씨 버킷(hot/cold/rainy/snowy) 소속 게시글 인덱스.
+ *
+ * <p>✅ 글마다 제목/음식명을 키워드 오토마톤으로 한 번만 분류해 버킷별 정렬된 post_id 배열에 넣어 둔다.
+ * 기동 시 정식(공개) 글 전체를 한 번 분류하고, 이후에는 PostChangedEvent(작성/수정/공개/비공개/삭제, 대량 적재 포함) 로
+ * 바뀐 글만 다시 분류한다.
+ *
+ * <p>✅ 추천은 버킷 배열에서 k 개를 무작위 추출(Floyd, O(k)) 한 뒤 그 id 들의 카드만 조회한다.
+ * (기존 REGEXP 전체 스캔 + ORDER BY RAND() 대체) 메인 피드용 인기순 풀도 버킷 id 로만 읽는다 ({@link #topAll(int)}).
+ *
+ * <p>⚠️ 전체 재구성은 모니터 밖에서 DB 를 읽는다. 그 사이 들어온 변경은 따로 모아 두었다가 새 배열로 바꾼 직후 다시 적용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WeatherBucketIndex {
+
+  public static final List<String> BUCKETS = List.of("hot", "cold", "rainy", "snowy");
+
+  // 버킷별 키워드 (기존 REGEXP 와 동일, 포함 여부로 판정)
+  private static final Map<String, List<String>> KEYWORDS = Map.of(
+      "hot", List.of("냉면", "냉국", "냉모밀", "콩국수", "비빔냉면", "막국수", "물냉면", "열무국수", "냉우동", "냉라면"),
+      "cold", List.of("탕", "찌개", "전골", "국밥", "라면", "수프", "카레", "찜"),
+      "rainy", List.of("전", "부침개", "파전", "빈대떡", "칼국수", "수제비"),
+      "snowy", List.of("떡국", "만두국", "호빵", "호떡", "군고구마")
+  );
+
+  private static final KeywordAutomaton MATCHER = buildMatcher();
+
+  // topAll 에서 한 번에 넘기는 id 수 (IN 목록 길이)
+  static final int TOP_CHUNK = 1000;
+
+  // 인기순: 좋아요 → 조회수 → 작성일 (SQL ORDER BY 와 같은 순서, null 은 뒤로)
+  private static final Comparator<PostDto> POPULAR = Comparator
+      .comparing(PostDto::getLikeCount, Comparator.nullsFirst(Comparator.<Integer>naturalOrder()))
+      .thenComparing(PostDto::getViewCount, Comparator.nullsFirst(Comparator.<Integer>naturalOrder()))
+      .thenComparing(PostDto::getCreatedAt, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+      .reversed();
+
+  private final WeatherRecommendRepository weatherRepo;
+
+  // 버킷 → 정렬된 post_id (배열은 교체만 하고 수정하지 않음)
+  private volatile Map<String, int[]> buckets = emptyBuckets();
+
+  // 재구성 중 바뀐 글 (post_id → 버킷 비트, 0 이면 어느 버킷에도 없음/삭제). 재구성 중이 아니면 null. this 로 보호
+  private Map<Integer, Integer> duringRebuild;
+
+  // 재구성끼리 겹치지 않게 (this 는 변경 반영용이라 DB 를 읽는 동안 잡지 않는다)
+  private final Object rebuildLock = new Object();
+
+  private static KeywordAutomaton buildMatcher() {
+    KeywordAutomaton.Builder b = KeywordAutomaton.builder();
+    for (int label = 0; label < BUCKETS.size(); label++) {
+      for (String kw : KEYWORDS.get(BUCKETS.get(label))) {
+        b.add(kw, label);
+      }
+    }
+    return b.build();
+  }
+
+  private static Map<String, int[]> emptyBuckets() {
+    Map<String, int[]> m = new HashMap<>();
+    for (String bucket : BUCKETS) {
+      m.put(bucket, new int[0]);
+    }
+    return Map.copyOf(m);
+  }
+
+  /** 제목/음식명이 속하는 버킷 비트 (BUCKETS 순서) */
+  static int classify(String title, String foodName) {
+    return MATCHER.labelMask(lower(title)) | MATCHER.labelMask(lower(foodName));
+  }
+
+  private static String lower(String s) {
+    return s == null ? null : s.toLowerCase(Locale.ROOT);
+  }
+
+  // ===== 조회 =====
+
+  /** 버킷에서 최대 k 개를 무작위로 뽑아 카드 조회 (알 수 없는 버킷이거나 비어 있으면 빈 목록) */
+  public List<PostDto> pick(String bucket, int k) {
+    int[] ids = buckets.get(bucket);
+    if (ids == null || ids.length == 0 || k <= 0) {
+      return List.of();
+    }
+    List<Integer> picked = sample(ids, k);
+    List<PostDto> cards = new ArrayList<>(weatherRepo.findCardsByIds(picked));
+    Collections.shuffle(cards, ThreadLocalRandom.current());
+    return cards;
+  }
+
+  /**
+   * 버킷별 인기순 상위 n 개 카드. 버킷 배열을 TOP_CHUNK 개씩 잘라 조각마다 상위 n 개만 받고(PK 조회 + LIMIT),
+   * 조각 결과를 합쳐 다시 n 개로 자른다. 읽는 행 수는 버킷 크기로 묶이고 전체 글 정렬은 하지 않는다.
+   */
+  public Map<String, List<PostDto>> topAll(int n) {
+    Map<String, int[]> snapshot = buckets;
+    Map<String, List<PostDto>> out = new HashMap<>();
+    for (String bucket : BUCKETS) {
+      out.put(bucket, n > 0 ? top(snapshot.get(bucket), n) : new ArrayList<>());
+    }
+    return out;
+  }
+
+  private List<PostDto> top(int[] ids, int n) {
+    List<PostDto> acc = new ArrayList<>();
+    for (int from = 0; from < ids.length; from += TOP_CHUNK) {
+      int to = Math.min(ids.length, from + TOP_CHUNK);
+      List<Integer> chunk = new ArrayList<>(to - from);
+      for (int i = from; i < to; i++) {
+        chunk.add(ids[i]);
+      }
+      acc.addAll(weatherRepo.findTopCardsByIds(chunk, n));
+    }
+    acc.sort(POPULAR);
+    return acc.size() > n ? new ArrayList<>(acc.subList(0, n)) : acc;
+  }
+
+  public int size(String bucket) {
+    int[] ids = buckets.get(bucket);
+    return ids == null ? 0 : ids.length;
+  }
+
+  // Floyd 샘플링: n 개 중 서로 다른 k 개를 O(k) 로
+  static List<Integer> sample(int[] ids, int k) {
+    int n = ids.length;
+    if (k >= n) {
+      List<Integer> all = new ArrayList<>(n);
+      for (int id : ids) {
+        all.add(id);
+      }
+      return all;
+    }
+    ThreadLocalRandom rnd = ThreadLocalRandom.current();
+    Set<Integer> chosen = new HashSet<>(k * 2);
+    for (int j = n - k; j < n; j++) {
+      int t = rnd.nextInt(j + 1);
+      chosen.add(chosen.contains(t) ? j : t);
+    }
+    List<Integer> out = new ArrayList<>(k);
+    for (int idx : chosen) {
+      out.add(ids[idx]);
+    }
+    return out;
+  }
+
+  // ===== 갱신 =====
+
+  // 메인 피드(HomeFeedService) 첫 계산보다 먼저
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+    synchronized (rebuildLock) {
+      long t0 = System.currentTimeMillis();
+      synchronized (this) {
+        duringRebuild = new HashMap<>();
+      }
+      Map<String, int[]> next;
+      int sourceCount;
+      try {
+        List<PostDto> sources = weatherRepo.findBucketSources();
+        sourceCount = sources.size();
+        next = classifyAll(sources);
+      } catch (RuntimeException e) {
+        synchronized (this) {
+          duringRebuild = null;
+        }
+        throw e;
+      }
+
+      int replayed;
+      synchronized (this) {
+        Map<Integer, Integer> changed = duringRebuild;
+        duringRebuild = null;
+        buckets = Map.copyOf(next);
+        replayed = changed.size();
+        if (!changed.isEmpty()) {
+          apply(List.copyOf(changed.keySet()), changed); // 읽는 동안 바뀐 글은 이벤트 쪽 분류가 최신
+        }
+      }
+      log.info("[WEATHER] 버킷 인덱스 구성 - 대상 {}건 (재구성 중 변경 {}건 반영), "
+              + "hot={}, cold={}, rainy={}, snowy={}, {}ms",
+          sourceCount, replayed, size("hot"), size("cold"), size("rainy"), size("snowy"),
+          System.currentTimeMillis() - t0);
+    }
+  }
+
+  private static Map<String, int[]> classifyAll(List<PostDto> sources) {
+    Map<String, List<Integer>> acc = new HashMap<>();
+    BUCKETS.forEach(b -> acc.put(b, new ArrayList<>()));
+    for (PostDto p : sources) {
+      int mask = classify(p.getTitle(), p.getFoodName());
+      for (int label = 0; label < BUCKETS.size(); label++) {
+        if ((mask & (1 << label)) != 0) {
+          acc.get(BUCKETS.get(label)).add(p.getPostId());
+        }
+      }
+    }
+
+    Map<String, int[]> next = new HashMap<>();
+    acc.forEach((bucket, list) -> {
+      int[] arr = list.stream().mapToInt(Integer::intValue).toArray();
+      Arrays.sort(arr);
+      next.put(bucket, arr);
+    });
+    return next;
+  }
+
+  // 변경된 글만 다시 분류 (커밋 이후)
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onPostChanged(PostChangedEvent event) {
+    List<Integer> ids = event.postIds();
+    if (ids == null || ids.isEmpty()) {
+      return;
+    }
+    Map<Integer, Integer> masks = new HashMap<>();
+    // 삭제/비공개는 버킷에서 빼기만 한다 (다시 읽을 필요 없음)
+    if (event.type() != PostChangedEvent.Type.DELETED && event.type() != PostChangedEvent.Type.HIDDEN) {
+      for (PostDto p : weatherRepo.findBucketSourcesByIds(ids)) {
+        masks.put(p.getPostId(), classify(p.getTitle(), p.getFoodName()));
+      }
+    }
+    apply(ids, masks);
+  }
+
+  /** ids 를 모든 버킷에서 빼고, masks 에 있는 글은 해당 버킷에 다시 넣는다 */
+  synchronized void apply(List<Integer> ids, Map<Integer, Integer> masks) {
+    if (duringRebuild != null) {
+      ids.forEach(id -> duringRebuild.put(id, masks.getOrDefault(id, 0)));
+    }
+    int[] touched = ids.stream().mapToInt(Integer::intValue).sorted().distinct().toArray();
+    Map<String, int[]> next = new HashMap<>();
+    for (int label = 0; label < BUCKETS.size(); label++) {
+      String bucket = BUCKETS.get(label);
+      int[] cur = buckets.get(bucket);
+
+      int bit = 1 << label;
+      List<Integer> add = new ArrayList<>();
+      masks.forEach((id, mask) -> {
+        if ((mask & bit) != 0) {
+          add.add(id);
+        }
+      });
+
+      int[] merged = new int[cur.length + add.size()];
+      int n = 0;
+      for (int id : cur) {
+        if (Arrays.binarySearch(touched, id) < 0) {
+          merged[n++] = id;
+        }
+      }
+      for (int id : add) {
+        merged[n++] = id;
+      }
+      int[] arr = Arrays.copyOf(merged, n);
+      Arrays.sort(arr);
+      next.put(bucket, arr);
+    }
+    buckets = Map.copyOf(next);
+  }
+}
@@ -0,0 +1,290 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.service.admin;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.dto.ReportModerateRequest;
+import SITE.RECIPICK.RECIPICK_PROJECT.dto.admin.BulkJobStatus;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.ReportStatus;
+import SITE.RECIPICK.RECIPICK_PROJECT.event.PostChangedEvent;
+import SITE.RECIPICK.RECIPICK_PROJECT.event.PrincipalChangedEvent;
+import SITE.RECIPICK.RECIPICK_PROJECT.event.ReportEvent;
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.AdminBulkRepository;
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.AdminBulkRepository.PostRow;
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.AdminBulkRepository.ReportRow;
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.AdminBulkRepository.ReviewRow;
+import SITE.RECIPICK.RECIPICK_PROJECT.service.ProfileCounterService;
+import SITE.RECIPICK.RECIPICK_PROJECT.service.RatingStatsService;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToIntFunction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 관리자 일괄 처리 (게시글 공개/삭제, 리뷰 삭제, 신고 처리, 유저 활성/정지).
+ *
+ * <p>✅ 흐름 - id 목록을 중복 제거 후 청크(기본 500건)로 나눔 - 청크마다 트랜잭션 하나에서 대상 행을 잠그고 IN 조건 집합 SQL 실행 -
+ * 프로필 카운터/평점 집계 보정과 캐시·인덱스 무효화 이벤트도 청크당 한 번 - 진행 상황은 jobId 로 조회
+ *
+ * <p>⚠️ 작업은 단일 스레드에서 순서대로 실행된다. 실패하면 이미 커밋된 청크는 그대로 두고 멈춘다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AdminBulkService {
+
+  private static final int MAX_IDS = 100_000;
+  private static final Duration KEEP_FINISHED = Duration.ofHours(1);
+
+  private final AdminBulkRepository bulkRepository;
+  private final ProfileCounterService profileCounters;
+  private final RatingStatsService ratingStatsService;
+  private final PlatformTransactionManager transactionManager;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @Value("${recipick.admin.bulk.chunk-size:500}")
+  private int chunkSize;
+
+  private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+    Thread t = new Thread(r, "admin-bulk");
+    t.setDaemon(true);
+    return t;
+  });
+  private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+  // ===================== 요청 =====================
+
+  public BulkJobStatus publishPosts(List<Integer> postIds) {
+    return submit("POST_PUBLISH", postIds, this::publishChunk);
+  }
+
+  public BulkJobStatus deletePosts(List<Integer> postIds) {
+    return submit("POST_DELETE", postIds, this::deletePostChunk);
+  }
+
+  public BulkJobStatus deleteReviews(List<Integer> reviewIds) {
+    return submit("REVIEW_DELETE", reviewIds, this::deleteReviewChunk);
+  }
+
+  public BulkJobStatus moderateReports(List<Integer> reportIds, String action) {
+    ReportModerateRequest req = new ReportModerateRequest();
+    req.setAction(action);
+    ReportStatus status = req.toEnum(); // INVALID_ACTION
+    return submit("REPORT_MODERATE", reportIds, ids -> moderateChunk(ids, status));
+  }
+
+  public BulkJobStatus updateUsersActive(List<Integer> userIds, Boolean active) {
+    if (active == null) {
+      throw new IllegalArgumentException("ACTIVE_REQUIRED");
+    }
+    return submit("USER_ACTIVE", userIds, ids -> activeChunk(ids, active));
+  }
+
+  public BulkJobStatus status(String jobId) {
+    Job job = jobs.get(jobId);
+    if (job == null) {
+      throw new IllegalArgumentException("BULK_JOB_NOT_FOUND");
+    }
+    return job.toStatus();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow(); // 진행 중인 청크만 롤백, 앞선 청크는 커밋된 상태
+  }
+
+  // ===================== 실행 =====================
+
+  private BulkJobStatus submit(String operation, List<Integer> rawIds,
+      ToIntFunction<List<Integer>> chunkWork) {
+    List<Integer> ids = normalize(rawIds);
+    evictFinished();
+
+    Job job = new Job(UUID.randomUUID().toString(), operation, ids.size());
+    jobs.put(job.id, job);
+    executor.submit(() -> {
+      try {
+        run(job, ids, chunkWork);
+        job.state = "DONE";
+      } catch (Exception e) {
+        job.state = "FAILED";
+        job.lastError = e.getMessage();
+        log.error("[일괄처리] 실패 - job: {}, operation: {}", job.id, job.operation, e);
+      } finally {
+        job.finishedAt = LocalDateTime.now();
+        log.info("[일괄처리] 종료 - {}", job.toStatus());
+      }
+    });
+    return job.toStatus();
+  }
+
+  private void run(Job job, List<Integer> ids, ToIntFunction<List<Integer>> chunkWork) {
+    job.state = "RUNNING";
+    TransactionTemplate tx = new TransactionTemplate(transactionManager);
+    for (int from = 0; from < ids.size(); from += chunkSize) {
+      if (Thread.currentThread().isInterrupted()) {
+        throw new IllegalStateException("BULK_INTERRUPTED");
+      }
+      List<Integer> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+      Integer affected = tx.execute(s -> chunkWork.applyAsInt(chunk));
+      job.processed.addAndGet(chunk.size());
+      job.affected.addAndGet(affected == null ? 0 : affected);
+      job.chunks.incrementAndGet();
+      log.debug("[일괄처리] 청크 커밋 - job: {}, {}/{}", job.id, job.processed.get(), job.requested);
+    }
+  }
+
+  // 청크 하나 = 트랜잭션 하나. 반환: 실제로 바뀐 행 수
+
+  private int publishChunk(List<Integer> ids) {
+    List<PostRow> targets = bulkRepository.lockPosts(ids).stream()
+        .filter(p -> !p.official())
+        .toList();
+    if (targets.isEmpty()) {
+      return 0;
+    }
+    List<Integer> postIds = targets.stream().map(PostRow::postId).toList();
+    int updated = bulkRepository.publishPosts(postIds);
+    authorTotals(targets).forEach((userId, acc) ->
+        profileCounters.recipesPublished(userId, (int) acc[0], acc[1]));
+    eventPublisher.publishEvent(new PostChangedEvent(PostChangedEvent.Type.PUBLISHED, postIds));
+    return updated;
+  }
+
+  private int deletePostChunk(List<Integer> ids) {
+    List<PostRow> targets = bulkRepository.lockPosts(ids);
+    if (targets.isEmpty()) {
+      return 0;
+    }
+    List<Integer> postIds = targets.stream().map(PostRow::postId).toList();
+    authorTotals(targets.stream().filter(PostRow::official).toList()).forEach((userId, acc) ->
+        profileCounters.recipesPublished(userId, (int) -acc[0], -acc[1]));
+    bulkRepository.countReviewsByUserOnPosts(postIds).forEach((userId, n) ->
+        profileCounters.reviewChanged(userId, -n));
+    int deleted = bulkRepository.deletePostsCascade(postIds);
+    eventPublisher.publishEvent(new PostChangedEvent(PostChangedEvent.Type.DELETED, postIds));
+    return deleted;
+  }
+
+  private int deleteReviewChunk(List<Integer> ids) {
+    List<ReviewRow> targets = bulkRepository.lockReviews(ids);
+    if (targets.isEmpty()) {
+      return 0;
+    }
+    int deleted = bulkRepository.deleteReviews(targets.stream().map(ReviewRow::reviewId).toList());
+    Map<Integer, Integer> byUser = new LinkedHashMap<>();
+    Set<Integer> postIds = new LinkedHashSet<>();
+    for (ReviewRow r : targets) {
+      byUser.merge(r.userId(), 1, Integer::sum);
+      postIds.add(r.postId());
+    }
+    byUser.forEach((userId, n) -> profileCounters.reviewChanged(userId, -n));
+    ratingStatsService.rebuildPosts(postIds);
+    // 평점이 바뀐 글의 캐시 무효화 (상세 응답 캐시 등)
+    eventPublisher.publishEvent(new PostChangedEvent(PostChangedEvent.Type.UPDATED, List.copyOf(postIds)));
+    return deleted;
+  }
+
+  private int moderateChunk(List<Integer> ids, ReportStatus status) {
+    List<ReportRow> targets = bulkRepository.lockReports(ids).stream()
+        .filter(r -> r.status() != status)
+        .toList();
+    if (targets.isEmpty()) {
+      return 0;
+    }
+    int updated = bulkRepository.updateReportStatus(
+        targets.stream().map(ReportRow::reportId).toList(), status);
+    targets.stream()
+        .filter(r -> r.reporterUserId() != null) // 미처리 집계는 신고자 단위
+        .forEach(r -> eventPublisher.publishEvent(
+            ReportEvent.statusChanged(r.targetType(), r.targetId(), r.status(), status)));
+    return updated;
+  }
+
+  private int activeChunk(List<Integer> ids, boolean active) {
+    List<Integer> targets = bulkRepository.lockUsersToChange(ids, active);
+    if (targets.isEmpty()) {
+      return 0;
+    }
+    int updated = bulkRepository.updateUsersActive(targets, active);
+    eventPublisher.publishEvent(new PrincipalChangedEvent(targets)); // 실제로 바뀐 사용자의 세션 principal 만 갱신
+    return updated;
+  }
+
+  // ===================== 공통 =====================
+
+  /** 작성자별 {글 수, 좋아요 합} */
+  private static Map<Integer, long[]> authorTotals(List<PostRow> posts) {
+    Map<Integer, long[]> byAuthor = new LinkedHashMap<>();
+    for (PostRow p : posts) {
+      long[] acc = byAuthor.computeIfAbsent(p.userId(), k -> new long[2]);
+      acc[0]++;
+      acc[1] += p.likeCount();
+    }
+    return byAuthor;
+  }
+
+  private static List<Integer> normalize(List<Integer> rawIds) {
+    if (rawIds == null || rawIds.isEmpty()) {
+      throw new IllegalArgumentException("IDS_REQUIRED");
+    }
+    Set<Integer> unique = new LinkedHashSet<>();
+    rawIds.stream().filter(Objects::nonNull).forEach(unique::add);
+    if (unique.isEmpty()) {
+      throw new IllegalArgumentException("IDS_REQUIRED");
+    }
+    if (unique.size() > MAX_IDS) {
+      throw new IllegalArgumentException("TOO_MANY_IDS");
+    }
+    return new ArrayList<>(unique);
+  }
+
+  // 끝난 지 오래된 작업 기록 정리
+  private void evictFinished() {
+    LocalDateTime cutoff = LocalDateTime.now().minus(KEEP_FINISHED);
+    jobs.values().removeIf(j -> j.finishedAt != null && j.finishedAt.isBefore(cutoff));
+  }
+
+  // ===================== 진행 상황 =====================
+
+  private static final class Job {
+
+    final String id;
+    final String operation;
+    final long requested;
+    final LocalDateTime startedAt = LocalDateTime.now();
+    final AtomicLong processed = new AtomicLong();
+    final AtomicLong affected = new AtomicLong();
+    final AtomicLong chunks = new AtomicLong();
+    volatile String state = "QUEUED";
+    volatile LocalDateTime finishedAt;
+    volatile String lastError;
+
+    Job(String id, String operation, long requested) {
+      this.id = id;
+      this.operation = operation;
+      this.requested = requested;
+    }
+
+    BulkJobStatus toStatus() {
+      return new BulkJobStatus(id, operation, state, startedAt, finishedAt, requested,
+          processed.get(), affected.get(), chunks.get(), lastError);
+    }
+  }
+}
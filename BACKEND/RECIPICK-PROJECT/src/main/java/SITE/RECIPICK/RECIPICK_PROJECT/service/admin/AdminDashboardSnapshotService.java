@@ -0,0 +1,209 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.service.admin;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.dto.admin.AdminDashboardResponse;
+import SITE.RECIPICK.RECIPICK_PROJECT.service.admin.AdminService.DashboardTotals;
+import SITE.RECIPICK.RECIPICK_PROJECT.service.admin.AdminService.DashboardVisitors;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 관리자 대시보드 스냅샷.
+ *
+ * <p>✅ (days, minReports, top) 조합별로 마지막 계산 결과를 들고 있다가 바로 돌려준다 (응답에 생성 시각/경과 초 포함).
+ * 주기적으로 다시 계산하며, 서로 독립인 섹션(합계/방문자/카테고리/최근 신고/최근 가입)은 각자 읽기 전용 트랜잭션에서 병렬로 계산한다.
+ *
+ * <p>✅ refresh=true 이면 즉시 다시 계산해 기다린다. 같은 조합을 동시에 새로 고치면 계산은 한 번만 한다.
+ *
+ * <p>⚠️ 오래 안 쓰인 조합은 주기 갱신 대상에서 빠진다. 조합 수가 끝없이 늘지 않도록 days/minReports/top 은 범위를 제한하고,
+ * 들고 있는 조합도 MAX_SNAPSHOTS 개까지만 둔다 (넘치면 가장 오래 요청되지 않은 것부터 버림).
+ */
+@Slf4j
+@Service
+public class AdminDashboardSnapshotService {
+
+  private static final int MAX_DAYS = 365;
+  private static final int MAX_TOP = 50;
+  private static final int MAX_MIN_REPORTS = 100;
+  static final int MAX_SNAPSHOTS = 32;
+
+  private final AdminService adminService;
+  private final TransactionTemplate readTx;
+
+  // 섹션 병렬 계산용 (대시보드 전용 소규모 풀)
+  private final ExecutorService executor;
+
+  @Value("${recipick.admin.dashboard.idle-evict-ms:1800000}")
+  private long idleEvictMs = 1_800_000L;
+
+  private final Map<Key, Snapshot> snapshots = new ConcurrentHashMap<>();
+  private final Map<Key, CompletableFuture<Snapshot>> inFlight = new ConcurrentHashMap<>();
+
+  public AdminDashboardSnapshotService(AdminService adminService,
+      PlatformTransactionManager transactionManager,
+      @Value("${recipick.admin.dashboard.threads:4}") int threads) {
+    this.adminService = adminService;
+    this.readTx = new TransactionTemplate(transactionManager);
+    this.readTx.setReadOnly(true);
+    AtomicInteger seq = new AtomicInteger();
+    this.executor = Executors.newFixedThreadPool(Math.max(1, threads), r -> {
+      Thread t = new Thread(r, "admin-dashboard-" + seq.incrementAndGet());
+      t.setDaemon(true);
+      return t;
+    });
+  }
+
+  record Key(int days, int minReports, int top) {
+
+  }
+
+  private record Snapshot(AdminDashboardResponse response, Instant generatedAt,
+                          long lastRequestedMs) {
+
+    Snapshot touched() {
+      return new Snapshot(response, generatedAt, System.currentTimeMillis());
+    }
+  }
+
+  /**
+   * 스냅샷 조회. 없거나 refresh=true 면 계산이 끝날 때까지 기다린다
+   */
+  public AdminDashboardResponse get(int days, int minReports, int top, boolean refresh) {
+    Key key = new Key(
+        Math.min(Math.max(1, days), MAX_DAYS),
+        Math.min(Math.max(0, minReports), MAX_MIN_REPORTS),
+        Math.min(Math.max(1, top), MAX_TOP));
+
+    Snapshot snap = snapshots.computeIfPresent(key, (k, s) -> s.touched());
+    if (snap == null || refresh) {
+      snap = await(refresh(key));
+    }
+    long age = Duration.between(snap.generatedAt(), Instant.now()).toSeconds();
+    return snap.response().withAgeSeconds(Math.max(0, age));
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void warmUp() {
+    // 관리자 화면 기본값 (AdminController 의 defaultValue 와 같음)
+    refresh(new Key(7, 3, 5));
+  }
+
+  /** 최근에 요청된 조합만 주기적으로 다시 계산 (백그라운드, 기다리지 않음) */
+  @Scheduled(fixedDelayString = "${recipick.admin.dashboard.refresh-ms:60000}")
+  public void refreshAll() {
+    long now = System.currentTimeMillis();
+    snapshots.entrySet().removeIf(e -> now - e.getValue().lastRequestedMs() > idleEvictMs);
+    snapshots.keySet().forEach(this::refresh);
+  }
+
+  /** 지금 들고 있는 조합 (테스트/모니터링용) */
+  Set<Key> cachedKeys() {
+    return Set.copyOf(snapshots.keySet());
+  }
+
+  /** 진행 중인 계산이 있으면 그것을, 없으면 새로 시작 */
+  private CompletableFuture<Snapshot> refresh(Key key) {
+    CompletableFuture<Snapshot> mine = new CompletableFuture<>();
+    CompletableFuture<Snapshot> running = inFlight.putIfAbsent(key, mine);
+    if (running != null) {
+      return running;
+    }
+    compute(key).whenComplete((snap, err) -> {
+      if (err != null) {
+        log.warn("[ADMIN] 대시보드 계산 실패 {}: {}", key, err.toString());
+      } else {
+        // 마지막 요청 시각은 유지 (주기 갱신만으로는 살아 있지 않게)
+        snapshots.merge(key, snap, (old, fresh) ->
+            new Snapshot(fresh.response(), fresh.generatedAt(), old.lastRequestedMs()));
+        evictOverflow(key);
+      }
+      inFlight.remove(key, mine);
+      if (err != null) {
+        mine.completeExceptionally(err);
+      } else {
+        mine.complete(snap);
+      }
+    });
+    return mine;
+  }
+
+  // 조합이 MAX_SNAPSHOTS 개를 넘으면 가장 오래 요청되지 않은 것부터 버린다 (방금 계산한 조합은 남긴다)
+  private void evictOverflow(Key justComputed) {
+    while (snapshots.size() > MAX_SNAPSHOTS) {
+      snapshots.entrySet().stream()
+          .filter(e -> !e.getKey().equals(justComputed))
+          .min(Comparator.comparingLong(e -> e.getValue().lastRequestedMs()))
+          .ifPresent(e -> snapshots.remove(e.getKey(), e.getValue()));
+    }
+  }
+
+  private CompletableFuture<Snapshot> compute(Key key) {
+    long t0 = System.currentTimeMillis();
+    var totals = section(() -> adminService.dashboardTotals(key.minReports()));
+    var visitors = section(() -> adminService.dashboardVisitors(key.days()));
+    var categories = section(() -> adminService.dashboardCategoryUploads(key.days()));
+    var reports = section(() -> adminService.dashboardRecentReports(key.top()));
+    var signups = section(() -> adminService.dashboardRecentSignups(key.top()));
+
+    return CompletableFuture.allOf(totals, visitors, categories, reports, signups)
+        .thenApply(v -> {
+          DashboardTotals t = totals.join();
+          DashboardVisitors dv = visitors.join();
+          Instant at = Instant.now();
+          var response = new AdminDashboardResponse(
+              t.totalUsers(),
+              t.totalRecipes(),
+              t.reportedRecipesOverThreshold(),
+              dv.series(),
+              dv.uniqueVisitors(),
+              categories.join(),
+              reports.join(),
+              signups.join(),
+              LocalDateTime.ofInstant(at, ZoneId.systemDefault()),
+              0);
+          log.debug("[ADMIN] 대시보드 계산 {} {}ms", key, System.currentTimeMillis() - t0);
+          return new Snapshot(response, at, System.currentTimeMillis());
+        });
+  }
+
+  // 섹션마다 별도 읽기 전용 트랜잭션 (스레드가 달라 트랜잭션을 공유할 수 없음)
+  private <T> CompletableFuture<T> section(Supplier<T> body) {
+    return CompletableFuture.supplyAsync(() -> readTx.execute(status -> body.get()), executor);
+  }
+
+  private static Snapshot await(CompletableFuture<Snapshot> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException re) {
+        throw re;
+      }
+      throw e;
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+}
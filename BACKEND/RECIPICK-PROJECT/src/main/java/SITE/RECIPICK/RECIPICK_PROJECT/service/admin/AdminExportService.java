@@ -0,0 +1,252 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.service.admin;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.ReportStatus;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.ReportTargetType;
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.AdminExportRepository;
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.AdminExportRepository.ExportQuery;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Locale;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 관리자 목록 내보내기 (CSV / NDJSON).
+ *
+ * <p>✅ JDBC 커서에서 읽은 행을 바로 응답 스트림에 쓰고 버린다 (엔티티/목록을 만들지 않음). 일정 행마다 flush 해서 클라이언트는
+ * 받는 즉시 내려받는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AdminExportService {
+
+  private static final int FLUSH_EVERY = 1000;
+
+  private final AdminExportRepository exportRepo;
+  private final ObjectMapper objectMapper;
+
+  public enum Format {
+    CSV("text/csv; charset=UTF-8", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    public final String contentType;
+    public final String extension;
+
+    Format(String contentType, String extension) {
+      this.contentType = contentType;
+      this.extension = extension;
+    }
+
+    public static Format parse(String raw) {
+      try {
+        return Format.valueOf(raw == null ? "CSV" : raw.trim().toUpperCase(Locale.ROOT));
+      } catch (IllegalArgumentException e) {
+        throw new IllegalArgumentException("INVALID_FORMAT");
+      }
+    }
+  }
+
+  // ===== 내보내기 종류 (요청 검증은 스트리밍 시작 전에) =====
+
+  public ExportQuery users() {
+    return exportRepo.users();
+  }
+
+  public ExportQuery reports(String status, String type) {
+    String st = null;
+    if (status != null && !status.isBlank()) {
+      try {
+        st = ReportStatus.valueOf(status.trim().toUpperCase()).name();
+      } catch (Exception e) {
+        throw new IllegalArgumentException("INVALID_STATUS");
+      }
+    }
+    String tt = null;
+    if (type != null && !type.isBlank()) {
+      try {
+        tt = ReportTargetType.valueOf(type.trim().toUpperCase()).name();
+      } catch (Exception e) {
+        throw new IllegalArgumentException("INVALID_TARGET_TYPE");
+      }
+    }
+    return exportRepo.reports(st, tt);
+  }
+
+  public ExportQuery posts(Integer official, int minReports) {
+    return exportRepo.posts(official, Math.max(0, minReports));
+  }
+
+  /** 조회 결과를 out 에 그대로 쓴다. 반환값: 쓴 행 수 */
+  public long write(ExportQuery query, Format format, OutputStream out) throws IOException {
+    long t0 = System.currentTimeMillis();
+    RowWriter writer = format == Format.CSV ? new CsvWriter(out) : new NdjsonWriter(out);
+    long[] rows = {0};
+    try {
+      writer.header(query.columns());
+      exportRepo.stream(query, rs -> {
+        try {
+          writer.row(query.columns(), rs);
+          if (++rows[0] % FLUSH_EVERY == 0) {
+            writer.flush();
+          }
+        } catch (IOException e) {
+          // 클라이언트 연결 끊김 등 → 커서 닫고 중단
+          throw new UncheckedIOException(e);
+        }
+      });
+      writer.finish();
+    } catch (UncheckedIOException e) {
+      log.info("[ADMIN] {} 내보내기 중단 ({}행): {}", query.name(), rows[0], e.getCause().getMessage());
+      throw e.getCause();
+    }
+    log.info("[ADMIN] {} 내보내기 {} {}행 {}ms", query.name(), format, rows[0],
+        System.currentTimeMillis() - t0);
+    return rows[0];
+  }
+
+  // ===== 포맷별 출력 =====
+
+  private interface RowWriter {
+
+    void header(List<String> columns) throws IOException;
+
+    void row(List<String> columns, ResultSet rs) throws IOException;
+
+    void flush() throws IOException;
+
+    void finish() throws IOException;
+  }
+
+  /** DB 값 → 출력 값 (시각은 ISO-8601 문자열) */
+  private static Object value(ResultSet rs, int index) throws IOException {
+    try {
+      Object v = rs.getObject(index);
+      if (v instanceof Timestamp ts) {
+        return ts.toLocalDateTime().toString();
+      }
+      if (v instanceof java.sql.Date d) {
+        return d.toLocalDate().toString();
+      }
+      return v;
+    } catch (SQLException e) {
+      throw new IOException(e);
+    }
+  }
+
+  static final class CsvWriter implements RowWriter {
+
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final BufferedWriter w;
+
+    CsvWriter(OutputStream out) {
+      this.w = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    @Override
+    public void header(List<String> columns) throws IOException {
+      w.write('\uFEFF'); // 엑셀에서 한글이 깨지지 않도록 BOM
+      line(columns.toArray());
+    }
+
+    @Override
+    public void row(List<String> columns, ResultSet rs) throws IOException {
+      Object[] values = new Object[columns.size()];
+      for (int i = 0; i < values.length; i++) {
+        values[i] = value(rs, i + 1);
+      }
+      line(values);
+    }
+
+    private void line(Object[] values) throws IOException {
+      for (int i = 0; i < values.length; i++) {
+        if (i > 0) {
+          w.write(',');
+        }
+        if (values[i] instanceof Number n) {
+          w.write(n.toString()); // 음수는 수식이 아님
+        } else {
+          w.write(escape(values[i] == null ? null : values[i].toString()));
+        }
+      }
+      w.write("\r\n");
+    }
+
+    // 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번.
+    // = + - @ 탭 CR 로 시작하면 엑셀이 수식으로 실행하므로 앞에 ' 를 붙이고 따옴표로 감싼다 (닉네임/제목 등 사용자 입력)
+    // null 은 빈 칸
+    static String escape(String s) {
+      if (s == null) {
+        return "";
+      }
+      boolean formula = !s.isEmpty() && FORMULA_PREFIXES.indexOf(s.charAt(0)) >= 0;
+      if (!formula
+          && s.indexOf(',') < 0 && s.indexOf('"') < 0 && s.indexOf('\n') < 0 && s.indexOf('\r') < 0) {
+        return s;
+      }
+      return '"' + (formula ? "'" : "") + s.replace("\"", "\"\"") + '"';
+    }
+
+    @Override
+    public void flush() throws IOException {
+      w.flush();
+    }
+
+    @Override
+    public void finish() throws IOException {
+      w.flush();
+    }
+  }
+
+  private final class NdjsonWriter implements RowWriter {
+
+    private final JsonGenerator g;
+
+    NdjsonWriter(OutputStream out) throws IOException {
+      this.g = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+      // 응답 스트림은 컨테이너가 닫는다
+      this.g.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      // 줄 구분은 직접 넣는다 (기본 루트 구분자 " " 제거)
+      this.g.setRootValueSeparator(null);
+    }
+
+    @Override
+    public void header(List<String> columns) {
+      // NDJSON 은 헤더 없음 (각 줄이 필드명을 가진 객체)
+    }
+
+    @Override
+    public void row(List<String> columns, ResultSet rs) throws IOException {
+      g.writeStartObject();
+      for (int i = 0; i < columns.size(); i++) {
+        g.writeFieldName(columns.get(i));
+        g.writeObject(value(rs, i + 1));
+      }
+      g.writeEndObject();
+      g.writeRaw('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+      g.flush();
+    }
+
+    @Override
+    public void finish() throws IOException {
+      g.flush();
+    }
+  }
+}
@@ -1,7 +1,5 @@
 package SITE.RECIPICK.RECIPICK_PROJECT.service.admin;
 
-import java.time.LocalDateTime;
-
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,11 +16,6 @@ public class AdminGradeService {
 
     @Transactional
     public void updateUserGrade(Integer userId, GradeUpdateRequest req) {
-        var pr =
-                profileRepo
-                        .findById(userId)
-                        .orElseThrow(() -> new IllegalArgumentException("PROFILE_NOT_FOUND"));
-
         var g = req.getGrade();
         if (g == null || g.isBlank()) {
             throw new IllegalArgumentException("GRADE_REQUIRED");
@@ -35,7 +28,9 @@ public class AdminGradeService {
             throw new IllegalArgumentException("INVALID_GRADE"); // BRONZE/SILVER/GOLD 외 입력 시
         }
 
-        pr.changeGrade(newGrade);
-        pr.setUpdatedAt(LocalDateTime.now()); // 필요시 수정 시간 갱신
+        // 포인트 배치 적립과 겹쳐도 grade 컬럼만 바꾼다 (수정 시간 포함)
+        if (profileRepo.updateGrade(userId, newGrade.name()) == 0) {
+            throw new IllegalArgumentException("PROFILE_NOT_FOUND");
+        }
     }
 }
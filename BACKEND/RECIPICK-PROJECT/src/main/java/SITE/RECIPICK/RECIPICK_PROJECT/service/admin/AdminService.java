@@ -9,17 +9,26 @@ import SITE.RECIPICK.RECIPICK_PROJECT.entity.ReportEntity;
 import SITE.RECIPICK.RECIPICK_PROJECT.entity.ReportStatus;
 import SITE.RECIPICK.RECIPICK_PROJECT.entity.ReportTargetType;
 import SITE.RECIPICK.RECIPICK_PROJECT.entity.UserEntity;
+import SITE.RECIPICK.RECIPICK_PROJECT.event.PostChangedEvent;
+import SITE.RECIPICK.RECIPICK_PROJECT.event.PrincipalChangedEvent;
+import SITE.RECIPICK.RECIPICK_PROJECT.event.ReportEvent;
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.ActivityRepository;
 import SITE.RECIPICK.RECIPICK_PROJECT.repository.PostRepository;
 import SITE.RECIPICK.RECIPICK_PROJECT.repository.ReportRepository;
 import SITE.RECIPICK.RECIPICK_PROJECT.repository.ReviewRepository;
 import SITE.RECIPICK.RECIPICK_PROJECT.repository.UserRepository;
+import SITE.RECIPICK.RECIPICK_PROJECT.service.ProfileCounterService;
+import SITE.RECIPICK.RECIPICK_PROJECT.service.RatingStatsService;
 import SITE.RECIPICK.RECIPICK_PROJECT.util.PostMapper;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,86 +41,105 @@ public class AdminService {
   private final ReviewRepository reviewRepo;
   //    private final CommentRepository commentRepo;
   private final ReportRepository reportRepo;
-
+  private final ApplicationEventPublisher eventPublisher;
+  private final RatingStatsService ratingStatsService;
+  private final ProfileCounterService profileCounters;
+  private final ActivityRepository activityRepo;
+
+  /**
+   * 대시보드 동기 계산 (섹션을 차례로). 화면에서는 AdminDashboardSnapshotService 의 스냅샷을 쓴다
+   */
   @Transactional(readOnly = true)
   public AdminDashboardResponse getDashboard(int days, int minReports, int top) {
-    // ===== 공통 집계 =====
-    var now = LocalDate.now(); // 기존 코드 유지 (카테고리 집계 등에서 사용)
-    var fromDate = now.minusDays(days - 1).atStartOfDay();
-    var toDate = now.plusDays(1).atStartOfDay();
+    var totals = dashboardTotals(minReports);
+    var visitors = dashboardVisitors(days);
+    return new AdminDashboardResponse(
+        totals.totalUsers(),
+        totals.totalRecipes(),
+        totals.reportedRecipesOverThreshold(),
+        visitors.series(),
+        visitors.uniqueVisitors(),
+        dashboardCategoryUploads(days),
+        dashboardRecentReports(top),
+        dashboardRecentSignups(top),
+        LocalDateTime.now(),
+        0);
+  }
+
+  // ===== 대시보드 섹션 (서로 독립 - 스냅샷 서비스가 병렬로 계산) =====
+
+  public record DashboardTotals(long totalUsers, long totalRecipes,
+                                long reportedRecipesOverThreshold) {
+
+  }
 
-    long totalUsers = userRepo.count();
-    long totalRecipes = postRepo.count();
+  public record DashboardVisitors(AdminDashboardResponse.Series series, long uniqueVisitors) {
 
+  }
+
+  public DashboardTotals dashboardTotals(int minReports) {
     // 임계치 이상 신고 누적 레시피 수 (레시피 테이블의 reportCount 사용)
-    long reportedRecipesOverThreshold = postRepo.countByReportCountGreaterThanEqual(minReports);
+    return new DashboardTotals(
+        userRepo.count(),
+        postRepo.count(),
+        postRepo.countByReportCountGreaterThanEqual(minReports));
+  }
 
-    // ===== 방문자 추이(DAU) - KST 기준, DISTINCT userId =====
-    // DB가 UTC 저장이라면: KST 경계를 UTC LocalDateTime으로 변환해서 between 조회
+  /** 방문자 추이(DAU) - KST 기준, 일별 집계 테이블 범위 조회 1번 */
+  public DashboardVisitors dashboardVisitors(int days) {
     var KST = java.time.ZoneId.of("Asia/Seoul");
     var todayKst = java.time.LocalDate.now(KST);
+    var firstDay = todayKst.minusDays(days - 1);
 
+    var dailyCounts = activityRepo.findDailyCounts(firstDay, todayKst);
     var labels = new java.util.ArrayList<java.time.LocalDate>(days);
     var data = new java.util.ArrayList<Long>(days);
+    for (var day = firstDay; !day.isAfter(todayKst); day = day.plusDays(1)) {
+      labels.add(day);               // LocalDate → JSON에서 "yyyy-MM-dd"로 직렬화됨
+      data.add(dailyCounts.getOrDefault(day, 0L));
+    }
 
-    for (int i = days - 1; i >= 0; i--) {
-      var day = todayKst.minusDays(i); // KST의 해당 일자
-      var zStart = day.atStartOfDay(KST);                              // KST 00:00:00
-      var zEnd = day.plusDays(1).atStartOfDay(KST).minusNanos(1);      // KST 23:59:59.999999999
-
-      // DB 타임스탬프가 UTC라면 UTC로 변환해서 질의
-      var startUtc = java.time.LocalDateTime.ofInstant(zStart.toInstant(),
-          java.time.ZoneOffset.UTC);
-      var endUtc = java.time.LocalDateTime.ofInstant(zEnd.toInstant(), java.time.ZoneOffset.UTC);
+    // 기간 고유 방문자 (일별 HyperLogLog 스케치 합산 근사값)
+    long uniqueVisitors = activityRepo.estimateDistinct(firstDay, todayKst);
 
-      long dau = userRepo.countDistinctActiveBetween(startUtc, endUtc);
+    return new DashboardVisitors(new AdminDashboardResponse.Series(labels, data), uniqueVisitors);
+  }
 
-      labels.add(day);               // LocalDate → JSON에서 "yyyy-MM-dd"로 직렬화됨
-      data.add(dau);
-    }
+  /** 카테고리별 업로드 (기간 내) */
+  public List<AdminDashboardResponse.CategoryCount> dashboardCategoryUploads(int days) {
+    var now = LocalDate.now();
+    var fromDate = now.minusDays(days - 1).atStartOfDay();
+    var toDate = now.plusDays(1).atStartOfDay();
 
-    var visitorSeries = new AdminDashboardResponse.Series(labels, data);
-
-    // ===== 카테고리별 업로드 (기간 내) =====
-    var catAgg = postRepo.countByCategoryBetween(fromDate, toDate); // 기존 그대로
-    var categoryUploads =
-        catAgg.stream()
-            .map(a -> new AdminDashboardResponse.CategoryCount(
-                a.getCategory() == null ? null : a.getCategory().getDescription(),
-                a.getCnt()))
-            .toList();
-
-    // ===== 최근 신고 top개 =====
-    var recentReports =
-        reportRepo.findTopNByOrderByCreatedAtDesc(top).stream()
-            .map(r -> new AdminDashboardResponse.RecentReportItem(
-                r.getId(),
-                r.getTargetType().name(),
-                r.getTargetId(),
-                r.getReason(),
-                r.getStatus().name(),
-                r.getCreatedAt().toLocalDate()))
-            .toList();
-
-    // ===== 최근 가입 top개 =====
-    var recentSignups =
-        userRepo.findTopNByOrderByCreatedAtDesc(top).stream()
-            .map(u -> new AdminDashboardResponse.RecentSignupItem(
-                u.getUserId(),
-                safeNickOrEmail(u), // 닉네임 없으면 이메일
-                u.getCreatedAt().toLocalDate()))
-            .toList();
+    return postRepo.countByCategoryBetween(fromDate, toDate).stream()
+        .map(a -> new AdminDashboardResponse.CategoryCount(
+            a.getCategory() == null ? null : a.getCategory().getDescription(),
+            a.getCnt()))
+        .toList();
+  }
 
-    return new AdminDashboardResponse(
-        totalUsers,
-        totalRecipes,
-        reportedRecipesOverThreshold,
-        visitorSeries,
-        categoryUploads,
-        recentReports,
-        recentSignups);
+  /** 최근 신고 top개 */
+  public List<AdminDashboardResponse.RecentReportItem> dashboardRecentReports(int top) {
+    return reportRepo.findTopNByOrderByCreatedAtDesc(top).stream()
+        .map(r -> new AdminDashboardResponse.RecentReportItem(
+            r.getId(),
+            r.getTargetType().name(),
+            r.getTargetId(),
+            r.getReason(),
+            r.getStatus().name(),
+            r.getCreatedAt().toLocalDate()))
+        .toList();
   }
 
+  /** 최근 가입 top개 */
+  public List<AdminDashboardResponse.RecentSignupItem> dashboardRecentSignups(int top) {
+    return userRepo.findTopNByOrderByCreatedAtDesc(top).stream()
+        .map(u -> new AdminDashboardResponse.RecentSignupItem(
+            u.getUserId(),
+            safeNickOrEmail(u), // 닉네임 없으면 이메일
+            u.getCreatedAt().toLocalDate()))
+        .toList();
+  }
 
   private String safeNickOrEmail(UserEntity u) {
     String nick = u.getNickname();
@@ -143,6 +171,7 @@ public class AdminService {
       throw new IllegalArgumentException("INVALID_ROLE");
     }
     u.changeRole(role);
+    eventPublisher.publishEvent(PrincipalChangedEvent.of(userId)); // 권한 회수/부여를 다음 요청부터 반영
   }
 
   @Transactional
@@ -151,12 +180,14 @@ public class AdminService {
         userRepo.findById(userId)
             .orElseThrow(() -> new IllegalArgumentException("USER_NOT_FOUND"));
     u.setActive(active);
+    eventPublisher.publishEvent(PrincipalChangedEvent.of(userId)); // 정지 시 다음 요청에서 세션 종료
   }
 
   // === Post 관리 ===
   public List<PostDto> listPendingPosts(int offset, int limit) {
-    var page = PageRequest.of(offset / Math.max(1, limit), Math.max(1, limit));
-    return postRepo.findByRcpIsOfficialOrderByCreatedAtDesc(0, page).stream()
+    var page = PageRequest.of(offset / Math.max(1, limit), Math.max(1, limit),
+        Sort.by(Sort.Direction.DESC, "createdAt"));
+    return postRepo.findCardsByOfficial(0, page).stream()
         .map(PostMapper::toDto)
         .toList();
   }
@@ -166,13 +197,22 @@ public class AdminService {
     var p =
         postRepo.findById(postId)
             .orElseThrow(() -> new IllegalArgumentException("POST_NOT_FOUND"));
+    if (!Integer.valueOf(1).equals(p.getRcpIsOfficial())) {
+      int likes = p.getLikeCount() == null ? 0 : p.getLikeCount();
+      profileCounters.recipesPublished(p.getUserId(), 1, likes);
+    }
     p.setRcpIsOfficial(1);
+    eventPublisher.publishEvent(PostChangedEvent.of(PostChangedEvent.Type.PUBLISHED, postId));
   }
 
   @Transactional
   public void deletePost(Integer postId) {
     // 운영정책에 따라 soft delete 필요하면 별도 플래그로 처리
-    postRepo.deleteById(postId);
+    postRepo.findById(postId).ifPresent(p -> {
+      profileCounters.recipeRemoved(p);
+      postRepo.delete(p);
+    });
+    eventPublisher.publishEvent(PostChangedEvent.of(PostChangedEvent.Type.DELETED, postId));
   }
 
   // === 신고 많은 항목 ===
@@ -180,14 +220,18 @@ public class AdminService {
   public java.util.List<SITE.RECIPICK.RECIPICK_PROJECT.dto.PostDto> topReportedPosts(
       int min, int offset, int limit) {
     var page = PageRequest.of(offset / Math.max(1, limit), Math.max(1, limit));
-    return postRepo.findByReportCountGreaterThanOrderByReportCountDesc(min, page).stream()
-        .map(SITE.RECIPICK.RECIPICK_PROJECT.util.PostMapper::toDto)
+    return postRepo.findReportedCards(min, page).stream()
+        .map(PostMapper::toDto)
         .toList();
   }
 
   @Transactional
   public void deleteReview(Integer reviewId) {
-    reviewRepo.deleteById(reviewId);
+    reviewRepo.findById(reviewId).ifPresent(r -> {
+      reviewRepo.delete(r);
+      ratingStatsService.onReviewDeleted(r.getPost().getPostId(), r.getReviewRating());
+      profileCounters.reviewChanged(r.getUser().getUserId(), -1);
+    });
   }
 
 //    @Transactional
@@ -214,13 +258,28 @@ public class AdminService {
       throw new IllegalArgumentException("INVALID_TARGET_TYPE");
     }
 
+    if (reporterUserId == null) {
+      throw new IllegalStateException("UNAUTHENTICATED");
+    }
+    if (reportRepo.existsByReporterUserIdAndTargetTypeAndTargetId(
+        reporterUserId, type, req.getTargetId())) {
+      throw new IllegalStateException("REPORT_ALREADY_EXISTS");
+    }
+
     ReportEntity r = new ReportEntity();
+    r.setReporterUserId(reporterUserId);
     r.setTargetType(type);
     r.setTargetId(req.getTargetId()); // USER 신고 시 USER.user_id
     r.setReason(req.getReason().trim());
     r.setStatus(ReportStatus.PENDING);
 
-    reportRepo.save(r);
+    try {
+      reportRepo.saveAndFlush(r); // 동시에 들어온 중복은 유니크 키에서 걸림
+    } catch (DataIntegrityViolationException e) {
+      throw new IllegalStateException("REPORT_ALREADY_EXISTS");
+    }
+    // 대상별 신고 수/자동 비공개 판정은 커밋 후 ReportAggregator 가
+    eventPublisher.publishEvent(ReportEvent.filed(type, r.getTargetId()));
   }
 
   @Transactional(readOnly = true)
@@ -262,7 +321,13 @@ public class AdminService {
     // DTO에서 enum 변환(ACCEPT -> ACCEPTED, REJECT -> REJECTED)
     var newStatus = req.toEnum(); // 여기서 INVALID_ACTION 등 IllegalArgumentException 던질 수 있음
 
+    var oldStatus = r.getStatus();
     r.setStatus(newStatus);
+    // 미처리 집계는 신고자 단위 (신고자 없는 이전 데이터는 집계에 없음)
+    if (oldStatus != newStatus && r.getReporterUserId() != null) {
+      eventPublisher.publishEvent(
+          ReportEvent.statusChanged(r.getTargetType(), r.getTargetId(), oldStatus, newStatus));
+    }
     // 필요시 r.setModeratedAt(LocalDateTime.now()); 등 추가
   }
 
@@ -0,0 +1,405 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.service.admin;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.dto.admin.RecipeImportStatus;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.Ingredient;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.PostEntity;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.PostEntity.CookingCategory;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.PostEntity.CookingKind;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.PostEntity.CookingMethod;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.RecipeIngredient;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.UserEntity;
+import SITE.RECIPICK.RECIPICK_PROJECT.event.PostChangedEvent;
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.ImportCheckpointRepository;
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.IngredientBulkRepository;
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.PostBulkRepository;
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.UserRepository;
+import SITE.RECIPICK.RECIPICK_PROJECT.service.IngredientClassifier;
+import SITE.RECIPICK.RECIPICK_PROJECT.service.RecipeIngredientWriter;
+import SITE.RECIPICK.RECIPICK_PROJECT.service.ProfileCounterService;
+import SITE.RECIPICK.RECIPICK_PROJECT.util.CsvRecordReader;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 공식 레시피 CSV(test-data.csv 형식) 대량 적재.
+ *
+ * <p>✅ 흐름 - CSV 를 레코드 단위로 스트리밍 파싱(메모리 일정) - 청크(기본 1000건)마다 재료 분류를 병렬로 수행 - 게시글 / 재료 /
+ * 레시피-재료를 JDBC 배치로 저장 - 청크 데이터와 체크포인트를 같은 트랜잭션에서 커밋 → 중단 후 같은 파일로 다시 실행하면 이어서 적재
+ *
+ * <p>⚠️ 한 번에 하나의 적재만 실행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecipeImportService {
+
+  private static final DateTimeFormatter CREATED_AT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+  // "대파1/3대" → 대파 / 1/3대, "김가루약간" → 김가루 / 약간
+  private static final Pattern NAME_AMOUNT =
+      Pattern.compile("^(.*?)\\s*([0-9½⅓⅔¼¾].*|약간|적당량|조금)?$");
+
+  private final PostBulkRepository postBulkRepository;
+  private final IngredientBulkRepository ingredientBulkRepository;
+  private final ImportCheckpointRepository checkpointRepository;
+  private final UserRepository userRepository;
+  private final RecipeIngredientWriter recipeIngredientWriter;
+  private final IngredientClassifier ingredientClassifier;
+  private final PlatformTransactionManager transactionManager;
+  private final ApplicationEventPublisher eventPublisher;
+  private final ProfileCounterService profileCounters;
+
+  @Value("${recipick.import.chunk-size:1000}")
+  private int chunkSize;
+
+  private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+    Thread t = new Thread(r, "recipe-import");
+    t.setDaemon(true);
+    return t;
+  });
+  private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+  private volatile Job running;
+
+  /** 적재 시작 (비동기) - 같은 source 의 체크포인트가 있으면 거기서부터 이어서 */
+  public synchronized RecipeImportStatus start(String path, Integer ownerUserId, boolean fromStart) {
+    if (running != null) {
+      throw new IllegalStateException("IMPORT_ALREADY_RUNNING");
+    }
+    Path file = Path.of(path).toAbsolutePath().normalize();
+    if (!Files.isRegularFile(file)) {
+      throw new IllegalArgumentException("IMPORT_FILE_NOT_FOUND");
+    }
+    UserEntity owner = userRepository.findById(ownerUserId)
+        .orElseThrow(() -> new IllegalArgumentException("USER_NOT_FOUND"));
+
+    Job job = new Job(UUID.randomUUID().toString(), file.toString());
+    jobs.put(job.id, job);
+    running = job;
+    executor.submit(() -> {
+      try {
+        run(job, file, owner, fromStart);
+        job.state = "DONE";
+      } catch (Exception e) {
+        job.state = "FAILED";
+        job.lastError = e.getMessage();
+        log.error("[레시피적재] 실패 - job: {}, source: {}", job.id, job.source, e);
+      } finally {
+        job.finishedAt = LocalDateTime.now();
+        running = null;
+        log.info("[레시피적재] 종료 - {}", job.toStatus());
+      }
+    });
+    return job.toStatus();
+  }
+
+  public RecipeImportStatus status(String jobId) {
+    Job job = jobs.get(jobId);
+    if (job == null) {
+      throw new IllegalArgumentException("IMPORT_JOB_NOT_FOUND");
+    }
+    return job.toStatus();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow(); // 진행 중인 청크는 롤백, 체크포인트는 마지막 커밋 기준
+  }
+
+  // ===================== 적재 본체 =====================
+
+  private void run(Job job, Path file, UserEntity owner, boolean fromStart) throws IOException {
+    String source = job.source;
+    TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+    if (fromStart) {
+      tx.executeWithoutResult(s -> checkpointRepository.upsert(source, 0));
+    }
+    long committed = checkpointRepository.findRecords(source).orElse(0L);
+    job.skipped.set(committed);
+
+    try (CsvRecordReader reader = new CsvRecordReader(
+        new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8))) {
+
+      List<String> header = reader.next();
+      if (header == null) {
+        return;
+      }
+      Map<String, Integer> columns = new HashMap<>();
+      for (int i = 0; i < header.size(); i++) {
+        columns.put(header.get(i).trim().toUpperCase(), i);
+      }
+
+      // 체크포인트까지는 읽기만 하고 버림
+      for (long i = 0; i < committed; i++) {
+        if (reader.next() == null) {
+          return;
+        }
+      }
+
+      long position = committed; // 헤더 제외, 빈 줄 포함 읽은 레코드 수
+      List<List<String>> chunk = new ArrayList<>(chunkSize);
+      List<String> record;
+      while (true) {
+        record = reader.next();
+        if (record != null) {
+          position++;
+          if (!(record.size() == 1 && record.get(0).isBlank())) {
+            chunk.add(record);
+          }
+        }
+        if (chunk.size() >= chunkSize || (record == null && !chunk.isEmpty())) {
+          importChunk(tx, job, chunk, columns, owner, position);
+          chunk = new ArrayList<>(chunkSize);
+        }
+        if (record == null) {
+          break;
+        }
+        if (Thread.currentThread().isInterrupted()) {
+          throw new IllegalStateException("IMPORT_INTERRUPTED");
+        }
+      }
+    }
+  }
+
+  private void importChunk(TransactionTemplate tx, Job job, List<List<String>> records,
+      Map<String, Integer> columns, UserEntity owner, long checkpoint) {
+
+    // 1. 레코드 → 게시글/재료 (CPU 작업이라 병렬)
+    List<ParsedRecipe> parsed = records.parallelStream()
+        .map(r -> parse(r, columns, owner))
+        .toList();
+    List<ParsedRecipe> valid = parsed.stream().filter(p -> p != null).toList();
+    job.failed.addAndGet(parsed.size() - valid.size());
+
+    // 2. 청크 안의 재료명 분류 (병렬)
+    Set<String> names = new LinkedHashSet<>();
+    valid.forEach(p -> names.addAll(p.amounts().keySet()));
+    Map<String, String> sorts = names.parallelStream()
+        .collect(Collectors.toConcurrentMap(n -> n, ingredientClassifier::classify));
+
+    // 3. 청크 단위 트랜잭션: 게시글 → 재료 → 레시피-재료 → 체크포인트
+    tx.executeWithoutResult(status -> {
+      List<Integer> postIds = postBulkRepository.insertPosts(
+          valid.stream().map(ParsedRecipe::post).toList());
+      Map<String, Ingredient> ingredients = recipeIngredientWriter.resolve(new LinkedHashMap<>(sorts));
+
+      List<RecipeIngredient> rows = new ArrayList<>();
+      for (int i = 0; i < valid.size(); i++) {
+        Integer postId = postIds.get(i);
+        valid.get(i).amounts().forEach((name, amount) -> {
+          Ingredient ing = ingredients.get(name);
+          if (ing != null) {
+            rows.add(RecipeIngredient.builder().postId(postId).ingId(ing.getIngId()).amount(amount)
+                .build());
+          }
+        });
+      }
+      ingredientBulkRepository.insertRecipeIngredients(rows);
+      checkpointRepository.upsert(job.source, checkpoint);
+      bumpRecipeCounters(valid);
+
+      // 청크당 한 번 (날씨 버킷/메인 피드 등은 커밋 이후 반영)
+      eventPublisher.publishEvent(new PostChangedEvent(PostChangedEvent.Type.CREATED, postIds));
+    });
+
+    job.imported.addAndGet(valid.size());
+    job.chunks.incrementAndGet();
+    RecipeImportStatus s = job.toStatus();
+    log.info("[레시피적재] 청크 커밋 - 누적: {}건(건너뜀 {}, 실패 {}), {}건/초",
+        s.skippedRecords() + s.importedRecords(), s.skippedRecords(), s.failedRecords(),
+        String.format("%.1f", s.recordsPerSecond()));
+  }
+
+  /** 정식 글로 들어온 것만 작성자별로 모아 프로필 카운터 반영 (작성자당 UPDATE 1번) */
+  private void bumpRecipeCounters(List<ParsedRecipe> valid) {
+    Map<Integer, long[]> byOwner = new LinkedHashMap<>();
+    for (ParsedRecipe r : valid) {
+      PostEntity p = r.post();
+      if (p.getRcpIsOfficial() == null || p.getRcpIsOfficial() != 1) {
+        continue;
+      }
+      long[] acc = byOwner.computeIfAbsent(p.getUserId(), k -> new long[2]);
+      acc[0]++;
+      acc[1] += p.getLikeCount() == null ? 0 : p.getLikeCount();
+    }
+    byOwner.forEach((userId, acc) -> profileCounters.recipesPublished(userId, (int) acc[0], acc[1]));
+  }
+
+  // ===================== 파싱 =====================
+
+  private record ParsedRecipe(PostEntity post, Map<String, String> amounts) {
+
+  }
+
+  private ParsedRecipe parse(List<String> r, Map<String, Integer> col, UserEntity owner) {
+    try {
+      String title = get(r, col, "TITLE");
+      String foodName = get(r, col, "FOOD_NAME");
+      if (title.isEmpty() || foodName.isEmpty()) {
+        return null;
+      }
+      String mtrl = get(r, col, "CKG_MTRL_CN");
+      String email = get(r, col, "EMAIL");
+      String nickname = get(r, col, "NICKNAME");
+
+      PostEntity post = PostEntity.builder()
+          .userId(owner.getUserId())
+          .userEmail(email.isEmpty() ? owner.getEmail() : email)
+          .userNickname(nickname.isEmpty() ? owner.getNickname() : nickname)
+          .title(title)
+          .foodName(foodName)
+          .viewCount(toInt(get(r, col, "VIEW_COUNT"), 0))
+          .likeCount(toInt(get(r, col, "LIKE_COUNT"), 0))
+          .reportCount(toInt(get(r, col, "REPORT_COUNT"), 0))
+          .rcpIsOfficial(toInt(get(r, col, "RCP_IS_OFFICIAL"), 1))
+          .ckgMth(method(get(r, col, "CKG_MTH")))
+          .ckgCategory(category(get(r, col, "CKG_CATEGORY")))
+          .ckgKnd(kind(get(r, col, "CKG_KND")))
+          .ckgMtrlCn(mtrl)
+          .ckgInbun(toInt(get(r, col, "CKG_INBUN"), 1))
+          .ckgLevel(toInt(get(r, col, "CKG_LEVEL"), 1))
+          .ckgTime(toInt(get(r, col, "CKG_TIME"), 0))
+          .rcpImgUrl(get(r, col, "RCP_IMG_URL"))
+          .rcpSteps(get(r, col, "RCP_STEPS"))
+          .rcpStepsImg(blankToNull(get(r, col, "RCP_STEPS_IMG")))
+          .createdAt(toDateTime(get(r, col, "CREATED_AT")))
+          .build();
+      return new ParsedRecipe(post, parseIngredients(mtrl));
+    } catch (RuntimeException e) {
+      log.warn("[레시피적재] 레코드 건너뜀 - {}: {}", r.isEmpty() ? "?" : r.get(0), e.getMessage());
+      return null;
+    }
+  }
+
+  // "[재료] 떡국떡400g| 다진소고기100g| 소금" → {떡국떡=400g, 다진소고기=100g, 소금=}
+  private static Map<String, String> parseIngredients(String mtrl) {
+    Map<String, String> result = new LinkedHashMap<>();
+    if (mtrl == null || mtrl.isBlank()) {
+      return result;
+    }
+    String body = mtrl.replace("[재료]", "");
+    for (String token : body.split("\\|")) {
+      String t = token.trim();
+      if (t.isEmpty()) {
+        continue;
+      }
+      Matcher m = NAME_AMOUNT.matcher(t);
+      boolean matched = m.matches();
+      String name = matched ? m.group(1).trim() : t;
+      String amount = matched && m.group(2) != null ? m.group(2).trim() : "";
+      if (!name.isEmpty() && name.length() <= 100) {
+        result.put(name, amount);
+      }
+    }
+    return result;
+  }
+
+  private static String get(List<String> r, Map<String, Integer> col, String name) {
+    Integer idx = col.get(name);
+    return (idx == null || idx >= r.size() || r.get(idx) == null) ? "" : r.get(idx).trim();
+  }
+
+  private static int toInt(String v, int def) {
+    try {
+      return v.isEmpty() ? def : Integer.parseInt(v);
+    } catch (NumberFormatException e) {
+      return def;
+    }
+  }
+
+  private static LocalDateTime toDateTime(String v) {
+    try {
+      return v.isEmpty() ? LocalDateTime.now() : LocalDateTime.parse(v, CREATED_AT);
+    } catch (RuntimeException e) {
+      return LocalDateTime.now();
+    }
+  }
+
+  private static String blankToNull(String v) {
+    return v.isEmpty() ? null : v;
+  }
+
+  private static CookingMethod method(String v) {
+    for (CookingMethod m : CookingMethod.values()) {
+      if (m.getDescription().equals(v) || m.name().equalsIgnoreCase(v)) {
+        return m;
+      }
+    }
+    return CookingMethod.OTHER;
+  }
+
+  private static CookingCategory category(String v) {
+    for (CookingCategory c : CookingCategory.values()) {
+      if (c.getDescription().equals(v) || c.name().equalsIgnoreCase(v)) {
+        return c;
+      }
+    }
+    return CookingCategory.OTHER;
+  }
+
+  private static CookingKind kind(String v) {
+    for (CookingKind k : CookingKind.values()) {
+      if (k.getDescription().equals(v) || k.name().equalsIgnoreCase(v)) {
+        return k;
+      }
+    }
+    return CookingKind.OTHER;
+  }
+
+  // ===================== 진행 상황 =====================
+
+  private static final class Job {
+
+    final String id;
+    final String source;
+    final LocalDateTime startedAt = LocalDateTime.now();
+    final long startedNanos = System.nanoTime();
+    final AtomicLong skipped = new AtomicLong();
+    final AtomicLong imported = new AtomicLong();
+    final AtomicLong failed = new AtomicLong();
+    final AtomicLong chunks = new AtomicLong();
+    volatile String state = "RUNNING";
+    volatile LocalDateTime finishedAt;
+    volatile String lastError;
+
+    Job(String id, String source) {
+      this.id = id;
+      this.source = source;
+    }
+
+    RecipeImportStatus toStatus() {
+      double seconds = Math.max((System.nanoTime() - startedNanos) / 1e9, 0.001);
+      long done = imported.get() + failed.get();
+      return new RecipeImportStatus(id, source, state, startedAt, finishedAt, skipped.get(),
+          imported.get(), failed.get(), chunks.get(), done / seconds, lastError);
+    }
+  }
+}
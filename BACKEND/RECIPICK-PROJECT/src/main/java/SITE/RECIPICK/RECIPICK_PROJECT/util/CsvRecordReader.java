@@ -0,0 +1,101 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스트리밍 CSV 레코드 리더 (RFC 4180).
+ * <p>
+ * 한 번에 레코드 하나만 메모리에 올리므로 파일 크기와 상관없이 메모리 사용량이 일정하다. 따옴표 안의 쉼표/줄바꿈, "" 이스케이프를
+ * 지원한다.
+ */
+public final class CsvRecordReader implements Closeable {
+
+    private final Reader reader;
+    private final char[] buf = new char[64 * 1024];
+    private int pos;
+    private int len;
+    private long recordCount;
+
+    public CsvRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /** 다음 레코드 (파일 끝이면 null) */
+    public List<String> next() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        if (recordCount == 0 && c == '\uFEFF') {
+            c = read(); // BOM 제거
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("닫히지 않은 따옴표 - 레코드 " + (recordCount + 1));
+                }
+                if (c == '"') {
+                    int n = read();
+                    if (n == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = n;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r' || c == -1) {
+                if (c == '\r') {
+                    int n = read();
+                    if (n != '\n' && n != -1) {
+                        pos--; // \r 단독 줄바꿈
+                    }
+                }
+                fields.add(field.toString());
+                recordCount++;
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /** 지금까지 읽은 레코드 수 (헤더 포함) */
+    public long recordCount() {
+        return recordCount;
+    }
+
+    private int read() throws IOException {
+        if (pos >= len) {
+            len = reader.read(buf, 0, buf.length);
+            pos = 0;
+            if (len <= 0) {
+                len = 0;
+                return -1;
+            }
+        }
+        return buf[pos++];
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -1,9 +1,10 @@
 package SITE.RECIPICK.RECIPICK_PROJECT.util;
 
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
-import SITE.RECIPICK.RECIPICK_PROJECT.entity.UserEntity;
+import SITE.RECIPICK.RECIPICK_PROJECT.config.RecipickPrincipal;
 import SITE.RECIPICK.RECIPICK_PROJECT.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 
@@ -14,24 +15,43 @@ public class CurrentUser {
     private final UserRepository userRepository;
 
     public String email() {
-        var auth = SecurityContextHolder.getContext().getAuthentication();
-        if (auth == null
-                || !auth.isAuthenticated()
-                || "anonymousUser".equals(auth.getPrincipal())) {
-            throw new org.springframework.web.server.ResponseStatusException(
-                    org.springframework.http.HttpStatus.UNAUTHORIZED, "UNAUTHENTICATED");
-        }
-        return auth.getName(); // ← principal = email
+        return authentication().getName(); // ← principal = email
     }
 
     public Integer userId() {
+        return principal().getUserId();
+    }
+
+    public String nickname() {
+        return principal().getNickname();
+    }
+
+    /**
+     * 로그인 시 세션에 담아 둔 principal (조회 없음). 그 외 인증(테스트용 mock 등)만 email 로 한 번 조회
+     */
+    public RecipickPrincipal principal() {
+        Authentication auth = authentication();
+        if (auth.getPrincipal() instanceof RecipickPrincipal p) {
+            return p;
+        }
         return userRepository
-                .findByEmail(email())
-                .map(UserEntity::getUserId)
+                .findByEmail(auth.getName())
+                .map(RecipickPrincipal::of)
                 .orElseThrow(
                         () ->
                                 new org.springframework.web.server.ResponseStatusException(
                                         org.springframework.http.HttpStatus.NOT_FOUND,
                                         "USER_NOT_FOUND"));
     }
+
+    private Authentication authentication() {
+        var auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null
+                || !auth.isAuthenticated()
+                || "anonymousUser".equals(auth.getPrincipal())) {
+            throw new org.springframework.web.server.ResponseStatusException(
+                    org.springframework.http.HttpStatus.UNAUTHORIZED, "UNAUTHENTICATED");
+        }
+        return auth;
+    }
 }
@@ -0,0 +1,29 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.util;
+
+import java.text.Normalizer;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 재료명 비교 규칙.
+ * <p>
+ * ingredient.name 의 unique 키는 DB 콜레이션(대소문자·악센트 무시)으로 비교되므로 "Onion" 과 "onion", "café" 와 "cafe" 는 같은
+ * 행이다. 이름 → 재료 맵을 이 순서로 만들면 입력 표기가 DB 에 저장된 표기와 달라도 같은 재료를 찾는다.
+ */
+public final class IngredientNames {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    /** 콜레이션 기준으로 같은 이름은 같은 키 */
+    public static final Comparator<String> ORDER = Comparator.comparing(IngredientNames::key);
+
+    private IngredientNames() {
+    }
+
+    /** 호환 분해(NFKD) → 결합 부호 제거 → 소문자 */
+    public static String key(String name) {
+        String decomposed = Normalizer.normalize(name.trim(), Normalizer.Form.NFKD);
+        return MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+}
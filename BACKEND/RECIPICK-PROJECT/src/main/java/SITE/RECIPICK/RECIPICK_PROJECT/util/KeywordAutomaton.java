@@ -0,0 +1,190 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 키워드 → 라벨(int) 다중 문자열 매칭용 Aho-Corasick 오토마톤.
+ * <p>
+ * 한 번 build 하면 불변이므로 여러 스레드에서 그대로 공유해서 쓰면 된다. 라벨은 작을수록 우선순위가 높다.
+ */
+public final class KeywordAutomaton {
+
+    /** 어떤 키워드도 포함되지 않음 */
+    public static final int NO_MATCH = -1;
+
+    private static final int NONE = Integer.MAX_VALUE;
+
+    // 노드별 전이 (문자 정렬 + 이진 탐색)
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] fail;
+    // 해당 노드(+fail 체인)에서 끝나는 키워드 중 가장 작은 라벨
+    private final int[] best;
+    // 해당 노드(+fail 체인)에서 끝나는 키워드들의 라벨 비트 (라벨 0~31 만)
+    private final int[] mask;
+    private final int keywordCount;
+
+    private KeywordAutomaton(char[][] edgeChars, int[][] edgeTargets, int[] fail, int[] best,
+                             int[] mask, int keywordCount) {
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.fail = fail;
+        this.best = best;
+        this.mask = mask;
+        this.keywordCount = keywordCount;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /** text 에 포함된 키워드들 중 가장 작은 라벨 (없으면 NO_MATCH) - 한 번의 선형 스캔 */
+    public int firstLabel(CharSequence text) {
+        if (text == null) {
+            return NO_MATCH;
+        }
+        int state = 0;
+        int result = NONE;
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, text.charAt(i));
+            if (best[state] < result) {
+                result = best[state];
+                if (result == 0) {
+                    break; // 최우선 라벨이면 더 볼 필요 없음
+                }
+            }
+        }
+        return result == NONE ? NO_MATCH : result;
+    }
+
+    /** text 에 포함된 모든 키워드의 라벨을 비트로 모은 값 (라벨 0~31 만 표현, 없으면 0) */
+    public int labelMask(CharSequence text) {
+        if (text == null) {
+            return 0;
+        }
+        int state = 0;
+        int result = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, text.charAt(i));
+            result |= mask[state];
+        }
+        return result;
+    }
+
+    public int keywordCount() {
+        return keywordCount;
+    }
+
+    private int next(int state, char c) {
+        while (true) {
+            int idx = Arrays.binarySearch(edgeChars[state], c);
+            if (idx >= 0) {
+                return edgeTargets[state][idx];
+            }
+            if (state == 0) {
+                return 0;
+            }
+            state = fail[state];
+        }
+    }
+
+    public static final class Builder {
+
+        private final List<Map<Character, Integer>> goTo = new ArrayList<>();
+        private final List<Integer> labels = new ArrayList<>();
+        private final List<Integer> masks = new ArrayList<>();
+        private int keywordCount;
+
+        private Builder() {
+            newNode();
+        }
+
+        public Builder add(String keyword, int label) {
+            if (keyword == null || keyword.isEmpty()) {
+                return this;
+            }
+            if (label < 0) {
+                throw new IllegalArgumentException("라벨은 0 이상이어야 합니다: " + label);
+            }
+            int state = 0;
+            for (int i = 0; i < keyword.length(); i++) {
+                char c = keyword.charAt(i);
+                Integer next = goTo.get(state).get(c);
+                if (next == null) {
+                    next = newNode();
+                    goTo.get(state).put(c, next);
+                }
+                state = next;
+            }
+            labels.set(state, Math.min(labels.get(state), label));
+            if (label < Integer.SIZE) {
+                masks.set(state, masks.get(state) | (1 << label));
+            }
+            keywordCount++;
+            return this;
+        }
+
+        public KeywordAutomaton build() {
+            int n = goTo.size();
+            int[] fail = new int[n];
+            int[] best = new int[n];
+            int[] mask = new int[n];
+            for (int i = 0; i < n; i++) {
+                best[i] = labels.get(i);
+                mask[i] = masks.get(i);
+            }
+
+            // BFS 로 fail 링크 계산 (얕은 노드가 먼저 확정되므로 best 도 같이 전파)
+            ArrayDeque<Integer> queue = new ArrayDeque<>();
+            queue.add(0);
+            while (!queue.isEmpty()) {
+                int r = queue.poll();
+                for (Map.Entry<Character, Integer> e : goTo.get(r).entrySet()) {
+                    char c = e.getKey();
+                    int s = e.getValue();
+                    queue.add(s);
+
+                    int f = fail[r];
+                    while (f != 0 && !goTo.get(f).containsKey(c)) {
+                        f = fail[f];
+                    }
+                    Integer t = goTo.get(f).get(c);
+                    fail[s] = (t != null && t != s) ? t : 0;
+                    best[s] = Math.min(best[s], best[fail[s]]);
+                    mask[s] |= mask[fail[s]];
+                }
+            }
+
+            char[][] edgeChars = new char[n][];
+            int[][] edgeTargets = new int[n][];
+            for (int i = 0; i < n; i++) {
+                Map<Character, Integer> edges = goTo.get(i);
+                char[] chars = new char[edges.size()];
+                int k = 0;
+                for (Character c : edges.keySet()) {
+                    chars[k++] = c;
+                }
+                Arrays.sort(chars);
+                int[] targets = new int[chars.length];
+                for (int j = 0; j < chars.length; j++) {
+                    targets[j] = edges.get(chars[j]);
+                }
+                edgeChars[i] = chars;
+                edgeTargets[i] = targets;
+            }
+            return new KeywordAutomaton(edgeChars, edgeTargets, fail, best, mask, keywordCount);
+        }
+
+        private int newNode() {
+            goTo.add(new HashMap<>());
+            labels.add(NONE);
+            masks.add(0);
+            return goTo.size() - 1;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.util;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 지역 힌트 → 기상청 ASOS 관측소 번호(stn).
+ * <p>
+ * 요청 경로에서 네트워크 없이 바로 찾을 수 있도록 시/도 및 주요 도시 이름(한글/영문)만 정적 테이블로 둔다. 숫자가 들어오면
+ * 관측소 번호로 그대로 쓴다.
+ */
+public final class KmaStations {
+
+    /** 기본 관측소 (서울) */
+    public static final int DEFAULT_STN = 108;
+
+    /** 관측소 번호 상한 (배열 인덱스용) */
+    public static final int MAX_STN = 1000;
+
+    private static final Map<String, Integer> BY_NAME = new HashMap<>();
+
+    static {
+        put(108, "서울", "seoul", "서울특별시", "경기", "gyeonggi");
+        put(112, "인천", "incheon", "인천광역시");
+        put(119, "수원", "suwon");
+        put(101, "춘천", "chuncheon", "강원", "gangwon");
+        put(105, "강릉", "gangneung");
+        put(114, "원주", "wonju");
+        put(131, "청주", "cheongju", "충북", "chungbuk");
+        put(133, "대전", "daejeon", "대전광역시", "충남", "chungnam");
+        put(239, "세종", "sejong", "세종특별자치시");
+        put(146, "전주", "jeonju", "전북", "jeonbuk");
+        put(156, "광주", "gwangju", "광주광역시");
+        put(165, "목포", "mokpo", "전남", "jeonnam");
+        put(168, "여수", "yeosu");
+        put(143, "대구", "daegu", "대구광역시");
+        put(136, "안동", "andong", "경북", "gyeongbuk");
+        put(138, "포항", "pohang");
+        put(152, "울산", "ulsan", "울산광역시");
+        put(159, "부산", "busan", "부산광역시");
+        put(155, "창원", "changwon", "경남", "gyeongnam");
+        put(184, "제주", "jeju", "제주특별자치도");
+        put(189, "서귀포", "seogwipo");
+    }
+
+    private KmaStations() {
+    }
+
+    private static void put(int stn, String... names) {
+        for (String n : names) {
+            BY_NAME.put(n.toLowerCase(Locale.ROOT), stn);
+        }
+    }
+
+    /**
+     * 힌트("부산", "busan", "159", "부산광역시 해운대구" 등) → 관측소 번호. 모르면 DEFAULT_STN
+     */
+    public static int resolve(String hint) {
+        if (hint == null || hint.isBlank()) {
+            return DEFAULT_STN;
+        }
+        String h = hint.trim().toLowerCase(Locale.ROOT);
+        try {
+            int stn = Integer.parseInt(h);
+            return (stn > 0 && stn < MAX_STN) ? stn : DEFAULT_STN;
+        } catch (NumberFormatException ignore) {
+            // 이름으로 조회
+        }
+        Integer stn = BY_NAME.get(h);
+        if (stn != null) {
+            return stn;
+        }
+        // "부산광역시 해운대구" 처럼 주소 앞부분만 맞는 경우
+        int sp = h.indexOf(' ');
+        if (sp > 0) {
+            stn = BY_NAME.get(h.substring(0, sp));
+            if (stn != null) {
+                return stn;
+            }
+        }
+        return DEFAULT_STN;
+    }
+}
@@ -1,5 +1,6 @@
 package SITE.RECIPICK.RECIPICK_PROJECT.util;
 
+import SITE.RECIPICK.RECIPICK_PROJECT.dto.PostCard;
 import SITE.RECIPICK.RECIPICK_PROJECT.dto.PostDto;
 import SITE.RECIPICK.RECIPICK_PROJECT.entity.PostEntity;
 import SITE.RECIPICK.RECIPICK_PROJECT.entity.PostEntity.CookingCategory;
@@ -51,6 +52,33 @@ public final class PostMapper {
         .build();
   }
 
+  /* ========== 카드 프로젝션 -> DTO (목록 응답; 재료/단계 필드는 비움) ========== */
+  public static PostDto toDto(PostCard c) {
+    if (c == null) {
+      return null;
+    }
+
+    return PostDto.builder()
+        .postId(c.postId())
+        .userId(c.userId())
+        .author(c.userNickname())
+        .title(c.title())
+        .foodName(c.foodName())
+        .ckgMth(c.ckgMth() == null ? null : c.ckgMth().getDescription())
+        .ckgCategory(c.ckgCategory() == null ? null : c.ckgCategory().getDescription())
+        .ckgKnd(c.ckgKnd() == null ? null : c.ckgKnd().getDescription())
+        .ckgInbun(c.ckgInbun())
+        .ckgLevel(c.ckgLevel())
+        .ckgTime(c.ckgTime())
+        .rcpImgUrl(c.rcpImgUrl())
+        .rcpIsOfficial(c.rcpIsOfficial())
+        .likeCount(c.likeCount())
+        .viewCount(c.viewCount())
+        .reportCount(c.reportCount())
+        .createdAt(c.createdAt())
+        .build();
+  }
+
   /* ========== DTO -> Entity (등록/수정 입력) ========== */
   public static PostEntity toEntity(PostDto d) {
     if (d == null) {
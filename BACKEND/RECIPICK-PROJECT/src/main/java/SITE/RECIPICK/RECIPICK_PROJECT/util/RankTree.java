@@ -0,0 +1,179 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * (점수 내림차순, id 오름차순) 으로 정렬된 순위용 트리 (크기를 품은 treap).
+ * <p>
+ * 갱신/순위 조회/k 번째 조회가 모두 기대 O(log n), 상위 목록은 O(log n + limit). 동시 접근은 호출 쪽에서 잠금으로 막는다.
+ */
+public final class RankTree {
+
+    public record Entry(int id, int score) {
+
+    }
+
+    private static final class Node {
+
+        final int id;
+        final int score;
+        final int priority;
+        Node left;
+        Node right;
+        int size = 1;
+
+        Node(int id, int score, int priority) {
+            this.id = id;
+            this.score = score;
+            this.priority = priority;
+        }
+    }
+
+    private final SplittableRandom random = new SplittableRandom(0x5EED);
+    private final Map<Integer, Integer> scores = new HashMap<>();
+    private Node root;
+
+    public int size() {
+        return size(root);
+    }
+
+    public Integer scoreOf(int id) {
+        return scores.get(id);
+    }
+
+    /** 추가 또는 점수 변경 */
+    public void put(int id, int score) {
+        Integer old = scores.put(id, score);
+        if (old != null) {
+            if (old == score) {
+                return;
+            }
+            root = erase(root, old, id);
+        }
+        Node[] lr = split(root, score, id);
+        root = merge(merge(lr[0], new Node(id, score, random.nextInt())), lr[1]);
+    }
+
+    public boolean remove(int id) {
+        Integer old = scores.remove(id);
+        if (old == null) {
+            return false;
+        }
+        root = erase(root, old, id);
+        return true;
+    }
+
+    /** 점수가 score 보다 높은 항목 수 */
+    public int countAbove(int score) {
+        int count = 0;
+        Node t = root;
+        while (t != null) {
+            if (t.score > score) {
+                count += size(t.left) + 1;
+                t = t.right;
+            } else {
+                t = t.left;
+            }
+        }
+        return count;
+    }
+
+    /** 동점은 같은 순위 (1 + 더 높은 점수 수) */
+    public int rankForScore(int score) {
+        return countAbove(score) + 1;
+    }
+
+    /** 순위, 없으면 -1 */
+    public int rankOf(int id) {
+        Integer score = scores.get(id);
+        return score == null ? -1 : rankForScore(score);
+    }
+
+    /** 정렬 순서로 offset 부터 limit 개 */
+    public List<Entry> range(int offset, int limit) {
+        List<Entry> out = new ArrayList<>(Math.max(0, Math.min(limit, size() - offset)));
+        if (offset < 0 || limit <= 0) {
+            return out;
+        }
+        collect(root, offset, offset + limit, 0, out);
+        return out;
+    }
+
+    // ===== treap =====
+
+    private static int size(Node t) {
+        return t == null ? 0 : t.size;
+    }
+
+    private static Node update(Node t) {
+        t.size = 1 + size(t.left) + size(t.right);
+        return t;
+    }
+
+    // (s1, i1) 이 (s2, i2) 보다 앞서는지
+    private static boolean before(int s1, int i1, int s2, int i2) {
+        return s1 > s2 || (s1 == s2 && i1 < i2);
+    }
+
+    /** [앞서는 것들, (score, id) 이상] */
+    private static Node[] split(Node t, int score, int id) {
+        if (t == null) {
+            return new Node[]{null, null};
+        }
+        if (before(t.score, t.id, score, id)) {
+            Node[] r = split(t.right, score, id);
+            t.right = r[0];
+            return new Node[]{update(t), r[1]};
+        }
+        Node[] l = split(t.left, score, id);
+        t.left = l[1];
+        return new Node[]{l[0], update(t)};
+    }
+
+    private static Node merge(Node a, Node b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        if (a.priority > b.priority) {
+            a.right = merge(a.right, b);
+            return update(a);
+        }
+        b.left = merge(a, b.left);
+        return update(b);
+    }
+
+    private static Node erase(Node t, int score, int id) {
+        if (t == null) {
+            return null;
+        }
+        if (t.score == score && t.id == id) {
+            return merge(t.left, t.right);
+        }
+        if (before(score, id, t.score, t.id)) {
+            t.left = erase(t.left, score, id);
+        } else {
+            t.right = erase(t.right, score, id);
+        }
+        return update(t);
+    }
+
+    // 서브트리 t (전체에서 base 번째부터 시작) 중 [from, to) 구간만 중위 순회
+    private static void collect(Node t, int from, int to, int base, List<Entry> out) {
+        if (t == null || base >= to || base + t.size <= from) {
+            return;
+        }
+        collect(t.left, from, to, base, out);
+        int idx = base + size(t.left);
+        if (idx >= from && idx < to) {
+            out.add(new Entry(t.id, t.score));
+        }
+        collect(t.right, from, to, idx + 1, out);
+    }
+}
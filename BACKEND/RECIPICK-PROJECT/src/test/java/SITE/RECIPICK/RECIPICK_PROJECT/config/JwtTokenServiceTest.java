@@ -0,0 +1,76 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * JwtTokenService 발급/검증 테스트 (DB/스프링 컨텍스트 없이)
+ */
+class JwtTokenServiceTest {
+
+  private static final String SECRET = "recipick-test-secret-0123456789abcdef";
+  private static final long TTL_MS = 3_600_000L;
+
+  private static JwtTokenService service(String secret) {
+    return new JwtTokenService("jwt", secret, TTL_MS, false, 100);
+  }
+
+  private static RecipickPrincipal principal() {
+    return RecipickPrincipal.restore(7, "cook@recipick.site", "요리왕", "ROLE_USER", 123L);
+  }
+
+  private static MockHttpServletRequest requestWith(String token) {
+    MockHttpServletRequest req = new MockHttpServletRequest();
+    req.setCookies(new Cookie(JwtTokenService.COOKIE_NAME, token));
+    return req;
+  }
+
+  @Test
+  @DisplayName("발급한 토큰은 쿠키만으로 같은 principal 로 복원된다")
+  void issuedTokenRoundTrips() {
+    JwtTokenService tokens = service(SECRET);
+    String token = tokens.issue(principal());
+
+    MockHttpServletResponse res = new MockHttpServletResponse();
+    RecipickPrincipal p = tokens.authenticate(requestWith(token), res);
+
+    assertThat(p).isNotNull();
+    assertThat(p.getUserId()).isEqualTo(7);
+    assertThat(p.getEmail()).isEqualTo("cook@recipick.site");
+    assertThat(p.getNickname()).isEqualTo("요리왕");
+    assertThat(p.getRole()).isEqualTo("ROLE_USER");
+    assertThat(p.getLoadedAtMs()).isEqualTo(123L);
+    // 갓 발급한 토큰은 재발급하지 않음
+    assertThat(res.getHeaders(HttpHeaders.SET_COOKIE)).isEmpty();
+
+    // 두 번째부터는 캐시에서 같은 결과
+    assertThat(tokens.authenticate(requestWith(token), new MockHttpServletResponse()))
+        .isEqualTo(p);
+  }
+
+  @Test
+  @DisplayName("다른 키로 서명한 토큰은 거부하고 쿠키를 지운다")
+  void foreignTokenIsRejected() {
+    String forged = service("another-secret-0123456789abcdefghij").issue(principal());
+
+    MockHttpServletResponse res = new MockHttpServletResponse();
+    assertThat(service(SECRET).authenticate(requestWith(forged), res)).isNull();
+    assertThat(res.getHeader(HttpHeaders.SET_COOKIE)).contains("Max-Age=0");
+  }
+
+  @Test
+  @DisplayName("세션 모드는 키 없이 뜨고, 토큰 모드는 짧은 키를 거부한다")
+  void secretIsRequiredOnlyInJwtMode() {
+    assertThat(new JwtTokenService("session", "", TTL_MS, false, 100).enabled()).isFalse();
+    assertThatThrownBy(() -> service("short"))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("JWT_SECRET_REQUIRED");
+  }
+}
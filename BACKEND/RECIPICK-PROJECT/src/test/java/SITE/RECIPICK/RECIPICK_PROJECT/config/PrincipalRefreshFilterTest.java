@@ -0,0 +1,160 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.UserEntity;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+
+/**
+ * PrincipalRefreshFilter: 오래된 principal 재로딩 / 정지·삭제 계정 세션 종료 (DB 대신 메모리 사용자)
+ */
+class PrincipalRefreshFilterTest {
+
+  private static final String SECRET = "recipick-test-secret-0123456789abcdef";
+  private static final int USER_ID = 7;
+
+  private final Map<Integer, UserEntity> users = new HashMap<>();
+  private boolean stale = true;
+  private int reloads;
+
+  // 무효화 여부는 stale 플래그로, 재로딩은 메모리 사용자로
+  private final PrincipalRegistry registry = new PrincipalRegistry(null) {
+    @Override
+    public boolean isStale(RecipickPrincipal p) {
+      return stale;
+    }
+
+    @Override
+    public RecipickPrincipal reload(Integer userId) {
+      reloads++;
+      UserEntity u = users.get(userId);
+      return u == null ? null : RecipickPrincipal.of(u);
+    }
+  };
+
+  private final JwtTokenService sessionMode = new JwtTokenService("session", "", 3_600_000L, false, 100);
+  private final JwtTokenService jwtMode = new JwtTokenService("jwt", SECRET, 3_600_000L, false, 100);
+
+  @AfterEach
+  void clearContext() {
+    SecurityContextHolder.clearContext();
+  }
+
+  private static UserEntity user(String nickname, boolean active) {
+    return UserEntity.builder()
+        .userId(USER_ID)
+        .email("cook@recipick.site")
+        .password("$2a$10$hash")
+        .nickname(nickname)
+        .role("ROLE_USER")
+        .active(active)
+        .build();
+  }
+
+  private static void signIn(String nickname) {
+    RecipickPrincipal p = RecipickPrincipal.restore(USER_ID, "cook@recipick.site", nickname, "ROLE_USER", 1L);
+    SecurityContext context = SecurityContextHolder.createEmptyContext();
+    context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(p, null, p.getAuthorities()));
+    SecurityContextHolder.setContext(context);
+  }
+
+  private static RecipickPrincipal current() {
+    Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+    return auth == null ? null : (RecipickPrincipal) auth.getPrincipal();
+  }
+
+  @Test
+  @DisplayName("오래된 principal 은 DB 값으로 다시 만들고 세션에 저장한다 (비밀번호 해시는 들고 있지 않음)")
+  void staleSessionPrincipalIsReloaded() throws Exception {
+    users.put(USER_ID, user("새닉네임", true));
+    signIn("옛닉네임");
+    MockHttpServletRequest req = new MockHttpServletRequest();
+    MockHttpSession session = new MockHttpSession();
+    req.setSession(session);
+
+    new PrincipalRefreshFilter(registry, sessionMode)
+        .doFilter(req, new MockHttpServletResponse(), new MockFilterChain());
+
+    RecipickPrincipal fresh = current();
+    assertThat(reloads).isEqualTo(1);
+    assertThat(fresh.getNickname()).isEqualTo("새닉네임");
+    assertThat(fresh.getPassword()).isNull();
+    SecurityContext saved = (SecurityContext) session.getAttribute(
+        HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY);
+    assertThat(saved.getAuthentication().getPrincipal()).isSameAs(fresh);
+  }
+
+  @Test
+  @DisplayName("토큰 모드에서는 다시 만든 principal 로 인증 쿠키를 재발급한다")
+  void staleTokenPrincipalIsReissued() throws Exception {
+    users.put(USER_ID, user("새닉네임", true));
+    signIn("옛닉네임");
+    MockHttpServletResponse res = new MockHttpServletResponse();
+
+    new PrincipalRefreshFilter(registry, jwtMode)
+        .doFilter(new MockHttpServletRequest(), res, new MockFilterChain());
+
+    assertThat(current().getNickname()).isEqualTo("새닉네임");
+    assertThat(res.getHeader(HttpHeaders.SET_COOKIE))
+        .startsWith(JwtTokenService.COOKIE_NAME + "=")
+        .doesNotContain("Max-Age=0");
+  }
+
+  @Test
+  @DisplayName("정지된 계정은 인증을 지우고 세션을 끊는다")
+  void suspendedUserIsSignedOut() throws Exception {
+    users.put(USER_ID, user("요리왕", false));
+    signIn("요리왕");
+    MockHttpServletRequest req = new MockHttpServletRequest();
+    MockHttpSession session = new MockHttpSession();
+    req.setSession(session);
+    MockFilterChain chain = new MockFilterChain();
+
+    new PrincipalRefreshFilter(registry, sessionMode).doFilter(req, new MockHttpServletResponse(), chain);
+
+    assertThat(current()).isNull();
+    assertThat(session.isInvalid()).isTrue();
+    assertThat(chain.getRequest()).isNotNull(); // 요청은 익명으로 계속 (인가 필터가 막음)
+  }
+
+  @Test
+  @DisplayName("삭제된 계정은 토큰 모드에서 인증 쿠키를 지운다")
+  void deletedUserCookieIsCleared() throws Exception {
+    signIn("요리왕");
+    MockHttpServletResponse res = new MockHttpServletResponse();
+
+    new PrincipalRefreshFilter(registry, jwtMode)
+        .doFilter(new MockHttpServletRequest(), res, new MockFilterChain());
+
+    assertThat(current()).isNull();
+    assertThat(res.getHeader(HttpHeaders.SET_COOKIE)).contains("Max-Age=0");
+  }
+
+  @Test
+  @DisplayName("오래되지 않았으면 조회하지 않는다")
+  void freshPrincipalIsUntouched() throws Exception {
+    stale = false;
+    signIn("요리왕");
+    RecipickPrincipal before = current();
+
+    new PrincipalRefreshFilter(registry, sessionMode)
+        .doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), new MockFilterChain());
+
+    assertThat(reloads).isZero();
+    assertThat(current()).isSameAs(before);
+  }
+}
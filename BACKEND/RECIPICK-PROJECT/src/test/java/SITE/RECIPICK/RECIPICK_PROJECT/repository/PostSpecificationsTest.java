@@ -0,0 +1,110 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.repository;
+
+import static SITE.RECIPICK.RECIPICK_PROJECT.support.QueryCounter.expect;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.dto.PostCard;
+import SITE.RECIPICK.RECIPICK_PROJECT.dto.PostFacets;
+import SITE.RECIPICK.RECIPICK_PROJECT.dto.PostFilter;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.PostEntity;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.PostEntity.CookingCategory;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.PostEntity.CookingKind;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.PostEntity.CookingMethod;
+import SITE.RECIPICK.RECIPICK_PROJECT.support.Fixtures;
+import SITE.RECIPICK.RECIPICK_PROJECT.support.QueryCountTest;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+/**
+ * /post/all 필터: Specification 조건과, 각 차원을 자기 필터만 빼고 세는 facets
+ */
+@QueryCountTest
+class PostSpecificationsTest {
+
+  @Autowired
+  private TestEntityManager em;
+
+  @Autowired
+  private PostRepository postRepository;
+
+  @BeforeEach
+  void seed() {
+    Integer authorId = em.persist(Fixtures.user("author")).getUserId();
+    persist(authorId, 1, 1, CookingCategory.GRAINS, CookingMethod.BOILING, CookingKind.SOUP, 1, 30);
+    persist(authorId, 2, 1, CookingCategory.GRAINS, CookingMethod.GRILLING, CookingKind.SOUP, 2, 10);
+    persist(authorId, 3, 1, CookingCategory.FRUITS, CookingMethod.BOILING, CookingKind.DESSERT, 1, 60);
+    persist(authorId, 4, 1, CookingCategory.FRUITS, CookingMethod.GRILLING, CookingKind.DESSERT, 3, 5);
+    persist(authorId, 5, 0, CookingCategory.GRAINS, CookingMethod.BOILING, CookingKind.SOUP, 1, 30);
+    em.flush();
+    em.clear();
+  }
+
+  @Test
+  @DisplayName("Specification: null 이 아닌 조건만 AND 로 걸고, 조리시간 범위는 양 끝을 포함한다")
+  void specificationAppliesOnlyGivenConditions() {
+    assertThat(titles(new PostFilter(1, CookingCategory.GRAINS, CookingMethod.BOILING, null, null, null, null)))
+        .containsExactly("레시피 1");
+    assertThat(titles(new PostFilter(null, null, null, null, null, 10, 30)))
+        .containsExactly("레시피 1", "레시피 2", "레시피 5");
+    assertThat(titles(new PostFilter(1, null, null, CookingKind.DESSERT, null, null, null)))
+        .containsExactly("레시피 3", "레시피 4");
+    assertThat(titles(new PostFilter(null, null, null, null, 1, null, null)))
+        .containsExactly("레시피 1", "레시피 3", "레시피 5");
+    assertThat(titles(new PostFilter(null, null, null, null, null, null, null))).hasSize(5);
+  }
+
+  @Test
+  @DisplayName("카테고리를 골라도 카테고리 facet 은 다른 카테고리 건수를 보여 주고, 나머지 facet 은 그 카테고리로 좁힌다")
+  void facetExcludesItsOwnFilter() {
+    PostFacets facets = expect(1, () -> postRepository.countFacets(
+        new PostFilter(1, CookingCategory.GRAINS, null, null, null, null, null)));
+
+    // official 은 차원이 아니므로 모든 facet 에 적용된다 (임시 레시피 5 제외)
+    assertThat(facets.category()).containsOnly(entry("곡류", 2L), entry("과일류", 2L));
+    assertThat(facets.method()).containsOnly(entry("끓이기", 1L), entry("굽기", 1L));
+    assertThat(facets.kind()).containsOnly(entry("국/탕", 2L));
+    assertThat(facets.level()).containsOnly(entry(1, 1L), entry(2, 1L));
+    assertThat(facets.time()).containsOnly(entry(30, 1L), entry(10, 1L));
+  }
+
+  @Test
+  @DisplayName("여러 차원을 고르면 각 facet 은 나머지 차원의 필터만 적용한 건수, 건수 내림차순")
+  void facetsWithSeveralFilters() {
+    PostFacets facets = postRepository.countFacets(
+        new PostFilter(null, CookingCategory.GRAINS, CookingMethod.BOILING, null, null, 20, null));
+
+    // 조리방법 끓이기 + 20분 이상: 1, 3, 5
+    assertThat(facets.category()).containsExactly(entry("곡류", 2L), entry("과일류", 1L));
+    // 곡류 + 20분 이상: 1, 5
+    assertThat(facets.method()).containsOnly(entry("끓이기", 2L));
+    // 곡류 + 끓이기: 1, 5 (조리시간 필터는 자기 차원이라 빠짐)
+    assertThat(facets.time()).containsOnly(entry(30, 2L));
+    assertThat(facets.level()).containsOnly(entry(1, 2L));
+    assertThat(facets.kind()).containsOnly(entry("국/탕", 2L));
+  }
+
+  private List<String> titles(PostFilter filter) {
+    List<PostCard> cards = postRepository.findCards(PostSpecifications.of(filter),
+        PageRequest.of(0, 10, Sort.by("postId"))).getContent();
+    return cards.stream().map(PostCard::title).toList();
+  }
+
+  private void persist(Integer authorId, int i, int official, CookingCategory category,
+      CookingMethod method, CookingKind kind, int level, int time) {
+    PostEntity post = Fixtures.post(authorId, i);
+    post.setRcpIsOfficial(official);
+    post.setCkgCategory(category);
+    post.setCkgMth(method);
+    post.setCkgKnd(kind);
+    post.setCkgLevel(level);
+    post.setCkgTime(time);
+    em.persist(post);
+  }
+}
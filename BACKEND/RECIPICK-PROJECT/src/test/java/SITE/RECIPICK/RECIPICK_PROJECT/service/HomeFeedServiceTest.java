@@ -0,0 +1,121 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.dto.MainPostDto;
+import SITE.RECIPICK.RECIPICK_PROJECT.dto.PostDto;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.PostEntity;
+import SITE.RECIPICK.RECIPICK_PROJECT.event.PostChangedEvent;
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.PostRepository;
+import SITE.RECIPICK.RECIPICK_PROJECT.support.Fixtures;
+import SITE.RECIPICK.RECIPICK_PROJECT.support.QueryCountTest;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 메인 피드 스냅샷: 생성/삭제/공개 전환 이벤트는 다음 점검 때 재계산, 단순 수정과 주기 안의 점검은 기존 스냅샷 유지 (날씨 풀은 가짜
+ * 인덱스).
+ */
+@QueryCountTest
+class HomeFeedServiceTest {
+
+  @Autowired
+  private TestEntityManager em;
+
+  @Autowired
+  private PostRepository postRepository;
+
+  private HomeFeedService service;
+  private Integer authorId;
+  private PostEntity third;
+
+  @BeforeEach
+  void setUp() {
+    authorId = em.persist(Fixtures.user("author")).getUserId();
+    em.persist(Fixtures.post(authorId, 1));
+    em.persist(Fixtures.post(authorId, 2));
+    third = em.persist(Fixtures.post(authorId, 3));
+    em.flush();
+
+    service = new HomeFeedService(postRepository, new FixedWeatherIndex());
+    // 주기/임계값으로는 재계산되지 않게
+    ReflectionTestUtils.setField(service, "refreshMs", 3_600_000L);
+    ReflectionTestUtils.setField(service, "likeThreshold", 1_000L);
+    ReflectionTestUtils.setField(service, "viewThreshold", 1_000L);
+    service.refresh();
+  }
+
+  @Test
+  @DisplayName("아무 신호가 없거나 UPDATED 만 오면 점검해도 같은 스냅샷을 유지한다")
+  void updatedDoesNotInvalidate() {
+    HomeFeedService.Snapshot before = service.snapshot();
+
+    service.refreshIfNeeded();
+    assertThat(service.snapshot()).isSameAs(before);
+
+    service.onPostChanged(PostChangedEvent.of(PostChangedEvent.Type.UPDATED, 1));
+    service.refreshIfNeeded();
+    assertThat(service.snapshot()).isSameAs(before);
+  }
+
+  @Test
+  @DisplayName("CREATED/DELETED/PUBLISHED/HIDDEN 은 다음 점검 때 재계산하고, 한 번 재계산하면 다시 깨끗해진다")
+  void structuralChangesInvalidate() {
+    for (PostChangedEvent.Type type : List.of(PostChangedEvent.Type.CREATED,
+        PostChangedEvent.Type.DELETED, PostChangedEvent.Type.PUBLISHED, PostChangedEvent.Type.HIDDEN)) {
+      HomeFeedService.Snapshot before = service.snapshot();
+
+      service.onPostChanged(PostChangedEvent.of(type, 1));
+      service.refreshIfNeeded();
+      HomeFeedService.Snapshot after = service.snapshot();
+      assertThat(after).as(type.name()).isNotSameAs(before);
+
+      service.refreshIfNeeded();
+      assertThat(service.snapshot()).as(type.name()).isSameAs(after);
+    }
+  }
+
+  @Test
+  @DisplayName("재계산된 스냅샷에는 새 글이 들어가고 비공개된 글은 빠진다. 날씨 풀도 함께 다시 읽는다")
+  void refreshedSnapshotReflectsChanges() {
+    assertThat(titles(service.snapshot().popular())).containsExactlyInAnyOrder("레시피 1", "레시피 2", "레시피 3");
+    assertThat(titles(service.snapshot().pool("hot"))).containsExactly("냉면");
+
+    PostEntity created = em.persist(Fixtures.post(authorId, 4));
+    third.setRcpIsOfficial(0);
+    em.flush();
+
+    service.onPostChanged(PostChangedEvent.of(PostChangedEvent.Type.CREATED, created.getPostId()));
+    service.onPostChanged(PostChangedEvent.of(PostChangedEvent.Type.HIDDEN, third.getPostId()));
+    service.refreshIfNeeded();
+
+    assertThat(titles(service.snapshot().popular())).containsExactlyInAnyOrder("레시피 1", "레시피 2", "레시피 4");
+    assertThat(service.snapshot().pool("normal")).isEmpty();
+  }
+
+  private static List<String> titles(List<MainPostDto> posts) {
+    return posts.stream().map(MainPostDto::title).toList();
+  }
+
+  /**
+   * 날씨 풀을 고정값으로 돌려주는 인덱스
+   */
+  static class FixedWeatherIndex extends WeatherBucketIndex {
+
+    FixedWeatherIndex() {
+      super(null);
+    }
+
+    @Override
+    public Map<String, List<PostDto>> topAll(int n) {
+      PostDto pick = PostDto.builder().postId(99).title("냉면").rcpImgUrl("https://img.recipick.site/99.jpg").build();
+      return Map.of("hot", List.of(pick));
+    }
+  }
+}
@@ -0,0 +1,67 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.Ingredient;
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.IngredientBulkRepository;
+import SITE.RECIPICK.RECIPICK_PROJECT.support.QueryCountTest;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 재료 카탈로그는 DB unique 키와 같은 콜레이션 규칙(IngredientNames.key)으로 이름을 찾는다.
+ */
+@QueryCountTest
+@Import({IngredientCatalog.class, IngredientBulkRepository.class})
+class IngredientCatalogTest {
+
+  @Autowired
+  private JdbcTemplate jdbc;
+
+  @Autowired
+  private IngredientCatalog catalog;
+
+  @BeforeEach
+  void seed() {
+    jdbc.update("INSERT INTO ingredient (ing_id, name, sort) VALUES (901, 'Onion', '채소류')");
+    jdbc.update("INSERT INTO ingredient (ing_id, name, sort) VALUES (902, 'crème fraîche', '달걀/유제품')");
+    jdbc.update("INSERT INTO ingredient (ing_id, name, sort) VALUES (903, '양파', '채소류')");
+    catalog.reload();
+  }
+
+  @Test
+  @DisplayName("대소문자/악센트/전각만 다른 이름도 같은 재료를 찾고, 이름은 DB 표기로 돌려준다")
+  void findIgnoresCaseAndAccent() {
+    assertThat(catalog.find("onion")).extracting(Ingredient::getIngId, Ingredient::getName)
+        .containsExactly(901, "Onion");
+    assertThat(catalog.find(" ONION ").getIngId()).isEqualTo(901);
+    assertThat(catalog.find("Creme Fraiche")).extracting(Ingredient::getIngId, Ingredient::getName)
+        .containsExactly(902, "crème fraîche");
+    assertThat(catalog.find("양파").getSort()).isEqualTo("채소류");
+    assertThat(catalog.find("대파")).isNull();
+    assertThat(catalog.find(null)).isNull();
+  }
+
+  @Test
+  @DisplayName("findAll 은 입력 표기를 키로 돌려주고, 없는 이름은 빠진다")
+  void findAllKeysByInputName() {
+    Map<String, Ingredient> found = catalog.findAll(List.of("ONION", "Crème Fraîche", "대파"));
+
+    assertThat(found).containsOnlyKeys("ONION", "Crème Fraîche");
+    assertThat(found.get("ONION").getIngId()).isEqualTo(901);
+    assertThat(found.get("Crème Fraîche").getIngId()).isEqualTo(902);
+  }
+
+  @Test
+  @DisplayName("sortsOf 도 같은 규칙으로 재료명을 카테고리로 바꾼다")
+  void sortsOfUsesCollationKey() {
+    assertThat(catalog.sortsOf(List.of("onion", "CREME FRAICHE", "채소류", "없는재료")))
+        .containsExactly("채소류", "달걀/유제품");
+  }
+}
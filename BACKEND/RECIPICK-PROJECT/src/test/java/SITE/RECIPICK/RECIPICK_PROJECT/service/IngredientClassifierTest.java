@@ -0,0 +1,118 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 재료 분류: 규칙 파일 순서가 우선순위인 기존 if-contains 체인과 결과가 같은지 (기본 규칙 전체로 대조)
+ */
+class IngredientClassifierTest {
+
+  private final IngredientClassifier classifier = new IngredientClassifier();
+
+  @BeforeEach
+  void init() {
+    classifier.init();
+  }
+
+  @Test
+  @DisplayName("앞 줄 카테고리가 우선: 돼지갈비는 (기존 체인과 같이) 갈비 규칙의 소고기")
+  void earlierRuleWins() {
+    assertThat(classifier.classify("다진 소고기")).isEqualTo("소고기");
+    assertThat(classifier.classify("돼지갈비")).isEqualTo("소고기");
+    assertThat(classifier.classify("삼겹살")).isEqualTo("돼지고기");
+    assertThat(classifier.classify("닭가슴살")).isEqualTo("닭고기");
+    assertThat(classifier.classify("찹쌀가루")).isEqualTo("쌀");
+    assertThat(classifier.classify("표고버섯")).isEqualTo("버섯류");
+  }
+
+  @Test
+  @DisplayName("빈 이름/공백/null 과 매칭 없는 이름은 기타, 앞뒤 공백과 대소문자는 무시")
+  void emptyAndUnknownNames() {
+    assertThat(classifier.classify(null)).isEqualTo(IngredientClassifier.DEFAULT_CATEGORY);
+    assertThat(classifier.classify("")).isEqualTo(IngredientClassifier.DEFAULT_CATEGORY);
+    assertThat(classifier.classify("   ")).isEqualTo(IngredientClassifier.DEFAULT_CATEGORY);
+    assertThat(classifier.classify("xo")).isEqualTo(IngredientClassifier.DEFAULT_CATEGORY);
+    assertThat(classifier.classify("  양파 ")).isEqualTo("채소류");
+  }
+
+  @Test
+  @DisplayName("기본 규칙의 모든 키워드와 '다진 X 약간' 변형이 순차 contains 체인과 같은 카테고리")
+  void matchesSequentialContainsChain() throws IOException {
+    Map<String, List<String>> rules = builtInRules();
+    List<String> names = new ArrayList<>();
+    rules.values().forEach(keywords -> keywords.forEach(k -> {
+      names.add(k);
+      names.add("다진 " + k + " 약간");
+    }));
+
+    for (String name : names) {
+      assertThat(classifier.classify(name)).as(name).isEqualTo(chain(rules, name));
+    }
+    assertThat(names).hasSizeGreaterThan(400);
+  }
+
+  @Test
+  @DisplayName("외부 규칙 파일로 교체하고, 잘못된 파일이면 기존 규칙을 유지한다")
+  void reloadsExternalRules(@TempDir Path dir) throws IOException {
+    Path file = dir.resolve("rules.txt");
+    Files.writeString(file, "향신료=후추,계피\n채소류=양파\n", StandardCharsets.UTF_8);
+    ReflectionTestUtils.setField(classifier, "rulesFile", file.toString());
+
+    assertThat(classifier.reload()).isTrue();
+    assertThat(classifier.classify("통후추")).isEqualTo("향신료");
+    assertThat(classifier.classify("소고기")).isEqualTo(IngredientClassifier.DEFAULT_CATEGORY);
+
+    Files.writeString(file, "카테고리 없는 줄\n", StandardCharsets.UTF_8);
+    assertThat(classifier.reload()).isFalse();
+    assertThat(classifier.classify("통후추")).isEqualTo("향신료");
+  }
+
+  // 기존 PostService.getIngredientCategoryByName 과 같은 방식: 위에서부터 contains 로 확인
+  private static String chain(Map<String, List<String>> rules, String ingredientName) {
+    String name = ingredientName.toLowerCase().trim();
+    for (Map.Entry<String, List<String>> rule : rules.entrySet()) {
+      for (String keyword : rule.getValue()) {
+        if (name.contains(keyword)) {
+          return rule.getKey();
+        }
+      }
+    }
+    return IngredientClassifier.DEFAULT_CATEGORY;
+  }
+
+  private static Map<String, List<String>> builtInRules() throws IOException {
+    Map<String, List<String>> rules = new LinkedHashMap<>();
+    String text = new ClassPathResource("ingredient-category-rules.txt")
+        .getContentAsString(StandardCharsets.UTF_8);
+    for (String raw : text.split("\\R")) {
+      String line = raw.trim();
+      if (line.isEmpty() || line.startsWith("#")) {
+        continue;
+      }
+      int eq = line.indexOf('=');
+      List<String> keywords = new ArrayList<>();
+      for (String k : line.substring(eq + 1).split(",")) {
+        if (!k.isBlank()) {
+          keywords.add(k.toLowerCase().trim());
+        }
+      }
+      rules.put(line.substring(0, eq).trim(), keywords);
+    }
+    return rules;
+  }
+}
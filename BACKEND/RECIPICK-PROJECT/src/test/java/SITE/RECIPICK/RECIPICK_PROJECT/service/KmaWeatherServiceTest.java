@@ -0,0 +1,219 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.dto.WeatherData;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * KmaWeatherService 슬롯 병렬 조회 테스트 (apihub.kma.go.kr 대신 로컬 스텁 서버 사용)
+ */
+class KmaWeatherServiceTest {
+
+  private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+  // 12:34 → 12:30, 12:20, ... 11:30 슬롯을 조회
+  private static final Clock CLOCK =
+      Clock.fixed(ZonedDateTime.of(2025, 1, 15, 12, 34, 0, 0, SEOUL).toInstant(), SEOUL);
+
+  private HttpServer server;
+  private ExecutorService serverPool;
+  private final Map<String, Slot> slots = new ConcurrentHashMap<>();
+  private final Set<String> requested = ConcurrentHashMap.newKeySet();
+  private final Set<String> requestedStations = ConcurrentHashMap.newKeySet();
+  private volatile boolean failAll;
+
+  private record Slot(long delayMs, String body) {
+
+  }
+
+  /**
+   * Reactor Netty 이벤트 루프/커넥션 풀은 WebClient 간에 공유되고 첫 요청 때 만들어진다 (약 2초).
+   * 그 비용이 어느 테스트의 타임아웃에 잡히지 않도록 한 번 미리 호출해 둔다.
+   */
+  @BeforeAll
+  static void warmUpWebClient() throws IOException {
+    HttpServer warmUp = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    warmUp.createContext("/api/typ01/url/kma_sfctm2.php", exchange -> {
+      byte[] body = "# no data\n".getBytes(StandardCharsets.UTF_8);
+      exchange.sendResponseHeaders(200, body.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(body);
+      }
+    });
+    warmUp.start();
+    try {
+      String baseUrl = "http://127.0.0.1:" + warmUp.getAddress().getPort();
+      new KmaWeatherService(baseUrl, "test-key", 10_000, CLOCK)
+          .refresh().block(Duration.ofSeconds(15));
+    } finally {
+      warmUp.stop(0);
+    }
+  }
+
+  @BeforeEach
+  void startStub() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    serverPool = Executors.newFixedThreadPool(8);
+    server.setExecutor(serverPool);
+    server.createContext("/api/typ01/url/kma_sfctm2.php", exchange -> {
+      String query = exchange.getRequestURI().getQuery();
+      String tm = param(query, "tm");
+      requested.add(tm);
+      requestedStations.add(param(query, "stn"));
+      Slot slot = slots.getOrDefault(tm, new Slot(0, "# no data\n"));
+      sleep(slot.delayMs());
+      int status = failAll ? 500 : 200;
+      byte[] body = (failAll ? "error" : slot.body()).getBytes(StandardCharsets.UTF_8);
+      try {
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+          out.write(body);
+        }
+      } catch (IOException ignore) {
+        // 클라이언트가 취소한 요청
+      }
+    });
+    server.start();
+  }
+
+  @AfterEach
+  void stopStub() {
+    server.stop(0);
+    serverPool.shutdownNow();
+  }
+
+  private KmaWeatherService newService(long timeoutMs) {
+    String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    return new KmaWeatherService(baseUrl, "test-key", timeoutMs, CLOCK);
+  }
+
+  @Test
+  @DisplayName("슬롯을 동시에 조회하고 데이터가 있는 가장 최근 슬롯을 고른다")
+  void picksNewestSlotWithDataConcurrently() {
+    slots.put("202501151230", new Slot(300, "# header only\n"));
+    slots.put("202501151220", new Slot(200, obsLine(25.0, 0.0, 0.0)));
+    slots.put("202501151210", new Slot(0, obsLine(5.0, 0.0, 0.0)));
+    slots.put("202501151200", new Slot(400, obsLine(10.0, 0.0, 0.0)));
+    slots.put("202501151150", new Slot(400, obsLine(10.0, 0.0, 0.0)));
+    slots.put("202501151140", new Slot(400, obsLine(10.0, 0.0, 0.0)));
+    slots.put("202501151130", new Slot(400, obsLine(10.0, 0.0, 0.0)));
+
+    KmaWeatherService kma = newService(1000);
+    long t0 = System.nanoTime();
+    assertThat(kma.refresh().block(Duration.ofSeconds(5))).isNotNull();
+    long elapsedMs = (System.nanoTime() - t0) / 1_000_000;
+
+    WeatherData w = kma.lastCachedWeather();
+    assertThat(w).isNotNull();
+    assertThat(w.temp()).isEqualTo(25.0);
+    assertThat(kma.getCachedConditionOrNormal()).isEqualTo("hot");
+    // 순차 조회였다면 지연 합(2.1s 이상)만큼 걸림
+    assertThat(elapsedMs).isLessThan(1500);
+    assertThat(requested).hasSize(7);
+  }
+
+  @Test
+  @DisplayName("타임아웃된 최신 슬롯은 건너뛴다")
+  void skipsTimedOutSlot() {
+    slots.put("202501151230", new Slot(4000, obsLine(30.0, 0.0, 0.0)));
+    slots.put("202501151220", new Slot(0, obsLine(0.0, 0.0, 1.0)));
+
+    KmaWeatherService kma = newService(1000);
+    assertThat(kma.refresh().block(Duration.ofSeconds(5))).isNotNull();
+
+    assertThat(kma.lastCachedWeather().snow()).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("모든 슬롯이 실패하면 이전 캐시를 유지한다")
+  void keepsStaleCacheWhenAllSlotsFail() {
+    slots.put("202501151230", new Slot(0, obsLine(0.0, 3.5, 0.0)));
+    KmaWeatherService kma = newService(2000);
+    assertThat(kma.refresh().block(Duration.ofSeconds(5))).isNotNull();
+    WeatherData first = kma.lastCachedWeather();
+
+    failAll = true;
+    assertThat(kma.refresh().block(Duration.ofSeconds(5))).isNull();
+
+    assertThat(kma.lastCachedWeather()).isEqualTo(first);
+    assertThat(kma.getCachedConditionOrNormal()).isEqualTo("rainy");
+  }
+
+  @Test
+  @DisplayName("한 번의 조회로 관측소별 값을 캐시하고, 없는 관측소는 기본 관측소로 대체한다")
+  void cachesEveryStationFromOneCall() {
+    slots.put("202501151230", new Slot(0,
+        obsLine(108, 5.0, 0.0, 0.0) + obsLine(159, 12.0, 2.0, 0.0) + obsLine(184, 24.0, 0.0, 0.0)));
+    KmaWeatherService kma = newService(2000);
+
+    assertThat(kma.refresh().block(Duration.ofSeconds(5))).isNotNull();
+
+    // 슬롯들은 동시에 나가므로 과거 슬롯 요청 수는 취소 시점에 따라 다르다. 관측소별 호출이 없는지만 본다
+    assertThat(requestedStations).containsExactly("0");
+    assertThat(requested).contains("202501151230").hasSizeLessThanOrEqualTo(7);
+    assertThat(kma.cachedStationCount()).isEqualTo(3);
+    assertThat(kma.getCachedConditionOrNormal(108)).isEqualTo("cold");
+    assertThat(kma.getCachedConditionOrNormal(159)).isEqualTo("rainy");
+    assertThat(kma.getCachedConditionOrNormal(184)).isEqualTo("hot");
+    assertThat(kma.getCachedConditionOrNormal(133)).isEqualTo("cold");
+  }
+
+  // ===== helpers =====
+
+  private static String obsLine(double temp, double rain, double snow) {
+    return obsLine(108, temp, rain, snow);
+  }
+
+  /** kma_sfctm2 형식 데이터 한 줄 (STN=2번째, TA=12번째, RN=16번째, SD_TOT=22번째 컬럼) */
+  private static String obsLine(int stn, double temp, double rain, double snow) {
+    String[] c = new String[46];
+    for (int i = 0; i < c.length; i++) {
+      c[i] = "-9";
+    }
+    c[0] = "202501151200";
+    c[1] = String.valueOf(stn);
+    c[11] = String.valueOf(temp);
+    c[15] = String.valueOf(rain);
+    c[21] = String.valueOf(snow);
+    return "# YYMMDDHHMI STN ...\n" + String.join(" ", c) + "\n";
+  }
+
+  private static String param(String query, String name) {
+    for (String kv : query.split("&")) {
+      int eq = kv.indexOf('=');
+      if (eq > 0 && kv.substring(0, eq).equals(name)) {
+        return kv.substring(eq + 1);
+      }
+    }
+    return null;
+  }
+
+  private static void sleep(long ms) {
+    if (ms <= 0) {
+      return;
+    }
+    try {
+      Thread.sleep(ms);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,133 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.service;
+
+import static SITE.RECIPICK.RECIPICK_PROJECT.support.QueryCounter.expect;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.dto.MyProfileResponse;
+import SITE.RECIPICK.RECIPICK_PROJECT.dto.PostDto;
+import SITE.RECIPICK.RECIPICK_PROJECT.dto.ReviewDto;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.PostEntity;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.PostLikeEntity;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.ProfileEntity;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.ReviewEntity;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.UserEntity;
+import SITE.RECIPICK.RECIPICK_PROJECT.support.Fixtures;
+import SITE.RECIPICK.RECIPICK_PROJECT.support.QueryCountTest;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 마이페이지 목록이 페이지 크기/건수와 상관없이 페이지당 SQL 1번으로 끝나는지 확인
+ */
+@QueryCountTest
+@Import({MyPageService.class, ProfileCounterService.class})
+class MyPageServiceQueryCountTest {
+
+  @Autowired
+  private TestEntityManager em;
+
+  @Autowired
+  private MyPageService myPageService;
+
+  @Autowired
+  private ProfileCounterService profileCounters;
+
+  private Integer userId;
+
+  @BeforeEach
+  void seed() {
+    UserEntity user = em.persist(Fixtures.user("reviewer"));
+    userId = user.getUserId();
+
+    ProfileEntity profile = new ProfileEntity();
+    profile.setUserEntity(user);
+    profile.setNickname("reviewer");
+    em.persist(profile);
+
+    for (int i = 1; i <= 30; i++) {
+      PostEntity post = em.persist(Fixtures.post(userId, i));
+      em.persist(ReviewEntity.builder()
+          .post(post)
+          .user(user)
+          .reviewRating(new BigDecimal("4.50"))
+          .comment("맛있어요 " + i)
+          .build());
+      PostLikeEntity like = new PostLikeEntity();
+      like.setUserEntity(user);
+      like.setPostEntity(post);
+      em.persist(like);
+    }
+    em.flush();
+    em.clear();
+  }
+
+  @Test
+  @DisplayName("내 리뷰 offset 페이지는 크기와 상관없이 SQL 1번, 게시글 카드 필드까지 채워진다")
+  void myReviewsOffsetPage() {
+    List<ReviewDto> first = expect(1, () -> myPageService.getMyReviews(userId, 0, 10, null));
+    assertThat(first).hasSize(10);
+    assertThat(first.get(0).getComment()).isEqualTo("맛있어요 30");
+    assertThat(first).allSatisfy(r -> {
+      assertThat(r.getPost().getTitle()).startsWith("레시피 ");
+      assertThat(r.getPost().getRcpImgUrl()).isNotBlank();
+    });
+
+    List<ReviewDto> big = expect(1, () -> myPageService.getMyReviews(userId, 0, 25, null));
+    assertThat(big).hasSize(25);
+  }
+
+  @Test
+  @DisplayName("offset 은 limit 배수로 내림하지 않는다 (offset=5, limit=10 → 6~15번째)")
+  void myReviewsExactOffset() {
+    List<ReviewDto> page = expect(1, () -> myPageService.getMyReviews(userId, 5, 10, null));
+
+    assertThat(page).hasSize(10);
+    assertThat(page.get(0).getComment()).isEqualTo("맛있어요 25");
+    assertThat(page.get(9).getComment()).isEqualTo("맛있어요 16");
+
+    List<PostDto> liked = myPageService.getMyLikedPosts(userId, 5, 10);
+    assertThat(liked).hasSize(10);
+  }
+
+  @Test
+  @DisplayName("내 리뷰 키셋 페이지도 SQL 1번이고 이전 페이지 다음부터 이어진다")
+  void myReviewsKeysetPage() {
+    List<ReviewDto> first = myPageService.getMyReviews(userId, 0, 10, null);
+    Integer cursor = first.get(first.size() - 1).getReviewId();
+
+    List<ReviewDto> second = expect(1, () -> myPageService.getMyReviews(userId, 0, 10, cursor));
+
+    assertThat(second).hasSize(10);
+    assertThat(second.get(0).getReviewId()).isLessThan(cursor);
+    assertThat(second.get(0).getComment()).isEqualTo("맛있어요 20");
+  }
+
+  @Test
+  @DisplayName("프로필은 카운터 재계산 후 프로필 한 행 읽기(SQL 1번)로 끝난다")
+  void profileIsSingleRowRead() {
+    profileCounters.reconcile();
+    em.clear();
+
+    MyProfileResponse me = expect(1, () -> myPageService.getMyProfile(userId));
+
+    assertThat(me.getNickname()).isEqualTo("reviewer");
+    assertThat(me.getMyRecipeCount()).isEqualTo(30);
+    assertThat(me.getActivityCount()).isEqualTo(30);
+    assertThat(me.getTotalLikesOnMyPosts()).isZero();
+  }
+
+  @Test
+  @DisplayName("좋아요한 글 목록은 SQL 1번 (카드 프로젝션)")
+  void likedPosts() {
+    List<PostDto> liked = expect(1, () -> myPageService.getMyLikedPosts(userId, 0, 20));
+
+    assertThat(liked).hasSize(20);
+    assertThat(liked).allSatisfy(p -> assertThat(p.getTitle()).isNotBlank());
+  }
+}
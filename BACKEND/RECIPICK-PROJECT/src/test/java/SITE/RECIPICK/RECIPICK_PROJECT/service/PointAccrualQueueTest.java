@@ -0,0 +1,82 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.event.PointAccrualEvent;
+import SITE.RECIPICK.RECIPICK_PROJECT.service.PointService.PointAction;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+
+/**
+ * 적립 배치 실패 처리: 문제 있는 한 건만 골라내 max-attempts(기본 5) 번 뒤 버리고, 일시 오류는 버리지 않는다.
+ */
+class PointAccrualQueueTest {
+
+  private static final int POISON_USER = -1;
+
+  private final List<PointAccrualEvent> applied = new ArrayList<>();
+  private volatile boolean dbDown;
+
+  // 장부/프로필 반영 대신 기록만 하는 PointService
+  private final PointService pointService = new PointService(null, null, null, null) {
+    @Override
+    public int applyBatch(List<PointAccrualEvent> events) {
+      if (dbDown) {
+        throw new QueryTimeoutException("lock wait timeout");
+      }
+      if (events.stream().anyMatch(e -> e.userId() == POISON_USER)) {
+        throw new DataIntegrityViolationException("bad row");
+      }
+      applied.addAll(events);
+      return events.size();
+    }
+  };
+
+  private final PointAccrualQueue queue = new PointAccrualQueue(pointService);
+
+  @Test
+  @DisplayName("한 건이 계속 실패해도 나머지는 반영되고, 그 건은 5번 실패 후 버려진다")
+  void poisonEventIsIsolatedAndDropped() {
+    queue.onAccrual(PointAccrualEvent.of(1, PointAction.POST_CREATE));
+    queue.onAccrual(PointAccrualEvent.of(POISON_USER, PointAction.POST_CREATE));
+    queue.onAccrual(PointAccrualEvent.of(2, PointAction.REVIEW_CREATE));
+
+    queue.flush();
+    assertThat(applied).extracting(PointAccrualEvent::userId).containsExactly(1, 2);
+    assertThat(queue.pending()).isEqualTo(1);
+
+    for (int i = 0; i < 3; i++) {
+      queue.flush();
+    }
+    assertThat(queue.pending()).isEqualTo(1);
+    assertThat(queue.dropped()).isZero();
+
+    queue.flush(); // 5번째 실패
+    assertThat(queue.pending()).isZero();
+    assertThat(queue.dropped()).isEqualTo(1);
+    assertThat(applied).hasSize(2);
+  }
+
+  @Test
+  @DisplayName("일시 오류는 횟수에 안 치고 그대로 다음 주기에 재시도")
+  void transientFailureKeepsEvents() {
+    queue.onAccrual(PointAccrualEvent.of(1, PointAction.POST_CREATE));
+    queue.onAccrual(PointAccrualEvent.of(2, PointAction.POST_CREATE));
+
+    dbDown = true;
+    for (int i = 0; i < 10; i++) {
+      queue.flush();
+    }
+    assertThat(queue.pending()).isEqualTo(2);
+    assertThat(queue.dropped()).isZero();
+
+    dbDown = false;
+    queue.flush();
+    assertThat(queue.pending()).isZero();
+    assertThat(applied).extracting(PointAccrualEvent::userId).containsExactly(1, 2);
+  }
+}
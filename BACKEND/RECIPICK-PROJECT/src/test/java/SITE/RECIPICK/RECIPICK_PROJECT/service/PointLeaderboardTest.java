@@ -0,0 +1,87 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.event.PointsUpdatedEvent;
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.PointLedgerRepository;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 리더보드 재구성 도중 들어온 포인트 갱신이 새 트리에서 사라지지 않는지 확인 (DB 대신 메모리 스캔)
+ */
+class PointLeaderboardTest {
+
+  private final Map<Integer, Integer> points = new LinkedHashMap<>();
+  private Runnable midScan = () -> {
+  };
+
+  // profile 전체 스캔 흉내: 절반쯤 읽은 뒤 midScan 실행
+  private final PointLedgerRepository ledger = new PointLedgerRepository(null, null) {
+    @Override
+    public void forEachPoint(BiConsumer<Integer, Integer> consumer) {
+      Map<Integer, Integer> snapshot = new LinkedHashMap<>(points);
+      int i = 0;
+      for (Map.Entry<Integer, Integer> e : snapshot.entrySet()) {
+        if (i++ == snapshot.size() / 2) {
+          midScan.run();
+        }
+        consumer.accept(e.getKey(), e.getValue());
+      }
+    }
+  };
+
+  private final PointLeaderboard leaderboard = new PointLeaderboard(ledger, null);
+
+  @Test
+  @DisplayName("재구성 중 커밋된 적립은 새 트리에 다시 적용된다")
+  void updatesDuringRebuildAreReplayed() {
+    for (int id = 1; id <= 10; id++) {
+      points.put(id, id * 10);
+    }
+    leaderboard.rebuild();
+    assertThat(leaderboard.total()).isEqualTo(10);
+
+    // 스캔은 이미 읽은 값(1번 10점, 10번 100점)을 들고 있고, 그 사이 두 사용자가 적립 + 새 사용자 등장
+    midScan = () -> leaderboard.onPointsUpdated(new PointsUpdatedEvent(Map.of(1, 500, 10, 900, 11, 5)));
+    leaderboard.rebuild();
+
+    assertThat(leaderboard.total()).isEqualTo(11);
+    assertThat(leaderboard.scoreOf(1)).isEqualTo(500);
+    assertThat(leaderboard.scoreOf(10)).isEqualTo(900);
+    assertThat(leaderboard.scoreOf(11)).isEqualTo(5);
+    assertThat(leaderboard.scoreOf(5)).isEqualTo(50);
+  }
+
+  @Test
+  @DisplayName("재구성이 끝난 뒤의 갱신은 바로 트리에 반영된다")
+  void updatesAfterRebuildApplyDirectly() {
+    points.put(1, 10);
+    leaderboard.rebuild();
+
+    leaderboard.onPointsUpdated(new PointsUpdatedEvent(Map.of(1, 30)));
+
+    assertThat(leaderboard.scoreOf(1)).isEqualTo(30);
+  }
+
+  @Test
+  @DisplayName("재구성 뒤 처음 포인트를 받은 사용자는 인원에 더해지고, 기존 사용자의 적립은 인원을 바꾸지 않는다")
+  void firstPointsAddToTotal() {
+    points.put(1, 10);
+    points.put(2, 20);
+    leaderboard.rebuild();
+    assertThat(leaderboard.total()).isEqualTo(2);
+
+    leaderboard.onPointsUpdated(new PointsUpdatedEvent(Map.of(3, 5)));
+    assertThat(leaderboard.total()).isEqualTo(3);
+    assertThat(leaderboard.scoreOf(3)).isEqualTo(5);
+
+    leaderboard.onPointsUpdated(new PointsUpdatedEvent(Map.of(1, 40, 3, 15)));
+    leaderboard.onPointsUpdated(new PointsUpdatedEvent(Map.of(2, 20)));
+    assertThat(leaderboard.total()).isEqualTo(3);
+    assertThat(leaderboard.scoreOf(3)).isEqualTo(15);
+  }
+}
@@ -0,0 +1,110 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.dto.PostDto;
+import SITE.RECIPICK.RECIPICK_PROJECT.event.PostChangedEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 상세 응답 캐시: viewCount 앞뒤로 자른 바이트에 최신 조회수만 끼우고, 버전이 다르면 적중하지 않으며, 바이트 한도를 넘으면 LRU 로 버린다.
+ */
+class PostDetailCacheTest {
+
+  private static final LocalDateTime V1 = LocalDateTime.of(2026, 10, 1, 12, 0);
+  private static final LocalDateTime V2 = V1.plusSeconds(1);
+
+  private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+  private final PostDetailCache cache = new PostDetailCache(objectMapper);
+
+  @BeforeEach
+  void init() {
+    ReflectionTestUtils.setField(cache, "maxBytes", 1_000_000L);
+  }
+
+  @Test
+  @DisplayName("put 은 원래 조회수로 응답하고, get 은 나머지 바이트는 그대로 둔 채 조회수만 바꿔 끼운다")
+  void splicesViewCountBetweenHeadAndTail() throws Exception {
+    PostDto dto = dto(1, 7);
+
+    JsonNode put = objectMapper.readTree(cache.put(1, V1, dto));
+    assertThat(put.get("success").asBoolean()).isTrue();
+    assertThat(put.get("data").get("viewCount").asInt()).isEqualTo(7);
+    assertThat(dto.getViewCount()).isEqualTo(7); // 직렬화용 sentinel 은 DTO 에 남지 않는다
+
+    JsonNode hit = objectMapper.readTree(cache.get(1, V1, 123_456));
+    assertThat(hit.get("data").get("viewCount").asInt()).isEqualTo(123_456);
+    ((ObjectNode) hit.get("data")).put("viewCount", 7);
+    assertThat(hit).isEqualTo(put);
+
+    // 조회수 외 필드(제목에 "viewCount" 문자열이 들어 있어도)는 그대로
+    assertThat(hit.get("data").get("title").asText()).isEqualTo("\"viewCount\":1 레시피");
+    assertThat(objectMapper.readTree(cache.get(1, V1, 0)).get("data").get("viewCount").asInt()).isZero();
+  }
+
+  @Test
+  @DisplayName("updatedAt 버전이 다르거나, 변경 이벤트로 지워졌거나, 없는 글이면 null")
+  void staleVersionMisses() {
+    cache.put(1, V1, dto(1, 7));
+    cache.put(2, V1, dto(2, 7));
+
+    assertThat(cache.get(1, V2, 7)).isNull();
+    assertThat(cache.get(1, null, 7)).isNull();
+    assertThat(cache.get(3, V1, 7)).isNull();
+    assertThat(cache.get(1, V1, 7)).isNotNull();
+
+    cache.onPostChanged(new PostChangedEvent(PostChangedEvent.Type.UPDATED, List.of(1)));
+    assertThat(cache.get(1, V1, 7)).isNull();
+    assertThat(cache.get(2, V1, 7)).isNotNull();
+
+    // 새 버전으로 다시 넣으면 새 버전만 적중
+    cache.put(2, V2, dto(2, 7));
+    assertThat(cache.get(2, V1, 7)).isNull();
+    assertThat(cache.get(2, V2, 7)).isNotNull();
+  }
+
+  @Test
+  @DisplayName("max-bytes 를 넘으면 가장 오래 안 읽힌 글부터 버리고, 같은 글을 다시 넣어도 크기를 두 번 세지 않는다")
+  void evictsLeastRecentlyUsedOverMaxBytes() {
+    cache.put(1, V1, dto(1, 7));
+    long one = cache.totalBytes();
+    cache.put(1, V1, dto(1, 7));
+    assertThat(cache.totalBytes()).isEqualTo(one);
+
+    ReflectionTestUtils.setField(cache, "maxBytes", one * 2 + one / 2); // 두 건까지
+    cache.put(2, V1, dto(2, 7));
+    cache.get(1, V1, 7); // 1 을 최근으로
+    cache.put(3, V1, dto(3, 7));
+
+    assertThat(cache.get(2, V1, 7)).isNull();
+    assertThat(cache.get(1, V1, 7)).isNotNull();
+    assertThat(cache.get(3, V1, 7)).isNotNull();
+    assertThat(cache.totalBytes()).isEqualTo(one * 2);
+
+    cache.evict(1);
+    cache.evict(3);
+    cache.evict(3);
+    assertThat(cache.totalBytes()).isZero();
+  }
+
+  private static PostDto dto(int postId, int viewCount) {
+    return PostDto.builder()
+        .postId(postId)
+        .title("\"viewCount\":" + postId + " 레시피")
+        .foodName("음식")
+        .ckgMtrlCn(List.of("계란 2개"))
+        .rcpSteps(List.of("끓인다"))
+        .createdAt(V1)
+        .viewCount(viewCount)
+        .likeCount(3)
+        .build();
+  }
+}
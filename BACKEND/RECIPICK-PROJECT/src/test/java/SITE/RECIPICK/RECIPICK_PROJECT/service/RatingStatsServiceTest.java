@@ -0,0 +1,139 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.dto.ReviewDto;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.PostEntity;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.ReviewEntity;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.UserEntity;
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.RatingStatsRepository;
+import SITE.RECIPICK.RECIPICK_PROJECT.support.Fixtures;
+import SITE.RECIPICK.RECIPICK_PROJECT.support.QueryCountTest;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 평점 집계: 리뷰 작성/삭제 증감과 일괄 삭제 후 재집계가 구간별 개수와 평균을 review 테이블과 같게 유지하는지 (H2)
+ */
+@QueryCountTest
+@Import(RatingStatsService.class)
+class RatingStatsServiceTest {
+
+  @Autowired
+  private TestEntityManager em;
+
+  @Autowired
+  private RatingStatsService ratingStats;
+
+  @Autowired
+  private RatingStatsRepository ratingStatsRepository;
+
+  private UserEntity owner;
+  private PostEntity post;
+
+  @BeforeEach
+  void seed() {
+    owner = em.persist(Fixtures.user("owner"));
+    post = em.persist(Fixtures.post(owner.getUserId(), 1));
+    em.flush();
+  }
+
+  @Test
+  @DisplayName("평점 구간: N.00 이상 N+1.00 미만은 N, 5.00 은 5, 1.00 미만과 null 은 0")
+  void bucketBoundaries() {
+    assertThat(RatingStatsService.bucketOf(new BigDecimal("0.50"))).isZero();
+    assertThat(RatingStatsService.bucketOf(new BigDecimal("1.00"))).isEqualTo(1);
+    assertThat(RatingStatsService.bucketOf(new BigDecimal("1.99"))).isEqualTo(1);
+    assertThat(RatingStatsService.bucketOf(new BigDecimal("4.50"))).isEqualTo(4);
+    assertThat(RatingStatsService.bucketOf(new BigDecimal("5.00"))).isEqualTo(5);
+    assertThat(RatingStatsService.bucketOf(null)).isZero();
+  }
+
+  @Test
+  @DisplayName("작성은 개수/합계/구간을 더하고 삭제는 같은 값을 빼며, 평균은 소수 6자리")
+  void applyAddsAndRemovesReview() {
+    ratingStats.onReviewCreated(post.getPostId(), new BigDecimal("4.50"));
+    ratingStats.onReviewCreated(post.getPostId(), new BigDecimal("3.00"));
+    ratingStats.onReviewCreated(post.getPostId(), new BigDecimal("5.00"));
+    ratingStats.onReviewCreated(post.getPostId(), new BigDecimal("0.50"));
+
+    ReviewDto four = stats();
+    assertThat(four.getTotalReviews()).isEqualTo(4L);
+    assertThat(four.getAverageRating()).isEqualByComparingTo("3.250000");
+    assertThat(buckets(four)).containsExactly(0L, 0L, 1L, 1L, 1L); // 0.50 은 어느 구간에도 없음
+
+    ratingStats.onReviewDeleted(post.getPostId(), new BigDecimal("3.00"));
+
+    ReviewDto three = stats();
+    assertThat(three.getTotalReviews()).isEqualTo(3L);
+    assertThat(three.getAverageRating()).isEqualByComparingTo("3.333333");
+    assertThat(buckets(three)).containsExactly(0L, 0L, 0L, 1L, 1L);
+
+    ratingStats.onReviewDeleted(post.getPostId(), new BigDecimal("4.50"));
+    ratingStats.onReviewDeleted(post.getPostId(), new BigDecimal("5.00"));
+    ratingStats.onReviewDeleted(post.getPostId(), new BigDecimal("0.50"));
+
+    ReviewDto none = stats();
+    assertThat(none.getTotalReviews()).isZero();
+    assertThat(none.getAverageRating()).isEqualByComparingTo("0");
+    assertThat(buckets(none)).containsExactly(0L, 0L, 0L, 0L, 0L);
+  }
+
+  @Test
+  @DisplayName("일괄 삭제 후 재집계: 지정한 글만 review 기준으로 맞추고, 리뷰가 다 사라진 글의 행은 지운다")
+  void rebuildPostsAndDeleteEmpty() {
+    PostEntity emptied = em.persist(Fixtures.post(owner.getUserId(), 2));
+    PostEntity untouched = em.persist(Fixtures.post(owner.getUserId(), 3));
+    review(post, "4.00");
+    ReviewEntity removed = review(post, "2.00");
+    ReviewEntity emptiedReview = review(emptied, "5.00");
+    review(untouched, "1.00");
+    em.flush();
+    ratingStatsRepository.rebuildAll();
+
+    // 일괄 삭제: 리뷰 행만 지우고 집계는 재집계로 맞춘다
+    em.remove(removed);
+    em.remove(emptiedReview);
+    em.flush();
+    ratingStats.rebuildPosts(List.of(post.getPostId(), emptied.getPostId()));
+
+    ReviewDto s = stats();
+    assertThat(s.getTotalReviews()).isEqualTo(1L);
+    assertThat(s.getAverageRating()).isEqualByComparingTo("4.000000");
+    assertThat(buckets(s)).containsExactly(0L, 0L, 0L, 1L, 0L);
+
+    assertThat(ratingStatsRepository.findById(emptied.getPostId())).isEmpty();
+    assertThat(ratingStatsRepository.findById(untouched.getPostId()))
+        .hasValueSatisfying(r -> assertThat(r.getBucket1()).isEqualTo(1));
+
+    // 빈 목록은 아무것도 하지 않는다
+    ratingStats.rebuildPosts(List.of());
+    assertThat(ratingStatsRepository.count()).isEqualTo(2);
+  }
+
+  private ReviewDto stats() {
+    em.clear(); // 네이티브 UPDATE 결과를 다시 읽도록
+    return ratingStats.getStats(post.getPostId());
+  }
+
+  private ReviewEntity review(PostEntity target, String rating) {
+    UserEntity author = em.persist(Fixtures.user("author" + System.nanoTime()));
+    return em.persist(ReviewEntity.builder()
+        .post(target)
+        .user(author)
+        .reviewRating(new BigDecimal(rating))
+        .comment("리뷰")
+        .build());
+  }
+
+  private static List<Long> buckets(ReviewDto s) {
+    return List.of(s.getRatingCount1(), s.getRatingCount2(), s.getRatingCount3(),
+        s.getRatingCount4(), s.getRatingCount5());
+  }
+}
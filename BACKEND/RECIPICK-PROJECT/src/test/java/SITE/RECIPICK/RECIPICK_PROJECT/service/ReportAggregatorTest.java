@@ -0,0 +1,125 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.dto.ReportCreateRequest;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.PostEntity;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.ReportTargetType;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.UserEntity;
+import SITE.RECIPICK.RECIPICK_PROJECT.event.PostChangedEvent;
+import SITE.RECIPICK.RECIPICK_PROJECT.event.ReportEvent;
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.ActivityRepository;
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.ReportCounterRepository;
+import SITE.RECIPICK.RECIPICK_PROJECT.service.admin.AdminService;
+import SITE.RECIPICK.RECIPICK_PROJECT.support.Fixtures;
+import SITE.RECIPICK.RECIPICK_PROJECT.support.QueryCountTest;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+/**
+ * 자동 비공개는 신고 건수가 아니라 신고자 수 기준: 한 사람이 반복 신고해도 임계치(기본 5)에 닿지 않는다.
+ *
+ * <p>테스트 트랜잭션은 커밋되지 않으므로 AFTER_COMMIT 리스너 대신 기록된 ReportEvent 를 집계기에 직접 넘긴다.
+ */
+@QueryCountTest
+@RecordApplicationEvents
+@Import({AdminService.class, ReportAggregator.class, RatingStatsService.class,
+    ProfileCounterService.class, ActivityRepository.class, ReportCounterRepository.class})
+class ReportAggregatorTest {
+
+  private static final int THRESHOLD = 5;
+
+  @Autowired
+  private TestEntityManager em;
+
+  @Autowired
+  private AdminService adminService;
+
+  @Autowired
+  private ReportAggregator aggregator;
+
+  @Autowired
+  private ApplicationEvents events;
+
+  private Integer postId;
+  private final List<Integer> reporters = new ArrayList<>();
+
+  @BeforeEach
+  void seed() {
+    UserEntity owner = em.persist(Fixtures.user("owner"));
+    postId = em.persist(Fixtures.post(owner.getUserId(), 1)).getPostId();
+    reporters.clear();
+    for (int i = 1; i <= THRESHOLD; i++) {
+      reporters.add(em.persist(Fixtures.user("reporter" + i)).getUserId());
+    }
+    em.flush();
+    em.clear();
+    aggregator.loadPending();
+  }
+
+  @Test
+  @DisplayName("같은 사람의 반복 신고는 거절되고 미처리 신고자 수는 1 → 게시글 유지")
+  void repeatedReportsFromOneUserDoNotHide() {
+    Integer reporter = reporters.get(0);
+    adminService.createReport(reporter, request());
+    for (int i = 1; i < THRESHOLD; i++) {
+      assertThatThrownBy(() -> adminService.createReport(reporter, request()))
+          .isInstanceOf(IllegalStateException.class)
+          .hasMessage("REPORT_ALREADY_EXISTS");
+    }
+
+    deliverAndFlush();
+
+    assertThat(aggregator.pendingCount(ReportTargetType.POST, postId)).isEqualTo(1);
+    assertThat(em.find(PostEntity.class, postId).getRcpIsOfficial()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("서로 다른 신고자가 임계치만큼 신고하면 자동 비공개")
+  void distinctReportersHide() {
+    reporters.forEach(id -> adminService.createReport(id, request()));
+
+    deliverAndFlush();
+
+    assertThat(aggregator.pendingCount(ReportTargetType.POST, postId)).isEqualTo(THRESHOLD);
+    assertThat(em.find(PostEntity.class, postId).getRcpIsOfficial()).isEqualTo(0);
+    // 피드/날씨 버킷이 목록에서 빼도록 UPDATED 가 아닌 HIDDEN 으로 알린다
+    assertThat(events.stream(PostChangedEvent.class))
+        .containsExactly(new PostChangedEvent(PostChangedEvent.Type.HIDDEN, List.of(postId)));
+  }
+
+  @Test
+  @DisplayName("기동 시 집계도 신고자 수 기준")
+  void loadPendingCountsReporters() {
+    reporters.subList(0, 3).forEach(id -> adminService.createReport(id, request()));
+    em.flush();
+
+    aggregator.loadPending();
+
+    assertThat(aggregator.pendingCount(ReportTargetType.POST, postId)).isEqualTo(3);
+  }
+
+  private ReportCreateRequest request() {
+    ReportCreateRequest req = new ReportCreateRequest();
+    req.setTargetType("post");
+    req.setTargetId(postId);
+    req.setReason("부적절한 내용");
+    return req;
+  }
+
+  private void deliverAndFlush() {
+    events.stream(ReportEvent.class).forEach(aggregator::onReport);
+    aggregator.flush();
+    em.flush();
+    em.clear();
+  }
+}
@@ -0,0 +1,70 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.service;
+
+import static SITE.RECIPICK.RECIPICK_PROJECT.support.QueryCounter.expect;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.dto.ReviewDto;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.PostEntity;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.ReviewEntity;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.UserEntity;
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.PointLedgerRepository;
+import SITE.RECIPICK.RECIPICK_PROJECT.support.Fixtures;
+import SITE.RECIPICK.RECIPICK_PROJECT.support.QueryCountTest;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * 게시글 리뷰 목록: 작성자 닉네임까지 목록 쿼리 + count 쿼리 2번으로 끝나는지 확인 (작성자 수만큼 늘지 않음)
+ */
+@QueryCountTest
+@Import({ReviewService.class, PointService.class, RatingStatsService.class, ProfileCounterService.class,
+    PointLedgerRepository.class})
+class ReviewServiceQueryCountTest {
+
+  private static final int AUTHORS = 12;
+
+  @Autowired
+  private TestEntityManager em;
+
+  @Autowired
+  private ReviewService reviewService;
+
+  private Integer postId;
+
+  @BeforeEach
+  void seed() {
+    UserEntity owner = em.persist(Fixtures.user("owner"));
+    PostEntity post = em.persist(Fixtures.post(owner.getUserId(), 1));
+    postId = post.getPostId();
+
+    for (int i = 1; i <= AUTHORS; i++) {
+      UserEntity author = em.persist(Fixtures.user("author" + i));
+      em.persist(ReviewEntity.builder()
+          .post(post)
+          .user(author)
+          .reviewRating(new BigDecimal("3.00"))
+          .comment("리뷰 " + i)
+          .build());
+    }
+    em.flush();
+    em.clear();
+  }
+
+  @Test
+  @DisplayName("리뷰 목록 페이지는 작성자 수와 상관없이 SQL 2번 (목록 + count)")
+  void reviewsByPost() {
+    Page<ReviewDto> page = expect(2,
+        () -> reviewService.getReviewsByPostId(postId, PageRequest.of(0, 10)));
+
+    assertThat(page.getTotalElements()).isEqualTo(AUTHORS);
+    assertThat(page.getContent()).hasSize(10);
+    assertThat(page.getContent()).allSatisfy(r -> assertThat(r.getNickname()).startsWith("author"));
+  }
+}
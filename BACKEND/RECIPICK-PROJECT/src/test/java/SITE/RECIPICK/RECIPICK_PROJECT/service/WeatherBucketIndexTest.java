@@ -0,0 +1,164 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.dto.PostDto;
+import SITE.RECIPICK.RECIPICK_PROJECT.event.PostChangedEvent;
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.WeatherRecommendRepository;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 버킷 인덱스 재구성 도중 커밋된 글 변경이 새 배열에서 사라지지 않는지 확인 (DB 대신 메모리 글 목록)
+ */
+class WeatherBucketIndexTest {
+
+  private final Map<Integer, PostDto> posts = new LinkedHashMap<>();
+  private Runnable midScan = () -> {
+  };
+  private final List<Integer> chunks = new ArrayList<>();
+
+  private final WeatherRecommendRepository repo = new WeatherRecommendRepository() {
+    @Override
+    public List<PostDto> findBucketSources() {
+      List<PostDto> snapshot = new ArrayList<>(posts.values()); // 전체 스캔 시점의 값
+      midScan.run();
+      return snapshot;
+    }
+
+    @Override
+    public List<PostDto> findBucketSourcesByIds(List<Integer> postIds) {
+      return postIds.stream().filter(posts::containsKey).map(posts::get).toList();
+    }
+
+    @Override
+    public List<PostDto> findCardsByIds(List<Integer> postIds) {
+      return findBucketSourcesByIds(postIds);
+    }
+
+    // 인기순(좋아요 → 조회수) 상위 limit 개. 넘겨받은 id 수를 기록한다
+    @Override
+    public List<PostDto> findTopCardsByIds(List<Integer> postIds, int limit) {
+      chunks.add(postIds.size());
+      return findBucketSourcesByIds(postIds).stream()
+          .sorted(Comparator.comparing(PostDto::getLikeCount).reversed())
+          .limit(limit)
+          .toList();
+    }
+  };
+
+  private final WeatherBucketIndex index = new WeatherBucketIndex(repo);
+
+  private static PostDto post(int id, String foodName, int likes) {
+    PostDto p = new PostDto();
+    p.setPostId(id);
+    p.setTitle("레시피 " + id);
+    p.setFoodName(foodName);
+    p.setLikeCount(likes);
+    return p;
+  }
+
+  private void save(int id, String foodName) {
+    save(id, foodName, 0);
+  }
+
+  private void save(int id, String foodName, int likes) {
+    posts.put(id, post(id, foodName, likes));
+  }
+
+  @Test
+  @DisplayName("재구성 중 작성/수정/삭제된 글은 새 인덱스에 다시 반영된다")
+  void changesDuringRebuildAreReplayed() {
+    save(1, "물냉면");
+    save(2, "김치찌개");
+    save(3, "해물파전");
+    index.rebuild();
+    assertThat(index.size("hot")).isEqualTo(1);
+
+    // 스캔이 끝난 뒤(스냅샷 이후) 커밋된 변경
+    midScan = () -> {
+      save(4, "떡국");                 // 새 글
+      save(1, "된장찌개");              // hot → cold
+      posts.remove(3);                 // 삭제
+      index.onPostChanged(new PostChangedEvent(PostChangedEvent.Type.CREATED, List.of(4)));
+      index.onPostChanged(new PostChangedEvent(PostChangedEvent.Type.UPDATED, List.of(1)));
+      index.onPostChanged(new PostChangedEvent(PostChangedEvent.Type.DELETED, List.of(3)));
+    };
+    index.rebuild();
+
+    assertThat(index.size("hot")).isZero();
+    assertThat(index.size("cold")).isEqualTo(2);
+    assertThat(index.size("rainy")).isZero();
+    assertThat(index.size("snowy")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("재구성이 끝난 뒤의 변경은 바로 반영된다")
+  void changesAfterRebuildApplyDirectly() {
+    save(1, "물냉면");
+    index.rebuild();
+
+    save(2, "콩국수");
+    index.onPostChanged(new PostChangedEvent(PostChangedEvent.Type.CREATED, List.of(2)));
+
+    assertThat(index.size("hot")).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("비공개(HIDDEN) 된 글은 글이 남아 있어도 버킷에서 빠진다")
+  void hiddenPostsLeaveBuckets() {
+    save(1, "물냉면");
+    save(2, "콩국수");
+    index.rebuild();
+
+    index.onPostChanged(new PostChangedEvent(PostChangedEvent.Type.HIDDEN, List.of(1)));
+
+    assertThat(posts).containsKey(1);
+    assertThat(index.size("hot")).isEqualTo(1);
+    assertThat(index.pick("hot", 5)).extracting(PostDto::getPostId).containsExactly(2);
+  }
+
+  @Test
+  @DisplayName("topAll 은 버킷 id 만 조회해 버킷별 인기순 상위 n 개를 채운다")
+  void topAllReadsOnlyBucketIds() {
+    save(1, "물냉면", 50);
+    save(2, "콩국수", 40);
+    save(3, "막국수", 30);
+    save(4, "김치찌개", 45);
+    save(5, "된장찌개", 10);
+    save(6, "떡국", 5);
+    save(7, "볶음밥", 100); // 어느 버킷에도 없음
+    save(8, "냉라면", 1);
+    index.rebuild();
+
+    Map<String, List<PostDto>> top = index.topAll(2);
+
+    assertThat(top.get("hot")).extracting(PostDto::getPostId).containsExactly(1, 2);
+    assertThat(top.get("cold")).extracting(PostDto::getPostId).containsExactly(4, 5);
+    assertThat(top.get("snowy")).extracting(PostDto::getPostId).containsExactly(6);
+    assertThat(top.get("rainy")).isEmpty();
+    // 빈 버킷(rainy)은 조회하지 않고, 버킷 밖의 글(볶음밥)은 읽지 않는다
+    assertThat(chunks).containsExactly(4, 3, 1); // 냉라면은 hot, cold 둘 다
+  }
+
+  @Test
+  @DisplayName("큰 버킷은 조각마다 상위 n 개를 받아 합친 뒤 다시 n 개로 자른다")
+  void topAllMergesChunks() {
+    int total = WeatherBucketIndex.TOP_CHUNK * 2 + 10;
+    for (int id = 1; id <= total; id++) {
+      save(id, "김치찌개", id % 997); // 조각마다 인기 글이 흩어지도록
+    }
+    index.rebuild();
+
+    List<PostDto> top = index.topAll(3).get("cold");
+
+    assertThat(chunks).containsExactly(WeatherBucketIndex.TOP_CHUNK, WeatherBucketIndex.TOP_CHUNK, 10);
+    assertThat(top).extracting(PostDto::getLikeCount).containsExactly(996, 996, 995);
+    assertThat(index.topAll(0).get("cold")).isEmpty();
+  }
+}
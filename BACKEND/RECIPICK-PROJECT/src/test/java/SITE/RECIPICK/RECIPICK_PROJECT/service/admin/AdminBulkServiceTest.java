@@ -0,0 +1,343 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.service.admin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.dto.admin.BulkJobStatus;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.PostEntity;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.ProfileEntity;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.ReviewEntity;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.UserEntity;
+import SITE.RECIPICK.RECIPICK_PROJECT.event.PostChangedEvent;
+import SITE.RECIPICK.RECIPICK_PROJECT.event.PrincipalChangedEvent;
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.AdminBulkRepository;
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.ProfileRepository;
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.RatingStatsRepository;
+import SITE.RECIPICK.RECIPICK_PROJECT.service.ProfileCounterService;
+import SITE.RECIPICK.RECIPICK_PROJECT.service.RatingStatsService;
+import SITE.RECIPICK.RECIPICK_PROJECT.support.Fixtures;
+import SITE.RECIPICK.RECIPICK_PROJECT.support.QueryCountTest;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 관리자 일괄 처리: 청크마다 카운터/평점 집계/딸린 행이 맞게 정리되고, 중간 청크가 실패하면 앞 청크만 커밋된 채 멈추는지 확인.
+ *
+ * <p>작업은 별도 스레드에서 청크마다 트랜잭션을 새로 연다. 테스트 트랜잭션 안의 데이터는 그 스레드에서 보이지 않으므로 이 클래스는
+ * 테스트 트랜잭션 없이 시드를 커밋하고, 끝나면 직접 지운다.
+ */
+@QueryCountTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({AdminBulkService.class, AdminBulkRepository.class, RatingStatsService.class,
+    AdminBulkServiceTest.FailingCounters.class})
+class AdminBulkServiceTest {
+
+  private static final String[] TABLES = {"recipe_ingredient", "ingredient", "like_table", "review",
+      "post_rating_stats", "post", "profile", "users"};
+
+  // 이 작성자의 레시피 카운터를 건드리는 청크는 실패시킨다 (null 이면 정상)
+  private static volatile Integer poisonAuthorId;
+
+  @Autowired
+  private TestEntityManager em;
+
+  @Autowired
+  private JdbcTemplate jdbc;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private RatingStatsRepository ratingStatsRepository;
+
+  @Autowired
+  private AdminBulkService bulkService;
+
+  @Autowired
+  private RecordedEvents events;
+
+  private Integer authorId;
+  private Integer otherAuthorId;
+  private Integer reviewerId;
+  private Integer p1;
+  private Integer p2;
+  private Integer p3;
+  private Integer p4;
+  private Integer reviewOnP1;
+  private Integer authorReviewOnP1;
+  private Integer reviewOnP4;
+
+  /**
+   * 레시피 카운터 실패 주입용 ProfileCounterService
+   */
+  @TestConfiguration
+  static class FailingCounters {
+
+    @Bean
+    ProfileCounterService profileCounterService(ProfileRepository profileRepository) {
+      return new PoisonableCounters(profileRepository);
+    }
+
+    @Bean
+    RecordedEvents recordedEvents() {
+      return new RecordedEvents();
+    }
+  }
+
+  /**
+   * 청크가 발행한 이벤트 기록 (작업 스레드에서 들어온다)
+   */
+  static class RecordedEvents {
+
+    final List<PostChangedEvent> posts = new CopyOnWriteArrayList<>();
+    final List<PrincipalChangedEvent> principals = new CopyOnWriteArrayList<>();
+
+    @EventListener
+    void on(PostChangedEvent event) {
+      posts.add(event);
+    }
+
+    @EventListener
+    void on(PrincipalChangedEvent event) {
+      principals.add(event);
+    }
+  }
+
+  static class PoisonableCounters extends ProfileCounterService {
+
+    PoisonableCounters(ProfileRepository profileRepository) {
+      super(profileRepository);
+    }
+
+    @Override
+    public void recipesPublished(Integer authorId, int recipes, long likes) {
+      if (authorId.equals(poisonAuthorId)) {
+        throw new IllegalStateException("COUNTER_DOWN");
+      }
+      super.recipesPublished(authorId, recipes, likes);
+    }
+  }
+
+  /**
+   * author: 정식 p1(좋아요 3), p2(좋아요 1), 비공개 p3 / otherAuthor: 정식 p4 / reviewer: p1, p2, p4 에 리뷰 (author 도 p1 에 리뷰)
+   */
+  @BeforeEach
+  void seed() {
+    ReflectionTestUtils.setField(bulkService, "chunkSize", 2);
+    poisonAuthorId = null;
+    events.posts.clear();
+    events.principals.clear();
+
+    new TransactionTemplate(transactionManager).executeWithoutResult(s -> {
+      UserEntity author = em.persist(Fixtures.user("author"));
+      UserEntity other = em.persist(Fixtures.user("other"));
+      UserEntity reviewer = em.persist(Fixtures.user("reviewer"));
+      authorId = author.getUserId();
+      otherAuthorId = other.getUserId();
+      reviewerId = reviewer.getUserId();
+
+      PostEntity post1 = em.persist(post(authorId, 1, 1, 3));
+      PostEntity post2 = em.persist(post(authorId, 2, 1, 1));
+      PostEntity post3 = em.persist(post(authorId, 3, 0, 0));
+      PostEntity post4 = em.persist(post(otherAuthorId, 4, 1, 0));
+      p1 = post1.getPostId();
+      p2 = post2.getPostId();
+      p3 = post3.getPostId();
+      p4 = post4.getPostId();
+
+      reviewOnP1 = em.persist(review(post1, reviewer, "4.00")).getReviewId();
+      authorReviewOnP1 = em.persist(review(post1, author, "2.00")).getReviewId();
+      em.persist(review(post2, reviewer, "5.00"));
+      reviewOnP4 = em.persist(review(post4, reviewer, "3.00")).getReviewId();
+
+      em.persist(profile(author, 2, 4, 1));
+      em.persist(profile(other, 1, 0, 0));
+      em.persist(profile(reviewer, 0, 0, 3));
+      em.flush();
+    });
+
+    jdbc.update("INSERT INTO ingredient (ing_id, name) VALUES (900, '양파')");
+    for (Integer postId : List.of(p1, p2, p4)) {
+      jdbc.update("INSERT INTO recipe_ingredient (post_id, ing_id, amount) VALUES (?, 900, '1개')", postId);
+    }
+    for (Integer userId : List.of(reviewerId, otherAuthorId, authorId)) {
+      jdbc.update("INSERT INTO like_table (user_id, post_id, created_at) VALUES (?, ?, CURRENT_TIMESTAMP)",
+          userId, p1);
+    }
+    jdbc.update("INSERT INTO like_table (user_id, post_id, created_at) VALUES (?, ?, CURRENT_TIMESTAMP)",
+        reviewerId, p2);
+    new TransactionTemplate(transactionManager).executeWithoutResult(s -> ratingStatsRepository.rebuildAll());
+  }
+
+  @AfterEach
+  void cleanUp() {
+    for (String table : TABLES) {
+      jdbc.update("DELETE FROM " + table);
+    }
+  }
+
+  @Test
+  @DisplayName("게시글 일괄 삭제: 정식 글만 레시피/좋아요 카운터에서 빼고, 리뷰 카운터와 딸린 행(재료/좋아요/리뷰/평점 집계)을 정리한다")
+  void deletePostsAdjustsCountersAndRemovesChildren() throws InterruptedException {
+    BulkJobStatus done = await(bulkService.deletePosts(List.of(p1, p2, p3, p1)));
+
+    assertThat(done.state()).isEqualTo("DONE");
+    assertThat(done.requested()).isEqualTo(3);
+    assertThat(done.processed()).isEqualTo(3);
+    assertThat(done.affected()).isEqualTo(3);
+    assertThat(done.chunks()).isEqualTo(2);
+
+    assertThat(counters(authorId)).containsExactly(0, 0, 0); // 정식 2건, 좋아요 3+1, p1 에 단 리뷰 1건
+    assertThat(counters(otherAuthorId)).containsExactly(1, 0, 0);
+    assertThat(counters(reviewerId)).containsExactly(0, 0, 1); // p4 리뷰만 남음
+
+    assertThat(postIds("post")).containsExactly(p4);
+    assertThat(postIds("recipe_ingredient")).containsExactly(p4);
+    assertThat(postIds("post_rating_stats")).containsExactly(p4);
+    assertThat(postIds("review")).containsExactly(p4);
+    assertThat(postIds("like_table")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("리뷰 일괄 삭제: 작성자 리뷰 카운터를 빼고, 남은 리뷰로 평점 집계를 다시 만들며 리뷰가 없어진 글의 집계 행은 지운다")
+  void deleteReviewsRebuildsStats() throws InterruptedException {
+    BulkJobStatus done = await(bulkService.deleteReviews(List.of(reviewOnP1, reviewOnP4, 999_999)));
+
+    assertThat(done.state()).isEqualTo("DONE");
+    assertThat(done.processed()).isEqualTo(3);
+    assertThat(done.affected()).isEqualTo(2); // 없는 id 는 제외
+
+    assertThat(counters(reviewerId)).containsExactly(0, 0, 1);
+    assertThat(counters(authorId)).containsExactly(2, 4, 1);
+
+    // p1: author 의 2.00 한 건만 남음
+    assertThat(jdbc.queryForList(
+        "SELECT review_count, rating_sum, bucket2, bucket4 FROM post_rating_stats WHERE post_id = ?", p1))
+        .singleElement()
+        .satisfies(row -> {
+          assertThat(((Number) row.get("review_count")).intValue()).isEqualTo(1);
+          assertThat((BigDecimal) row.get("rating_sum")).isEqualByComparingTo("2.00");
+          assertThat(((Number) row.get("bucket2")).intValue()).isEqualTo(1);
+          assertThat(((Number) row.get("bucket4")).intValue()).isZero();
+        });
+    assertThat(postIds("post_rating_stats")).containsExactlyInAnyOrder(p1, p2); // p4 집계 행 삭제
+    assertThat(jdbc.queryForObject("SELECT review_id FROM review WHERE post_id = ?", Integer.class, p1))
+        .isEqualTo(authorReviewOnP1);
+
+    // 평점이 바뀐 글만 UPDATED (청크 크기 2 → 청크마다 한 번)
+    assertThat(events.posts).allSatisfy(e -> assertThat(e.type()).isEqualTo(PostChangedEvent.Type.UPDATED));
+    assertThat(events.posts).flatExtracting(PostChangedEvent::postIds).containsExactly(p1, p4);
+  }
+
+  @Test
+  @DisplayName("유저 일괄 정지: 이미 같은 상태인 유저는 건드리지 않고, 실제로 바뀐 유저에게만 principal 변경을 알린다")
+  void updateUsersActivePublishesOnlyChangedUsers() throws InterruptedException {
+    jdbc.update("UPDATE users SET active = FALSE WHERE user_id = ?", reviewerId);
+
+    BulkJobStatus done = await(bulkService.updateUsersActive(List.of(authorId, reviewerId, otherAuthorId), false));
+
+    assertThat(done.state()).isEqualTo("DONE");
+    assertThat(done.processed()).isEqualTo(3);
+    assertThat(done.affected()).isEqualTo(2);
+    assertThat(events.principals).flatExtracting(PrincipalChangedEvent::userIds)
+        .containsExactlyInAnyOrder(authorId, otherAuthorId);
+    assertThat(jdbc.queryForList("SELECT user_id FROM users WHERE active = FALSE", Integer.class))
+        .containsExactlyInAnyOrder(authorId, reviewerId, otherAuthorId);
+
+    // 다시 같은 요청: 바뀌는 유저가 없으니 이벤트도 없다
+    events.principals.clear();
+    BulkJobStatus again = await(bulkService.updateUsersActive(List.of(authorId, reviewerId), false));
+    assertThat(again.affected()).isZero();
+    assertThat(events.principals).isEmpty();
+  }
+
+  @Test
+  @DisplayName("중간 청크가 실패하면 앞 청크는 커밋된 채 FAILED, processed 는 끝난 청크까지만 센다")
+  void failedChunkKeepsEarlierChunks() throws InterruptedException {
+    poisonAuthorId = otherAuthorId; // 두 번째 청크(p4)에서 실패
+
+    BulkJobStatus failed = await(bulkService.deletePosts(List.of(p1, p2, p4)));
+
+    assertThat(failed.state()).isEqualTo("FAILED");
+    assertThat(failed.lastError()).isEqualTo("COUNTER_DOWN");
+    assertThat(failed.requested()).isEqualTo(3);
+    assertThat(failed.processed()).isEqualTo(2);
+    assertThat(failed.affected()).isEqualTo(2);
+    assertThat(failed.chunks()).isEqualTo(1);
+
+    // 첫 청크(p1, p2)는 커밋
+    assertThat(postIds("post")).containsExactlyInAnyOrder(p3, p4);
+    assertThat(counters(authorId)).containsExactly(0, 0, 0);
+    assertThat(counters(reviewerId)).containsExactly(0, 0, 1);
+    // 실패한 청크(p4)는 롤백
+    assertThat(counters(otherAuthorId)).containsExactly(1, 0, 0);
+    assertThat(postIds("recipe_ingredient")).containsExactly(p4);
+    assertThat(postIds("post_rating_stats")).containsExactly(p4);
+  }
+
+  // ===================== 도우미 =====================
+
+  private BulkJobStatus await(BulkJobStatus submitted) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 10_000;
+    BulkJobStatus s = submitted;
+    while (!"DONE".equals(s.state()) && !"FAILED".equals(s.state())) {
+      assertThat(System.currentTimeMillis()).as("일괄 작업 대기 시간 초과").isLessThan(deadline);
+      Thread.sleep(20);
+      s = bulkService.status(submitted.jobId());
+    }
+    return s;
+  }
+
+  /** {recipe_count, likes_received, review_count} */
+  private List<Integer> counters(Integer userId) {
+    return jdbc.queryForObject(
+        "SELECT recipe_count, likes_received, review_count FROM profile WHERE user_id = ?",
+        (rs, i) -> List.of(rs.getInt(1), rs.getInt(2), rs.getInt(3)), userId);
+  }
+
+  private List<Integer> postIds(String table) {
+    return jdbc.queryForList("SELECT DISTINCT post_id FROM " + table, Integer.class);
+  }
+
+  private static PostEntity post(Integer authorId, int i, int official, int likes) {
+    PostEntity post = Fixtures.post(authorId, i);
+    post.setRcpIsOfficial(official);
+    post.setLikeCount(likes);
+    return post;
+  }
+
+  private static ReviewEntity review(PostEntity post, UserEntity user, String rating) {
+    return ReviewEntity.builder()
+        .post(post)
+        .user(user)
+        .reviewRating(new BigDecimal(rating))
+        .comment("리뷰")
+        .build();
+  }
+
+  private static ProfileEntity profile(UserEntity user, int recipes, int likes, int reviews) {
+    ProfileEntity profile = new ProfileEntity();
+    profile.setUserEntity(user);
+    profile.setNickname(user.getNickname());
+    profile.setRecipeCount(recipes);
+    profile.setLikesReceived(likes);
+    profile.setReviewCount(reviews);
+    return profile;
+  }
+}
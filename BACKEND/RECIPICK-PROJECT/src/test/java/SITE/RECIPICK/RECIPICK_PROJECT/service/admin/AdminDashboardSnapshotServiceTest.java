@@ -0,0 +1,168 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.service.admin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.dto.admin.AdminDashboardResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+/**
+ * 대시보드 스냅샷: 같은 조합의 동시 새로 고침은 한 번만 계산하고, 오래 안 쓰인 조합/넘치는 조합은 버린다 (DB 대신 섹션별 호출 횟수만 세는 가짜
+ * AdminService).
+ */
+class AdminDashboardSnapshotServiceTest {
+
+  private final CountingAdminService admin = new CountingAdminService();
+  private final AdminDashboardSnapshotService service =
+      new AdminDashboardSnapshotService(admin, new NoopTransactionManager(), 4);
+
+  @AfterEach
+  void shutdown() {
+    admin.gate.countDown();
+    service.shutdown();
+  }
+
+  @Test
+  @DisplayName("같은 조합을 동시에 refresh 하면 계산은 한 번이고 둘 다 같은 결과를 받는다")
+  void concurrentRefreshComputesOnce() throws Exception {
+    admin.gate = new CountDownLatch(1);
+
+    CompletableFuture<AdminDashboardResponse> first =
+        CompletableFuture.supplyAsync(() -> service.get(7, 3, 5, true));
+    assertThat(admin.entered.await(5, TimeUnit.SECONDS)).isTrue();
+    CompletableFuture<AdminDashboardResponse> second =
+        CompletableFuture.supplyAsync(() -> service.get(7, 3, 5, true));
+    Thread.sleep(200); // 두 번째 요청이 진행 중인 계산에 붙을 시간
+    admin.gate.countDown();
+
+    AdminDashboardResponse a = first.get(5, TimeUnit.SECONDS);
+    AdminDashboardResponse b = second.get(5, TimeUnit.SECONDS);
+    assertThat(admin.totalsCalls(3)).isEqualTo(1);
+    assertThat(a.generatedAt()).isEqualTo(b.generatedAt());
+
+    // 계산이 끝난 뒤의 refresh 는 다시 계산한다
+    service.get(7, 3, 5, true);
+    assertThat(admin.totalsCalls(3)).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("idle-evict-ms 동안 요청이 없던 조합은 주기 갱신에서 빠지고, 요청된 조합만 다시 계산한다")
+  void idleKeysAreEvicted() throws Exception {
+    ReflectionTestUtils.setField(service, "idleEvictMs", 300L);
+    service.get(7, 1, 5, false);
+    service.get(7, 2, 5, false);
+    Thread.sleep(500);
+    service.get(7, 2, 5, false); // 캐시 적중 → 마지막 요청 시각만 갱신
+
+    service.refreshAll();
+
+    assertThat(service.cachedKeys()).extracting(AdminDashboardSnapshotService.Key::minReports)
+        .containsExactly(2);
+    assertThat(admin.totalsCalls(1)).isEqualTo(1);
+    awaitCalls(2, 2); // 남은 조합은 백그라운드로 다시 계산
+  }
+
+  @Test
+  @DisplayName("minReports 는 범위를 제한하고, 들고 있는 조합 수는 MAX_SNAPSHOTS 를 넘지 않는다")
+  void keySpaceIsBounded() {
+    service.get(7, 1_000_000, 5, false);
+    service.get(7, 100, 5, false);
+    assertThat(admin.totalsCalls(100)).isEqualTo(1); // 같은 조합으로 합쳐짐
+
+    for (int days = 1; days <= AdminDashboardSnapshotService.MAX_SNAPSHOTS + 8; days++) {
+      service.get(days, 0, 5, false);
+    }
+    assertThat(service.cachedKeys()).hasSize(AdminDashboardSnapshotService.MAX_SNAPSHOTS);
+    // 가장 최근 요청한 조합은 남는다
+    assertThat(service.cachedKeys())
+        .contains(new AdminDashboardSnapshotService.Key(AdminDashboardSnapshotService.MAX_SNAPSHOTS + 8, 0, 5));
+  }
+
+  private void awaitCalls(int minReports, int expected) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5_000;
+    while (admin.totalsCalls(minReports) < expected && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(admin.totalsCalls(minReports)).isEqualTo(expected);
+  }
+
+  /**
+   * 섹션 호출만 세는 AdminService. gate 가 있으면 합계 계산을 거기서 멈춘다
+   */
+  static class CountingAdminService extends AdminService {
+
+    final Map<Integer, AtomicInteger> totals = new ConcurrentHashMap<>();
+    final CountDownLatch entered = new CountDownLatch(1);
+    volatile CountDownLatch gate = new CountDownLatch(0);
+
+    CountingAdminService() {
+      super(null, null, null, null, null, null, null, null);
+    }
+
+    int totalsCalls(int minReports) {
+      AtomicInteger n = totals.get(minReports);
+      return n == null ? 0 : n.get();
+    }
+
+    @Override
+    public DashboardTotals dashboardTotals(int minReports) {
+      totals.computeIfAbsent(minReports, k -> new AtomicInteger()).incrementAndGet();
+      entered.countDown();
+      try {
+        gate.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return new DashboardTotals(1, 2, 0);
+    }
+
+    @Override
+    public DashboardVisitors dashboardVisitors(int days) {
+      return new DashboardVisitors(new AdminDashboardResponse.Series(List.of(), List.of()), 0);
+    }
+
+    @Override
+    public List<AdminDashboardResponse.CategoryCount> dashboardCategoryUploads(int days) {
+      return List.of();
+    }
+
+    @Override
+    public List<AdminDashboardResponse.RecentReportItem> dashboardRecentReports(int top) {
+      return List.of();
+    }
+
+    @Override
+    public List<AdminDashboardResponse.RecentSignupItem> dashboardRecentSignups(int top) {
+      return List.of();
+    }
+  }
+
+  static class NoopTransactionManager implements PlatformTransactionManager {
+
+    @Override
+    public TransactionStatus getTransaction(TransactionDefinition definition) {
+      return new SimpleTransactionStatus();
+    }
+
+    @Override
+    public void commit(TransactionStatus status) {
+    }
+
+    @Override
+    public void rollback(TransactionStatus status) {
+    }
+  }
+}
@@ -0,0 +1,173 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.service.admin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.controller.admin.AdminExportController;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.UserEntity;
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.AdminExportRepository;
+import SITE.RECIPICK.RECIPICK_PROJECT.service.admin.AdminExportService.CsvWriter;
+import SITE.RECIPICK.RECIPICK_PROJECT.support.Fixtures;
+import SITE.RECIPICK.RECIPICK_PROJECT.support.QueryCountTest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 관리자 내보내기: CSV 이스케이프 규칙, 그리고 컨트롤러부터 H2 커서까지 포맷별로 한 번씩 내려받아 본다.
+ *
+ * <p>StreamingResponseBody 는 별도 스레드에서 DB 를 읽으므로 시드는 테스트 트랜잭션 없이 커밋하고, 끝나면 직접 지운다.
+ */
+@QueryCountTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(AdminExportRepository.class)
+class AdminExportServiceTest {
+
+  private static final String FORMULA_NICK = "=HYPERLINK(\"http://evil\")";
+  private static final String MULTILINE_NICK = "줄\n바꿈, 쉼표";
+
+  @Autowired
+  private TestEntityManager em;
+
+  @Autowired
+  private JdbcTemplate jdbc;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private AdminExportRepository exportRepository;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private MockMvc mvc;
+  private final List<Integer> userIds = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    AdminExportService service = new AdminExportService(exportRepository, objectMapper);
+    mvc = MockMvcBuilders.standaloneSetup(new AdminExportController(service)).build();
+
+    userIds.clear();
+    new TransactionTemplate(transactionManager).executeWithoutResult(s -> {
+      userIds.add(em.persist(user("plain", "평범")).getUserId());
+      userIds.add(em.persist(user("formula", FORMULA_NICK)).getUserId());
+      userIds.add(em.persist(user("multiline", MULTILINE_NICK)).getUserId());
+      em.flush();
+    });
+  }
+
+  @AfterEach
+  void cleanUp() {
+    jdbc.update("DELETE FROM users");
+  }
+
+  // ===== CsvWriter.escape =====
+
+  @Test
+  @DisplayName("escape: 평범한 값은 그대로, null 은 빈 칸")
+  void escapeLeavesPlainValues() {
+    assertThat(CsvWriter.escape("김치찌개")).isEqualTo("김치찌개");
+    assertThat(CsvWriter.escape("")).isEmpty();
+    assertThat(CsvWriter.escape(null)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("escape: 쉼표/줄바꿈은 따옴표로 감싸고, 따옴표는 두 번 쓴다")
+  void escapeQuotesSeparators() {
+    assertThat(CsvWriter.escape("a,b")).isEqualTo("\"a,b\"");
+    assertThat(CsvWriter.escape("첫 줄\n둘째 줄")).isEqualTo("\"첫 줄\n둘째 줄\"");
+    assertThat(CsvWriter.escape("a\r\nb")).isEqualTo("\"a\r\nb\"");
+    assertThat(CsvWriter.escape("그가 \"맛있다\" 했다")).isEqualTo("\"그가 \"\"맛있다\"\" 했다\"");
+  }
+
+  @Test
+  @DisplayName("escape: 수식으로 시작하는 값은 ' 를 붙여 문자열로 만든다")
+  void escapeNeutralizesFormulas() {
+    assertThat(CsvWriter.escape("=1+1")).isEqualTo("\"'=1+1\"");
+    assertThat(CsvWriter.escape("+82")).isEqualTo("\"'+82\"");
+    assertThat(CsvWriter.escape("-3")).isEqualTo("\"'-3\"");
+    assertThat(CsvWriter.escape("@SUM(A1)")).isEqualTo("\"'@SUM(A1)\"");
+    assertThat(CsvWriter.escape("\tcmd")).isEqualTo("\"'\tcmd\"");
+    assertThat(CsvWriter.escape(FORMULA_NICK)).isEqualTo("\"'=HYPERLINK(\"\"http://evil\"\")\"");
+    // 중간의 = 는 수식이 아님
+    assertThat(CsvWriter.escape("a=b")).isEqualTo("a=b");
+  }
+
+  // ===== 컨트롤러 → 서비스 → JDBC 커서 =====
+
+  @Test
+  @DisplayName("CSV: BOM + 헤더 + 행마다 CRLF, 사용자 입력은 이스케이프된다. 비동기 타임아웃은 이 응답에만 길게")
+  void exportsUsersAsCsv() throws Exception {
+    MvcResult started = mvc.perform(get("/admin/export/users"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+    assertThat(started.getRequest().getAsyncContext().getTimeout()).isEqualTo(1_800_000L);
+
+    MvcResult done = mvc.perform(asyncDispatch(started))
+        .andExpect(status().isOk())
+        .andExpect(header().string("Content-Type", "text/csv;charset=UTF-8"))
+        .andReturn();
+    String body = new String(done.getResponse().getContentAsByteArray(), StandardCharsets.UTF_8);
+
+    assertThat(body).startsWith("\uFEFFuser_id,email,nickname,role,provider,active,");
+    List<String> lines = List.of(body.substring(1).split("\r\n"));
+    assertThat(lines).hasSize(4);
+    assertThat(lines.get(1)).startsWith(userIds.get(0) + ",plain@recipick.site,평범,");
+    assertThat(lines.get(2))
+        .startsWith(userIds.get(1) + ",formula@recipick.site,\"'=HYPERLINK(\"\"http://evil\"\")\",");
+    assertThat(lines.get(3))
+        .startsWith(userIds.get(2) + ",multiline@recipick.site,\"줄\n바꿈, 쉼표\",");
+  }
+
+  @Test
+  @DisplayName("NDJSON: 헤더 없이 한 줄에 객체 하나, 값은 이스케이프 없이 원문 그대로")
+  void exportsUsersAsNdjson() throws Exception {
+    MvcResult started = mvc.perform(get("/admin/export/users").param("format", "ndjson"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    MvcResult done = mvc.perform(asyncDispatch(started))
+        .andExpect(status().isOk())
+        .andExpect(header().string("Content-Type", "application/x-ndjson"))
+        .andReturn();
+    String body = new String(done.getResponse().getContentAsByteArray(), StandardCharsets.UTF_8);
+
+    List<String> lines = List.of(body.split("\n"));
+    assertThat(lines).hasSize(3);
+    List<JsonNode> rows = new ArrayList<>();
+    for (String line : lines) {
+      rows.add(objectMapper.readTree(line));
+    }
+    assertThat(rows).extracting(n -> n.get("user_id").asInt()).containsExactlyElementsOf(userIds);
+    assertThat(rows).extracting(n -> n.get("nickname").asText())
+        .containsExactly("평범", FORMULA_NICK, MULTILINE_NICK);
+    assertThat(rows.get(0).get("created_at").asText()).matches("\\d{4}-\\d{2}-\\d{2}T.*");
+  }
+
+  private static UserEntity user(String name, String nickname) {
+    UserEntity u = Fixtures.user(name);
+    u.setNickname(nickname);
+    return u;
+  }
+}
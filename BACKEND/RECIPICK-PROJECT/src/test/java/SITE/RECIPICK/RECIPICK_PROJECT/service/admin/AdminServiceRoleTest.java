@@ -0,0 +1,78 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.service.admin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.config.PrincipalRegistry;
+import SITE.RECIPICK.RECIPICK_PROJECT.config.RecipickPrincipal;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.UserEntity;
+import SITE.RECIPICK.RECIPICK_PROJECT.event.PrincipalChangedEvent;
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.ActivityRepository;
+import SITE.RECIPICK.RECIPICK_PROJECT.service.ProfileCounterService;
+import SITE.RECIPICK.RECIPICK_PROJECT.service.RatingStatsService;
+import SITE.RECIPICK.RECIPICK_PROJECT.support.Fixtures;
+import SITE.RECIPICK.RECIPICK_PROJECT.support.QueryCountTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+/**
+ * 관리자 권한 회수: 세션/토큰에 들어 있던 principal 이 다음 요청에서 ROLE_USER 로 다시 만들어져야 한다.
+ *
+ * <p>테스트 트랜잭션은 커밋되지 않으므로 AFTER_COMMIT 리스너 대신 기록된 이벤트를 레지스트리에 직접 넘긴다.
+ */
+@QueryCountTest
+@RecordApplicationEvents
+@Import({AdminService.class, RatingStatsService.class, ProfileCounterService.class,
+    ActivityRepository.class, PrincipalRegistry.class})
+class AdminServiceRoleTest {
+
+  @Autowired
+  private TestEntityManager em;
+
+  @Autowired
+  private AdminService adminService;
+
+  @Autowired
+  private PrincipalRegistry registry;
+
+  @Autowired
+  private ApplicationEvents events;
+
+  private Integer adminId;
+
+  @BeforeEach
+  void seed() {
+    UserEntity admin = Fixtures.user("admin");
+    admin.changeRole("ROLE_ADMIN");
+    adminId = em.persist(admin).getUserId();
+    em.flush();
+    em.clear();
+  }
+
+  @Test
+  @DisplayName("권한 변경은 PrincipalChangedEvent 를 발행하고, 이전 principal 은 ROLE_USER 로 다시 만들어진다")
+  void demotionRefreshesPrincipal() {
+    RecipickPrincipal before = registry.reload(adminId);
+    assertThat(before.getRole()).isEqualTo("ROLE_ADMIN");
+    assertThat(registry.isStale(before)).isFalse();
+
+    adminService.updateUserRole(adminId, "ROLE_USER");
+    em.flush();
+    em.clear();
+
+    assertThat(events.stream(PrincipalChangedEvent.class))
+        .anySatisfy(e -> assertThat(e.userIds()).containsExactly(adminId));
+    events.stream(PrincipalChangedEvent.class).forEach(registry::onPrincipalChanged);
+
+    assertThat(registry.isStale(before)).isTrue();
+    RecipickPrincipal after = registry.reload(adminId);
+    assertThat(after.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+        .containsExactly("ROLE_USER");
+  }
+}
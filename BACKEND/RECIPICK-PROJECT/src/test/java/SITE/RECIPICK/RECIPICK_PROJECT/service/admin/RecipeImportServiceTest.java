@@ -0,0 +1,267 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.service.admin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.dto.admin.RecipeImportStatus;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.ProfileEntity;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.UserEntity;
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.IngredientBulkRepository;
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.PostBulkRepository;
+import SITE.RECIPICK.RECIPICK_PROJECT.repository.ProfileRepository;
+import SITE.RECIPICK.RECIPICK_PROJECT.service.IngredientCatalog;
+import SITE.RECIPICK.RECIPICK_PROJECT.service.IngredientClassifier;
+import SITE.RECIPICK.RECIPICK_PROJECT.service.ProfileCounterService;
+import SITE.RECIPICK.RECIPICK_PROJECT.service.RecipeIngredientWriter;
+import SITE.RECIPICK.RECIPICK_PROJECT.support.Fixtures;
+import SITE.RECIPICK.RECIPICK_PROJECT.support.QueryCountTest;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 레시피 CSV 적재: 작은 픽스처(src/test/resources/import/recipes-small.csv, 데이터 6건 중 제목 없는 1건)로 적재 결과,
+ * 재료 중복 제거, 체크포인트 재시작을 확인한다. 처리량은 여기서 재지 않는다.
+ *
+ * <p>적재는 별도 스레드에서 청크마다 트랜잭션을 새로 연다. 그래서 이 클래스는 테스트 트랜잭션 없이 시드를 커밋하고, 끝나면 직접 지운다.
+ */
+@QueryCountTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({RecipeImportService.class, PostBulkRepository.class, IngredientBulkRepository.class,
+    RecipeIngredientWriter.class, IngredientClassifier.class, IngredientCatalog.class,
+    RecipeImportServiceTest.FailingCounters.class})
+class RecipeImportServiceTest {
+
+  private static final String[] TABLES = {"recipe_ingredient", "ingredient", "catalog_version",
+      "import_checkpoint", "post", "profile", "users"};
+
+  // 몇 번째 카운터 반영(= 청크)에서 실패시킬지 (0 이면 실패 없음)
+  private static final AtomicInteger FAIL_AT_CALL = new AtomicInteger();
+  private static final AtomicInteger CALLS = new AtomicInteger();
+
+  @TempDir
+  Path dir;
+
+  @Autowired
+  private TestEntityManager em;
+
+  @Autowired
+  private JdbcTemplate jdbc;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private IngredientClassifier classifier;
+
+  @Autowired
+  private IngredientCatalog catalog;
+
+  @Autowired
+  private RecipeImportService importService;
+
+  private Integer ownerId;
+  private Integer saltId;
+  private Path csv;
+
+  /**
+   * 청크 실패 주입용 ProfileCounterService
+   */
+  @TestConfiguration
+  static class FailingCounters {
+
+    @Bean
+    ProfileCounterService profileCounterService(ProfileRepository profileRepository) {
+      return new FailingOnCallCounters(profileRepository);
+    }
+  }
+
+  static class FailingOnCallCounters extends ProfileCounterService {
+
+    FailingOnCallCounters(ProfileRepository profileRepository) {
+      super(profileRepository);
+    }
+
+    @Override
+    public void recipesPublished(Integer authorId, int recipes, long likes) {
+      if (CALLS.incrementAndGet() == FAIL_AT_CALL.get()) {
+        throw new IllegalStateException("COUNTER_DOWN");
+      }
+      super.recipesPublished(authorId, recipes, likes);
+    }
+  }
+
+  @BeforeEach
+  void seed() throws IOException {
+    ReflectionTestUtils.setField(importService, "chunkSize", 2);
+    FAIL_AT_CALL.set(0);
+    CALLS.set(0);
+
+    new TransactionTemplate(transactionManager).executeWithoutResult(s -> {
+      UserEntity owner = em.persist(Fixtures.user("admin"));
+      ownerId = owner.getUserId();
+      ProfileEntity profile = new ProfileEntity();
+      profile.setUserEntity(owner);
+      profile.setNickname(owner.getNickname());
+      em.persist(profile);
+    });
+
+    // 이미 있는 재료는 새로 만들지 않고 그 id 를 쓴다
+    jdbc.update("INSERT INTO ingredient (name, sort) VALUES ('소금', ?)", classifier.classify("소금"));
+    saltId = jdbc.queryForObject("SELECT ing_id FROM ingredient WHERE name = '소금'", Integer.class);
+    catalog.reload();
+
+    csv = dir.resolve("recipes.csv");
+    try (InputStream in = getClass().getResourceAsStream("/import/recipes-small.csv")) {
+      Files.copy(in, csv);
+    }
+  }
+
+  @AfterEach
+  void cleanUp() {
+    for (String table : TABLES) {
+      jdbc.update("DELETE FROM " + table);
+    }
+    catalog.reload(); // 지운 재료가 메모리 카탈로그에 남지 않게
+  }
+
+  @Test
+  @DisplayName("픽스처 적재: 게시글/재료 연결/프로필 카운터가 채워지고, 재료는 이름당 한 행만 생긴다")
+  void importsFixtureAndDedupesIngredients() throws InterruptedException {
+    RecipeImportStatus done = runImport(false);
+
+    assertThat(done.state()).isEqualTo("DONE");
+    assertThat(done.importedRecords()).isEqualTo(5);
+    assertThat(done.failedRecords()).isEqualTo(1); // 제목 없는 3번
+    assertThat(done.skippedRecords()).isZero();
+    assertThat(done.chunks()).isEqualTo(3);
+
+    assertThat(jdbc.queryForList("SELECT title FROM post ORDER BY created_at", String.class))
+        .containsExactly("소고기 떡국", "돼지고기 김치찌개", "된장찌개", "바삭한 파전", "계란말이");
+    assertThat(jdbc.queryForObject("SELECT rcp_steps FROM post WHERE title = '된장찌개'", String.class))
+        .isEqualTo("1. 멸치, 다시마로 육수를 내요.\n2. 된장을 풀어요."); // 따옴표 안 쉼표/줄바꿈
+
+    // 떡국떡 다진소고기 대파 소금 김치 돼지고기 두부 된장 애호박 부침가루 계란
+    assertThat(count("ingredient")).isEqualTo(11);
+    assertThat(jdbc.queryForObject("SELECT ing_id FROM ingredient WHERE name = '소금'", Integer.class))
+        .isEqualTo(saltId);
+    assertThat(count("recipe_ingredient")).isEqualTo(18); // 파전의 대파 두 번은 한 행
+    assertThat(jdbc.queryForObject(
+        "SELECT amount FROM recipe_ingredient ri JOIN post p ON p.post_id = ri.post_id "
+            + "JOIN ingredient i ON i.ing_id = ri.ing_id WHERE p.title = '소고기 떡국' AND i.name = '대파'",
+        String.class)).isEqualTo("1/3대");
+
+    assertThat(jdbc.queryForList(
+        "SELECT recipe_count, likes_received FROM profile WHERE user_id = ?", ownerId))
+        .singleElement()
+        .satisfies(row -> {
+          assertThat(((Number) row.get("recipe_count")).intValue()).isEqualTo(5);
+          assertThat(((Number) row.get("likes_received")).intValue()).isEqualTo(6);
+        });
+    assertThat(checkpoint()).isEqualTo(6L);
+
+    // 같은 파일을 다시 돌려도 이미 커밋된 레코드는 건너뛴다
+    RecipeImportStatus again = runImport(false);
+    assertThat(again.state()).isEqualTo("DONE");
+    assertThat(again.skippedRecords()).isEqualTo(6);
+    assertThat(again.importedRecords()).isZero();
+    assertThat(count("post")).isEqualTo(5);
+  }
+
+  @Test
+  @DisplayName("청크가 실패하면 체크포인트는 마지막 커밋 청크에 머물고, 다시 실행하면 그다음부터 이어서 적재한다")
+  void resumesFromCheckpointAfterFailure() throws InterruptedException {
+    FAIL_AT_CALL.set(2); // 두 번째 청크(3, 4번 레코드)에서 실패
+
+    RecipeImportStatus failed = runImport(false);
+
+    assertThat(failed.state()).isEqualTo("FAILED");
+    assertThat(failed.lastError()).isEqualTo("COUNTER_DOWN");
+    assertThat(failed.importedRecords()).isEqualTo(2);
+    assertThat(failed.chunks()).isEqualTo(1);
+    assertThat(checkpoint()).isEqualTo(2L);
+    assertThat(jdbc.queryForList("SELECT title FROM post ORDER BY created_at", String.class))
+        .containsExactly("소고기 떡국", "돼지고기 김치찌개");
+    assertThat(count("ingredient")).isEqualTo(7); // 실패한 청크의 된장/애호박은 롤백
+
+    FAIL_AT_CALL.set(0);
+    RecipeImportStatus resumed = runImport(false);
+
+    assertThat(resumed.state()).isEqualTo("DONE");
+    assertThat(resumed.skippedRecords()).isEqualTo(2);
+    assertThat(resumed.importedRecords()).isEqualTo(3);
+    assertThat(resumed.failedRecords()).isEqualTo(1);
+    assertThat(checkpoint()).isEqualTo(6L);
+
+    // 중단 없이 한 번에 적재한 것과 같은 결과 (중복 게시글/재료 없음)
+    assertThat(jdbc.queryForList("SELECT title FROM post ORDER BY created_at", String.class))
+        .containsExactly("소고기 떡국", "돼지고기 김치찌개", "된장찌개", "바삭한 파전", "계란말이");
+    assertThat(count("ingredient")).isEqualTo(11);
+    assertThat(count("recipe_ingredient")).isEqualTo(18);
+  }
+
+  @Test
+  @DisplayName("fromStart 면 체크포인트를 무시하고 처음부터 다시 적재한다")
+  void fromStartIgnoresCheckpoint() throws InterruptedException {
+    runImport(false);
+
+    RecipeImportStatus again = runImport(true);
+
+    assertThat(again.state()).isEqualTo("DONE");
+    assertThat(again.skippedRecords()).isZero();
+    assertThat(again.importedRecords()).isEqualTo(5);
+    assertThat(count("post")).isEqualTo(10);
+    assertThat(count("ingredient")).isEqualTo(11); // 재료는 이름 기준이라 늘지 않음
+  }
+
+  // ===================== 도우미 =====================
+
+  // 앞선 적재 스레드가 running 을 비우기 전이면 잠깐 기다렸다 다시 시작
+  private RecipeImportStatus runImport(boolean fromStart) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 10_000;
+    RecipeImportStatus s;
+    while (true) {
+      try {
+        s = importService.start(csv.toString(), ownerId, fromStart);
+        break;
+      } catch (IllegalStateException e) {
+        assertThat(e.getMessage()).isEqualTo("IMPORT_ALREADY_RUNNING");
+        assertThat(System.currentTimeMillis()).as("이전 적재 종료 대기 시간 초과").isLessThan(deadline);
+        Thread.sleep(20);
+      }
+    }
+    while (s.finishedAt() == null) {
+      assertThat(System.currentTimeMillis()).as("적재 대기 시간 초과").isLessThan(deadline);
+      Thread.sleep(20);
+      s = importService.status(s.jobId());
+    }
+    return s;
+  }
+
+  private int count(String table) {
+    return jdbc.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+  }
+
+  private Long checkpoint() {
+    return jdbc.queryForObject("SELECT records FROM import_checkpoint WHERE source = ?", Long.class,
+        csv.toAbsolutePath().normalize().toString());
+  }
+}
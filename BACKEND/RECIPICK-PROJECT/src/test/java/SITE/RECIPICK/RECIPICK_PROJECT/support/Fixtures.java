@@ -0,0 +1,43 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.support;
+
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.PostEntity;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.PostEntity.CookingCategory;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.PostEntity.CookingKind;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.PostEntity.CookingMethod;
+import SITE.RECIPICK.RECIPICK_PROJECT.entity.UserEntity;
+
+/**
+ * 쿼리 횟수 테스트용 최소 엔티티
+ */
+public final class Fixtures {
+
+  private Fixtures() {
+  }
+
+  public static UserEntity user(String name) {
+    return UserEntity.builder()
+        .email(name + "@recipick.site")
+        .password("x")
+        .nickname(name)
+        .build();
+  }
+
+  public static PostEntity post(Integer authorId, int i) {
+    return PostEntity.builder()
+        .userId(authorId)
+        .userNickname("author")
+        .title("레시피 " + i)
+        .foodName("음식 " + i)
+        .rcpIsOfficial(1)
+        .ckgMth(CookingMethod.BOILING)
+        .ckgCategory(CookingCategory.GRAINS)
+        .ckgKnd(CookingKind.SOUP)
+        .ckgMtrlCn("재료")
+        .ckgInbun(2)
+        .ckgLevel(1)
+        .ckgTime(30)
+        .rcpImgUrl("https://img.recipick.site/" + i + ".jpg")
+        .rcpSteps("조리")
+        .build();
+  }
+}
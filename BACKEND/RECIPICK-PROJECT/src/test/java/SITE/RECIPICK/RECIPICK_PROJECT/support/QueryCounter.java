@@ -0,0 +1,51 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 준비하는 SQL 을 스레드별로 기록하는 StatementInspector.
+ * <p>
+ * {@link QueryCountTest} 가 hibernate.session_factory.statement_inspector 로 등록한다. 테스트에서는
+ * {@link #expect(int, Supplier)} 로 "이 호출은 SQL 정확히 n 번" 을 단언한다 (N+1 회귀 방지).
+ * <p>
+ * ⚠️ Hibernate(JPA 리포지토리, 네이티브 쿼리 포함)를 거치는 SQL 만 보인다. JdbcTemplate 리포지토리나 MyBatis 매퍼가
+ * 실행하는 SQL 은 세지 않으므로, 그런 호출이 섞인 코드의 기대값은 JPA 쿼리 수만 센 값이다.
+ */
+public class QueryCounter implements StatementInspector {
+
+  private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+  @Override
+  public String inspect(String sql) {
+    STATEMENTS.get().add(sql);
+    return sql;
+  }
+
+  public static void reset() {
+    STATEMENTS.get().clear();
+  }
+
+  public static List<String> statements() {
+    return List.copyOf(STATEMENTS.get());
+  }
+
+  public static int count() {
+    return STATEMENTS.get().size();
+  }
+
+  /** action 실행 중 준비된 SQL 이 정확히 expected 개인지 단언하고 결과를 돌려준다 */
+  public static <T> T expect(int expected, Supplier<T> action) {
+    reset();
+    T result = action.get();
+    List<String> executed = statements();
+    assertThat(executed)
+        .as("SQL %d번 예상, 실행된 SQL:%n%s", expected, String.join(System.lineSeparator(), executed))
+        .hasSize(expected);
+    return result;
+  }
+}
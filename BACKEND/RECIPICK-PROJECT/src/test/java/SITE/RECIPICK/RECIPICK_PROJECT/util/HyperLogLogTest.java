@@ -0,0 +1,86 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * HyperLogLog (p=12, 표준 오차 약 1.6%) 추정 오차와 레지스터 합치기 확인
+ */
+class HyperLogLogTest {
+
+  private static HyperLogLog sketchOf(long from, long toExclusive) {
+    HyperLogLog h = new HyperLogLog();
+    for (long v = from; v < toExclusive; v++) {
+      h.add(v);
+    }
+    return h;
+  }
+
+  private static double relativeError(long estimate, long actual) {
+    return Math.abs(estimate - actual) / (double) actual;
+  }
+
+  @Test
+  @DisplayName("p=12 에서 5만~100만 고유 값의 추정 오차는 2% 이내")
+  void estimateWithinTwoPercent() {
+    for (long n : new long[]{50_000, 100_000, 1_000_000}) {
+      assertThat(relativeError(sketchOf(1, n + 1).estimate(), n)).as("n=%d", n).isLessThan(0.02);
+    }
+  }
+
+  @Test
+  @DisplayName("서로 다른 값 묶음 20개의 평균 오차도 2% 이내 (중복 값은 추정에 영향 없음)")
+  void averageErrorAcrossIndependentSets() {
+    int runs = 20;
+    long n = 50_000;
+    double sum = 0;
+    for (int run = 0; run < runs; run++) {
+      long base = run * 10_000_000L;
+      HyperLogLog h = sketchOf(base, base + n);
+      long once = h.estimate();
+      for (long v = base; v < base + n; v += 7) {
+        h.add(v); // 같은 사용자가 다시 와도 그대로
+      }
+      assertThat(h.estimate()).isEqualTo(once);
+      sum += relativeError(once, n);
+    }
+    assertThat(sum / runs).isLessThan(0.02);
+  }
+
+  @Test
+  @DisplayName("레지스터별 max 로 합친 스케치는 합집합으로 만든 스케치와 바이트까지 같다")
+  void mergeEqualsSketchOfUnion() {
+    HyperLogLog a = sketchOf(1, 60_001);
+    HyperLogLog b = sketchOf(40_001, 100_001); // 4만~6만 겹침
+    HyperLogLog union = sketchOf(1, 100_001);
+
+    HyperLogLog merged = HyperLogLog.fromBytes(a.toBytes()).merge(b);
+
+    assertThat(merged.toBytes()).isEqualTo(union.toBytes());
+    assertThat(merged.estimate()).isCloseTo(100_000L, within(2_000L));
+
+    // 순서와 상관없고, 같은 스케치를 다시 합쳐도 그대로 (멱등)
+    assertThat(HyperLogLog.fromBytes(b.toBytes()).merge(a).toBytes()).isEqualTo(merged.toBytes());
+    assertThat(merged.merge(b).toBytes()).isEqualTo(union.toBytes());
+  }
+
+  @Test
+  @DisplayName("저장한 바이트로 복원하면 같은 추정값, 정밀도가 다르면 합칠 수 없다")
+  void bytesRoundTripAndPrecisionCheck() {
+    HyperLogLog h = sketchOf(1, 10_001);
+    byte[] bytes = h.toBytes();
+    assertThat(bytes).hasSize(1 << HyperLogLog.DEFAULT_P);
+    assertThat(HyperLogLog.fromBytes(bytes).estimate()).isEqualTo(h.estimate());
+
+    assertThatThrownBy(() -> h.merge(new HyperLogLog(10)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("HLL_PRECISION_MISMATCH");
+    assertThatThrownBy(() -> HyperLogLog.fromBytes(new byte[1000]))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("HLL_BYTES_INVALID");
+  }
+}
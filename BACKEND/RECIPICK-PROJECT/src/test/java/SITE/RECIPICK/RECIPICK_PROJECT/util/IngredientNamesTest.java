@@ -0,0 +1,33 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.TreeMap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class IngredientNamesTest {
+
+  @Test
+  @DisplayName("대소문자/악센트/전각만 다른 이름은 같은 키")
+  void collationEquivalentNamesShareKey() {
+    assertThat(IngredientNames.key("Onion")).isEqualTo(IngredientNames.key("onion"));
+    assertThat(IngredientNames.key("Café")).isEqualTo(IngredientNames.key("cafe"));
+    assertThat(IngredientNames.key("ＭＳＧ")).isEqualTo(IngredientNames.key("msg"));
+    assertThat(IngredientNames.key("양파")).isEqualTo(IngredientNames.key("양파"));
+    assertThat(IngredientNames.key("양파")).isNotEqualTo(IngredientNames.key("대파"));
+  }
+
+  @Test
+  @DisplayName("DB 표기로 채운 맵을 입력 표기로 조회")
+  void mapLookupIgnoresCaseAndAccent() {
+    Map<String, Integer> byName = new TreeMap<>(IngredientNames.ORDER);
+    byName.put("crème fraîche", 1);
+    byName.put("양파", 2);
+
+    assertThat(byName.get("Creme Fraiche")).isEqualTo(1);
+    assertThat(byName.get("양파")).isEqualTo(2);
+    assertThat(byName.get("대파")).isNull();
+  }
+}
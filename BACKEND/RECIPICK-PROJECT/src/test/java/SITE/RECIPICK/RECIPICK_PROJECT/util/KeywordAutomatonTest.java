@@ -0,0 +1,73 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class KeywordAutomatonTest {
+
+  @Test
+  @DisplayName("겹치는 키워드(접두/접미/포함)도 한 번 훑어서 모두 찾는다")
+  void overlappingKeywordsAreAllFound() {
+    KeywordAutomaton a = KeywordAutomaton.builder()
+        .add("he", 0)
+        .add("she", 1)
+        .add("his", 2)
+        .add("hers", 3)
+        .build();
+
+    // "ushers": she(1) 안에 he(0), 이어서 hers(3) - fail 링크로 모두 잡혀야 함
+    assertThat(a.labelMask("ushers")).isEqualTo(0b1011);
+    assertThat(a.labelMask("this")).isEqualTo(0b0100);
+    assertThat(a.labelMask("xyz")).isZero();
+    assertThat(a.keywordCount()).isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("firstLabel 은 가장 긴 매칭이 아니라 가장 작은 라벨(우선순위)을 고른다")
+  void firstLabelPrefersPriorityOverLength() {
+    KeywordAutomaton a = KeywordAutomaton.builder()
+        .add("갈비", 0)
+        .add("돼지갈비", 1)
+        .add("닭", 2)
+        .add("닭가슴살", 3)
+        .build();
+
+    assertThat(a.firstLabel("돼지갈비찜")).isZero();      // 더 긴 돼지갈비(1)보다 갈비(0)
+    assertThat(a.firstLabel("닭가슴살 샐러드")).isEqualTo(2); // 닭가슴살(3)보다 닭(2)
+    assertThat(a.firstLabel("샐러드 닭가슴살")).isEqualTo(2); // 위치와 상관없음
+    assertThat(a.labelMask("돼지갈비")).isEqualTo(0b0011);
+  }
+
+  @Test
+  @DisplayName("같은 키워드를 여러 라벨로 넣으면 작은 라벨이 이기고, 마스크에는 둘 다 남는다")
+  void duplicateKeywordKeepsLowestLabel() {
+    KeywordAutomaton a = KeywordAutomaton.builder()
+        .add("파", 5)
+        .add("파", 2)
+        .build();
+
+    assertThat(a.firstLabel("대파")).isEqualTo(2);
+    assertThat(a.labelMask("대파")).isEqualTo((1 << 2) | (1 << 5));
+  }
+
+  @Test
+  @DisplayName("빈 입력/null 은 매칭 없음, 빈 키워드는 무시, 음수 라벨은 거절")
+  void emptyInputs() {
+    KeywordAutomaton a = KeywordAutomaton.builder()
+        .add("", 0)
+        .add(null, 0)
+        .add("양파", 1)
+        .build();
+
+    assertThat(a.keywordCount()).isEqualTo(1);
+    assertThat(a.firstLabel("")).isEqualTo(KeywordAutomaton.NO_MATCH);
+    assertThat(a.firstLabel(null)).isEqualTo(KeywordAutomaton.NO_MATCH);
+    assertThat(a.labelMask(null)).isZero();
+    assertThat(KeywordAutomaton.builder().build().firstLabel("양파")).isEqualTo(KeywordAutomaton.NO_MATCH);
+    assertThatThrownBy(() -> KeywordAutomaton.builder().add("양파", -1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,88 @@
+package SITE.RECIPICK.RECIPICK_PROJECT.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * RankTree 를 정렬된 리스트(전수 비교)와 무작위 연산으로 대조
+ */
+class RankTreeTest {
+
+  private static final Comparator<RankTree.Entry> ORDER =
+      Comparator.comparingInt(RankTree.Entry::score).reversed().thenComparingInt(RankTree.Entry::id);
+
+  @Test
+  @DisplayName("무작위 put/remove 후 size/range/rank 가 정렬된 리스트와 같다")
+  void matchesSortedListUnderRandomOperations() {
+    Random random = new Random(42);
+    RankTree tree = new RankTree();
+    Map<Integer, Integer> expected = new HashMap<>();
+
+    for (int op = 1; op <= 20_000; op++) {
+      int id = random.nextInt(600);
+      if (random.nextInt(10) == 0) {
+        assertThat(tree.remove(id)).isEqualTo(expected.remove(id) != null);
+      } else {
+        int score = random.nextInt(150); // 동점이 많이 나오도록 좁은 범위
+        tree.put(id, score);
+        expected.put(id, score);
+      }
+      if (op % 500 == 0) {
+        verify(tree, expected, random);
+      }
+    }
+    verify(tree, expected, random);
+  }
+
+  @Test
+  @DisplayName("동점은 같은 순위, 같은 점수 안에서는 id 오름차순")
+  void tiesShareRank() {
+    RankTree tree = new RankTree();
+    tree.put(3, 100);
+    tree.put(1, 100);
+    tree.put(2, 50);
+    tree.put(4, 200);
+
+    assertThat(tree.range(0, 10)).containsExactly(
+        new RankTree.Entry(4, 200), new RankTree.Entry(1, 100),
+        new RankTree.Entry(3, 100), new RankTree.Entry(2, 50));
+    assertThat(tree.rankOf(1)).isEqualTo(2);
+    assertThat(tree.rankOf(3)).isEqualTo(2);
+    assertThat(tree.rankOf(2)).isEqualTo(4);
+    assertThat(tree.rankOf(99)).isEqualTo(-1);
+  }
+
+  private static void verify(RankTree tree, Map<Integer, Integer> expected, Random random) {
+    List<RankTree.Entry> sorted = new ArrayList<>();
+    expected.forEach((id, score) -> sorted.add(new RankTree.Entry(id, score)));
+    sorted.sort(ORDER);
+
+    assertThat(tree.size()).isEqualTo(sorted.size());
+    assertThat(tree.range(0, sorted.size() + 1)).isEqualTo(sorted);
+
+    for (int i = 0; i < 20; i++) {
+      int offset = random.nextInt(sorted.size() + 2);
+      int limit = random.nextInt(30);
+      List<RankTree.Entry> want = sorted.subList(Math.min(offset, sorted.size()),
+          Math.min(offset + limit, sorted.size()));
+      assertThat(tree.range(offset, limit)).isEqualTo(want);
+    }
+
+    for (RankTree.Entry e : sorted) {
+      int above = (int) sorted.stream().filter(o -> o.score() > e.score()).count();
+      assertThat(tree.rankOf(e.id())).isEqualTo(above + 1);
+      assertThat(tree.scoreOf(e.id())).isEqualTo(e.score());
+    }
+    int probe = random.nextInt(160);
+    assertThat(tree.countAbove(probe))
+        .isEqualTo((int) sorted.stream().filter(o -> o.score() > probe).count());
+  }
+}